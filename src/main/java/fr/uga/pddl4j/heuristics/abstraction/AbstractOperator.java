@@ -0,0 +1,249 @@
+/*
+ * Copyright (c) 2010 by Damien Pellier <Damien.Pellier@imag.fr>.
+ *
+ * This file is part of PDDL4J library.
+ *
+ * PDDL4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDDL4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDDL4J.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+
+package fr.uga.pddl4j.heuristics.abstraction;
+
+import fr.uga.pddl4j.util.BitExp;
+import fr.uga.pddl4j.util.BitOp;
+import fr.uga.pddl4j.util.BitVector;
+import fr.uga.pddl4j.util.CondBitExp;
+import fr.uga.pddl4j.util.StateVariables;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * This class implements the projection of an operator on a subset of the state variables of a
+ * problem called a pattern. The negative preconditions are ignored and an operator with
+ * conditional effects is projected into one abstract operator for each subset of its conditional
+ * effects that modify the pattern, the unconditional effects being part of all the subsets.
+ *
+ * @author PDDL4J contributors
+ * @version 1.0 - 19.10.2026
+ */
+final class AbstractOperator {
+
+    /**
+     * The value required for each variable of the pattern or -1.
+     */
+    private final int[] preconditions;
+
+    /**
+     * The value set for each variable of the pattern or -1.
+     */
+    private final int[] effects;
+
+    /**
+     * The values deleted for each variable of the pattern or <code>null</code>.
+     */
+    private final boolean[][] deletes;
+
+    /**
+     * The cost of the operator.
+     */
+    private final double cost;
+
+    /**
+     * Creates a new abstract operator without precondition and effect.
+     *
+     * @param size the size of the pattern.
+     * @param cost the cost of the operator.
+     */
+    private AbstractOperator(final int size, final double cost) {
+        this.preconditions = new int[size];
+        this.effects = new int[size];
+        this.deletes = new boolean[size][];
+        this.cost = cost;
+        Arrays.fill(this.preconditions, -1);
+        Arrays.fill(this.effects, -1);
+    }
+
+    /**
+     * Returns the cost of the operator.
+     *
+     * @return the cost of the operator.
+     */
+    double getCost() {
+        return this.cost;
+    }
+
+    /**
+     * Applies the operator in an abstract state.
+     *
+     * @param values      the values of the variables of the abstract state.
+     * @param multipliers the multipliers of the perfect hash function of the abstract states.
+     * @param index       the index of the abstract state.
+     * @return the index of the successor or -1 if the operator is not applicable.
+     */
+    int apply(final int[] values, final int[] multipliers, final int index) {
+        int successor = index;
+        for (int i = 0; i < values.length; i++) {
+            if (this.preconditions[i] != -1 && this.preconditions[i] != values[i]) {
+                return -1;
+            }
+            int value = values[i];
+            if (this.effects[i] != -1) {
+                value = this.effects[i];
+            } else if (this.deletes[i] != null && value < this.deletes[i].length && this.deletes[i][value]) {
+                // None of the facts of the variable holds
+                value = this.deletes[i].length;
+            }
+            successor += (value - values[i]) * multipliers[i];
+        }
+        return successor;
+    }
+
+    /**
+     * Projects an operator on a pattern. The result contains the abstract operator without effect
+     * when none of the effects of the operator that modify the pattern is unconditional.
+     *
+     * @param op        the operator.
+     * @param variables the state variables of the problem.
+     * @param pattern   the variables of the pattern.
+     * @param positions the position of each variable in the pattern or -1.
+     * @return the abstract operators.
+     */
+    static List<AbstractOperator> project(final BitOp op, final StateVariables variables, final int[] pattern,
+                                          final int[] positions) {
+        final List<CondBitExp> effects = new ArrayList<>();
+        int mandatory = 0;
+        for (CondBitExp ce : op.getCondEffects()) {
+            if (AbstractOperator.modifies(ce.getEffects(), variables, positions)) {
+                if (ce.getCondition().isEmpty()) {
+                    mandatory |= 1 << effects.size();
+                }
+                effects.add(ce);
+            }
+        }
+        final List<AbstractOperator> result = new ArrayList<>();
+        final int nbSubsets = 1 << effects.size();
+        for (int subset = 0; subset < nbSubsets; subset++) {
+            if ((subset & mandatory) == mandatory) {
+                final AbstractOperator abstractOp = AbstractOperator.project(op, effects, subset, variables,
+                    pattern, positions);
+                if (abstractOp != null) {
+                    result.add(abstractOp);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Projects a subset of the effects of an operator on a pattern.
+     *
+     * @param op        the operator.
+     * @param effects   the effects of the operator that modify the pattern.
+     * @param subset    the bit mask of the effects of the subset.
+     * @param variables the state variables of the problem.
+     * @param pattern   the variables of the pattern.
+     * @param positions the position of each variable in the pattern or -1.
+     * @return the abstract operator or <code>null</code> if its preconditions are inconsistent.
+     */
+    private static AbstractOperator project(final BitOp op, final List<CondBitExp> effects, final int subset,
+                                            final StateVariables variables, final int[] pattern,
+                                            final int[] positions) {
+        final BitVector pre = new BitVector(op.getPreconditions().getPositive());
+        final BitVector add = new BitVector();
+        final BitVector del = new BitVector();
+        for (int i = 0; i < effects.size(); i++) {
+            if ((subset & (1 << i)) != 0) {
+                final CondBitExp ce = effects.get(i);
+                pre.or(ce.getCondition().getPositive());
+                add.or(ce.getEffects().getPositive());
+                del.or(ce.getEffects().getNegative());
+            }
+        }
+        final AbstractOperator abstractOp = new AbstractOperator(pattern.length, op.getCost());
+        for (int p = pre.nextSetBit(0); p >= 0; p = pre.nextSetBit(p + 1)) {
+            final int i = positions[variables.getVariable(p)];
+            if (i != -1) {
+                final int value = variables.getValue(p);
+                if (abstractOp.preconditions[i] != -1 && abstractOp.preconditions[i] != value) {
+                    return null;
+                }
+                abstractOp.preconditions[i] = value;
+            }
+        }
+        // The deleted facts are applied after the added facts as in BitState.apply()
+        add.andNot(del);
+        for (int p = add.nextSetBit(0); p >= 0; p = add.nextSetBit(p + 1)) {
+            final int i = positions[variables.getVariable(p)];
+            if (i != -1) {
+                abstractOp.effects[i] = variables.getValue(p);
+            }
+        }
+        for (int p = del.nextSetBit(0); p >= 0; p = del.nextSetBit(p + 1)) {
+            final int i = positions[variables.getVariable(p)];
+            if (i != -1 && abstractOp.effects[i] == -1 && !variables.isExactlyOne(pattern[i])) {
+                if (abstractOp.deletes[i] == null) {
+                    abstractOp.deletes[i] = new boolean[variables.getFacts(pattern[i]).length];
+                }
+                abstractOp.deletes[i][variables.getValue(p)] = true;
+            }
+        }
+        return abstractOp;
+    }
+
+    /**
+     * Returns <code>true</code> if an operator modifies a variable of a pattern.
+     *
+     * @param op        the operator.
+     * @param variables the state variables of the problem.
+     * @param positions the position of each variable in the pattern or -1.
+     * @return <code>true</code> if the operator modifies a variable of the pattern;
+     *     <code>false</code> otherwise.
+     */
+    static boolean modifies(final BitOp op, final StateVariables variables, final int[] positions) {
+        for (CondBitExp ce : op.getCondEffects()) {
+            if (AbstractOperator.modifies(ce.getEffects(), variables, positions)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns <code>true</code> if an effect modifies a variable of a pattern.
+     *
+     * @param effect    the effect.
+     * @param variables the state variables of the problem.
+     * @param positions the position of each variable in the pattern or -1.
+     * @return <code>true</code> if the effect modifies a variable of the pattern; <code>false</code>
+     *     otherwise.
+     */
+    private static boolean modifies(final BitExp effect, final StateVariables variables, final int[] positions) {
+        final BitVector pos = effect.getPositive();
+        for (int p = pos.nextSetBit(0); p >= 0; p = pos.nextSetBit(p + 1)) {
+            if (positions[variables.getVariable(p)] != -1) {
+                return true;
+            }
+        }
+        final BitVector neg = effect.getNegative();
+        for (int p = neg.nextSetBit(0); p >= 0; p = neg.nextSetBit(p + 1)) {
+            if (positions[variables.getVariable(p)] != -1) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2010 by Damien Pellier <Damien.Pellier@imag.fr>.
+ *
+ * This file is part of PDDL4J library.
+ *
+ * PDDL4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDDL4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDDL4J.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+
+package fr.uga.pddl4j.heuristics.abstraction;
+
+import fr.uga.pddl4j.util.BitState;
+import fr.uga.pddl4j.util.StateVariables;
+
+import java.io.Serializable;
+
+/**
+ * This class implements the mapping from the states of a problem to the states of a transition
+ * system built by merge and shrink. The mapping is a tree whose leaves map the values of a state
+ * variable to the states of an atomic transition system and whose inner nodes map the pairs of
+ * states of the children to the states of their product. The tables of the root are updated each
+ * time the transition system is shrunk, so that the abstract state of a state is computed with one
+ * array lookup per node.
+ *
+ * @author PDDL4J contributors
+ * @version 1.0 - 19.10.2026
+ * @see TransitionSystem
+ */
+final class CascadingTable implements Serializable {
+
+    /**
+     * The serial version id of the class.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The facts of the variable of a leaf or <code>null</code> for an inner node.
+     */
+    private final int[] facts;
+
+    /**
+     * The value of the variable of a leaf when none of its facts holds.
+     */
+    private final int none;
+
+    /**
+     * The left child of an inner node.
+     */
+    private final CascadingTable left;
+
+    /**
+     * The right child of an inner node.
+     */
+    private final CascadingTable right;
+
+    /**
+     * The number of states of the right child of an inner node.
+     */
+    private final int width;
+
+    /**
+     * The table of the node. The entry -1 means that the state was pruned.
+     */
+    private final int[] table;
+
+    /**
+     * Creates a new leaf for a specified state variable.
+     *
+     * @param variables the state variables of the problem.
+     * @param variable  the variable.
+     */
+    CascadingTable(final StateVariables variables, final int variable) {
+        this.facts = variables.getFacts(variable);
+        this.none = variables.isExactlyOne(variable) ? 0 : this.facts.length;
+        this.left = null;
+        this.right = null;
+        this.width = 0;
+        this.table = new int[variables.getDomainSize(variable)];
+        for (int i = 0; i < this.table.length; i++) {
+            this.table[i] = i;
+        }
+    }
+
+    /**
+     * Creates a new inner node for the product of two transition systems.
+     *
+     * @param left      the table of the first transition system.
+     * @param leftSize  the number of states of the first transition system.
+     * @param right     the table of the second transition system.
+     * @param rightSize the number of states of the second transition system.
+     */
+    CascadingTable(final CascadingTable left, final int leftSize, final CascadingTable right, final int rightSize) {
+        this.facts = null;
+        this.none = 0;
+        this.left = left;
+        this.right = right;
+        this.width = rightSize;
+        this.table = new int[leftSize * rightSize];
+        for (int i = 0; i < this.table.length; i++) {
+            this.table[i] = i;
+        }
+    }
+
+    /**
+     * Applies an abstraction mapping to the table.
+     *
+     * @param mapping the new state of each state or -1 if the state is pruned.
+     */
+    void apply(final int[] mapping) {
+        for (int i = 0; i < this.table.length; i++) {
+            if (this.table[i] != -1) {
+                this.table[i] = mapping[this.table[i]];
+            }
+        }
+    }
+
+    /**
+     * Returns the abstract state of a specified state.
+     *
+     * @param state the state.
+     * @return the abstract state or -1 if the abstract state was pruned.
+     */
+    int getState(final BitState state) {
+        if (this.facts != null) {
+            int value = this.none;
+            for (int i = 0; i < this.facts.length; i++) {
+                if (state.get(this.facts[i])) {
+                    value = i;
+                    break;
+                }
+            }
+            return this.table[value];
+        }
+        final int l = this.left.getState(state);
+        if (l == -1) {
+            return -1;
+        }
+        final int r = this.right.getState(state);
+        if (r == -1) {
+            return -1;
+        }
+        return this.table[l * this.width + r];
+    }
+
+}
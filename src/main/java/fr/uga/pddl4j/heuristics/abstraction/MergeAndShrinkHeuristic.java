@@ -0,0 +1,333 @@
+/*
+ * Copyright (c) 2010 by Damien Pellier <Damien.Pellier@imag.fr>.
+ *
+ * This file is part of PDDL4J library.
+ *
+ * PDDL4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDDL4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDDL4J.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+
+package fr.uga.pddl4j.heuristics.abstraction;
+
+import fr.uga.pddl4j.encoding.CodedProblem;
+import fr.uga.pddl4j.heuristics.relaxation.AbstractHeuristic;
+import fr.uga.pddl4j.planners.statespace.search.strategy.Node;
+import fr.uga.pddl4j.util.BitExp;
+import fr.uga.pddl4j.util.BitState;
+import fr.uga.pddl4j.util.BitVector;
+import fr.uga.pddl4j.util.StateVariables;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * This class implements the merge and shrink heuristic. The heuristic starts from the atomic
+ * transition systems of the state variables of the problem and repeatedly replaces two transition
+ * systems by their synchronized product until only one remains. Before each merge, the transition
+ * systems are shrunk by greedy bisimulation so that the size of their product does not exceed a
+ * specified bound, and the states which are unreachable or from which the goal is unreachable are
+ * pruned after each merge. The heuristic value of a state is the goal distance of its abstract
+ * state in the final transition system, which is computed with a few array lookups.
+ * <p>
+ * Two merge strategies are available: the linear strategy merges the variables of the goal first,
+ * always preferring a variable that shares an operator with the current transition system; the
+ * DFP strategy merges the pair of transition systems whose shared operators are the closest to the
+ * goal.
+ * </p>
+ * <b>Warning:</b> The merge and shrink heuristic is admissible.
+ *
+ * @author PDDL4J contributors
+ * @version 1.0 - 19.10.2026
+ * @see TransitionSystem
+ */
+public final class MergeAndShrinkHeuristic extends AbstractHeuristic {
+
+    /**
+     * The serial version id of the class.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The default maximum number of abstract states.
+     */
+    public static final int DEFAULT_MAX_SIZE = 10000;
+
+    /**
+     * The default merge strategy.
+     */
+    public static final MergeStrategy DEFAULT_MERGE_STRATEGY = MergeStrategy.DFP;
+
+    /**
+     * The final transition system.
+     */
+    private TransitionSystem system;
+
+    /**
+     * The enumeration of the merge strategies.
+     */
+    public enum MergeStrategy {
+        /**
+         * The linear merge strategy.
+         */
+        LINEAR,
+        /**
+         * The DFP merge strategy.
+         */
+        DFP,
+    }
+
+    /**
+     * Creates a new <code>MERGE_AND_SHRINK</code> heuristic for a specified planning problem with
+     * the default parameters.
+     *
+     * @param problem the planning problem.
+     * @throws NullPointerException if <code>problem == null</code>.
+     */
+    public MergeAndShrinkHeuristic(final CodedProblem problem) {
+        this(problem, MergeAndShrinkHeuristic.DEFAULT_MERGE_STRATEGY, MergeAndShrinkHeuristic.DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Creates a new <code>MERGE_AND_SHRINK</code> heuristic for a specified planning problem.
+     *
+     * @param problem  the planning problem.
+     * @param strategy the merge strategy.
+     * @param maxSize  the maximum number of abstract states.
+     * @throws NullPointerException if <code>problem == null</code>.
+     */
+    public MergeAndShrinkHeuristic(final CodedProblem problem, final MergeStrategy strategy, final int maxSize) {
+        super(problem);
+        super.setAdmissible(true);
+        final StateVariables variables = new StateVariables(problem);
+        // The variables of the goal are placed first
+        final BitVector goals = new BitVector();
+        problem.getGoal().getPositive().stream().forEach(p -> goals.set(variables.getVariable(p)));
+        final List<TransitionSystem> systems = new ArrayList<>();
+        for (int v = goals.nextSetBit(0); v >= 0; v = goals.nextSetBit(v + 1)) {
+            systems.add(this.createAtomic(problem, variables, v));
+        }
+        for (int v = goals.nextClearBit(0); v < variables.size(); v = goals.nextClearBit(v + 1)) {
+            systems.add(this.createAtomic(problem, variables, v));
+        }
+        if (strategy.equals(MergeStrategy.LINEAR)) {
+            TransitionSystem current = systems.remove(0);
+            this.reduceLabels(current, systems);
+            while (!systems.isEmpty()) {
+                int next = -1;
+                for (int i = 0; i < systems.size() && next == -1; i++) {
+                    if (this.score(current, systems.get(i), null, null) != Double.MAX_VALUE) {
+                        next = i;
+                    }
+                }
+                current = this.merge(current, systems.remove(Math.max(next, 0)), maxSize);
+                this.reduceLabels(current, systems);
+            }
+            this.system = current;
+        } else {
+            final List<double[]> ranks = new ArrayList<>();
+            for (TransitionSystem ts : systems) {
+                this.reduceLabels(ts, systems);
+                ranks.add(this.computeRanks(ts));
+            }
+            while (systems.size() > 1) {
+                int first = 0;
+                int second = 1;
+                double best = Double.MAX_VALUE;
+                for (int i = 0; i < systems.size(); i++) {
+                    for (int j = i + 1; j < systems.size(); j++) {
+                        final double score = this.score(systems.get(i), systems.get(j), ranks.get(i), ranks.get(j));
+                        if (score < best) {
+                            best = score;
+                            first = i;
+                            second = j;
+                        }
+                    }
+                }
+                final TransitionSystem ts2 = systems.remove(second);
+                final TransitionSystem ts1 = systems.remove(first);
+                ranks.remove(second);
+                ranks.remove(first);
+                final TransitionSystem product = this.merge(ts1, ts2, maxSize);
+                this.reduceLabels(product, systems);
+                systems.add(first, product);
+                ranks.add(first, this.computeRanks(product));
+            }
+            this.system = systems.get(0);
+        }
+    }
+
+    /**
+     * Returns the final transition system of the heuristic.
+     *
+     * @return the final transition system of the heuristic.
+     */
+    public TransitionSystem getTransitionSystem() {
+        return this.system;
+    }
+
+    /**
+     * Return the estimated distance to the goal to reach the specified state. If the return value is
+     * <code>Integer.MAX_VALUE</code>, it means that the goal is unreachable from the specified
+     * state. The abstraction is computed for the goal of the problem.
+     *
+     * @param state the state from which the distance to the goal must be estimated.
+     * @param goal  the goal expression.
+     * @return the distance to the goal state from the specified state.
+     * @throws NullPointerException if <code>state == null &#38;&#38; goal == null</code>.
+     */
+    @Override
+    public int estimate(final BitState state, final BitExp goal) {
+        final double value = this.getDistance(state);
+        return value == Double.MAX_VALUE ? Integer.MAX_VALUE : (int) value;
+    }
+
+    /**
+     * Return the estimated distance to the goal to reach the specified state. If the return value is
+     * <code>Integer.MAX_VALUE</code>, it means that the goal is unreachable from the specified
+     * state.
+     *
+     * @param node the state from which the distance to the goal must be estimated.
+     * @param goal the goal expression.
+     * @return the distance to the goal state from the specified state.
+     */
+    @Override
+    public double estimate(final Node node, final BitExp goal) {
+        final double value = this.getDistance(node);
+        return value == Double.MAX_VALUE ? Integer.MAX_VALUE : value;
+    }
+
+    /**
+     * Returns the goal distance of the abstract state of a specified state.
+     *
+     * @param state the state.
+     * @return the goal distance of the abstract state or <code>Double.MAX_VALUE</code> if the goal
+     *     is not reachable.
+     */
+    private double getDistance(final BitState state) {
+        final int abstractState = this.system.getState(state);
+        return abstractState == -1 ? Double.MAX_VALUE : this.system.getDistance(abstractState);
+    }
+
+    /**
+     * Creates the atomic transition system of a variable and prunes its unreachable states.
+     *
+     * @param problem   the planning problem.
+     * @param variables the state variables of the problem.
+     * @param variable  the variable.
+     * @return the atomic transition system of the variable.
+     */
+    private TransitionSystem createAtomic(final CodedProblem problem, final StateVariables variables,
+                                          final int variable) {
+        final TransitionSystem ts = TransitionSystem.atomic(problem, variables, variable);
+        ts.prune();
+        return ts;
+    }
+
+    /**
+     * Reduces the labels of a transition system which are not relevant for the other transition
+     * systems.
+     *
+     * @param ts     the transition system.
+     * @param others the other transition systems.
+     */
+    private void reduceLabels(final TransitionSystem ts, final List<TransitionSystem> others) {
+        final BitVector shared = new BitVector();
+        final int nbLabels = this.getOperators().size();
+        for (TransitionSystem other : others) {
+            if (other != ts) {
+                for (int l = 0; l < nbLabels; l++) {
+                    if (other.isRelevant(l)) {
+                        shared.set(l);
+                    }
+                }
+            }
+        }
+        ts.reduceLabels(shared);
+    }
+
+    /**
+     * Merges two transition systems. The transition systems are shrunk before the merge so that
+     * the size of their product does not exceed the maximum number of abstract states.
+     *
+     * @param ts1     the first transition system.
+     * @param ts2     the second transition system.
+     * @param maxSize the maximum number of abstract states.
+     * @return the product of the transition systems.
+     */
+    private TransitionSystem merge(final TransitionSystem ts1, final TransitionSystem ts2, final int maxSize) {
+        while ((long) ts1.size() * ts2.size() > maxSize) {
+            if (ts1.size() >= ts2.size()) {
+                ts1.shrink(Math.max(1, maxSize / Math.max(1, ts2.size())));
+            } else {
+                ts2.shrink(Math.max(1, maxSize / Math.max(1, ts1.size())));
+            }
+        }
+        final TransitionSystem product = TransitionSystem.product(ts1, ts2);
+        product.prune();
+        return product;
+    }
+
+    /**
+     * Computes the rank of each label of a transition system, i.e., the minimum goal distance of
+     * the targets of its transitions. The labels of a transition system whose states are all goal
+     * states have no rank, so that the transition systems relevant for the goal are merged first.
+     *
+     * @param ts the transition system.
+     * @return the rank of each label or <code>Double.MAX_VALUE</code> if the label is not relevant
+     *     for the transition system or has no transition.
+     */
+    private double[] computeRanks(final TransitionSystem ts) {
+        final double[] ranks = new double[this.getOperators().size()];
+        Arrays.fill(ranks, Double.MAX_VALUE);
+        boolean relevant = false;
+        for (int s = 0; s < ts.size() && !relevant; s++) {
+            relevant = ts.getDistance(s) > 0.0;
+        }
+        for (int l = 0; l < ranks.length && relevant; l++) {
+            final int[] t = ts.getTransitions(l);
+            if (t != null) {
+                for (int i = 1; i < t.length; i += 2) {
+                    ranks[l] = Math.min(ranks[l], ts.getDistance(t[i]));
+                }
+            }
+        }
+        return ranks;
+    }
+
+    /**
+     * Returns the score of the merge of two transition systems. The score is the minimum, over
+     * the labels relevant for both transition systems, of the maximum of their ranks. If no rank is
+     * given, the score is zero if the transition systems share a relevant label.
+     *
+     * @param ts1    the first transition system.
+     * @param ts2    the second transition system.
+     * @param ranks1 the ranks of the labels of the first transition system or <code>null</code>.
+     * @param ranks2 the ranks of the labels of the second transition system or <code>null</code>.
+     * @return the score of the merge or <code>Double.MAX_VALUE</code> if the transition systems
+     *     share no relevant label.
+     */
+    private double score(final TransitionSystem ts1, final TransitionSystem ts2, final double[] ranks1,
+                         final double[] ranks2) {
+        double score = Double.MAX_VALUE;
+        final int nbLabels = this.getOperators().size();
+        for (int l = 0; l < nbLabels; l++) {
+            if (ts1.isRelevant(l) && ts2.isRelevant(l)) {
+                score = Math.min(score, ranks1 == null ? 0.0 : Math.max(ranks1[l], ranks2[l]));
+            }
+        }
+        return score;
+    }
+
+}
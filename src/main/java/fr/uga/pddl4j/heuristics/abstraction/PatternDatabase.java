@@ -0,0 +1,317 @@
+/*
+ * Copyright (c) 2010 by Damien Pellier <Damien.Pellier@imag.fr>.
+ *
+ * This file is part of PDDL4J library.
+ *
+ * PDDL4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDDL4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDDL4J.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+
+package fr.uga.pddl4j.heuristics.abstraction;
+
+import fr.uga.pddl4j.encoding.CodedProblem;
+import fr.uga.pddl4j.util.BitExp;
+import fr.uga.pddl4j.util.BitOp;
+import fr.uga.pddl4j.util.BitState;
+import fr.uga.pddl4j.util.BitVector;
+import fr.uga.pddl4j.util.StateVariables;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * This class implements a pattern database, i.e., the table of the distances to the goal of all
+ * the states of the projection of a planning problem on a subset of its state variables called a
+ * pattern. The distances are computed by a backward Dijkstra algorithm in the abstract state space
+ * and stored in an array indexed by a perfect hash function of the abstract states.
+ * <p>
+ * The projection ignores the negative preconditions and goals. An operator with conditional
+ * effects is projected into one abstract operator for each subset of its conditional effects. The
+ * projection is thus a relaxation of the problem and the distances are admissible.
+ * </p>
+ *
+ * @author PDDL4J contributors
+ * @version 1.0 - 19.10.2026
+ * @see PatternDatabaseCollection
+ */
+public final class PatternDatabase implements Serializable {
+
+    /**
+     * The serial version id of the class.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The variables of the pattern.
+     */
+    private int[] pattern;
+
+    /**
+     * The facts of each variable of the pattern.
+     */
+    private int[][] facts;
+
+    /**
+     * The value of each variable of the pattern when none of its facts holds.
+     */
+    private int[] defaults;
+
+    /**
+     * The number of values of each variable of the pattern.
+     */
+    private int[] domains;
+
+    /**
+     * The multipliers of the perfect hash function.
+     */
+    private int[] multipliers;
+
+    /**
+     * The operators of the problem that modify a variable of the pattern.
+     */
+    private BitVector operators;
+
+    /**
+     * The distances to the goal of the abstract states.
+     */
+    private double[] distances;
+
+    /**
+     * Creates a new pattern database for a specified pattern.
+     *
+     * @param problem   the planning problem.
+     * @param variables the state variables of the problem.
+     * @param pattern   the variables of the pattern.
+     */
+    public PatternDatabase(final CodedProblem problem, final StateVariables variables, final int[] pattern) {
+        this.pattern = Arrays.copyOf(pattern, pattern.length);
+        this.facts = new int[pattern.length][];
+        this.defaults = new int[pattern.length];
+        this.domains = new int[pattern.length];
+        this.multipliers = new int[pattern.length];
+        int size = 1;
+        for (int i = 0; i < pattern.length; i++) {
+            this.facts[i] = variables.getFacts(pattern[i]);
+            this.defaults[i] = variables.isExactlyOne(pattern[i]) ? 0 : this.facts[i].length;
+            this.domains[i] = variables.getDomainSize(pattern[i]);
+            this.multipliers[i] = size;
+            size *= this.domains[i];
+        }
+        this.operators = new BitVector();
+        this.distances = new double[size];
+        this.compute(problem, variables);
+    }
+
+    /**
+     * Returns the variables of the pattern.
+     *
+     * @return the variables of the pattern.
+     */
+    public int[] getPattern() {
+        return Arrays.copyOf(this.pattern, this.pattern.length);
+    }
+
+    /**
+     * Returns the number of abstract states of the pattern database.
+     *
+     * @return the number of abstract states of the pattern database.
+     */
+    public int size() {
+        return this.distances.length;
+    }
+
+    /**
+     * Returns the operators of the problem that modify a variable of the pattern. The returned
+     * vector must not be modified.
+     *
+     * @return the operators of the problem that modify a variable of the pattern.
+     */
+    public BitVector getOperators() {
+        return this.operators;
+    }
+
+    /**
+     * Returns the distance to the goal of the projection of a specified state.
+     *
+     * @param state the state.
+     * @return the distance to the goal or <code>Double.MAX_VALUE</code> if the goal is not
+     *     reachable from the projection of the state.
+     */
+    public double getValue(final BitState state) {
+        return this.distances[this.rank(state)];
+    }
+
+    /**
+     * Returns the index of the projection of a specified state.
+     *
+     * @param state the state.
+     * @return the index of the projection of the state.
+     */
+    public int rank(final BitState state) {
+        int index = 0;
+        for (int i = 0; i < this.facts.length; i++) {
+            int value = this.defaults[i];
+            final int[] f = this.facts[i];
+            for (int j = 0; j < f.length; j++) {
+                if (state.get(f[j])) {
+                    value = j;
+                    break;
+                }
+            }
+            index += value * this.multipliers[i];
+        }
+        return index;
+    }
+
+    /**
+     * Computes the distances to the goal of all the abstract states.
+     *
+     * @param problem   the planning problem.
+     * @param variables the state variables of the problem.
+     */
+    private void compute(final CodedProblem problem, final StateVariables variables) {
+        final int[] positions = new int[variables.size()];
+        Arrays.fill(positions, -1);
+        for (int i = 0; i < this.pattern.length; i++) {
+            positions[this.pattern[i]] = i;
+        }
+        final List<AbstractOperator> abstractOperators = new ArrayList<>();
+        final List<BitOp> ops = problem.getOperators();
+        for (int o = 0; o < ops.size(); o++) {
+            if (AbstractOperator.modifies(ops.get(o), variables, positions)) {
+                abstractOperators.addAll(AbstractOperator.project(ops.get(o), variables, this.pattern, positions));
+                this.operators.set(o);
+            }
+        }
+
+        // Compute the backward edges of the abstract state space
+        final int nbStates = this.distances.length;
+        final int[] head = new int[nbStates];
+        Arrays.fill(head, -1);
+        int[] sources = new int[nbStates];
+        int[] next = new int[nbStates];
+        double[] costs = new double[nbStates];
+        int nbEdges = 0;
+        final int[] values = new int[this.pattern.length];
+        for (int s = 0; s < nbStates; s++) {
+            this.unrank(s, values);
+            for (AbstractOperator op : abstractOperators) {
+                final int t = op.apply(values, this.multipliers, s);
+                if (t != -1 && t != s) {
+                    if (nbEdges == sources.length) {
+                        sources = Arrays.copyOf(sources, 2 * nbEdges);
+                        next = Arrays.copyOf(next, 2 * nbEdges);
+                        costs = Arrays.copyOf(costs, 2 * nbEdges);
+                    }
+                    sources[nbEdges] = s;
+                    costs[nbEdges] = op.getCost();
+                    next[nbEdges] = head[t];
+                    head[t] = nbEdges;
+                    nbEdges++;
+                }
+            }
+        }
+
+        // Run the backward Dijkstra algorithm from the abstract goal states
+        Arrays.fill(this.distances, Double.MAX_VALUE);
+        final int[] goal = new int[this.pattern.length];
+        Arrays.fill(goal, -1);
+        final BitExp g = problem.getGoal();
+        for (int p = g.getPositive().nextSetBit(0); p >= 0; p = g.getPositive().nextSetBit(p + 1)) {
+            final int i = positions[variables.getVariable(p)];
+            if (i != -1) {
+                goal[i] = variables.getValue(p);
+            }
+        }
+        final PriorityQueue<Entry> open = new PriorityQueue<>();
+        for (int s = 0; s < nbStates; s++) {
+            this.unrank(s, values);
+            boolean isGoal = true;
+            for (int i = 0; i < values.length && isGoal; i++) {
+                isGoal = goal[i] == -1 || goal[i] == values[i];
+            }
+            if (isGoal) {
+                this.distances[s] = 0.0;
+                open.add(new Entry(s, 0.0));
+            }
+        }
+        while (!open.isEmpty()) {
+            final Entry entry = open.poll();
+            if (entry.distance <= this.distances[entry.state]) {
+                for (int e = head[entry.state]; e != -1; e = next[e]) {
+                    final double distance = entry.distance + costs[e];
+                    if (distance < this.distances[sources[e]]) {
+                        this.distances[sources[e]] = distance;
+                        open.add(new Entry(sources[e], distance));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Computes the values of the variables of the pattern of an abstract state.
+     *
+     * @param index  the index of the abstract state.
+     * @param values the array used to store the values.
+     */
+    private void unrank(final int index, final int[] values) {
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (index / this.multipliers[i]) % this.domains[i];
+        }
+    }
+
+    /**
+     * This class implements an entry of the open list of the Dijkstra algorithm.
+     */
+    private static final class Entry implements Comparable<Entry> {
+
+        /**
+         * The index of the abstract state.
+         */
+        private final int state;
+
+        /**
+         * The distance of the abstract state.
+         */
+        private final double distance;
+
+        /**
+         * Creates a new entry.
+         *
+         * @param state    the index of the abstract state.
+         * @param distance the distance of the abstract state.
+         */
+        private Entry(final int state, final double distance) {
+            this.state = state;
+            this.distance = distance;
+        }
+
+        /**
+         * Compares the entry with an other entry according to their distances.
+         *
+         * @param other the other entry.
+         * @return a negative integer, zero, or a positive integer as this entry is less than, equal
+         *     to, or greater than the specified entry.
+         */
+        @Override
+        public int compareTo(final Entry other) {
+            return Double.compare(this.distance, other.distance);
+        }
+    }
+
+}
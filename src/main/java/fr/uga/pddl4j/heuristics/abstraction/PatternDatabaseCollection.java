@@ -0,0 +1,343 @@
+/*
+ * Copyright (c) 2010 by Damien Pellier <Damien.Pellier@imag.fr>.
+ *
+ * This file is part of PDDL4J library.
+ *
+ * PDDL4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDDL4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDDL4J.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+
+package fr.uga.pddl4j.heuristics.abstraction;
+
+import fr.uga.pddl4j.encoding.CodedProblem;
+import fr.uga.pddl4j.util.BitOp;
+import fr.uga.pddl4j.util.BitState;
+import fr.uga.pddl4j.util.BitVector;
+import fr.uga.pddl4j.util.CausalGraph;
+import fr.uga.pddl4j.util.CondBitExp;
+import fr.uga.pddl4j.util.StateVariables;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * This class implements a collection of pattern databases combined with the canonical heuristic:
+ * the heuristic value of a state is the maximum, over the maximal subsets of additive pattern
+ * databases, of the sum of their values. Two pattern databases are additive if no operator modifies
+ * a variable of both patterns.
+ * <p>
+ * The patterns of the collection are computed from the causal graph of the problem: for each
+ * variable of the goal, the pattern is made of the variable and of its ancestors in the causal
+ * graph, added in breadth first order as long as the size of the pattern database does not exceed
+ * a specified bound. The collection can be stored on disk and loaded by later runs on the same
+ * problem (see {@link #load(CodedProblem, int, File)}). The files are deserialized when they are
+ * loaded: the cache directory must only be writable by trusted users.
+ * </p>
+ *
+ * @author PDDL4J contributors
+ * @version 1.0 - 19.10.2026
+ * @see PatternDatabase
+ */
+public final class PatternDatabaseCollection implements Serializable {
+
+    /**
+     * The serial version id of the class.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The extension of the files used to store the pattern database collections.
+     */
+    public static final String FILE_EXTENSION = ".pdb";
+
+    /**
+     * The version of the format of the files used to store the pattern database collections. The
+     * version must be incremented each time the serialized form of the collection changes.
+     */
+    public static final int FORMAT_VERSION = 1;
+
+    /**
+     * The logger of the class.
+     */
+    private static final Logger LOGGER = LogManager.getLogger(PatternDatabaseCollection.class);
+
+    /**
+     * The pattern databases of the collection.
+     */
+    private List<PatternDatabase> databases;
+
+    /**
+     * The maximal subsets of additive pattern databases.
+     */
+    private List<int[]> cliques;
+
+    /**
+     * The array used to store the values of the pattern databases of a state.
+     */
+    private transient double[] values;
+
+    /**
+     * Creates a new collection from a list of pattern databases.
+     *
+     * @param databases the pattern databases.
+     */
+    public PatternDatabaseCollection(final List<PatternDatabase> databases) {
+        this.databases = new ArrayList<>(databases);
+        this.cliques = new ArrayList<>();
+        final int size = this.databases.size();
+        final BitVector[] additive = new BitVector[size];
+        for (int i = 0; i < size; i++) {
+            additive[i] = new BitVector(size);
+            for (int j = 0; j < size; j++) {
+                if (i != j && !this.databases.get(i).getOperators().intersects(this.databases.get(j).getOperators())) {
+                    additive[i].set(j);
+                }
+            }
+        }
+        final BitVector all = new BitVector(size);
+        all.set(0, size);
+        this.computeCliques(new BitVector(size), all, new BitVector(size), additive);
+    }
+
+    /**
+     * Creates the collection of pattern databases of a specified problem.
+     *
+     * @param problem the planning problem.
+     * @param maxSize the maximum number of abstract states of each pattern database.
+     * @return the collection of pattern databases.
+     */
+    public static PatternDatabaseCollection create(final CodedProblem problem, final int maxSize) {
+        final StateVariables variables = new StateVariables(problem);
+        final List<PatternDatabase> databases = new ArrayList<>();
+        for (int[] pattern : PatternDatabaseCollection.computePatterns(problem, variables, maxSize)) {
+            databases.add(new PatternDatabase(problem, variables, pattern));
+        }
+        return new PatternDatabaseCollection(databases);
+    }
+
+    /**
+     * Loads the collection of pattern databases of a specified problem from a cache directory. The
+     * collection is created and stored in the cache directory if it is not found. The files of the
+     * cache are named after a fingerprint of the format version, of the operators and of the goal of
+     * the problem, so that a collection is only reused for the same problem, and start with the
+     * format version. The files are deserialized: the cache directory must only be writable by
+     * trusted users. The failures to load or to store a collection are logged and the collection is
+     * created again.
+     *
+     * @param problem   the planning problem.
+     * @param maxSize   the maximum number of abstract states of each pattern database.
+     * @param directory the cache directory.
+     * @return the collection of pattern databases.
+     */
+    public static PatternDatabaseCollection load(final CodedProblem problem, final int maxSize, final File directory) {
+        final File file = new File(directory, PatternDatabaseCollection.fingerprint(problem, maxSize)
+            + PatternDatabaseCollection.FILE_EXTENSION);
+        if (file.exists()) {
+            try (ObjectInputStream in = new ObjectInputStream(new FileInputStream(file))) {
+                final int version = in.readInt();
+                if (version == PatternDatabaseCollection.FORMAT_VERSION) {
+                    return (PatternDatabaseCollection) in.readObject();
+                }
+                LOGGER.warn("pattern database file {} has format version {} instead of {}\n", file, version,
+                    PatternDatabaseCollection.FORMAT_VERSION);
+            } catch (IOException | ClassNotFoundException | ClassCastException e) {
+                LOGGER.warn("pattern database file {} cannot be loaded: {}\n", file, e.getMessage());
+            }
+        }
+        final PatternDatabaseCollection collection = PatternDatabaseCollection.create(problem, maxSize);
+        if (directory.isDirectory() || directory.mkdirs()) {
+            final File tmp = new File(directory, file.getName() + ".tmp");
+            boolean written = false;
+            try (ObjectOutputStream out = new ObjectOutputStream(new FileOutputStream(tmp))) {
+                out.writeInt(PatternDatabaseCollection.FORMAT_VERSION);
+                out.writeObject(collection);
+                written = true;
+            } catch (IOException e) {
+                LOGGER.warn("pattern database file {} cannot be written: {}\n", tmp, e.getMessage());
+            }
+            if (!written || !tmp.renameTo(file)) {
+                if (written) {
+                    LOGGER.warn("pattern database file {} cannot be renamed to {}\n", tmp, file);
+                }
+                if (tmp.exists() && !tmp.delete()) {
+                    LOGGER.warn("pattern database file {} cannot be deleted\n", tmp);
+                }
+            }
+        } else {
+            LOGGER.warn("pattern database cache directory {} cannot be created\n", directory);
+        }
+        return collection;
+    }
+
+    /**
+     * Returns the fingerprint of a problem, i.e., a digest of the format version of the files, of
+     * the operators and of the goal of the problem.
+     *
+     * @param problem the planning problem.
+     * @param maxSize the maximum number of abstract states of each pattern database.
+     * @return the fingerprint of the problem as an hexadecimal string.
+     */
+    public static String fingerprint(final CodedProblem problem, final int maxSize) {
+        final StringBuilder str = new StringBuilder();
+        str.append("pdb").append(PatternDatabaseCollection.FORMAT_VERSION).append(' ');
+        str.append(problem.getRelevantFacts().size()).append(' ').append(maxSize).append('\n');
+        for (BitOp op : problem.getOperators()) {
+            str.append(problem.toShortString(op)).append(op.getCost())
+                .append(op.getPreconditions().getPositive()).append(op.getPreconditions().getNegative());
+            for (CondBitExp ce : op.getCondEffects()) {
+                str.append(ce.getCondition().getPositive()).append(ce.getCondition().getNegative())
+                    .append(ce.getEffects().getPositive()).append(ce.getEffects().getNegative());
+            }
+            str.append('\n');
+        }
+        str.append(problem.getGoal().getPositive()).append(problem.getGoal().getNegative());
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            final StringBuilder hex = new StringBuilder();
+            for (byte b : digest.digest(str.toString().getBytes(StandardCharsets.UTF_8))) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            return Integer.toHexString(str.toString().hashCode());
+        }
+    }
+
+    /**
+     * Returns the pattern databases of the collection.
+     *
+     * @return the pattern databases of the collection.
+     */
+    public List<PatternDatabase> getDatabases() {
+        return this.databases;
+    }
+
+    /**
+     * Returns the canonical heuristic value of a specified state.
+     *
+     * @param state the state.
+     * @return the heuristic value or <code>Double.MAX_VALUE</code> if the goal is not reachable from
+     *     the state.
+     */
+    public double getValue(final BitState state) {
+        if (this.values == null) {
+            this.values = new double[this.databases.size()];
+        }
+        for (int i = 0; i < this.values.length; i++) {
+            this.values[i] = this.databases.get(i).getValue(state);
+            if (this.values[i] == Double.MAX_VALUE) {
+                return Double.MAX_VALUE;
+            }
+        }
+        double max = 0.0;
+        for (int[] clique : this.cliques) {
+            double sum = 0.0;
+            for (int i : clique) {
+                sum += this.values[i];
+            }
+            if (sum > max) {
+                max = sum;
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Computes the maximal cliques of the additivity graph with the Bron-Kerbosch algorithm.
+     *
+     * @param clique     the current clique.
+     * @param candidates the vertices that can extend the current clique.
+     * @param excluded   the vertices already processed.
+     * @param additive   the additivity graph.
+     */
+    private void computeCliques(final BitVector clique, final BitVector candidates, final BitVector excluded,
+                                final BitVector[] additive) {
+        if (candidates.isEmpty() && excluded.isEmpty()) {
+            this.cliques.add(clique.stream().toArray());
+        } else {
+            for (int v = candidates.nextSetBit(0); v >= 0; v = candidates.nextSetBit(v + 1)) {
+                final BitVector extended = new BitVector(clique);
+                extended.set(v);
+                this.computeCliques(extended, candidates.getIntersection(additive[v]),
+                    excluded.getIntersection(additive[v]), additive);
+                candidates.clear(v);
+                excluded.set(v);
+            }
+        }
+    }
+
+    /**
+     * Computes the patterns of the problem. For each variable of the goal, the pattern is made of
+     * the variable and of its ancestors in the causal graph added in breadth first order while the
+     * size of the pattern database does not exceed the specified bound.
+     *
+     * @param problem   the planning problem.
+     * @param variables the state variables of the problem.
+     * @param maxSize   the maximum number of abstract states of each pattern database.
+     * @return the patterns.
+     */
+    private static List<int[]> computePatterns(final CodedProblem problem, final StateVariables variables,
+                                               final int maxSize) {
+        final CausalGraph graph = new CausalGraph(problem, variables);
+        // Compute a pattern for each variable of the goal
+        final BitVector goals = new BitVector();
+        problem.getGoal().getPositive().stream().forEach(p -> goals.set(variables.getVariable(p)));
+        final List<int[]> patterns = new ArrayList<>();
+        final Set<List<Integer>> known = new HashSet<>();
+        for (int g = goals.nextSetBit(0); g >= 0; g = goals.nextSetBit(g + 1)) {
+            final BitVector pattern = new BitVector();
+            pattern.set(g);
+            long size = variables.getDomainSize(g);
+            final LinkedList<Integer> open = new LinkedList<>();
+            open.add(g);
+            final BitVector visited = new BitVector();
+            visited.set(g);
+            while (!open.isEmpty()) {
+                final int v = open.poll();
+                for (int u : graph.getPredecessors(v)) {
+                    if (!visited.get(u) && size * variables.getDomainSize(u) <= maxSize) {
+                        visited.set(u);
+                        pattern.set(u);
+                        size *= variables.getDomainSize(u);
+                        open.add(u);
+                    }
+                }
+            }
+            final int[] array = pattern.stream().toArray();
+            final List<Integer> key = new ArrayList<>();
+            Arrays.stream(array).forEach(key::add);
+            if (known.add(key)) {
+                patterns.add(array);
+            }
+        }
+        return patterns;
+    }
+
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2010 by Damien Pellier <Damien.Pellier@imag.fr>.
+ *
+ * This file is part of PDDL4J library.
+ *
+ * PDDL4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDDL4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDDL4J.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+
+package fr.uga.pddl4j.heuristics.abstraction;
+
+import fr.uga.pddl4j.encoding.CodedProblem;
+import fr.uga.pddl4j.heuristics.relaxation.AbstractHeuristic;
+import fr.uga.pddl4j.planners.statespace.search.strategy.Node;
+import fr.uga.pddl4j.util.BitExp;
+import fr.uga.pddl4j.util.BitState;
+
+import java.io.File;
+
+/**
+ * This class implements the pattern database heuristic. The heuristic value of a state is the
+ * canonical heuristic value of a collection of pattern databases computed for the goal of the
+ * problem. The collection is computed for each heuristic created, unless a cache directory is
+ * supplied, e.g., with {@link fr.uga.pddl4j.heuristics.relaxation.HeuristicToolKit#setPatternDatabaseDirectory(File)}
+ * or the <code>-b</code> option of the planners: the collection is then stored in the directory and
+ * reused by the later runs on the same problem. The files of the cache are deserialized, so the
+ * directory must only be writable by trusted users.
+ * <b>Warning:</b> The pattern database heuristic is admissible.
+ *
+ * @author PDDL4J contributors
+ * @version 1.0 - 19.10.2026
+ * @see PatternDatabaseCollection
+ */
+public final class PatternDatabaseHeuristic extends AbstractHeuristic {
+
+    /**
+     * The serial version id of the class.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The default maximum number of abstract states of each pattern database.
+     */
+    public static final int DEFAULT_MAX_SIZE = 10000;
+
+    /**
+     * The collection of pattern databases.
+     */
+    private PatternDatabaseCollection collection;
+
+    /**
+     * Creates a new <code>PATTERN_DATABASE</code> heuristic for a specified planning problem with
+     * the default parameters. The pattern databases are not stored on disk.
+     *
+     * @param problem the planning problem.
+     * @throws NullPointerException if <code>problem == null</code>.
+     */
+    public PatternDatabaseHeuristic(final CodedProblem problem) {
+        this(problem, PatternDatabaseHeuristic.DEFAULT_MAX_SIZE, null);
+    }
+
+    /**
+     * Creates a new <code>PATTERN_DATABASE</code> heuristic for a specified planning problem.
+     *
+     * @param problem   the planning problem.
+     * @param maxSize   the maximum number of abstract states of each pattern database.
+     * @param directory the cache directory of the pattern databases, which must only be writable by
+     *                  trusted users, or <code>null</code> if the pattern databases must not be
+     *                  stored.
+     * @throws NullPointerException if <code>problem == null</code>.
+     */
+    public PatternDatabaseHeuristic(final CodedProblem problem, final int maxSize, final File directory) {
+        super(problem);
+        super.setAdmissible(true);
+        if (directory == null) {
+            this.collection = PatternDatabaseCollection.create(problem, maxSize);
+        } else {
+            this.collection = PatternDatabaseCollection.load(problem, maxSize, directory);
+        }
+    }
+
+    /**
+     * Returns the collection of pattern databases used by the heuristic.
+     *
+     * @return the collection of pattern databases used by the heuristic.
+     */
+    public PatternDatabaseCollection getCollection() {
+        return this.collection;
+    }
+
+    /**
+     * Return the estimated distance to the goal to reach the specified state. If the return value is
+     * <code>Integer.MAX_VALUE</code>, it means that the goal is unreachable from the specified
+     * state. The pattern databases are computed for the goal of the problem.
+     *
+     * @param state the state from which the distance to the goal must be estimated.
+     * @param goal  the goal expression.
+     * @return the distance to the goal state from the specified state.
+     * @throws NullPointerException if <code>state == null &#38;&#38; goal == null</code>.
+     */
+    @Override
+    public int estimate(final BitState state, final BitExp goal) {
+        final double value = this.collection.getValue(state);
+        return value == Double.MAX_VALUE ? Integer.MAX_VALUE : (int) value;
+    }
+
+    /**
+     * Return the estimated distance to the goal to reach the specified state. If the return value is
+     * <code>Integer.MAX_VALUE</code>, it means that the goal is unreachable from the specified
+     * state.
+     *
+     * @param node the state from which the distance to the goal must be estimated.
+     * @param goal the goal expression.
+     * @return the distance to the goal state from the specified state.
+     */
+    @Override
+    public double estimate(final Node node, final BitExp goal) {
+        final double value = this.collection.getValue(node);
+        return value == Double.MAX_VALUE ? Integer.MAX_VALUE : value;
+    }
+
+}
@@ -0,0 +1,818 @@
+/*
+ * Copyright (c) 2010 by Damien Pellier <Damien.Pellier@imag.fr>.
+ *
+ * This file is part of PDDL4J library.
+ *
+ * PDDL4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDDL4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDDL4J.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+
+package fr.uga.pddl4j.heuristics.abstraction;
+
+import fr.uga.pddl4j.encoding.CodedProblem;
+import fr.uga.pddl4j.util.BitOp;
+import fr.uga.pddl4j.util.BitState;
+import fr.uga.pddl4j.util.BitVector;
+import fr.uga.pddl4j.util.StateVariables;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * This class implements the labelled transition systems built by the merge and shrink algorithm.
+ * The labels of the transitions are the operators of the problem. The transitions of each label
+ * are stored in an array of pairs of states and a label that does not depend on the variables of
+ * the transition system, i.e., a label whose transitions are the self loops of all the states, is
+ * represented by a <code>null</code> array.
+ * <p>
+ * The transition system keeps the goal distances of its states up to date, so that the states
+ * which are unreachable from the initial state or from which the goal is unreachable can be
+ * pruned and the remaining states shrunk by bisimulation.
+ * </p>
+ *
+ * @author PDDL4J contributors
+ * @version 1.0 - 19.10.2026
+ * @see MergeAndShrinkHeuristic
+ */
+public final class TransitionSystem implements Serializable {
+
+    /**
+     * The serial version id of the class.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The number of states.
+     */
+    private int size;
+
+    /**
+     * The cost of each label.
+     */
+    private final double[] costs;
+
+    /**
+     * The transitions of each label stored as pairs of states or <code>null</code>.
+     */
+    private final int[][] transitions;
+
+    /**
+     * The goal states.
+     */
+    private boolean[] goals;
+
+    /**
+     * The initial state or -1 if it was pruned.
+     */
+    private int init;
+
+    /**
+     * The goal distance of each state.
+     */
+    private double[] distances;
+
+    /**
+     * The mapping from the states of the problem to the states of the transition system.
+     */
+    private final CascadingTable table;
+
+    /**
+     * Creates a new transition system.
+     *
+     * @param size        the number of states.
+     * @param costs       the cost of each label.
+     * @param transitions the transitions of each label.
+     * @param goals       the goal states.
+     * @param init        the initial state.
+     * @param table       the mapping from the states of the problem to the states of the transition
+     *                    system.
+     */
+    private TransitionSystem(final int size, final double[] costs, final int[][] transitions, final boolean[] goals,
+                             final int init, final CascadingTable table) {
+        this.size = size;
+        this.costs = costs;
+        this.transitions = transitions;
+        this.goals = goals;
+        this.init = init;
+        this.table = table;
+        this.computeDistances();
+    }
+
+    /**
+     * Creates the atomic transition system of a state variable, i.e., the projection of the problem
+     * on the variable.
+     *
+     * @param problem   the planning problem.
+     * @param variables the state variables of the problem.
+     * @param variable  the variable.
+     * @return the atomic transition system of the variable.
+     */
+    public static TransitionSystem atomic(final CodedProblem problem, final StateVariables variables,
+                                          final int variable) {
+        final int size = variables.getDomainSize(variable);
+        final int[] pattern = {variable};
+        final int[] positions = new int[variables.size()];
+        Arrays.fill(positions, -1);
+        positions[variable] = 0;
+        final int[] multipliers = {1};
+        final int[] values = new int[1];
+        final List<BitOp> ops = problem.getOperators();
+        final double[] costs = new double[ops.size()];
+        final int[][] transitions = new int[ops.size()][];
+        for (int o = 0; o < ops.size(); o++) {
+            final BitOp op = ops.get(o);
+            costs[o] = op.getCost();
+            if (AbstractOperator.modifies(op, variables, positions)
+                || TransitionSystem.requires(op.getPreconditions().getPositive(), variables, variable)) {
+                long[] codes = new long[size];
+                int nbCodes = 0;
+                for (AbstractOperator abstractOp : AbstractOperator.project(op, variables, pattern, positions)) {
+                    for (int s = 0; s < size; s++) {
+                        values[0] = s;
+                        final int t = abstractOp.apply(values, multipliers, s);
+                        if (t != -1) {
+                            if (nbCodes == codes.length) {
+                                codes = Arrays.copyOf(codes, 2 * nbCodes);
+                            }
+                            codes[nbCodes++] = (long) s * size + t;
+                        }
+                    }
+                }
+                transitions[o] = TransitionSystem.toTransitions(codes, nbCodes, size);
+            }
+        }
+        final boolean[] goals = new boolean[size];
+        Arrays.fill(goals, true);
+        final BitVector goal = problem.getGoal().getPositive();
+        for (int p = goal.nextSetBit(0); p >= 0; p = goal.nextSetBit(p + 1)) {
+            if (variables.getVariable(p) == variable) {
+                Arrays.fill(goals, false);
+                goals[variables.getValue(p)] = true;
+            }
+        }
+        final int init = variables.getValue(new BitState(problem.getInit()), variable);
+        return new TransitionSystem(size, costs, transitions, goals, init, new CascadingTable(variables, variable));
+    }
+
+    /**
+     * Creates the synchronized product of two transition systems. The state <code>(s1, s2)</code>
+     * of the product is numbered <code>s1 * ts2.size() + s2</code>.
+     *
+     * @param ts1 the first transition system.
+     * @param ts2 the second transition system.
+     * @return the synchronized product of the transition systems.
+     */
+    public static TransitionSystem product(final TransitionSystem ts1, final TransitionSystem ts2) {
+        final int width = ts2.size;
+        final int size = ts1.size * width;
+        final int[][] transitions = new int[ts1.transitions.length][];
+        for (int l = 0; l < transitions.length; l++) {
+            final int[] t1 = ts1.transitions[l];
+            final int[] t2 = ts2.transitions[l];
+            if (t1 == null && t2 != null) {
+                transitions[l] = new int[ts1.size * t2.length];
+                int index = 0;
+                for (int s1 = 0; s1 < ts1.size; s1++) {
+                    for (int i = 0; i < t2.length; i += 2) {
+                        transitions[l][index++] = s1 * width + t2[i];
+                        transitions[l][index++] = s1 * width + t2[i + 1];
+                    }
+                }
+            } else if (t1 != null && t2 == null) {
+                transitions[l] = new int[t1.length * width];
+                int index = 0;
+                for (int i = 0; i < t1.length; i += 2) {
+                    for (int s2 = 0; s2 < width; s2++) {
+                        transitions[l][index++] = t1[i] * width + s2;
+                        transitions[l][index++] = t1[i + 1] * width + s2;
+                    }
+                }
+            } else if (t1 != null) {
+                transitions[l] = new int[t1.length * t2.length / 2];
+                int index = 0;
+                for (int i = 0; i < t1.length; i += 2) {
+                    for (int j = 0; j < t2.length; j += 2) {
+                        transitions[l][index++] = t1[i] * width + t2[j];
+                        transitions[l][index++] = t1[i + 1] * width + t2[j + 1];
+                    }
+                }
+            }
+        }
+        final boolean[] goals = new boolean[size];
+        for (int s = 0; s < size; s++) {
+            goals[s] = ts1.goals[s / width] && ts2.goals[s % width];
+        }
+        final int init = ts1.init == -1 || ts2.init == -1 ? -1 : ts1.init * width + ts2.init;
+        return new TransitionSystem(size, ts1.costs, transitions, goals, init,
+            new CascadingTable(ts1.table, ts1.size, ts2.table, ts2.size));
+    }
+
+    /**
+     * Returns the number of states of the transition system.
+     *
+     * @return the number of states of the transition system.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns the number of transitions of the transition system. The self loops of the labels
+     * that do not depend on the variables of the transition system are not counted.
+     *
+     * @return the number of transitions of the transition system.
+     */
+    public int getNumberOfTransitions() {
+        int number = 0;
+        for (int[] t : this.transitions) {
+            if (t != null) {
+                number += t.length / 2;
+            }
+        }
+        return number;
+    }
+
+    /**
+     * Returns <code>true</code> if a label depends on the variables of the transition system.
+     *
+     * @param label the label.
+     * @return <code>true</code> if the label depends on the variables of the transition system;
+     *     <code>false</code> otherwise.
+     */
+    public boolean isRelevant(final int label) {
+        return this.transitions[label] != null;
+    }
+
+    /**
+     * Returns the transitions of a label stored as pairs of states.
+     *
+     * @param label the label.
+     * @return the transitions of the label or <code>null</code> if the label does not depend on
+     *     the variables of the transition system.
+     */
+    public int[] getTransitions(final int label) {
+        return this.transitions[label];
+    }
+
+    /**
+     * Returns the goal distance of a state of the transition system.
+     *
+     * @param state the state of the transition system.
+     * @return the goal distance of the state or <code>Double.MAX_VALUE</code> if the goal is not
+     *     reachable from the state.
+     */
+    public double getDistance(final int state) {
+        return this.distances[state];
+    }
+
+    /**
+     * Returns the state of the transition system that abstracts a specified state of the problem.
+     *
+     * @param state the state of the problem.
+     * @return the state of the transition system or -1 if the state is a dead end.
+     */
+    public int getState(final BitState state) {
+        return this.table.getState(state);
+    }
+
+    /**
+     * Removes the states which are unreachable from the initial state or from which the goal is
+     * unreachable.
+     */
+    public void prune() {
+        final boolean[] reachable = new boolean[this.size];
+        if (this.init != -1) {
+            final int[][] successors = this.computeEdges(true);
+            final int[] stack = new int[this.size];
+            int top = 0;
+            stack[top++] = this.init;
+            reachable[this.init] = true;
+            while (top > 0) {
+                final int s = stack[--top];
+                for (int t : successors[s]) {
+                    if (!reachable[t]) {
+                        reachable[t] = true;
+                        stack[top++] = t;
+                    }
+                }
+            }
+        }
+        final int[] mapping = new int[this.size];
+        int newSize = 0;
+        for (int s = 0; s < this.size; s++) {
+            mapping[s] = reachable[s] && this.distances[s] != Double.MAX_VALUE ? newSize++ : -1;
+        }
+        if (newSize < this.size) {
+            this.apply(mapping, newSize);
+        }
+    }
+
+    /**
+     * Reduces the labels of the transition system. The labels with the same cost which are not
+     * relevant for any other transition system are combined into a single label whose transitions
+     * are the union of their transitions. The reduction is exact: the other labels keep no
+     * transition and the goal distances are unchanged.
+     *
+     * @param shared the labels relevant for an other transition system.
+     */
+    public void reduceLabels(final BitVector shared) {
+        final Map<Double, Integer> representatives = new HashMap<>();
+        final Map<Integer, long[]> codes = new HashMap<>();
+        final Map<Integer, Integer> nbCodes = new HashMap<>();
+        for (int l = 0; l < this.transitions.length; l++) {
+            final int[] t = this.transitions[l];
+            if (t != null && t.length > 0 && !shared.get(l)) {
+                Integer r = representatives.get(this.costs[l]);
+                if (r == null) {
+                    r = l;
+                    representatives.put(this.costs[l], r);
+                    codes.put(r, new long[t.length / 2]);
+                    nbCodes.put(r, 0);
+                }
+                long[] c = codes.get(r);
+                int n = nbCodes.get(r);
+                if (n + t.length / 2 > c.length) {
+                    c = Arrays.copyOf(c, Math.max(2 * c.length, n + t.length / 2));
+                    codes.put(r, c);
+                }
+                for (int i = 0; i < t.length; i += 2) {
+                    c[n++] = (long) t[i] * this.size + t[i + 1];
+                }
+                nbCodes.put(r, n);
+                this.transitions[l] = new int[0];
+            }
+        }
+        for (Map.Entry<Integer, long[]> e : codes.entrySet()) {
+            this.transitions[e.getKey()] = TransitionSystem.toTransitions(e.getValue(), nbCodes.get(e.getKey()),
+                this.size);
+        }
+    }
+
+    /**
+     * Shrinks the transition system to a specified number of states by greedy bisimulation. The
+     * states are first partitioned according to their goal distances. Then, the blocks of the
+     * partition are refined, by increasing goal distance, until the partition is a greedy
+     * bisimulation or until refining a block would exceed the number of states: two states remain
+     * in the same block if they have the same transitions to the same blocks, only the transitions
+     * along the optimal paths to the goal being considered. If the number of goal distances exceeds
+     * the number of states, the states with close goal distances are merged.
+     *
+     * @param maxSize the maximum number of states.
+     */
+    public void shrink(final int maxSize) {
+        if (this.size <= maxSize) {
+            return;
+        }
+        // Compute the initial partition according to the goal distances
+        final Integer[] order = new Integer[this.size];
+        for (int s = 0; s < this.size; s++) {
+            order[s] = s;
+        }
+        Arrays.sort(order, (s1, s2) -> this.distances[s1] != this.distances[s2]
+            ? Double.compare(this.distances[s1], this.distances[s2])
+            : Boolean.compare(this.goals[s2], this.goals[s1]));
+        int[] block = new int[this.size];
+        int nbBlocks = 0;
+        for (int i = 0; i < this.size; i++) {
+            final int s = order[i];
+            if (i > 0 && (this.distances[s] != this.distances[order[i - 1]]
+                || this.goals[s] != this.goals[order[i - 1]])) {
+                nbBlocks++;
+            }
+            block[s] = nbBlocks;
+        }
+        nbBlocks++;
+        if (nbBlocks > maxSize) {
+            for (int s = 0; s < this.size; s++) {
+                block[s] = (int) ((long) block[s] * maxSize / nbBlocks);
+            }
+            nbBlocks = maxSize;
+        } else {
+            // The blocks are numbered by increasing goal distance
+            boolean refined = true;
+            while (refined) {
+                final int[] signatures = this.computeSignatures(block, nbBlocks);
+                // Count the number of signatures of each block
+                final int[] splits = new int[nbBlocks];
+                final boolean[] counted = new boolean[this.size];
+                for (int s = 0; s < this.size; s++) {
+                    if (!counted[signatures[s]]) {
+                        counted[signatures[s]] = true;
+                        splits[block[s]]++;
+                    }
+                }
+                // Select the blocks to refine without exceeding the maximum number of states
+                final boolean[] selected = new boolean[nbBlocks];
+                int newSize = nbBlocks;
+                refined = false;
+                for (int b = 0; b < nbBlocks; b++) {
+                    if (splits[b] > 1 && newSize + splits[b] - 1 <= maxSize) {
+                        selected[b] = true;
+                        newSize += splits[b] - 1;
+                        refined = true;
+                    }
+                }
+                if (refined) {
+                    final int[] blockIds = new int[nbBlocks];
+                    final int[] signatureIds = new int[this.size];
+                    Arrays.fill(blockIds, -1);
+                    Arrays.fill(signatureIds, -1);
+                    final int[] newBlock = new int[this.size];
+                    int nbNewBlocks = 0;
+                    for (int i = 0; i < this.size; i++) {
+                        final int s = order[i];
+                        if (selected[block[s]]) {
+                            if (signatureIds[signatures[s]] == -1) {
+                                signatureIds[signatures[s]] = nbNewBlocks++;
+                            }
+                            newBlock[s] = signatureIds[signatures[s]];
+                        } else {
+                            if (blockIds[block[s]] == -1) {
+                                blockIds[block[s]] = nbNewBlocks++;
+                            }
+                            newBlock[s] = blockIds[block[s]];
+                        }
+                    }
+                    block = newBlock;
+                    nbBlocks = nbNewBlocks;
+                }
+            }
+        }
+        this.apply(block, nbBlocks);
+    }
+
+    /**
+     * Computes the greedy bisimulation signature of each state according to a partition. The states
+     * with the same signature are in the same block and have the same transitions, along the
+     * optimal paths to the goal, to the same blocks.
+     *
+     * @param block    the block of each state.
+     * @param nbBlocks the number of blocks.
+     * @return the identifier of the signature of each state.
+     */
+    private int[] computeSignatures(final int[] block, final int nbBlocks) {
+        // Store the transitions of each state along the optimal paths in consecutive cells
+        final int[] start = new int[this.size + 1];
+        for (int l = 0; l < this.transitions.length; l++) {
+            final int[] t = this.transitions[l];
+            if (t != null) {
+                for (int i = 0; i < t.length; i += 2) {
+                    if (this.distances[t[i]] == this.distances[t[i + 1]] + this.costs[l]) {
+                        start[t[i] + 1]++;
+                    }
+                }
+            }
+        }
+        for (int s = 0; s < this.size; s++) {
+            start[s + 1] += start[s];
+        }
+        final long[] codes = new long[start[this.size]];
+        final int[] end = Arrays.copyOf(start, this.size);
+        for (int l = 0; l < this.transitions.length; l++) {
+            final int[] t = this.transitions[l];
+            if (t != null) {
+                for (int i = 0; i < t.length; i += 2) {
+                    if (this.distances[t[i]] == this.distances[t[i + 1]] + this.costs[l]) {
+                        codes[end[t[i]]++] = (long) l * nbBlocks + block[t[i + 1]];
+                    }
+                }
+            }
+        }
+        final Map<Signature, Integer> identifiers = new HashMap<>();
+        final int[] result = new int[this.size];
+        for (int s = 0; s < this.size; s++) {
+            Arrays.sort(codes, start[s], end[s]);
+            // Remove the duplicate codes
+            int last = start[s];
+            for (int i = start[s] + 1; i < end[s]; i++) {
+                if (codes[i] != codes[last]) {
+                    codes[++last] = codes[i];
+                }
+            }
+            final int to = end[s] > start[s] ? last + 1 : start[s];
+            final Signature signature = new Signature(block[s], codes, start[s], to);
+            Integer id = identifiers.get(signature);
+            if (id == null) {
+                id = identifiers.size();
+                identifiers.put(signature, id);
+            }
+            result[s] = id;
+        }
+        return result;
+    }
+
+    /**
+     * Applies an abstraction mapping to the transition system and updates the goal distances.
+     *
+     * @param mapping the new state of each state or -1 if the state is pruned.
+     * @param newSize the number of states after the abstraction.
+     */
+    private void apply(final int[] mapping, final int newSize) {
+        for (int l = 0; l < this.transitions.length; l++) {
+            final int[] t = this.transitions[l];
+            if (t != null) {
+                final long[] codes = new long[t.length / 2];
+                int nbCodes = 0;
+                for (int i = 0; i < t.length; i += 2) {
+                    final int s1 = mapping[t[i]];
+                    final int s2 = mapping[t[i + 1]];
+                    if (s1 != -1 && s2 != -1) {
+                        codes[nbCodes++] = (long) s1 * newSize + s2;
+                    }
+                }
+                this.transitions[l] = TransitionSystem.toTransitions(codes, nbCodes, newSize);
+            }
+        }
+        final boolean[] newGoals = new boolean[newSize];
+        for (int s = 0; s < this.size; s++) {
+            if (mapping[s] != -1 && this.goals[s]) {
+                newGoals[mapping[s]] = true;
+            }
+        }
+        this.goals = newGoals;
+        this.init = this.init == -1 ? -1 : mapping[this.init];
+        this.size = newSize;
+        this.table.apply(mapping);
+        this.computeDistances();
+    }
+
+    /**
+     * Computes the goal distances of the states with a backward Dijkstra algorithm.
+     */
+    private void computeDistances() {
+        this.distances = new double[this.size];
+        Arrays.fill(this.distances, Double.MAX_VALUE);
+        final int[][] predecessors = this.computeEdges(false);
+        final int[][] labels = this.computeLabels(predecessors);
+        final PriorityQueue<Entry> open = new PriorityQueue<>();
+        for (int s = 0; s < this.size; s++) {
+            if (this.goals[s]) {
+                this.distances[s] = 0.0;
+                open.add(new Entry(s, 0.0));
+            }
+        }
+        while (!open.isEmpty()) {
+            final Entry entry = open.poll();
+            if (entry.distance <= this.distances[entry.state]) {
+                final int[] pred = predecessors[entry.state];
+                for (int i = 0; i < pred.length; i++) {
+                    final double distance = entry.distance + this.costs[labels[entry.state][i]];
+                    if (distance < this.distances[pred[i]]) {
+                        this.distances[pred[i]] = distance;
+                        open.add(new Entry(pred[i], distance));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Computes the successors or the predecessors of each state, the self loops being excluded.
+     *
+     * @param forward <code>true</code> to compute the successors; <code>false</code> to compute
+     *                the predecessors.
+     * @return the successors or the predecessors of each state.
+     */
+    private int[][] computeEdges(final boolean forward) {
+        final int[] degrees = new int[this.size];
+        for (int[] t : this.transitions) {
+            if (t != null) {
+                for (int i = 0; i < t.length; i += 2) {
+                    if (t[i] != t[i + 1]) {
+                        degrees[forward ? t[i] : t[i + 1]]++;
+                    }
+                }
+            }
+        }
+        final int[][] edges = new int[this.size][];
+        for (int s = 0; s < this.size; s++) {
+            edges[s] = new int[degrees[s]];
+        }
+        Arrays.fill(degrees, 0);
+        for (int[] t : this.transitions) {
+            if (t != null) {
+                for (int i = 0; i < t.length; i += 2) {
+                    if (t[i] != t[i + 1]) {
+                        final int s = forward ? t[i] : t[i + 1];
+                        edges[s][degrees[s]++] = forward ? t[i + 1] : t[i];
+                    }
+                }
+            }
+        }
+        return edges;
+    }
+
+    /**
+     * Computes the labels of the backward edges of each state in the order of
+     * <code>computeEdges(false)</code>.
+     *
+     * @param predecessors the predecessors of each state.
+     * @return the labels of the backward edges of each state.
+     */
+    private int[][] computeLabels(final int[][] predecessors) {
+        final int[][] labels = new int[this.size][];
+        for (int s = 0; s < this.size; s++) {
+            labels[s] = new int[predecessors[s].length];
+        }
+        final int[] degrees = new int[this.size];
+        for (int l = 0; l < this.transitions.length; l++) {
+            final int[] t = this.transitions[l];
+            if (t != null) {
+                for (int i = 0; i < t.length; i += 2) {
+                    if (t[i] != t[i + 1]) {
+                        labels[t[i + 1]][degrees[t[i + 1]]++] = l;
+                    }
+                }
+            }
+        }
+        return labels;
+    }
+
+    /**
+     * Returns <code>true</code> if a precondition requires a fact of a specified variable.
+     *
+     * @param precondition the positive precondition.
+     * @param variables    the state variables of the problem.
+     * @param variable     the variable.
+     * @return <code>true</code> if a precondition requires a fact of the variable;
+     *     <code>false</code> otherwise.
+     */
+    private static boolean requires(final BitVector precondition, final StateVariables variables,
+                                    final int variable) {
+        for (int p = precondition.nextSetBit(0); p >= 0; p = precondition.nextSetBit(p + 1)) {
+            if (variables.getVariable(p) == variable) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Converts transitions encoded as <code>source * size + target</code> into sorted pairs of
+     * states without duplicates.
+     *
+     * @param codes   the encoded transitions.
+     * @param nbCodes the number of encoded transitions.
+     * @param size    the number of states.
+     * @return the transitions stored as pairs of states.
+     */
+    private static int[] toTransitions(final long[] codes, final int nbCodes, final int size) {
+        Arrays.sort(codes, 0, nbCodes);
+        int nbTransitions = 0;
+        for (int i = 0; i < nbCodes; i++) {
+            if (i == 0 || codes[i] != codes[i - 1]) {
+                nbTransitions++;
+            }
+        }
+        final int[] transitions = new int[2 * nbTransitions];
+        int index = 0;
+        for (int i = 0; i < nbCodes; i++) {
+            if (i == 0 || codes[i] != codes[i - 1]) {
+                transitions[index++] = (int) (codes[i] / size);
+                transitions[index++] = (int) (codes[i] % size);
+            }
+        }
+        return transitions;
+    }
+
+    /**
+     * This class implements the signature of a state used to compute the bisimulation, i.e., its
+     * block and the sorted codes of its transitions stored in a segment of an array.
+     */
+    private static final class Signature {
+
+        /**
+         * The block of the state.
+         */
+        private final int block;
+
+        /**
+         * The array that contains the codes of the transitions.
+         */
+        private final long[] codes;
+
+        /**
+         * The index of the first code of the transitions.
+         */
+        private final int from;
+
+        /**
+         * The index after the last code of the transitions.
+         */
+        private final int to;
+
+        /**
+         * The hash code of the signature.
+         */
+        private final int hashCode;
+
+        /**
+         * Creates a new signature.
+         *
+         * @param block the block of the state.
+         * @param codes the array that contains the codes of the transitions.
+         * @param from  the index of the first code of the transitions.
+         * @param to    the index after the last code of the transitions.
+         */
+        private Signature(final int block, final long[] codes, final int from, final int to) {
+            this.block = block;
+            this.codes = codes;
+            this.from = from;
+            this.to = to;
+            int hash = block;
+            for (int i = from; i < to; i++) {
+                hash = 31 * hash + Long.hashCode(codes[i]);
+            }
+            this.hashCode = hash;
+        }
+
+        /**
+         * Returns <code>true</code> if the signature is equal to an object.
+         *
+         * @param obj the object to be compared.
+         * @return <code>true</code> if the signature is equal to the object; <code>false</code>
+         *     otherwise.
+         */
+        @Override
+        public boolean equals(final Object obj) {
+            if (!(obj instanceof Signature)) {
+                return false;
+            }
+            final Signature other = (Signature) obj;
+            if (this.block != other.block || this.to - this.from != other.to - other.from) {
+                return false;
+            }
+            for (int i = 0; i < this.to - this.from; i++) {
+                if (this.codes[this.from + i] != other.codes[other.from + i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Returns the hash code of the signature.
+         *
+         * @return the hash code of the signature.
+         */
+        @Override
+        public int hashCode() {
+            return this.hashCode;
+        }
+    }
+
+    /**
+     * This class implements an entry of the open list of the Dijkstra algorithm.
+     */
+    private static final class Entry implements Comparable<Entry> {
+
+        /**
+         * The state.
+         */
+        private final int state;
+
+        /**
+         * The distance of the state.
+         */
+        private final double distance;
+
+        /**
+         * Creates a new entry.
+         *
+         * @param state    the state.
+         * @param distance the distance of the state.
+         */
+        private Entry(final int state, final double distance) {
+            this.state = state;
+            this.distance = distance;
+        }
+
+        /**
+         * Compares the entry with an other entry according to their distances.
+         *
+         * @param other the other entry.
+         * @return a negative integer, zero, or a positive integer as this entry is less than, equal
+         *     to, or greater than the specified entry.
+         */
+        @Override
+        public int compareTo(final Entry other) {
+            return Double.compare(this.distance, other.distance);
+        }
+    }
+
+}
@@ -0,0 +1,482 @@
+/*
+ * Copyright (c) 2010 by Damien Pellier <Damien.Pellier@imag.fr>.
+ *
+ * This file is part of PDDL4J library.
+ *
+ * PDDL4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDDL4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDDL4J.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+
+package fr.uga.pddl4j.heuristics.causalgraph;
+
+import fr.uga.pddl4j.encoding.CodedProblem;
+import fr.uga.pddl4j.heuristics.relaxation.AbstractHeuristic;
+import fr.uga.pddl4j.planners.statespace.search.strategy.Node;
+import fr.uga.pddl4j.util.BitExp;
+import fr.uga.pddl4j.util.BitState;
+import fr.uga.pddl4j.util.BitVector;
+import fr.uga.pddl4j.util.CausalGraph;
+import fr.uga.pddl4j.util.DomainTransitionGraph;
+import fr.uga.pddl4j.util.StateVariables;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This class implements the causal graph heuristic. For more information on this heuristic see M.
+ * Helmert. "A Planning Heuristic Based on Causal Graph Analysis". In proceedings of the 14th
+ * International Conference on Automated Planning and Scheduling, 2004.
+ * <p>
+ * The heuristic value is the sum over the variables of the goal of the cost of changing the
+ * variable from its value in the state to its goal value. This cost is the cost of a shortest path
+ * in the domain transition graph of the variable computed by a Dijkstra algorithm where the cost of
+ * a transition is the cost of its operator plus the cost of changing the variables of its
+ * conditions from their current value to the value required. The current value of these variables
+ * is initially their value in the state and then the value required by the last transition of the
+ * path. The conditions on the variables of higher level in the causal graph (see
+ * {@link CausalGraph#getLevel(int)}) are ignored to break the cycles of the causal graph.
+ * </p>
+ * <p>
+ * The shortest paths from a value of a variable only depend on the values of its ancestors in the
+ * state. They are computed once per evaluation and stored in a cache shared by the evaluations as
+ * long as the cache holds less than {@link #DEFAULT_CACHE_SIZE} entries.
+ * </p>
+ * <b>Warning:</b> The causal graph heuristic is not admissible.
+ *
+ * @author PDDL4J contributors
+ * @version 1.0 - 19.10.2026
+ * @see CausalGraph
+ */
+public final class CausalGraphHeuristic extends AbstractHeuristic {
+
+    /**
+     * The serial version id of the class.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The default maximum number of shortest paths stored in the cache.
+     */
+    public static final int DEFAULT_CACHE_SIZE = 1000000;
+
+    /**
+     * The largest key of the cache.
+     */
+    private static final long MAX_KEY = 1L << 52;
+
+    /**
+     * The cost of the unreachable values.
+     */
+    private static final double UNREACHABLE = Double.MAX_VALUE;
+
+    /**
+     * The causal graph of the problem.
+     */
+    private CausalGraph graph;
+
+    /**
+     * The variables of the goal.
+     */
+    private int[] goalVariables;
+
+    /**
+     * The values of the variables of the goal.
+     */
+    private int[] goalValues;
+
+    /**
+     * The predecessors of each variable of lower level in the causal graph.
+     */
+    private int[][] parents;
+
+    /**
+     * The conditions of the transitions of each value of each variable on its parents as pairs of
+     * index of the parent and value.
+     */
+    private int[][][][] conditions;
+
+    /**
+     * The ancestors of each variable used to compute the keys of the cache or <code>null</code> if
+     * the shortest paths of the variable are not cached.
+     */
+    private int[][] ancestors;
+
+    /**
+     * The shortest paths stored in the cache for each variable.
+     */
+    private List<Map<Long, double[]>> cache;
+
+    /**
+     * The maximum number of shortest paths stored in the cache.
+     */
+    private int cacheSize;
+
+    /**
+     * The number of shortest paths stored in the cache.
+     */
+    private int cached;
+
+    /**
+     * The shortest paths of the current evaluation from each value of each variable.
+     */
+    private double[][][] distances;
+
+    /**
+     * The last evaluation in which the shortest paths from each value of each variable were
+     * computed.
+     */
+    private int[][] stamps;
+
+    /**
+     * The current evaluation.
+     */
+    private int stamp;
+
+    /**
+     * The values of the variables in the current state.
+     */
+    private int[] values;
+
+    /**
+     * The values of the parents of each variable in the context of each value during the Dijkstra
+     * algorithm of the variable.
+     */
+    private int[][] contexts;
+
+    /**
+     * The values closed during the Dijkstra algorithm of each variable.
+     */
+    private boolean[][] closed;
+
+    /**
+     * Creates a new <code>CausalGraphHeuristic</code> heuristic for a specified planning problem with
+     * the default size of the cache.
+     *
+     * @param problem the planning problem.
+     * @throws NullPointerException if <code>problem == null</code>.
+     */
+    public CausalGraphHeuristic(final CodedProblem problem) {
+        this(problem, CausalGraphHeuristic.DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * Creates a new <code>CausalGraphHeuristic</code> heuristic for a specified planning problem.
+     *
+     * @param problem   the planning problem.
+     * @param cacheSize the maximum number of shortest paths stored in the cache.
+     * @throws NullPointerException if <code>problem == null</code>.
+     */
+    @SuppressWarnings("unchecked")
+    public CausalGraphHeuristic(final CodedProblem problem, final int cacheSize) {
+        super(problem);
+        super.setAdmissible(false);
+        this.graph = CausalGraph.getInstance(problem);
+        this.cacheSize = cacheSize;
+        final StateVariables variables = this.graph.getStateVariables();
+        final int size = variables.size();
+        this.parents = new int[size][];
+        this.conditions = new int[size][][][];
+        this.distances = new double[size][][];
+        this.stamps = new int[size][];
+        this.contexts = new int[size][];
+        this.closed = new boolean[size][];
+        for (int v = 0; v < size; v++) {
+            this.initVariable(v);
+        }
+        this.ancestors = new int[size][];
+        this.cache = new ArrayList<>(size);
+        for (int v = 0; v < size; v++) {
+            this.cache.add(null);
+            this.initCache(v);
+        }
+        this.values = new int[size];
+        this.stamp = 0;
+        this.initGoal(super.getGoal());
+    }
+
+    /**
+     * Set the goal of the the relaxed problem to solve in order to compute the heuristic.
+     *
+     * @param goal the goal.
+     */
+    @Override
+    protected void setGoal(final BitExp goal) {
+        if (!goal.equals(super.getGoal())) {
+            super.setGoal(goal);
+            this.initGoal(goal);
+        }
+    }
+
+    /**
+     * Return the estimated distance to the goal to reach the specified state. If the return value is
+     * <code>Integer.MAX_VALUE</code>, it means that the goal is unreachable from the specified
+     * state.
+     *
+     * @param state the state from which the distance to the goal must be estimated.
+     * @param goal  the goal expression.
+     * @return the distance to the goal state from the specified state.
+     * @throws NullPointerException if <code>state == null &#38;&#38; goal == null</code>.
+     */
+    @Override
+    public int estimate(final BitState state, final BitExp goal) {
+        final double value = this.estimateCost(state, goal);
+        return value == Double.MAX_VALUE ? Integer.MAX_VALUE : (int) value;
+    }
+
+    /**
+     * Return the estimated distance to the goal to reach the specified state. If the return value is
+     * <code>Integer.MAX_VALUE</code>, it means that the goal is unreachable from the specified
+     * state.
+     *
+     * @param node the state from which the distance to the goal must be estimated.
+     * @param goal the goal expression.
+     * @return the distance to the goal state from the specified state.
+     */
+    @Override
+    public double estimate(final Node node, final BitExp goal) {
+        final double value = this.estimateCost(node, goal);
+        return value == Double.MAX_VALUE ? Integer.MAX_VALUE : value;
+    }
+
+    /**
+     * Computes the causal graph heuristic value of a specified state.
+     *
+     * @param state the state from which the distance to the goal must be estimated.
+     * @param goal  the goal expression.
+     * @return the heuristic value or <code>Double.MAX_VALUE</code> if the goal is not reachable.
+     */
+    private double estimateCost(final BitState state, final BitExp goal) {
+        this.setGoal(goal);
+        this.stamp++;
+        if (this.stamp == Integer.MAX_VALUE) {
+            for (int[] s : this.stamps) {
+                Arrays.fill(s, 0);
+            }
+            this.stamp = 1;
+        }
+        final StateVariables variables = this.graph.getStateVariables();
+        for (int v = 0; v < this.values.length; v++) {
+            this.values[v] = variables.getValue(state, v);
+        }
+        double value = 0.0;
+        for (int i = 0; i < this.goalVariables.length && value != CausalGraphHeuristic.UNREACHABLE; i++) {
+            final int v = this.goalVariables[i];
+            final double cost = this.getDistances(v, this.values[v])[this.goalValues[i]];
+            value = cost == CausalGraphHeuristic.UNREACHABLE ? cost : value + cost;
+        }
+        return value;
+    }
+
+    /**
+     * Returns the cost of the shortest paths from a specified value of a variable in the current
+     * state. The shortest paths are computed if they are neither already computed during the
+     * current evaluation nor stored in the cache.
+     *
+     * @param variable the variable.
+     * @param source   the source value.
+     * @return the cost of the shortest paths to each value of the variable.
+     */
+    private double[] getDistances(final int variable, final int source) {
+        final double[] dist = this.distances[variable][source];
+        if (this.stamps[variable][source] != this.stamp) {
+            this.stamps[variable][source] = this.stamp;
+            if (this.ancestors[variable] == null) {
+                this.computeDistances(variable, source, dist);
+            } else {
+                final Long key = this.getKey(variable, source);
+                final double[] known = this.cache.get(variable).get(key);
+                if (known != null) {
+                    System.arraycopy(known, 0, dist, 0, dist.length);
+                } else {
+                    this.computeDistances(variable, source, dist);
+                    if (this.cached < this.cacheSize) {
+                        this.cache.get(variable).put(key, dist.clone());
+                        this.cached++;
+                    }
+                }
+            }
+        }
+        return dist;
+    }
+
+    /**
+     * Computes the cost of the shortest paths from a specified value of a variable in the domain
+     * transition graph of the variable.
+     *
+     * @param variable the variable.
+     * @param source   the source value.
+     * @param dist     the array where the costs are stored.
+     */
+    private void computeDistances(final int variable, final int source, final double[] dist) {
+        final DomainTransitionGraph dtg = this.graph.getDomainTransitionGraph(variable);
+        final int[] parent = this.parents[variable];
+        final int k = parent.length;
+        final int[] context = this.contexts[variable];
+        final boolean[] done = this.closed[variable];
+        Arrays.fill(dist, CausalGraphHeuristic.UNREACHABLE);
+        Arrays.fill(done, false);
+        dist[source] = 0.0;
+        for (int i = 0; i < k; i++) {
+            context[source * k + i] = this.values[parent[i]];
+        }
+        int current = source;
+        while (current != -1) {
+            done[current] = true;
+            final DomainTransitionGraph.Transition[] transitions = dtg.getTransitions(current);
+            for (int t = 0; t < transitions.length; t++) {
+                final int target = transitions[t].getTarget();
+                final int[] cond = this.conditions[variable][current][t];
+                double cost = transitions[t].getCost();
+                for (int i = 0; i < cond.length && cost != CausalGraphHeuristic.UNREACHABLE; i += 2) {
+                    final int from = context[current * k + cond[i]];
+                    if (from != cond[i + 1]) {
+                        final double c = this.getDistances(parent[cond[i]], from)[cond[i + 1]];
+                        cost = c == CausalGraphHeuristic.UNREACHABLE ? c : cost + c;
+                    }
+                }
+                if (!done[target] && cost != CausalGraphHeuristic.UNREACHABLE
+                    && dist[current] + cost < dist[target]) {
+                    dist[target] = dist[current] + cost;
+                    System.arraycopy(context, current * k, context, target * k, k);
+                    for (int i = 0; i < cond.length; i += 2) {
+                        context[target * k + cond[i]] = cond[i + 1];
+                    }
+                }
+            }
+            current = -1;
+            for (int value = 0; value < dist.length; value++) {
+                if (!done[value] && dist[value] != CausalGraphHeuristic.UNREACHABLE
+                    && (current == -1 || dist[value] < dist[current])) {
+                    current = value;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the key of the cache of a source value of a variable in the current state.
+     *
+     * @param variable the variable.
+     * @param source   the source value.
+     * @return the key of the cache.
+     */
+    private Long getKey(final int variable, final int source) {
+        final StateVariables variables = this.graph.getStateVariables();
+        long key = 0L;
+        for (int a : this.ancestors[variable]) {
+            key = key * variables.getDomainSize(a) + this.values[a];
+        }
+        return key * variables.getDomainSize(variable) + source;
+    }
+
+    /**
+     * Initializes the parents, the conditions of the transitions and the arrays used by the Dijkstra
+     * algorithm of a specified variable.
+     *
+     * @param variable the variable.
+     */
+    private void initVariable(final int variable) {
+        final DomainTransitionGraph dtg = this.graph.getDomainTransitionGraph(variable);
+        final int level = this.graph.getLevel(variable);
+        final BitVector kept = new BitVector();
+        for (int value = 0; value < dtg.size(); value++) {
+            for (DomainTransitionGraph.Transition t : dtg.getTransitions(value)) {
+                final int[] cond = t.getConditions();
+                for (int i = 0; i < cond.length; i += 2) {
+                    if (this.graph.getLevel(cond[i]) < level) {
+                        kept.set(cond[i]);
+                    }
+                }
+            }
+        }
+        final int[] parent = kept.stream().toArray();
+        this.parents[variable] = parent;
+        this.conditions[variable] = new int[dtg.size()][][];
+        for (int value = 0; value < dtg.size(); value++) {
+            final DomainTransitionGraph.Transition[] transitions = dtg.getTransitions(value);
+            this.conditions[variable][value] = new int[transitions.length][];
+            for (int t = 0; t < transitions.length; t++) {
+                final int[] cond = transitions[t].getConditions();
+                final int[] local = new int[cond.length];
+                int size = 0;
+                for (int i = 0; i < cond.length; i += 2) {
+                    if (this.graph.getLevel(cond[i]) < level) {
+                        local[size++] = Arrays.binarySearch(parent, cond[i]);
+                        local[size++] = cond[i + 1];
+                    }
+                }
+                this.conditions[variable][value][t] = Arrays.copyOf(local, size);
+            }
+        }
+        this.distances[variable] = new double[dtg.size()][dtg.size()];
+        this.stamps[variable] = new int[dtg.size()];
+        this.contexts[variable] = new int[dtg.size() * parent.length];
+        this.closed[variable] = new boolean[dtg.size()];
+    }
+
+    /**
+     * Initializes the ancestors and the cache of a specified variable. The shortest paths of a
+     * variable are not cached if the number of keys of the cache is too large.
+     *
+     * @param variable the variable.
+     */
+    private void initCache(final int variable) {
+        final StateVariables variables = this.graph.getStateVariables();
+        final BitVector visited = new BitVector();
+        final int[] stack = new int[this.parents.length];
+        int top = 0;
+        for (int p : this.parents[variable]) {
+            visited.set(p);
+            stack[top++] = p;
+        }
+        while (top > 0) {
+            final int v = stack[--top];
+            for (int p : this.parents[v]) {
+                if (!visited.get(p)) {
+                    visited.set(p);
+                    stack[top++] = p;
+                }
+            }
+        }
+        long keys = variables.getDomainSize(variable);
+        for (int a = visited.nextSetBit(0); a >= 0; a = visited.nextSetBit(a + 1)) {
+            final int size = variables.getDomainSize(a);
+            keys = keys > CausalGraphHeuristic.MAX_KEY / size ? CausalGraphHeuristic.MAX_KEY + 1 : keys * size;
+        }
+        if (keys <= CausalGraphHeuristic.MAX_KEY) {
+            this.ancestors[variable] = visited.stream().toArray();
+            this.cache.set(variable, new HashMap<>());
+        }
+    }
+
+    /**
+     * Initializes the variables and the values of the goal.
+     *
+     * @param goal the goal.
+     */
+    private void initGoal(final BitExp goal) {
+        final StateVariables variables = this.graph.getStateVariables();
+        final int[] facts = goal.getPositive().stream().toArray();
+        this.goalVariables = new int[facts.length];
+        this.goalValues = new int[facts.length];
+        for (int i = 0; i < facts.length; i++) {
+            this.goalVariables[i] = variables.getVariable(facts[i]);
+            this.goalValues[i] = variables.getValue(facts[i]);
+        }
+    }
+
+}
@@ -0,0 +1,704 @@
+/*
+ * Copyright (c) 2010 by Damien Pellier <Damien.Pellier@imag.fr>.
+ *
+ * This file is part of PDDL4J library.
+ *
+ * PDDL4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDDL4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDDL4J.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+
+package fr.uga.pddl4j.heuristics.causalgraph;
+
+import fr.uga.pddl4j.encoding.CodedProblem;
+import fr.uga.pddl4j.heuristics.relaxation.AbstractHeuristic;
+import fr.uga.pddl4j.planners.statespace.search.strategy.Node;
+import fr.uga.pddl4j.util.BitExp;
+import fr.uga.pddl4j.util.BitState;
+import fr.uga.pddl4j.util.BitVector;
+import fr.uga.pddl4j.util.CausalGraph;
+import fr.uga.pddl4j.util.DomainTransitionGraph;
+import fr.uga.pddl4j.util.StateVariables;
+
+import java.util.Arrays;
+
+/**
+ * This class implements the context-enhanced additive heuristic. For more information on this
+ * heuristic see M. Helmert and H. Geffner. "Unifying the Causal Graph and Additive Heuristics". In
+ * proceedings of the 18th International Conference on Automated Planning and Scheduling, 2008.
+ * <p>
+ * The heuristic solves a local problem for each variable <code>x</code> and each value
+ * <code>d</code> of <code>x</code> required during the evaluation: the cost of changing
+ * <code>x</code> from <code>d</code> to each of its values in the domain transition graph of
+ * <code>x</code>. Unlike the additive heuristic, the cost of the conditions of a transition on an
+ * other variable <code>y</code> is evaluated from the value of <code>y</code> in the context of the
+ * source value of the transition, i.e., the value of <code>y</code> produced by the transitions
+ * leading to the source value, and not from the value of <code>y</code> in the state. The goal is
+ * handled as an artificial variable with a single transition whose conditions are the goal. All the
+ * local problems are solved together by a single Dijkstra algorithm where the priority of a value
+ * is its cost in its local problem plus the priority of the value which required the local problem.
+ * </p>
+ * <p>
+ * The local problems, the contexts and the priority queue are stored in arrays allocated once when
+ * the heuristic is created and only grown when needed, so that the evaluations do not allocate
+ * memory.
+ * </p>
+ * <b>Warning:</b> The context-enhanced additive heuristic is not admissible.
+ *
+ * @author PDDL4J contributors
+ * @version 1.0 - 19.10.2026
+ * @see CausalGraph
+ */
+public final class ContextEnhancedAdditive extends AbstractHeuristic {
+
+    /**
+     * The serial version id of the class.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The initial capacity of the pools of transitions and of the priority queue.
+     */
+    private static final int INITIAL_CAPACITY = 1024;
+
+    /**
+     * The cost of the unreachable values.
+     */
+    private static final double UNREACHABLE = Double.MAX_VALUE;
+
+    /**
+     * The causal graph of the problem.
+     */
+    private CausalGraph graph;
+
+    /**
+     * The artificial variable of the goal.
+     */
+    private int goalVariable;
+
+    /**
+     * The index of the transition of the artificial variable of the goal.
+     */
+    private int goalTransition;
+
+    /**
+     * The number of values of each variable.
+     */
+    private int[] domains;
+
+    /**
+     * The variables of the conditions of the transitions of each variable.
+     */
+    private int[][] parents;
+
+    /**
+     * The index of the first transition of each value of each variable.
+     */
+    private int[][] firsts;
+
+    /**
+     * The target value of the transitions.
+     */
+    private int[] targets;
+
+    /**
+     * The cost of the transitions.
+     */
+    private double[] costs;
+
+    /**
+     * The conditions of the transitions as pairs of index of the parent and value.
+     */
+    private int[][] conditions;
+
+    /**
+     * The side effects of the transitions on the parents as pairs of index of the parent and value.
+     */
+    private int[][] effects;
+
+    /**
+     * The index of the first node of the local problems of each variable. The node of the value
+     * <code>d</code> of the local problem from the value <code>c</code> of the variable
+     * <code>x</code> is <code>nodeBases[x] + c * domains[x] + d</code>.
+     */
+    private int[] nodeBases;
+
+    /**
+     * The index of the first local problem of each variable.
+     */
+    private int[] problemBases;
+
+    /**
+     * The variable of each node.
+     */
+    private int[] nodeVariables;
+
+    /**
+     * The index of the first context of each variable in the array of the contexts.
+     */
+    private int[] contextBases;
+
+    /**
+     * The values of the parents of the variable in the context of each node.
+     */
+    private int[] contexts;
+
+    /**
+     * The cost of each node in its local problem.
+     */
+    private double[] nodeCosts;
+
+    /**
+     * The last evaluation in which each node was expanded.
+     */
+    private int[] expanded;
+
+    /**
+     * The local transition by which each node was reached or -1 for the source node of a local
+     * problem.
+     */
+    private int[] reachedBy;
+
+    /**
+     * The first waiting local transition of each node.
+     */
+    private int[] waitHeads;
+
+    /**
+     * The last evaluation in which each local problem was initialized.
+     */
+    private int[] problemStamps;
+
+    /**
+     * The priority of each local problem.
+     */
+    private double[] priorities;
+
+    /**
+     * The source node of the local transitions.
+     */
+    private int[] localSources;
+
+    /**
+     * The transition of the local transitions.
+     */
+    private int[] localTransitions;
+
+    /**
+     * The cost of the local transitions.
+     */
+    private double[] localCosts;
+
+    /**
+     * The number of unreached conditions of the local transitions.
+     */
+    private int[] localUnreached;
+
+    /**
+     * The number of local transitions.
+     */
+    private int localSize;
+
+    /**
+     * The local transition of the waiting entries.
+     */
+    private int[] waitTransitions;
+
+    /**
+     * The next waiting entry of the same node.
+     */
+    private int[] waitNexts;
+
+    /**
+     * The number of waiting entries.
+     */
+    private int waitSize;
+
+    /**
+     * The priorities of the priority queue.
+     */
+    private double[] heapKeys;
+
+    /**
+     * The nodes of the priority queue.
+     */
+    private int[] heapNodes;
+
+    /**
+     * The number of nodes of the priority queue.
+     */
+    private int heapSize;
+
+    /**
+     * The values of the variables in the current state.
+     */
+    private int[] values;
+
+    /**
+     * The current evaluation.
+     */
+    private int stamp;
+
+    /**
+     * Creates a new <code>ContextEnhancedAdditive</code> heuristic for a specified planning problem.
+     *
+     * @param problem the planning problem.
+     * @throws NullPointerException if <code>problem == null</code>.
+     */
+    public ContextEnhancedAdditive(final CodedProblem problem) {
+        super(problem);
+        super.setAdmissible(false);
+        this.graph = CausalGraph.getInstance(problem);
+        final StateVariables variables = this.graph.getStateVariables();
+        final int size = variables.size();
+        this.goalVariable = size;
+        this.domains = new int[size + 1];
+        this.parents = new int[size + 1][];
+        this.firsts = new int[size + 1][];
+        int nbTransitions = 0;
+        for (int v = 0; v < size; v++) {
+            final DomainTransitionGraph dtg = this.graph.getDomainTransitionGraph(v);
+            this.domains[v] = dtg.size();
+            final BitVector parent = new BitVector();
+            for (int value = 0; value < dtg.size(); value++) {
+                for (DomainTransitionGraph.Transition t : dtg.getTransitions(value)) {
+                    final int[] cond = t.getConditions();
+                    for (int i = 0; i < cond.length; i += 2) {
+                        parent.set(cond[i]);
+                    }
+                    nbTransitions++;
+                }
+            }
+            this.parents[v] = parent.stream().toArray();
+        }
+        this.domains[size] = 2;
+        this.goalTransition = nbTransitions;
+        this.targets = new int[nbTransitions + 1];
+        this.costs = new double[nbTransitions + 1];
+        this.conditions = new int[nbTransitions + 1][];
+        this.effects = new int[nbTransitions + 1][];
+        int index = 0;
+        for (int v = 0; v < size; v++) {
+            final DomainTransitionGraph dtg = this.graph.getDomainTransitionGraph(v);
+            this.firsts[v] = new int[dtg.size() + 1];
+            for (int value = 0; value < dtg.size(); value++) {
+                this.firsts[v][value] = index;
+                for (DomainTransitionGraph.Transition t : dtg.getTransitions(value)) {
+                    this.targets[index] = t.getTarget();
+                    this.costs[index] = t.getCost();
+                    this.conditions[index] = this.toLocal(this.parents[v], t.getConditions());
+                    this.effects[index] = this.toLocal(this.parents[v], t.getEffects());
+                    index++;
+                }
+            }
+            this.firsts[v][dtg.size()] = index;
+        }
+        this.firsts[size] = new int[] {this.goalTransition, this.goalTransition + 1, this.goalTransition + 1};
+        this.targets[this.goalTransition] = 1;
+        this.nodeBases = new int[size + 1];
+        this.contextBases = new int[size + 1];
+        this.problemBases = new int[size + 1];
+        int nbNodes = 0;
+        int nbProblems = 0;
+        int nbContexts = 0;
+        for (int v = 0; v <= size; v++) {
+            this.nodeBases[v] = nbNodes;
+            this.problemBases[v] = nbProblems;
+            this.contextBases[v] = nbContexts;
+            nbNodes += this.domains[v] * this.domains[v];
+            nbProblems += this.domains[v];
+            if (v < size) {
+                nbContexts += this.domains[v] * this.domains[v] * this.parents[v].length;
+            }
+        }
+        this.contexts = new int[nbContexts];
+        this.nodeVariables = new int[nbNodes];
+        for (int v = 0; v <= size; v++) {
+            final int last = this.nodeBases[v] + this.domains[v] * this.domains[v];
+            Arrays.fill(this.nodeVariables, this.nodeBases[v], last, v);
+        }
+        this.nodeCosts = new double[nbNodes];
+        this.expanded = new int[nbNodes];
+        this.reachedBy = new int[nbNodes];
+        this.waitHeads = new int[nbNodes];
+        this.problemStamps = new int[nbProblems];
+        this.priorities = new double[nbProblems];
+        this.localSources = new int[ContextEnhancedAdditive.INITIAL_CAPACITY];
+        this.localTransitions = new int[ContextEnhancedAdditive.INITIAL_CAPACITY];
+        this.localCosts = new double[ContextEnhancedAdditive.INITIAL_CAPACITY];
+        this.localUnreached = new int[ContextEnhancedAdditive.INITIAL_CAPACITY];
+        this.waitTransitions = new int[ContextEnhancedAdditive.INITIAL_CAPACITY];
+        this.waitNexts = new int[ContextEnhancedAdditive.INITIAL_CAPACITY];
+        this.heapKeys = new double[ContextEnhancedAdditive.INITIAL_CAPACITY];
+        this.heapNodes = new int[ContextEnhancedAdditive.INITIAL_CAPACITY];
+        this.values = new int[size];
+        this.stamp = 0;
+        this.initGoal(super.getGoal());
+    }
+
+    /**
+     * Set the goal of the the relaxed problem to solve in order to compute the heuristic.
+     *
+     * @param goal the goal.
+     */
+    @Override
+    protected void setGoal(final BitExp goal) {
+        if (!goal.equals(super.getGoal())) {
+            super.setGoal(goal);
+            this.initGoal(goal);
+        }
+    }
+
+    /**
+     * Return the estimated distance to the goal to reach the specified state. If the return value is
+     * <code>Integer.MAX_VALUE</code>, it means that the goal is unreachable from the specified
+     * state.
+     *
+     * @param state the state from which the distance to the goal must be estimated.
+     * @param goal  the goal expression.
+     * @return the distance to the goal state from the specified state.
+     * @throws NullPointerException if <code>state == null &#38;&#38; goal == null</code>.
+     */
+    @Override
+    public int estimate(final BitState state, final BitExp goal) {
+        final double value = this.estimateCost(state, goal);
+        return value == Double.MAX_VALUE ? Integer.MAX_VALUE : (int) value;
+    }
+
+    /**
+     * Return the estimated distance to the goal to reach the specified state. If the return value is
+     * <code>Integer.MAX_VALUE</code>, it means that the goal is unreachable from the specified
+     * state.
+     *
+     * @param node the state from which the distance to the goal must be estimated.
+     * @param goal the goal expression.
+     * @return the distance to the goal state from the specified state.
+     */
+    @Override
+    public double estimate(final Node node, final BitExp goal) {
+        final double value = this.estimateCost(node, goal);
+        return value == Double.MAX_VALUE ? Integer.MAX_VALUE : value;
+    }
+
+    /**
+     * Computes the context-enhanced additive heuristic value of a specified state.
+     *
+     * @param state the state from which the distance to the goal must be estimated.
+     * @param goal  the goal expression.
+     * @return the heuristic value or <code>Double.MAX_VALUE</code> if the goal is not reachable.
+     */
+    private double estimateCost(final BitState state, final BitExp goal) {
+        this.setGoal(goal);
+        this.stamp++;
+        if (this.stamp == Integer.MAX_VALUE) {
+            Arrays.fill(this.expanded, 0);
+            Arrays.fill(this.problemStamps, 0);
+            this.stamp = 1;
+        }
+        final StateVariables variables = this.graph.getStateVariables();
+        for (int v = 0; v < this.values.length; v++) {
+            this.values[v] = variables.getValue(state, v);
+        }
+        this.localSize = 0;
+        this.waitSize = 0;
+        this.heapSize = 0;
+        this.initLocalProblem(this.goalVariable, 0, 0.0);
+        final int goalNode = this.nodeBases[this.goalVariable] + 1;
+        while (this.heapSize > 0) {
+            final double key = this.heapKeys[0];
+            final int node = this.pop();
+            final int v = this.nodeVariables[node];
+            final int problem = this.getLocalProblem(node);
+            // The outdated entries of the priority queue are ignored
+            if (this.expanded[node] != this.stamp && key == this.priorities[problem] + this.nodeCosts[node]) {
+                this.expanded[node] = this.stamp;
+                if (node == goalNode) {
+                    return this.nodeCosts[node];
+                }
+                this.expand(node, v, problem);
+            }
+        }
+        return ContextEnhancedAdditive.UNREACHABLE;
+    }
+
+    /**
+     * Expands a node: computes its context, fires the local transitions waiting for its cost and
+     * creates the local transitions of its value.
+     *
+     * @param node     the node.
+     * @param variable the variable of the node.
+     * @param problem  the local problem of the node.
+     */
+    private void expand(final int node, final int variable, final int problem) {
+        final int[] parent = this.parents[variable];
+        final int k = parent.length;
+        final int offset = this.contextBases[variable] + (node - this.nodeBases[variable]) * k;
+        final int lt = this.reachedBy[node];
+        if (lt != -1) {
+            final int source = this.contextBases[variable] + (this.localSources[lt] - this.nodeBases[variable]) * k;
+            System.arraycopy(this.contexts, source, this.contexts, offset, k);
+            final int t = this.localTransitions[lt];
+            for (int i = 0; i < this.conditions[t].length; i += 2) {
+                this.contexts[offset + this.conditions[t][i]] = this.conditions[t][i + 1];
+            }
+            for (int i = 0; i < this.effects[t].length; i += 2) {
+                this.contexts[offset + this.effects[t][i]] = this.effects[t][i + 1];
+            }
+        }
+        for (int w = this.waitHeads[node]; w != -1; w = this.waitNexts[w]) {
+            final int waiting = this.waitTransitions[w];
+            this.localCosts[waiting] += this.nodeCosts[node];
+            this.localUnreached[waiting]--;
+            if (this.localUnreached[waiting] == 0) {
+                this.fire(waiting);
+            }
+        }
+        final int value = (node - this.nodeBases[variable]) % this.domains[variable];
+        final double priority = this.priorities[problem] + this.nodeCosts[node];
+        for (int t = this.firsts[variable][value]; t < this.firsts[variable][value + 1]; t++) {
+            final int local = this.newLocalTransition(node, t, this.nodeCosts[node] + this.costs[t]);
+            final int[] cond = this.conditions[t];
+            for (int i = 0; i < cond.length; i += 2) {
+                final int z = parent[cond[i]];
+                final int current = this.contexts[offset + cond[i]];
+                if (current != cond[i + 1]) {
+                    if (this.problemStamps[this.getLocalProblem(z, current)] != this.stamp) {
+                        this.initLocalProblem(z, current, priority);
+                    }
+                    final int child = this.nodeBases[z] + current * this.domains[z] + cond[i + 1];
+                    if (this.expanded[child] == this.stamp) {
+                        this.localCosts[local] += this.nodeCosts[child];
+                    } else {
+                        this.addWaiting(child, local);
+                        this.localUnreached[local]++;
+                    }
+                }
+            }
+            if (this.localUnreached[local] == 0) {
+                this.fire(local);
+            }
+        }
+    }
+
+    /**
+     * Fires a local transition whose conditions are all reached: updates the cost of its target
+     * node if the transition improves it.
+     *
+     * @param local the local transition.
+     */
+    private void fire(final int local) {
+        final int source = this.localSources[local];
+        final int v = this.nodeVariables[source];
+        final int first = source - (source - this.nodeBases[v]) % this.domains[v];
+        final int target = first + this.targets[this.localTransitions[local]];
+        final double cost = this.localCosts[local];
+        if (this.expanded[target] != this.stamp && cost < this.nodeCosts[target]) {
+            this.nodeCosts[target] = cost;
+            this.reachedBy[target] = local;
+            this.push(this.priorities[this.getLocalProblem(source)] + cost, target);
+        }
+    }
+
+    /**
+     * Initializes the local problem of a variable from a specified value.
+     *
+     * @param variable the variable.
+     * @param value    the source value of the local problem.
+     * @param priority the priority of the local problem.
+     */
+    private void initLocalProblem(final int variable, final int value, final double priority) {
+        final int problem = this.getLocalProblem(variable, value);
+        this.problemStamps[problem] = this.stamp;
+        this.priorities[problem] = priority;
+        final int first = this.nodeBases[variable] + value * this.domains[variable];
+        for (int node = first; node < first + this.domains[variable]; node++) {
+            this.nodeCosts[node] = ContextEnhancedAdditive.UNREACHABLE;
+            this.waitHeads[node] = -1;
+            this.expanded[node] = 0;
+        }
+        final int source = first + value;
+        this.nodeCosts[source] = 0.0;
+        this.reachedBy[source] = -1;
+        final int[] parent = this.parents[variable];
+        final int offset = this.contextBases[variable] + (source - this.nodeBases[variable]) * parent.length;
+        for (int i = 0; i < parent.length; i++) {
+            this.contexts[offset + i] = this.values[parent[i]];
+        }
+        this.push(priority, source);
+    }
+
+    /**
+     * Returns the local problem of a variable from a specified value.
+     *
+     * @param variable the variable.
+     * @param value    the source value of the local problem.
+     * @return the index of the local problem.
+     */
+    private int getLocalProblem(final int variable, final int value) {
+        return this.problemBases[variable] + value;
+    }
+
+    /**
+     * Returns the local problem of a specified node.
+     *
+     * @param node the node.
+     * @return the index of the local problem of the node.
+     */
+    private int getLocalProblem(final int node) {
+        final int v = this.nodeVariables[node];
+        return this.getLocalProblem(v, (node - this.nodeBases[v]) / this.domains[v]);
+    }
+
+    /**
+     * Creates a new local transition.
+     *
+     * @param source     the source node of the local transition.
+     * @param transition the transition.
+     * @param cost       the initial cost of the local transition.
+     * @return the index of the local transition.
+     */
+    private int newLocalTransition(final int source, final int transition, final double cost) {
+        if (this.localSize == this.localSources.length) {
+            final int capacity = 2 * this.localSize;
+            this.localSources = Arrays.copyOf(this.localSources, capacity);
+            this.localTransitions = Arrays.copyOf(this.localTransitions, capacity);
+            this.localCosts = Arrays.copyOf(this.localCosts, capacity);
+            this.localUnreached = Arrays.copyOf(this.localUnreached, capacity);
+        }
+        final int local = this.localSize++;
+        this.localSources[local] = source;
+        this.localTransitions[local] = transition;
+        this.localCosts[local] = cost;
+        this.localUnreached[local] = 0;
+        return local;
+    }
+
+    /**
+     * Adds a local transition to the waiting list of a node.
+     *
+     * @param node  the node.
+     * @param local the local transition.
+     */
+    private void addWaiting(final int node, final int local) {
+        if (this.waitSize == this.waitTransitions.length) {
+            final int capacity = 2 * this.waitSize;
+            this.waitTransitions = Arrays.copyOf(this.waitTransitions, capacity);
+            this.waitNexts = Arrays.copyOf(this.waitNexts, capacity);
+        }
+        final int w = this.waitSize++;
+        this.waitTransitions[w] = local;
+        this.waitNexts[w] = this.waitHeads[node];
+        this.waitHeads[node] = w;
+    }
+
+    /**
+     * Inserts a node in the priority queue.
+     *
+     * @param key  the priority of the node.
+     * @param node the node.
+     */
+    private void push(final double key, final int node) {
+        if (this.heapSize == this.heapKeys.length) {
+            this.heapKeys = Arrays.copyOf(this.heapKeys, 2 * this.heapSize);
+            this.heapNodes = Arrays.copyOf(this.heapNodes, 2 * this.heapSize);
+        }
+        int i = this.heapSize++;
+        while (i > 0 && this.heapKeys[(i - 1) / 2] > key) {
+            final int parent = (i - 1) / 2;
+            this.heapKeys[i] = this.heapKeys[parent];
+            this.heapNodes[i] = this.heapNodes[parent];
+            i = parent;
+        }
+        this.heapKeys[i] = key;
+        this.heapNodes[i] = node;
+    }
+
+    /**
+     * Removes the node with the lowest priority from the priority queue.
+     *
+     * @return the node with the lowest priority.
+     */
+    private int pop() {
+        final int min = this.heapNodes[0];
+        this.heapSize--;
+        final double key = this.heapKeys[this.heapSize];
+        final int node = this.heapNodes[this.heapSize];
+        int i = 0;
+        int child = 1;
+        while (child < this.heapSize) {
+            if (child + 1 < this.heapSize && this.heapKeys[child + 1] < this.heapKeys[child]) {
+                child++;
+            }
+            if (key <= this.heapKeys[child]) {
+                break;
+            }
+            this.heapKeys[i] = this.heapKeys[child];
+            this.heapNodes[i] = this.heapNodes[child];
+            i = child;
+            child = 2 * i + 1;
+        }
+        if (this.heapSize > 0) {
+            this.heapKeys[i] = key;
+            this.heapNodes[i] = node;
+        }
+        return min;
+    }
+
+    /**
+     * Converts pairs of variable and value into pairs of index of the variable in the parents of a
+     * variable and value. The pairs of the variables which are not parents are ignored.
+     *
+     * @param parent the parents of the variable.
+     * @param pairs  the pairs of variable and value.
+     * @return the pairs of index of the parent and value.
+     */
+    private int[] toLocal(final int[] parent, final int[] pairs) {
+        final int[] local = new int[pairs.length];
+        int size = 0;
+        for (int i = 0; i < pairs.length; i += 2) {
+            final int index = Arrays.binarySearch(parent, pairs[i]);
+            if (index >= 0) {
+                local[size++] = index;
+                local[size++] = pairs[i + 1];
+            }
+        }
+        return Arrays.copyOf(local, size);
+    }
+
+    /**
+     * Initializes the artificial variable of the goal: its parents are the variables of the goal and
+     * its transition requires the goal values of these variables.
+     *
+     * @param goal the goal.
+     */
+    private void initGoal(final BitExp goal) {
+        final StateVariables variables = this.graph.getStateVariables();
+        final BitVector vars = new BitVector();
+        goal.getPositive().stream().forEach(p -> vars.set(variables.getVariable(p)));
+        final int[] parent = vars.stream().toArray();
+        this.parents[this.goalVariable] = parent;
+        final int[] pairs = new int[2 * goal.getPositive().cardinality()];
+        int i = 0;
+        for (int p = goal.getPositive().nextSetBit(0); p >= 0; p = goal.getPositive().nextSetBit(p + 1)) {
+            pairs[i++] = variables.getVariable(p);
+            pairs[i++] = variables.getValue(p);
+        }
+        this.conditions[this.goalTransition] = this.toLocal(parent, pairs);
+        this.effects[this.goalTransition] = new int[0];
+        final int base = this.contextBases[this.goalVariable];
+        if (this.contexts.length < base + 4 * parent.length) {
+            this.contexts = Arrays.copyOf(this.contexts, base + 4 * parent.length);
+        }
+    }
+
+}
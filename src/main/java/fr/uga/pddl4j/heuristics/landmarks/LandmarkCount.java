@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2010 by Damien Pellier <Damien.Pellier@imag.fr>.
+ *
+ * This file is part of PDDL4J library.
+ *
+ * PDDL4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDDL4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDDL4J.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+
+package fr.uga.pddl4j.heuristics.landmarks;
+
+import fr.uga.pddl4j.encoding.CodedProblem;
+import fr.uga.pddl4j.heuristics.relaxation.AbstractHeuristic;
+import fr.uga.pddl4j.planners.statespace.search.strategy.Node;
+import fr.uga.pddl4j.util.BitExp;
+import fr.uga.pddl4j.util.BitState;
+import fr.uga.pddl4j.util.BitVector;
+
+/**
+ * This class implements the landmark count heuristic. For more information on this heuristic see
+ * S. Richter, M. Helmert and M. Westphal. "Landmarks Revisited". In proceedings of the 23rd AAAI
+ * Conference on Artificial Intelligence, 2008.
+ * <p>
+ * The heuristic value of a node is the number of landmarks that still need to be achieved from the
+ * node: the landmarks not yet accepted on the path leading to the node and the accepted landmarks
+ * that are required again, i.e., false in the node and either a goal or ordered before a landmark
+ * not yet accepted. A landmark is accepted in a node if it is accepted in its parent, or if it is
+ * true in the node and all its predecessors are accepted in the parent.
+ * </p>
+ * <p>
+ * The accepted landmarks of each node evaluated are stored in the node and computed incrementally
+ * from the accepted landmarks of its parent, so that they are released with the node. A node must
+ * therefore be evaluated with {@link #estimate(Node, BitExp)} after its parent has been set and
+ * evaluated. A state evaluated without its parent, or whose parent was not evaluated, is considered
+ * as an initial state: its accepted landmarks are the landmarks true in the state. The landmarks
+ * are extracted once for the goal of the problem.
+ * </p>
+ * <b>Warning:</b> The landmark count heuristic is not admissible.
+ *
+ * @author PDDL4J contributors
+ * @version 1.0 - 19.10.2026
+ * @see LandmarkGraph
+ */
+public final class LandmarkCount extends AbstractHeuristic {
+
+    /**
+     * The serial version id of the class.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The landmark graph of the problem.
+     */
+    private LandmarkGraph graph;
+
+    /**
+     * Creates a new <code>LANDMARK_COUNT</code> heuristic for a specified planning problem.
+     *
+     * @param problem the planning problem.
+     * @throws NullPointerException if <code>problem == null</code>.
+     */
+    public LandmarkCount(final CodedProblem problem) {
+        super(problem);
+        super.setAdmissible(false);
+        this.graph = new LandmarkGraph(problem);
+    }
+
+    /**
+     * Returns the landmark graph used by the heuristic.
+     *
+     * @return the landmark graph used by the heuristic.
+     */
+    public LandmarkGraph getLandmarkGraph() {
+        return this.graph;
+    }
+
+    /**
+     * Return the estimated distance to the goal to reach the specified state. The state is
+     * considered as an initial state: its accepted landmarks are the landmarks true in the state.
+     *
+     * @param state the state from which the distance to the goal must be estimated.
+     * @param goal  the goal expression.
+     * @return the distance to the goal state from the specified state.
+     * @throws NullPointerException if <code>state == null &#38;&#38; goal == null</code>.
+     */
+    @Override
+    public int estimate(final BitState state, final BitExp goal) {
+        return state.satisfy(goal) ? 0 : this.count(state, this.accept(state, null));
+    }
+
+    /**
+     * Return the estimated distance to the goal to reach the specified node. The accepted
+     * landmarks of the node are computed from the accepted landmarks of its parent and stored in
+     * the node.
+     *
+     * @param node the node from which the distance to the goal must be estimated.
+     * @param goal the goal expression.
+     * @return the distance to the goal state from the specified node.
+     */
+    @Override
+    public double estimate(final Node node, final BitExp goal) {
+        final Node parent = node.getParent();
+        final BitVector reached = this.accept(node, parent == null ? null : parent.getAcceptedLandmarks());
+        node.setAcceptedLandmarks(reached);
+        return node.satisfy(goal) ? 0 : this.count(node, reached);
+    }
+
+    /**
+     * Computes the accepted landmarks of a state from the accepted landmarks of its parent.
+     *
+     * @param state  the state.
+     * @param parent the accepted landmarks of the parent of the state or <code>null</code> if the
+     *               state has no parent.
+     * @return the accepted landmarks of the state.
+     */
+    private BitVector accept(final BitState state, final BitVector parent) {
+        final BitVector reached;
+        if (parent == null) {
+            reached = new BitVector(this.graph.size());
+            for (int l = 0; l < this.graph.size(); l++) {
+                if (state.get(this.graph.getFact(l))) {
+                    reached.set(l);
+                }
+            }
+        } else {
+            reached = new BitVector(parent);
+            for (int l = parent.nextClearBit(0); l < this.graph.size(); l = parent.nextClearBit(l + 1)) {
+                if (state.get(this.graph.getFact(l)) && LandmarkCount.include(parent, this.graph.getPredecessors(l))) {
+                    reached.set(l);
+                }
+            }
+        }
+        return reached;
+    }
+
+    /**
+     * Counts the landmarks not yet accepted and the accepted landmarks required again in a state.
+     *
+     * @param state   the state.
+     * @param reached the accepted landmarks of the state.
+     * @return the number of landmarks that still need to be achieved.
+     */
+    private int count(final BitState state, final BitVector reached) {
+        int value = this.graph.size() - reached.cardinality();
+        for (int l = reached.nextSetBit(0); l >= 0; l = reached.nextSetBit(l + 1)) {
+            if (!state.get(this.graph.getFact(l))
+                && (this.graph.isGoal(l) || !LandmarkCount.include(reached, this.graph.getSuccessors(l)))) {
+                value++;
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Returns <code>true</code> if all the landmarks of a set are included in an other set. This
+     * method does not allocate any intermediate bit vector.
+     *
+     * @param set    the set of landmarks.
+     * @param subset the landmarks that must be included in the set.
+     * @return <code>true</code> if all the landmarks of <code>subset</code> are in <code>set</code>;
+     * <code>false</code> otherwise.
+     */
+    private static boolean include(final BitVector set, final BitVector subset) {
+        for (int l = subset.nextSetBit(0); l >= 0; l = subset.nextSetBit(l + 1)) {
+            if (!set.get(l)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
@@ -0,0 +1,482 @@
+/*
+ * Copyright (c) 2010 by Damien Pellier <Damien.Pellier@imag.fr>.
+ *
+ * This file is part of PDDL4J library.
+ *
+ * PDDL4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDDL4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDDL4J.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+
+package fr.uga.pddl4j.heuristics.landmarks;
+
+import fr.uga.pddl4j.encoding.CodedProblem;
+import fr.uga.pddl4j.heuristics.relaxation.AbstractHeuristic;
+import fr.uga.pddl4j.planners.statespace.search.strategy.Node;
+import fr.uga.pddl4j.util.BitExp;
+import fr.uga.pddl4j.util.BitOp;
+import fr.uga.pddl4j.util.BitState;
+import fr.uga.pddl4j.util.BitVector;
+import fr.uga.pddl4j.util.CondBitExp;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * This class implements the landmark cut heuristic. For more information on this heuristic see M.
+ * Helmert and C. Domshlak. "Landmarks, Critical Paths and Abstractions: What's the Difference
+ * Anyway?". In proceedings of the 19th International Conference on Automated Planning and
+ * Scheduling, 2009.
+ * <p>
+ * The heuristic repeatedly computes the max heuristic with the current costs of the operators,
+ * builds the justification graph of the precondition choice function, extracts a cut of operators
+ * separating the state from the goal and subtracts the minimum cost of the cut from the cost of its
+ * operators. The heuristic value is the sum of the minimum costs of the cuts found until the goal
+ * is reached at cost 0. The costs of the operators are given by {@link BitOp#getCost()}.
+ * </p>
+ * <p>
+ * The heuristic is computed on a relaxation of the problem where the negative preconditions and
+ * goals are ignored and where all the effects of an operator are considered as unconditional.
+ * This relaxation keeps the heuristic admissible. All the arrays used by the computation are
+ * allocated once when the heuristic is created.
+ * </p>
+ * <b>Warning:</b> The landmark cut heuristic is admissible.
+ *
+ * @author PDDL4J contributors
+ * @version 1.0 - 19.10.2026
+ */
+public final class LandmarkCut extends AbstractHeuristic {
+
+    /**
+     * The serial version id of the class.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The number of propositions, including the artificial initial and goal propositions.
+     */
+    private int nbFacts;
+
+    /**
+     * The index of the artificial proposition used as precondition of the operators without
+     * precondition.
+     */
+    private int initFact;
+
+    /**
+     * The index of the artificial proposition achieved when the goal is reached.
+     */
+    private int goalFact;
+
+    /**
+     * The index of the artificial operator that achieves the goal proposition.
+     */
+    private int goalOperator;
+
+    /**
+     * The preconditions of the operators.
+     */
+    private int[][] preconditions;
+
+    /**
+     * The positive effects of the operators.
+     */
+    private int[][] effects;
+
+    /**
+     * The operators that have each proposition as precondition.
+     */
+    private int[][] precondEdges;
+
+    /**
+     * The operators that have each proposition as effect.
+     */
+    private int[][] effectsEdges;
+
+    /**
+     * The costs of the operators.
+     */
+    private double[] costs;
+
+    /**
+     * The costs of the operators reduced by the cuts already found.
+     */
+    private double[] reducedCosts;
+
+    /**
+     * The max heuristic value of the propositions.
+     */
+    private double[] hmax;
+
+    /**
+     * The number of preconditions not yet reached of each operator.
+     */
+    private int[] counters;
+
+    /**
+     * The precondition choice function, i.e., the precondition with the highest max heuristic
+     * value of each operator or -1 if the operator is not reachable.
+     */
+    private int[] choices;
+
+    /**
+     * The flags used to mark the propositions of the goal zone of the justification graph.
+     */
+    private boolean[] goalZone;
+
+    /**
+     * The flags used to mark the propositions reached before the goal zone.
+     */
+    private boolean[] beforeGoalZone;
+
+    /**
+     * The flags used to mark the operators of the current cut.
+     */
+    private boolean[] cut;
+
+    /**
+     * The stack used to explore the justification graph.
+     */
+    private int[] stack;
+
+    /**
+     * The binary heap of propositions used to compute the max heuristic.
+     */
+    private int[] heap;
+
+    /**
+     * The position of each proposition in the heap or -1 if the proposition is not in the heap.
+     */
+    private int[] positions;
+
+    /**
+     * The number of propositions in the heap.
+     */
+    private int heapSize;
+
+    /**
+     * Creates a new <code>LM_CUT</code> heuristic for a specified planning problem.
+     *
+     * @param problem the planning problem.
+     * @throws NullPointerException if <code>problem == null</code>.
+     */
+    public LandmarkCut(final CodedProblem problem) {
+        super(problem);
+        super.setAdmissible(true);
+        this.nbFacts = super.getRevelantFacts().size() + 2;
+        this.initFact = this.nbFacts - 2;
+        this.goalFact = this.nbFacts - 1;
+        this.goalOperator = super.getOperators().size();
+        final int nbOperators = this.goalOperator + 1;
+        this.preconditions = new int[nbOperators][];
+        this.effects = new int[nbOperators][];
+        this.costs = new double[nbOperators];
+        for (int o = 0; o < this.goalOperator; o++) {
+            final BitOp op = super.getOperators().get(o);
+            final BitVector add = new BitVector();
+            for (CondBitExp ce : op.getCondEffects()) {
+                add.or(ce.getEffects().getPositive());
+            }
+            this.preconditions[o] = this.toArray(op.getPreconditions().getPositive());
+            this.effects[o] = this.toArray(add);
+            this.costs[o] = op.getCost();
+        }
+        this.effects[this.goalOperator] = new int[] {this.goalFact};
+        this.reducedCosts = new double[nbOperators];
+        this.hmax = new double[this.nbFacts];
+        this.counters = new int[nbOperators];
+        this.choices = new int[nbOperators];
+        this.goalZone = new boolean[this.nbFacts];
+        this.beforeGoalZone = new boolean[this.nbFacts];
+        this.cut = new boolean[nbOperators];
+        this.stack = new int[this.nbFacts];
+        this.heap = new int[this.nbFacts];
+        this.positions = new int[this.nbFacts];
+        this.initGoal(super.getGoal());
+    }
+
+    /**
+     * Set the goal of the the relaxed problem to solve in order to compute the heuristic.
+     *
+     * @param goal the goal.
+     */
+    @Override
+    protected void setGoal(final BitExp goal) {
+        if (!goal.equals(super.getGoal())) {
+            super.setGoal(goal);
+            this.initGoal(goal);
+        }
+    }
+
+    /**
+     * Return the estimated distance to the goal to reach the specified state. If the return value is
+     * <code>Integer.MAX_VALUE</code>, it means that the goal is unreachable from the specified
+     * state.
+     *
+     * @param state the state from which the distance to the goal must be estimated.
+     * @param goal  the goal expression.
+     * @return the distance to the goal state from the specified state.
+     * @throws NullPointerException if <code>state == null &#38;&#38; goal == null</code>.
+     */
+    @Override
+    public int estimate(final BitState state, final BitExp goal) {
+        final double value = this.estimateCost(state, goal);
+        return value == Double.MAX_VALUE ? Integer.MAX_VALUE : (int) value;
+    }
+
+    /**
+     * Return the estimated distance to the goal to reach the specified state. If the return value is
+     * <code>Integer.MAX_VALUE</code>, it means that the goal is unreachable from the specified
+     * state.
+     *
+     * @param node the state from which the distance to the goal must be estimated.
+     * @param goal the goal expression.
+     * @return the distance to the goal state from the specified state.
+     */
+    @Override
+    public double estimate(final Node node, final BitExp goal) {
+        final double value = this.estimateCost(node, goal);
+        return value == Double.MAX_VALUE ? Integer.MAX_VALUE : value;
+    }
+
+    /**
+     * Computes the landmark cut heuristic value of a specified state.
+     *
+     * @param state the state from which the distance to the goal must be estimated.
+     * @param goal  the goal expression.
+     * @return the heuristic value or <code>Double.MAX_VALUE</code> if the goal is not reachable.
+     */
+    private double estimateCost(final BitState state, final BitExp goal) {
+        this.setGoal(goal);
+        System.arraycopy(this.costs, 0, this.reducedCosts, 0, this.costs.length);
+        this.computeMaxHeuristic(state);
+        if (this.hmax[this.goalFact] == Double.MAX_VALUE) {
+            return Double.MAX_VALUE;
+        }
+        double value = 0.0;
+        while (this.hmax[this.goalFact] > 0.0) {
+            this.computeGoalZone();
+            final double min = this.computeCut(state);
+            value += min;
+            for (int o = 0; o < this.cut.length; o++) {
+                if (this.cut[o]) {
+                    this.reducedCosts[o] -= min;
+                }
+            }
+            this.computeMaxHeuristic(state);
+        }
+        return value;
+    }
+
+    /**
+     * Computes the max heuristic value of the propositions with the reduced costs of the
+     * operators and the precondition choice function. The computation is a generalized Dijkstra
+     * algorithm from the propositions of the state.
+     *
+     * @param state the state.
+     */
+    private void computeMaxHeuristic(final BitState state) {
+        Arrays.fill(this.hmax, Double.MAX_VALUE);
+        Arrays.fill(this.choices, -1);
+        Arrays.fill(this.positions, -1);
+        for (int o = 0; o < this.counters.length; o++) {
+            this.counters[o] = this.preconditions[o].length;
+        }
+        this.heapSize = 0;
+        this.push(this.initFact, 0.0);
+        for (int p = state.nextSetBit(0); p >= 0 && p < this.initFact; p = state.nextSetBit(p + 1)) {
+            this.push(p, 0.0);
+        }
+        while (this.heapSize > 0) {
+            final int p = this.pop();
+            for (int o : this.precondEdges[p]) {
+                this.counters[o]--;
+                if (this.counters[o] == 0) {
+                    // The propositions are popped by increasing value, so p is the costliest precondition
+                    this.choices[o] = p;
+                    final double value = this.hmax[p] + this.reducedCosts[o];
+                    for (int e : this.effects[o]) {
+                        if (value < this.hmax[e]) {
+                            this.push(e, value);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Computes the goal zone of the justification graph, i.e., the propositions from which the
+     * goal proposition can be reached with operators of cost 0.
+     */
+    private void computeGoalZone() {
+        Arrays.fill(this.goalZone, false);
+        int top = 0;
+        this.goalZone[this.goalFact] = true;
+        this.stack[top++] = this.goalFact;
+        while (top > 0) {
+            final int p = this.stack[--top];
+            for (int o : this.effectsEdges[p]) {
+                final int choice = this.choices[o];
+                if (choice != -1 && this.reducedCosts[o] == 0.0 && !this.goalZone[choice]) {
+                    this.goalZone[choice] = true;
+                    this.stack[top++] = choice;
+                }
+            }
+        }
+    }
+
+    /**
+     * Computes the cut between the propositions reachable from the state without entering the goal
+     * zone and the goal zone.
+     *
+     * @param state the state.
+     * @return the minimum cost of the operators of the cut.
+     */
+    private double computeCut(final BitState state) {
+        Arrays.fill(this.beforeGoalZone, false);
+        Arrays.fill(this.cut, false);
+        double min = Double.MAX_VALUE;
+        int top = 0;
+        this.beforeGoalZone[this.initFact] = true;
+        this.stack[top++] = this.initFact;
+        for (int p = state.nextSetBit(0); p >= 0 && p < this.initFact; p = state.nextSetBit(p + 1)) {
+            this.beforeGoalZone[p] = true;
+            this.stack[top++] = p;
+        }
+        while (top > 0) {
+            final int p = this.stack[--top];
+            for (int o : this.precondEdges[p]) {
+                if (this.choices[o] == p && !this.cut[o]) {
+                    for (int e : this.effects[o]) {
+                        if (this.goalZone[e]) {
+                            this.cut[o] = true;
+                            if (this.reducedCosts[o] < min) {
+                                min = this.reducedCosts[o];
+                            }
+                        } else if (!this.beforeGoalZone[e]) {
+                            this.beforeGoalZone[e] = true;
+                            this.stack[top++] = e;
+                        }
+                    }
+                }
+            }
+        }
+        return min;
+    }
+
+    /**
+     * Initializes the artificial goal operator and the edges of the propositions for a specified
+     * goal.
+     *
+     * @param goal the goal.
+     */
+    private void initGoal(final BitExp goal) {
+        this.preconditions[this.goalOperator] = this.toArray(goal.getPositive());
+        final List<List<Integer>> pEdges = new ArrayList<>(this.nbFacts);
+        final List<List<Integer>> eEdges = new ArrayList<>(this.nbFacts);
+        for (int p = 0; p < this.nbFacts; p++) {
+            pEdges.add(new ArrayList<>());
+            eEdges.add(new ArrayList<>());
+        }
+        for (int o = 0; o < this.preconditions.length; o++) {
+            // The operators without precondition are made dependent of the artificial initial proposition
+            if (this.preconditions[o].length == 0) {
+                this.preconditions[o] = new int[] {this.initFact};
+            }
+            for (int p : this.preconditions[o]) {
+                pEdges.get(p).add(o);
+            }
+            for (int e : this.effects[o]) {
+                eEdges.get(e).add(o);
+            }
+        }
+        this.precondEdges = new int[this.nbFacts][];
+        this.effectsEdges = new int[this.nbFacts][];
+        for (int p = 0; p < this.nbFacts; p++) {
+            this.precondEdges[p] = pEdges.get(p).stream().mapToInt(Integer::intValue).toArray();
+            this.effectsEdges[p] = eEdges.get(p).stream().mapToInt(Integer::intValue).toArray();
+        }
+    }
+
+    /**
+     * Converts a bit vector into an array of indexes.
+     *
+     * @param vector the bit vector.
+     * @return the array of the indexes of the bits set in the vector.
+     */
+    private int[] toArray(final BitVector vector) {
+        return vector.stream().toArray();
+    }
+
+    /**
+     * Inserts a proposition in the heap or decreases its value if it is already in the heap.
+     *
+     * @param p     the proposition.
+     * @param value the max heuristic value of the proposition.
+     */
+    private void push(final int p, final double value) {
+        this.hmax[p] = value;
+        int i = this.positions[p];
+        if (i == -1) {
+            i = this.heapSize++;
+        }
+        // Sift up the proposition
+        while (i > 0) {
+            final int parent = (i - 1) / 2;
+            if (this.hmax[this.heap[parent]] <= value) {
+                break;
+            }
+            this.heap[i] = this.heap[parent];
+            this.positions[this.heap[i]] = i;
+            i = parent;
+        }
+        this.heap[i] = p;
+        this.positions[p] = i;
+    }
+
+    /**
+     * Removes the proposition with the lowest value from the heap.
+     *
+     * @return the proposition with the lowest value.
+     */
+    private int pop() {
+        final int min = this.heap[0];
+        final int last = this.heap[--this.heapSize];
+        final double value = this.hmax[last];
+        // Sift down the last proposition from the root
+        int i = 0;
+        int child = 1;
+        while (child < this.heapSize) {
+            if (child + 1 < this.heapSize && this.hmax[this.heap[child + 1]] < this.hmax[this.heap[child]]) {
+                child++;
+            }
+            if (value <= this.hmax[this.heap[child]]) {
+                break;
+            }
+            this.heap[i] = this.heap[child];
+            this.positions[this.heap[i]] = i;
+            i = child;
+            child = 2 * i + 1;
+        }
+        if (this.heapSize > 0) {
+            this.heap[i] = last;
+            this.positions[last] = i;
+        }
+        // A proposition popped is never pushed again as its value is final
+        this.positions[min] = -2;
+        return min;
+    }
+
+}
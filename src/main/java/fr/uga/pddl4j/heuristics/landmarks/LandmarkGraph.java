@@ -0,0 +1,429 @@
+/*
+ * Copyright (c) 2010 by Damien Pellier <Damien.Pellier@imag.fr>.
+ *
+ * This file is part of PDDL4J library.
+ *
+ * PDDL4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDDL4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDDL4J.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+
+package fr.uga.pddl4j.heuristics.landmarks;
+
+import fr.uga.pddl4j.encoding.CodedProblem;
+import fr.uga.pddl4j.util.BitOp;
+import fr.uga.pddl4j.util.BitVector;
+import fr.uga.pddl4j.util.CondBitExp;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * This class implements a graph of fact landmarks and of their orderings. A fact landmark is a
+ * proposition that must be true at some point in every plan solution of the problem.
+ * <p>
+ * The landmarks are extracted by backchaining from the goal in the spirit of S. Richter, M. Helmert
+ * and M. Westphal. "Landmarks Revisited". In proceedings of the 23rd AAAI Conference on Artificial
+ * Intelligence, 2008. For each landmark <code>l</code> not true in the initial state, the relaxed
+ * exploration of the problem is computed from the initial state without the operators that achieve
+ * <code>l</code>. The operators achieving <code>l</code> whose preconditions are reached by this
+ * exploration are the first achievers of <code>l</code>. The preconditions shared by all the first
+ * achievers of <code>l</code> are landmarks, greedy necessarily ordered before <code>l</code>.
+ * </p>
+ * <p>
+ * Only the positive propositions are considered: the negative preconditions and goals are ignored,
+ * which is a relaxation of the problem and keeps the extraction sound. Disjunctive landmarks are
+ * not extracted.
+ * </p>
+ *
+ * @author PDDL4J contributors
+ * @version 1.0 - 19.10.2026
+ * @see LandmarkCount
+ */
+public final class LandmarkGraph implements Serializable {
+
+    /**
+     * The serial version id of the class.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The list of the propositions of the landmarks.
+     */
+    private List<Integer> facts;
+
+    /**
+     * The array used to store for each proposition the index of its landmark or -1 if the
+     * proposition is not a landmark.
+     */
+    private int[] landmarks;
+
+    /**
+     * The landmarks that must be reached before each landmark.
+     */
+    private List<BitVector> predecessors;
+
+    /**
+     * The landmarks that must be reached after each landmark.
+     */
+    private List<BitVector> successors;
+
+    /**
+     * The operators that achieve each landmark.
+     */
+    private List<BitVector> achievers;
+
+    /**
+     * The operators that can achieve each landmark for the first time.
+     */
+    private List<BitVector> firstAchievers;
+
+    /**
+     * The landmarks that are propositions of the goal.
+     */
+    private BitVector goals;
+
+    /**
+     * The array of the operators of the problem of each unconditional operator.
+     */
+    private int[] operators;
+
+    /**
+     * The positive preconditions of the unconditional operators.
+     */
+    private BitVector[] preconditions;
+
+    /**
+     * The positive effects of the unconditional operators.
+     */
+    private BitVector[] effects;
+
+    /**
+     * The unconditional operators that have each proposition as precondition.
+     */
+    private BitVector[] precondEdges;
+
+    /**
+     * The unconditional operators that have each proposition as effect.
+     */
+    private BitVector[] effectsEdges;
+
+    /**
+     * Creates and extracts the landmark graph of a specified planning problem.
+     *
+     * @param problem the planning problem.
+     * @throws NullPointerException if <code>problem == null</code>.
+     */
+    public LandmarkGraph(final CodedProblem problem) {
+        Objects.requireNonNull(problem);
+        this.facts = new ArrayList<>();
+        this.landmarks = new int[problem.getRelevantFacts().size()];
+        Arrays.fill(this.landmarks, -1);
+        this.predecessors = new ArrayList<>();
+        this.successors = new ArrayList<>();
+        this.achievers = new ArrayList<>();
+        this.firstAchievers = new ArrayList<>();
+        this.goals = new BitVector();
+        this.initUnconditionalOperators(problem);
+        this.extract(problem);
+    }
+
+    /**
+     * Returns the number of landmarks of the graph.
+     *
+     * @return the number of landmarks of the graph.
+     */
+    public int size() {
+        return this.facts.size();
+    }
+
+    /**
+     * Returns the proposition of a specified landmark.
+     *
+     * @param landmark the index of the landmark.
+     * @return the index of the proposition in the relevant facts of the problem.
+     */
+    public int getFact(final int landmark) {
+        return this.facts.get(landmark);
+    }
+
+    /**
+     * Returns the landmark of a specified proposition.
+     *
+     * @param fact the index of the proposition in the relevant facts of the problem.
+     * @return the index of the landmark or -1 if the proposition is not a landmark.
+     */
+    public int getLandmark(final int fact) {
+        return this.landmarks[fact];
+    }
+
+    /**
+     * Returns the landmarks that must be reached before a specified landmark. The returned vector
+     * must not be modified.
+     *
+     * @param landmark the index of the landmark.
+     * @return the landmarks ordered before the specified landmark.
+     */
+    public BitVector getPredecessors(final int landmark) {
+        return this.predecessors.get(landmark);
+    }
+
+    /**
+     * Returns the landmarks that must be reached after a specified landmark. The returned vector
+     * must not be modified.
+     *
+     * @param landmark the index of the landmark.
+     * @return the landmarks ordered after the specified landmark.
+     */
+    public BitVector getSuccessors(final int landmark) {
+        return this.successors.get(landmark);
+    }
+
+    /**
+     * Returns the operators that achieve a specified landmark. The bits set in the returned vector
+     * are the indexes of the operators in the list of operators of the problem. The returned vector
+     * must not be modified.
+     *
+     * @param landmark the index of the landmark.
+     * @return the operators that achieve the specified landmark.
+     */
+    public BitVector getAchievers(final int landmark) {
+        return this.achievers.get(landmark);
+    }
+
+    /**
+     * Returns the operators that can achieve a specified landmark for the first time, i.e., the
+     * achievers of the landmark that are reachable from the initial state before the landmark. The
+     * bits set in the returned vector are the indexes of the operators in the list of operators of
+     * the problem. The returned vector must not be modified.
+     *
+     * @param landmark the index of the landmark.
+     * @return the first achievers of the specified landmark.
+     */
+    public BitVector getFirstAchievers(final int landmark) {
+        return this.firstAchievers.get(landmark);
+    }
+
+    /**
+     * Returns <code>true</code> if a specified landmark is a proposition of the goal.
+     *
+     * @param landmark the index of the landmark.
+     * @return <code>true</code> if the landmark is a proposition of the goal; <code>false</code>
+     *     otherwise.
+     */
+    public boolean isGoal(final int landmark) {
+        return this.goals.get(landmark);
+    }
+
+    /**
+     * Computes the unconditional operators of the problem, i.e., an operator for each conditional
+     * effect of the operators of the problem, and their edges.
+     *
+     * @param problem the planning problem.
+     */
+    private void initUnconditionalOperators(final CodedProblem problem) {
+        final List<BitOp> ops = problem.getOperators();
+        int nbUncondOperators = 0;
+        for (BitOp op : ops) {
+            nbUncondOperators += op.getCondEffects().size();
+        }
+        final int nbRelevantFacts = problem.getRelevantFacts().size();
+        this.operators = new int[nbUncondOperators];
+        this.preconditions = new BitVector[nbUncondOperators];
+        this.effects = new BitVector[nbUncondOperators];
+        this.precondEdges = new BitVector[nbRelevantFacts];
+        this.effectsEdges = new BitVector[nbRelevantFacts];
+        for (int p = 0; p < nbRelevantFacts; p++) {
+            this.precondEdges[p] = new BitVector();
+            this.effectsEdges[p] = new BitVector();
+        }
+        int uncondOpIndex = 0;
+        for (int opIndex = 0; opIndex < ops.size(); opIndex++) {
+            final BitOp op = ops.get(opIndex);
+            for (CondBitExp ce : op.getCondEffects()) {
+                final BitVector pre = new BitVector(op.getPreconditions().getPositive());
+                pre.or(ce.getCondition().getPositive());
+                for (int p = pre.nextSetBit(0); p >= 0; p = pre.nextSetBit(p + 1)) {
+                    this.precondEdges[p].set(uncondOpIndex);
+                }
+                final BitVector eff = ce.getEffects().getPositive();
+                for (int p = eff.nextSetBit(0); p >= 0; p = eff.nextSetBit(p + 1)) {
+                    this.effectsEdges[p].set(uncondOpIndex);
+                }
+                this.operators[uncondOpIndex] = opIndex;
+                this.preconditions[uncondOpIndex] = pre;
+                this.effects[uncondOpIndex] = eff;
+                uncondOpIndex++;
+            }
+        }
+    }
+
+    /**
+     * Extracts the landmarks and their orderings by backchaining from the goal.
+     *
+     * @param problem the planning problem.
+     */
+    private void extract(final CodedProblem problem) {
+        final BitVector init = problem.getInit().getPositive();
+        final LinkedList<Integer> open = new LinkedList<>();
+        final BitVector pGoal = problem.getGoal().getPositive();
+        for (int g = pGoal.nextSetBit(0); g >= 0; g = pGoal.nextSetBit(g + 1)) {
+            final int l = this.add(g, open);
+            this.goals.set(l);
+        }
+        while (!open.isEmpty()) {
+            final int l = open.poll();
+            final int fact = this.facts.get(l);
+            final BitVector uncondAchievers = this.effectsEdges[fact];
+            for (int u = uncondAchievers.nextSetBit(0); u >= 0; u = uncondAchievers.nextSetBit(u + 1)) {
+                this.achievers.get(l).set(this.operators[u]);
+            }
+            // A landmark true in the initial state has no first achiever
+            if (!init.get(fact)) {
+                final BitVector reached = this.explore(init, fact);
+                BitVector shared = null;
+                for (int u = uncondAchievers.nextSetBit(0); u >= 0; u = uncondAchievers.nextSetBit(u + 1)) {
+                    final BitVector pre = this.preconditions[u];
+                    if (reached.include(pre)) {
+                        this.firstAchievers.get(l).set(this.operators[u]);
+                        if (shared == null) {
+                            shared = new BitVector(pre);
+                        } else {
+                            shared.and(pre);
+                        }
+                    }
+                }
+                // The preconditions shared by all the first achievers are landmarks
+                if (shared != null) {
+                    for (int p = shared.nextSetBit(0); p >= 0; p = shared.nextSetBit(p + 1)) {
+                        this.order(this.add(p, open), l);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds a landmark for a specified proposition if the proposition is not already a landmark.
+     *
+     * @param fact the proposition.
+     * @param open the list of the landmarks to backchain from.
+     * @return the index of the landmark of the proposition.
+     */
+    private int add(final int fact, final List<Integer> open) {
+        int l = this.landmarks[fact];
+        if (l == -1) {
+            l = this.facts.size();
+            this.landmarks[fact] = l;
+            this.facts.add(fact);
+            this.predecessors.add(new BitVector());
+            this.successors.add(new BitVector());
+            this.achievers.add(new BitVector());
+            this.firstAchievers.add(new BitVector());
+            open.add(l);
+        }
+        return l;
+    }
+
+    /**
+     * Adds an ordering between two landmarks unless the ordering introduces a cycle in the graph.
+     *
+     * @param before the landmark that must be reached first.
+     * @param after  the landmark that must be reached after.
+     */
+    private void order(final int before, final int after) {
+        if (before != after && !this.isOrdered(after, before, new BitVector())) {
+            this.predecessors.get(after).set(before);
+            this.successors.get(before).set(after);
+        }
+    }
+
+    /**
+     * Returns <code>true</code> if a landmark is transitively ordered before an other one.
+     *
+     * @param from    the first landmark.
+     * @param to      the second landmark.
+     * @param visited the landmarks already visited.
+     * @return <code>true</code> if <code>from</code> is ordered before <code>to</code>;
+     * <code>false</code> otherwise.
+     */
+    private boolean isOrdered(final int from, final int to, final BitVector visited) {
+        if (from == to) {
+            return true;
+        }
+        visited.set(from);
+        final BitVector next = this.successors.get(from);
+        for (int l = next.nextSetBit(0); l >= 0; l = next.nextSetBit(l + 1)) {
+            if (!visited.get(l) && this.isOrdered(l, to, visited)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Computes the propositions reachable in the relaxed problem from a specified state without
+     * using the operators that achieve a specified proposition.
+     *
+     * @param state    the state from which the exploration starts.
+     * @param excluded the proposition whose achievers are excluded.
+     * @return the propositions reached.
+     */
+    private BitVector explore(final BitVector state, final int excluded) {
+        final int[] counters = new int[this.operators.length];
+        final BitVector reached = new BitVector(state);
+        final LinkedList<Integer> open = new LinkedList<>();
+        for (int p = reached.nextSetBit(0); p >= 0; p = reached.nextSetBit(p + 1)) {
+            open.add(p);
+        }
+        // The effects of the operators without precondition are pushed only if they are not already reached
+        for (int u = 0; u < this.operators.length; u++) {
+            if (this.preconditions[u].isEmpty() && !this.effects[u].get(excluded)) {
+                this.apply(u, reached, open);
+            }
+        }
+        while (!open.isEmpty()) {
+            final int p = open.poll();
+            final BitVector edges = this.precondEdges[p];
+            for (int u = edges.nextSetBit(0); u >= 0; u = edges.nextSetBit(u + 1)) {
+                counters[u]++;
+                if (counters[u] == this.preconditions[u].cardinality() && !this.effects[u].get(excluded)) {
+                    this.apply(u, reached, open);
+                }
+            }
+        }
+        return reached;
+    }
+
+    /**
+     * Applies the effects of an unconditional operator in the relaxed exploration.
+     *
+     * @param u       the unconditional operator.
+     * @param reached the propositions already reached.
+     * @param open    the propositions reached but not yet explored.
+     */
+    private void apply(final int u, final BitVector reached, final List<Integer> open) {
+        final BitVector eff = this.effects[u];
+        for (int p = eff.nextSetBit(0); p >= 0; p = eff.nextSetBit(p + 1)) {
+            if (!reached.get(p)) {
+                reached.set(p);
+                open.add(p);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,326 @@
+/*
+ * Copyright (c) 2010 by Damien Pellier <Damien.Pellier@imag.fr>.
+ *
+ * This file is part of PDDL4J library.
+ *
+ * PDDL4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDDL4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDDL4J.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+
+package fr.uga.pddl4j.heuristics.lp;
+
+import fr.uga.pddl4j.encoding.CodedProblem;
+import fr.uga.pddl4j.heuristics.landmarks.LandmarkGraph;
+import fr.uga.pddl4j.heuristics.relaxation.AbstractHeuristic;
+import fr.uga.pddl4j.planners.statespace.search.strategy.Node;
+import fr.uga.pddl4j.util.BitExp;
+import fr.uga.pddl4j.util.BitOp;
+import fr.uga.pddl4j.util.BitState;
+import fr.uga.pddl4j.util.BitVector;
+import fr.uga.pddl4j.util.CondBitExp;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * This class implements the operator counting heuristics. For more information on these
+ * heuristics see F. Pommerening, G. Röger, M. Helmert and B. Bonet. "LP-Based Heuristics for
+ * Cost-Optimal Planning". In proceedings of the 24th International Conference on Automated
+ * Planning and Scheduling, 2014.
+ * <p>
+ * The heuristic value of a state is the optimal value of a linear program whose variables are the
+ * number of times each operator is applied in a plan from the state, and whose objective is the
+ * cost of the operators applied. Two kinds of constraints are available:
+ * </p>
+ * <ul>
+ * <li>the net change constraints of the state equation heuristic: for each fact, the number of
+ * times the fact can be added minus the number of times it is necessarily deleted is at least the
+ * change between the state and the goal;</li>
+ * <li>the landmark constraints: at least one achiever of each landmark that still needs to be
+ * achieved must be applied. A landmark still needs to be achieved if it was never true on the path
+ * leading to the state, or if it is false in the state and either a goal or ordered before a
+ * landmark that was never true on the path.</li>
+ * </ul>
+ * <p>
+ * Contrary to the landmark count heuristic, a landmark is accepted as soon as it is true on the
+ * path, whatever its predecessors, which keeps the heuristic admissible. The accepted landmarks
+ * of each node evaluated are stored in the node and computed incrementally from the accepted
+ * landmarks of its parent, so that they are released with the node. A state evaluated without its
+ * parent, or whose parent was not evaluated, is considered as an initial state.
+ * </p>
+ * <p>
+ * The linear program is built once and only the bounds of its constraints depend on the state, so
+ * that each linear program is warm started from the optimal basis of the previous one, e.g., a
+ * sibling state. The value is rounded up when the costs of the operators are integers.
+ * The operator counting heuristic is admissible.
+ * </p>
+ *
+ * @author PDDL4J contributors
+ * @version 1.0 - 19.10.2026
+ * @see SimplexSolver
+ */
+public final class OperatorCounting extends AbstractHeuristic {
+
+    /**
+     * The serial version id of the class.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The tolerance used to round the value of the linear programs.
+     */
+    private static final double TOLERANCE = 1e-6;
+
+    /**
+     * The linear program solver.
+     */
+    private SimplexSolver solver;
+
+    /**
+     * The fact of each net change constraint.
+     */
+    private int[] facts;
+
+    /**
+     * The goal facts.
+     */
+    private BitVector goals;
+
+    /**
+     * The landmark graph of the problem or <code>null</code> if the landmark constraints are not
+     * used.
+     */
+    private LandmarkGraph graph;
+
+    /**
+     * The flag used to indicate if the costs of the operators are integers.
+     */
+    private boolean integer;
+
+    /**
+     * Creates a new <code>OPERATOR_COUNTING</code> heuristic for a specified planning problem with
+     * the net change and the landmark constraints.
+     *
+     * @param problem the planning problem.
+     * @throws NullPointerException if <code>problem == null</code>.
+     */
+    public OperatorCounting(final CodedProblem problem) {
+        this(problem, true, true);
+    }
+
+    /**
+     * Creates a new <code>OPERATOR_COUNTING</code> heuristic for a specified planning problem.
+     *
+     * @param problem       the planning problem.
+     * @param stateEquation the flag used to indicate if the net change constraints are used.
+     * @param landmarks     the flag used to indicate if the landmark constraints are used.
+     * @throws NullPointerException if <code>problem == null</code>.
+     */
+    public OperatorCounting(final CodedProblem problem, final boolean stateEquation, final boolean landmarks) {
+        super(problem);
+        super.setAdmissible(true);
+        final List<BitOp> operators = problem.getOperators();
+        final double[] costs = new double[operators.size()];
+        this.integer = true;
+        for (int o = 0; o < costs.length; o++) {
+            costs[o] = operators.get(o).getCost();
+            this.integer &= costs[o] == Math.rint(costs[o]);
+        }
+        this.solver = new SimplexSolver(costs);
+        this.goals = problem.getGoal().getPositive();
+        this.facts = new int[0];
+        if (stateEquation) {
+            this.addNetChangeConstraints(problem);
+        }
+        if (landmarks) {
+            this.graph = new LandmarkGraph(problem);
+            for (int l = 0; l < this.graph.size(); l++) {
+                final int[] achievers = this.graph.getAchievers(l).stream().toArray();
+                final double[] coefficients = new double[achievers.length];
+                Arrays.fill(coefficients, 1.0);
+                this.solver.addConstraint(achievers, coefficients);
+            }
+        }
+    }
+
+    /**
+     * Returns the linear program solver used by the heuristic.
+     *
+     * @return the linear program solver used by the heuristic.
+     */
+    public SimplexSolver getSolver() {
+        return this.solver;
+    }
+
+    /**
+     * Return the estimated distance to the goal to reach the specified state. If the return value is
+     * <code>Integer.MAX_VALUE</code>, it means that the goal is unreachable from the specified
+     * state. The landmarks of a state evaluated without its parent are computed as if the state was
+     * an initial state.
+     *
+     * @param state the state from which the distance to the goal must be estimated.
+     * @param goal  the goal expression.
+     * @return the distance to the goal state from the specified state.
+     * @throws NullPointerException if <code>state == null &#38;&#38; goal == null</code>.
+     */
+    @Override
+    public int estimate(final BitState state, final BitExp goal) {
+        BitVector required = null;
+        if (this.graph != null) {
+            required = this.require(state, this.accept(state, null));
+        }
+        final double value = state.satisfy(goal) ? 0.0 : this.solve(state, required);
+        return value == Double.MAX_VALUE ? Integer.MAX_VALUE : (int) value;
+    }
+
+    /**
+     * Return the estimated distance to the goal to reach the specified state. If the return value is
+     * <code>Integer.MAX_VALUE</code>, it means that the goal is unreachable from the specified
+     * state. The accepted landmarks of the node are computed from the accepted landmarks of its
+     * parent and stored in the node.
+     *
+     * @param node the state from which the distance to the goal must be estimated.
+     * @param goal the goal expression.
+     * @return the distance to the goal state from the specified state.
+     */
+    @Override
+    public double estimate(final Node node, final BitExp goal) {
+        BitVector required = null;
+        if (this.graph != null) {
+            final Node parent = node.getParent();
+            final BitVector reached = this.accept(node, parent == null ? null : parent.getAcceptedLandmarks());
+            node.setAcceptedLandmarks(reached);
+            required = this.require(node, reached);
+        }
+        final double value = node.satisfy(goal) ? 0.0 : this.solve(node, required);
+        return value == Double.MAX_VALUE ? Integer.MAX_VALUE : value;
+    }
+
+    /**
+     * Solves the linear program of a state.
+     *
+     * @param state    the state.
+     * @param required the landmarks that still need to be achieved or <code>null</code>.
+     * @return the value of the linear program or <code>Double.MAX_VALUE</code> if the linear
+     *     program is infeasible.
+     */
+    private double solve(final BitState state, final BitVector required) {
+        for (int i = 0; i < this.facts.length; i++) {
+            final int p = this.facts[i];
+            this.solver.setBound(i, (this.goals.get(p) ? 1.0 : 0.0) - (state.get(p) ? 1.0 : 0.0));
+        }
+        if (required != null) {
+            for (int l = 0; l < this.graph.size(); l++) {
+                this.solver.setBound(this.facts.length + l, required.get(l) ? 1.0 : 0.0);
+            }
+        }
+        if (this.solver.solve().equals(SimplexSolver.Status.INFEASIBLE)) {
+            return Double.MAX_VALUE;
+        }
+        final double value = this.solver.getObjective();
+        return this.integer ? Math.ceil(value - OperatorCounting.TOLERANCE) : value;
+    }
+
+    /**
+     * Computes the accepted landmarks of a state from the accepted landmarks of its parent.
+     *
+     * @param state  the state.
+     * @param parent the accepted landmarks of the parent of the state or <code>null</code> if the
+     *               state has no parent.
+     * @return the accepted landmarks of the state.
+     */
+    private BitVector accept(final BitState state, final BitVector parent) {
+        final BitVector reached = parent == null ? new BitVector(this.graph.size()) : new BitVector(parent);
+        for (int l = 0; l < this.graph.size(); l++) {
+            if (state.get(this.graph.getFact(l))) {
+                reached.set(l);
+            }
+        }
+        return reached;
+    }
+
+    /**
+     * Computes the landmarks not yet accepted and the accepted landmarks required again in a state.
+     *
+     * @param state   the state.
+     * @param reached the accepted landmarks of the state.
+     * @return the landmarks that still need to be achieved.
+     */
+    private BitVector require(final BitState state, final BitVector reached) {
+        final BitVector required = new BitVector(this.graph.size());
+        required.set(0, this.graph.size());
+        required.andNot(reached);
+        final BitVector missing = new BitVector(required);
+        for (int l = reached.nextSetBit(0); l >= 0; l = reached.nextSetBit(l + 1)) {
+            if (!state.get(this.graph.getFact(l))
+                && (this.graph.isGoal(l) || this.graph.getSuccessors(l).intersects(missing))) {
+                required.set(l);
+            }
+        }
+        return required;
+    }
+
+    /**
+     * Adds the net change constraints of the facts which are goals or necessarily deleted by an
+     * operator. The coefficient of an operator is an upper bound of the change of the fact when
+     * the operator is applied: +1 if the operator may add the fact when it is false, -1 if the
+     * operator requires and deletes the fact without adding it, and 0 otherwise.
+     *
+     * @param problem the planning problem.
+     */
+    private void addNetChangeConstraints(final CodedProblem problem) {
+        final List<BitOp> operators = problem.getOperators();
+        final int nbFacts = problem.getRelevantFacts().size();
+        final List<List<Integer>> rowOperators = new ArrayList<>(nbFacts);
+        final List<List<Double>> rowCoefficients = new ArrayList<>(nbFacts);
+        for (int p = 0; p < nbFacts; p++) {
+            rowOperators.add(new ArrayList<>());
+            rowCoefficients.add(new ArrayList<>());
+        }
+        final BitVector consumed = new BitVector(nbFacts);
+        for (int o = 0; o < operators.size(); o++) {
+            final BitOp op = operators.get(o);
+            final BitVector pre = op.getPreconditions().getPositive();
+            final BitVector add = new BitVector();
+            final BitVector del = new BitVector();
+            for (CondBitExp ce : op.getCondEffects()) {
+                add.or(ce.getEffects().getPositive());
+                if (ce.getCondition().isEmpty()) {
+                    del.or(ce.getEffects().getNegative());
+                }
+            }
+            final BitVector produced = new BitVector(add);
+            produced.andNot(pre);
+            for (int p = produced.nextSetBit(0); p >= 0; p = produced.nextSetBit(p + 1)) {
+                rowOperators.get(p).add(o);
+                rowCoefficients.get(p).add(1.0);
+            }
+            del.and(pre);
+            del.andNot(add);
+            for (int p = del.nextSetBit(0); p >= 0; p = del.nextSetBit(p + 1)) {
+                rowOperators.get(p).add(o);
+                rowCoefficients.get(p).add(-1.0);
+                consumed.set(p);
+            }
+        }
+        consumed.or(this.goals);
+        this.facts = consumed.stream().toArray();
+        for (int p : this.facts) {
+            this.solver.addConstraint(rowOperators.get(p).stream().mapToInt(Integer::intValue).toArray(),
+                rowCoefficients.get(p).stream().mapToDouble(Double::doubleValue).toArray());
+        }
+    }
+
+}
@@ -0,0 +1,575 @@
+/*
+ * Copyright (c) 2010 by Damien Pellier <Damien.Pellier@imag.fr>.
+ *
+ * This file is part of PDDL4J library.
+ *
+ * PDDL4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDDL4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDDL4J.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+
+package fr.uga.pddl4j.heuristics.lp;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * This class implements a revised dual simplex solver for the linear programs of the form
+ * <pre>
+ *     minimize c.x subject to A.x &#62;= b and x &#62;= 0
+ * </pre>
+ * where the costs <code>c</code> are nonnegative. The solver is designed for small linear programs
+ * solved many times with different lower bounds <code>b</code>, as the linear programs of the
+ * heuristics computed for each state of a search.
+ * <p>
+ * The constraint matrix is stored column by column as sparse vectors and the inverse of the basis
+ * is stored as a dense matrix updated after each pivot. As the costs are nonnegative, the basis of
+ * the slack variables is dual feasible and the reduced costs do not depend on the bounds: the
+ * optimal basis of the previous call is thus a dual feasible basis for the next call and is used to
+ * warm start the dual simplex algorithm. When the solver stops on the iteration limit, the value of
+ * the objective is a lower bound of the optimal value because the current basis is dual feasible.
+ * </p>
+ *
+ * @author PDDL4J contributors
+ * @version 1.0 - 19.10.2026
+ */
+public final class SimplexSolver implements Serializable {
+
+    /**
+     * The serial version id of the class.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The tolerance used to compare the values with zero.
+     */
+    public static final double EPSILON = 1e-9;
+
+    /**
+     * The number of pivots after which the inverse of the basis is computed again from scratch.
+     */
+    public static final int REFACTORIZATION_FREQUENCY = 100;
+
+    /**
+     * The enumeration of the status returned by the solver.
+     */
+    public enum Status {
+        /**
+         * The status returned when an optimal solution is found.
+         */
+        OPTIMAL,
+        /**
+         * The status returned when the linear program has no solution.
+         */
+        INFEASIBLE,
+        /**
+         * The status returned when the iteration limit is reached before the optimal solution.
+         */
+        ITERATION_LIMIT,
+    }
+
+    /**
+     * The number of structural variables.
+     */
+    private final int nbColumns;
+
+    /**
+     * The costs of the structural variables.
+     */
+    private final double[] costs;
+
+    /**
+     * The variables of the constraints added.
+     */
+    private final List<int[]> rowIndexes;
+
+    /**
+     * The coefficients of the constraints added.
+     */
+    private final List<double[]> rowValues;
+
+    /**
+     * The lower bound of each constraint.
+     */
+    private double[] bounds;
+
+    /**
+     * The rows of the nonzero coefficients of each column.
+     */
+    private int[][] columnIndexes;
+
+    /**
+     * The nonzero coefficients of each column.
+     */
+    private double[][] columnValues;
+
+    /**
+     * The basic variable of each row. The variable <code>nbColumns + i</code> is the slack
+     * variable of the row <code>i</code>.
+     */
+    private int[] basic;
+
+    /**
+     * The row of each basic variable or -1 for the nonbasic variables.
+     */
+    private int[] position;
+
+    /**
+     * The inverse of the basis.
+     */
+    private double[][] inverse;
+
+    /**
+     * The values of the basic variables.
+     */
+    private double[] values;
+
+    /**
+     * The reduced costs of the variables.
+     */
+    private double[] reducedCosts;
+
+    /**
+     * The number of pivots since the last computation of the inverse of the basis.
+     */
+    private int pivots;
+
+    /**
+     * The maximum number of pivots of a call to the solver.
+     */
+    private int iterationLimit;
+
+    /**
+     * The total number of pivots performed by the solver.
+     */
+    private long iterations;
+
+    /**
+     * Creates a new solver for a linear program without constraint.
+     *
+     * @param costs the nonnegative costs of the variables.
+     * @throws IllegalArgumentException if a cost is negative.
+     */
+    public SimplexSolver(final double[] costs) {
+        for (double c : costs) {
+            if (c < 0.0) {
+                throw new IllegalArgumentException("negative cost");
+            }
+        }
+        this.nbColumns = costs.length;
+        this.costs = Arrays.copyOf(costs, costs.length);
+        this.rowIndexes = new ArrayList<>();
+        this.rowValues = new ArrayList<>();
+        this.bounds = new double[0];
+        this.iterationLimit = Integer.MAX_VALUE;
+    }
+
+    /**
+     * Adds the constraint <code>sum(coefficients[i] * x[variables[i]]) &#62;= 0</code>. The lower
+     * bound of the constraint can be changed with {@link #setBound(int, double)}. Adding a
+     * constraint discards the basis used to warm start the solver.
+     *
+     * @param variables    the variables of the constraint.
+     * @param coefficients the coefficients of the variables.
+     * @return the index of the constraint.
+     */
+    public int addConstraint(final int[] variables, final double[] coefficients) {
+        this.rowIndexes.add(Arrays.copyOf(variables, variables.length));
+        this.rowValues.add(Arrays.copyOf(coefficients, coefficients.length));
+        this.bounds = Arrays.copyOf(this.bounds, this.rowIndexes.size());
+        this.columnIndexes = null;
+        return this.rowIndexes.size() - 1;
+    }
+
+    /**
+     * Returns the number of constraints of the linear program.
+     *
+     * @return the number of constraints of the linear program.
+     */
+    public int getNumberOfConstraints() {
+        return this.rowIndexes.size();
+    }
+
+    /**
+     * Sets the lower bound of a constraint.
+     *
+     * @param constraint the index of the constraint.
+     * @param bound      the lower bound.
+     */
+    public void setBound(final int constraint, final double bound) {
+        this.bounds[constraint] = bound;
+    }
+
+    /**
+     * Returns the maximum number of pivots of a call to the solver.
+     *
+     * @return the maximum number of pivots of a call to the solver.
+     */
+    public int getIterationLimit() {
+        return this.iterationLimit;
+    }
+
+    /**
+     * Sets the maximum number of pivots of a call to the solver.
+     *
+     * @param limit the maximum number of pivots of a call to the solver.
+     */
+    public void setIterationLimit(final int limit) {
+        this.iterationLimit = limit;
+    }
+
+    /**
+     * Returns the total number of pivots performed by the solver.
+     *
+     * @return the total number of pivots performed by the solver.
+     */
+    public long getIterations() {
+        return this.iterations;
+    }
+
+    /**
+     * Returns the value of the objective function for the current basis. The value is the optimal
+     * value if the last call returned {@link Status#OPTIMAL} and a lower bound of the optimal value
+     * otherwise.
+     *
+     * @return the value of the objective function.
+     */
+    public double getObjective() {
+        double objective = 0.0;
+        for (int r = 0; r < this.basic.length; r++) {
+            if (this.basic[r] < this.nbColumns) {
+                objective += this.costs[this.basic[r]] * this.values[r];
+            }
+        }
+        return objective;
+    }
+
+    /**
+     * Returns the value of a variable in the current basic solution.
+     *
+     * @param variable the variable.
+     * @return the value of the variable.
+     */
+    public double getValue(final int variable) {
+        final int r = this.position[variable];
+        return r == -1 ? 0.0 : this.values[r];
+    }
+
+    /**
+     * Discards the basis used to warm start the solver.
+     */
+    public void reset() {
+        this.basic = null;
+    }
+
+    /**
+     * Solves the linear program with the dual simplex algorithm, starting from the basis of the
+     * previous call if any.
+     *
+     * @return the status of the solver.
+     */
+    public Status solve() {
+        if (this.columnIndexes == null) {
+            this.compile();
+        }
+        if (this.basic == null) {
+            this.initSlackBasis();
+        }
+        this.computeValues();
+        final int nbRows = this.basic.length;
+        final int nbVariables = this.nbColumns + nbRows;
+        final double[] alpha = new double[nbVariables];
+        final double[] column = new double[nbRows];
+        int iteration = 0;
+        while (iteration < this.iterationLimit) {
+            // Select the leaving variable: the most infeasible basic variable
+            int leaving = -1;
+            double min = -SimplexSolver.EPSILON;
+            for (int r = 0; r < nbRows; r++) {
+                if (this.values[r] < min) {
+                    min = this.values[r];
+                    leaving = r;
+                }
+            }
+            if (leaving == -1) {
+                return Status.OPTIMAL;
+            }
+            // Select the entering variable with the dual ratio test
+            final double[] rho = this.inverse[leaving];
+            int entering = -1;
+            double ratio = Double.MAX_VALUE;
+            for (int k = 0; k < nbVariables; k++) {
+                if (this.position[k] == -1) {
+                    alpha[k] = this.dot(rho, k);
+                    if (alpha[k] < -SimplexSolver.EPSILON) {
+                        final double r = Math.max(0.0, this.reducedCosts[k]) / -alpha[k];
+                        if (r < ratio || r == ratio && alpha[k] < alpha[entering]) {
+                            ratio = r;
+                            entering = k;
+                        }
+                    }
+                }
+            }
+            if (entering == -1) {
+                return Status.INFEASIBLE;
+            }
+            this.computeColumn(entering, column);
+            this.pivot(leaving, entering, column, alpha);
+            iteration++;
+            if (this.pivots >= SimplexSolver.REFACTORIZATION_FREQUENCY) {
+                if (!this.factorize()) {
+                    this.initSlackBasis();
+                }
+                this.computeValues();
+            }
+        }
+        return Status.ITERATION_LIMIT;
+    }
+
+    /**
+     * Builds the columns of the constraint matrix from the constraints.
+     */
+    private void compile() {
+        final int[] sizes = new int[this.nbColumns];
+        for (int[] row : this.rowIndexes) {
+            for (int j : row) {
+                sizes[j]++;
+            }
+        }
+        this.columnIndexes = new int[this.nbColumns][];
+        this.columnValues = new double[this.nbColumns][];
+        for (int j = 0; j < this.nbColumns; j++) {
+            this.columnIndexes[j] = new int[sizes[j]];
+            this.columnValues[j] = new double[sizes[j]];
+        }
+        Arrays.fill(sizes, 0);
+        for (int i = 0; i < this.rowIndexes.size(); i++) {
+            final int[] row = this.rowIndexes.get(i);
+            final double[] coefficients = this.rowValues.get(i);
+            for (int k = 0; k < row.length; k++) {
+                final int j = row[k];
+                this.columnIndexes[j][sizes[j]] = i;
+                this.columnValues[j][sizes[j]] = coefficients[k];
+                sizes[j]++;
+            }
+        }
+        this.basic = null;
+    }
+
+    /**
+     * Initializes the basis with the slack variables.
+     */
+    private void initSlackBasis() {
+        final int nbRows = this.rowIndexes.size();
+        this.basic = new int[nbRows];
+        this.position = new int[this.nbColumns + nbRows];
+        Arrays.fill(this.position, -1);
+        this.inverse = new double[nbRows][nbRows];
+        for (int r = 0; r < nbRows; r++) {
+            this.basic[r] = this.nbColumns + r;
+            this.position[this.nbColumns + r] = r;
+            // The column of the slack variable of the row r is -e_r
+            this.inverse[r][r] = -1.0;
+        }
+        this.values = new double[nbRows];
+        this.reducedCosts = new double[this.nbColumns + nbRows];
+        System.arraycopy(this.costs, 0, this.reducedCosts, 0, this.nbColumns);
+        this.pivots = 0;
+    }
+
+    /**
+     * Computes the inverse of the current basis from scratch with the Gauss-Jordan elimination and
+     * the reduced costs of the variables.
+     *
+     * @return <code>false</code> if the basis is singular; <code>true</code> otherwise.
+     */
+    private boolean factorize() {
+        final int nbRows = this.basic.length;
+        final double[][] matrix = new double[nbRows][2 * nbRows];
+        final double[] column = new double[nbRows];
+        for (int r = 0; r < nbRows; r++) {
+            Arrays.fill(column, 0.0);
+            this.setColumn(this.basic[r], column);
+            for (int i = 0; i < nbRows; i++) {
+                matrix[i][r] = column[i];
+            }
+            matrix[r][nbRows + r] = 1.0;
+        }
+        for (int c = 0; c < nbRows; c++) {
+            int best = c;
+            for (int i = c + 1; i < nbRows; i++) {
+                if (Math.abs(matrix[i][c]) > Math.abs(matrix[best][c])) {
+                    best = i;
+                }
+            }
+            if (Math.abs(matrix[best][c]) < SimplexSolver.EPSILON) {
+                return false;
+            }
+            final double[] tmp = matrix[c];
+            matrix[c] = matrix[best];
+            matrix[best] = tmp;
+            final double pivot = matrix[c][c];
+            for (int k = 0; k < 2 * nbRows; k++) {
+                matrix[c][k] /= pivot;
+            }
+            for (int i = 0; i < nbRows; i++) {
+                final double f = matrix[i][c];
+                if (i != c && f != 0.0) {
+                    for (int k = c; k < 2 * nbRows; k++) {
+                        matrix[i][k] -= f * matrix[c][k];
+                    }
+                }
+            }
+        }
+        for (int r = 0; r < nbRows; r++) {
+            this.inverse[r] = Arrays.copyOfRange(matrix[r], nbRows, 2 * nbRows);
+        }
+        // Compute the reduced costs d = c - (c_B.B^-1).A
+        final double[] y = new double[nbRows];
+        for (int r = 0; r < nbRows; r++) {
+            if (this.basic[r] < this.nbColumns) {
+                final double c = this.costs[this.basic[r]];
+                final double[] row = this.inverse[r];
+                for (int i = 0; i < nbRows; i++) {
+                    y[i] += c * row[i];
+                }
+            }
+        }
+        for (int k = 0; k < this.nbColumns + nbRows; k++) {
+            if (this.position[k] == -1) {
+                final double c = k < this.nbColumns ? this.costs[k] : 0.0;
+                this.reducedCosts[k] = c - this.dot(y, k);
+            } else {
+                this.reducedCosts[k] = 0.0;
+            }
+        }
+        this.pivots = 0;
+        return true;
+    }
+
+    /**
+     * Computes the values of the basic variables from the bounds of the constraints.
+     */
+    private void computeValues() {
+        final int nbRows = this.basic.length;
+        for (int r = 0; r < nbRows; r++) {
+            final double[] row = this.inverse[r];
+            double value = 0.0;
+            for (int i = 0; i < nbRows; i++) {
+                value += row[i] * this.bounds[i];
+            }
+            this.values[r] = value;
+        }
+    }
+
+    /**
+     * Performs a pivot of the basis.
+     *
+     * @param leaving  the row of the leaving variable.
+     * @param entering the entering variable.
+     * @param column   the column of the entering variable multiplied by the inverse of the basis.
+     * @param alpha    the pivot row of the nonbasic variables.
+     */
+    private void pivot(final int leaving, final int entering, final double[] column, final double[] alpha) {
+        final int nbRows = this.basic.length;
+        final double pivot = column[leaving];
+        // Update the reduced costs
+        final double theta = this.reducedCosts[entering] / alpha[entering];
+        for (int k = 0; k < this.reducedCosts.length; k++) {
+            if (this.position[k] == -1) {
+                this.reducedCosts[k] -= theta * alpha[k];
+            }
+        }
+        this.reducedCosts[entering] = 0.0;
+        this.reducedCosts[this.basic[leaving]] = -theta;
+        // Update the values of the basic variables
+        final double step = this.values[leaving] / pivot;
+        for (int r = 0; r < nbRows; r++) {
+            this.values[r] -= step * column[r];
+        }
+        this.values[leaving] = step;
+        // Update the inverse of the basis
+        final double[] pivotRow = this.inverse[leaving];
+        for (int i = 0; i < nbRows; i++) {
+            pivotRow[i] /= pivot;
+        }
+        for (int r = 0; r < nbRows; r++) {
+            final double f = column[r];
+            if (r != leaving && f != 0.0) {
+                final double[] row = this.inverse[r];
+                for (int i = 0; i < nbRows; i++) {
+                    row[i] -= f * pivotRow[i];
+                }
+            }
+        }
+        this.position[this.basic[leaving]] = -1;
+        this.basic[leaving] = entering;
+        this.position[entering] = leaving;
+        this.pivots++;
+        this.iterations++;
+    }
+
+    /**
+     * Returns the dot product of a dense vector and the column of a variable.
+     *
+     * @param vector   the dense vector.
+     * @param variable the variable.
+     * @return the dot product of the vector and the column of the variable.
+     */
+    private double dot(final double[] vector, final int variable) {
+        if (variable >= this.nbColumns) {
+            return -vector[variable - this.nbColumns];
+        }
+        final int[] indexes = this.columnIndexes[variable];
+        final double[] coefficients = this.columnValues[variable];
+        double value = 0.0;
+        for (int k = 0; k < indexes.length; k++) {
+            value += vector[indexes[k]] * coefficients[k];
+        }
+        return value;
+    }
+
+    /**
+     * Computes the column of a variable multiplied by the inverse of the basis.
+     *
+     * @param variable the variable.
+     * @param column   the array used to store the result.
+     */
+    private void computeColumn(final int variable, final double[] column) {
+        final int nbRows = this.basic.length;
+        for (int r = 0; r < nbRows; r++) {
+            column[r] = this.dot(this.inverse[r], variable);
+        }
+    }
+
+    /**
+     * Copies the column of a variable in a dense vector.
+     *
+     * @param variable the variable.
+     * @param column   the dense vector.
+     */
+    private void setColumn(final int variable, final double[] column) {
+        if (variable >= this.nbColumns) {
+            column[variable - this.nbColumns] = -1.0;
+        } else {
+            final int[] indexes = this.columnIndexes[variable];
+            final double[] coefficients = this.columnValues[variable];
+            for (int k = 0; k < indexes.length; k++) {
+                column[indexes[k]] = coefficients[k];
+            }
+        }
+    }
+
+}
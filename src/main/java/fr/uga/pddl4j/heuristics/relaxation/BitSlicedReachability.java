@@ -0,0 +1,389 @@
+/*
+ * Copyright (c) 2010 by Damien Pellier <Damien.Pellier@imag.fr>.
+ *
+ * This file is part of PDDL4J library.
+ *
+ * PDDL4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDDL4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDDL4J.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+
+package fr.uga.pddl4j.heuristics.relaxation;
+
+import fr.uga.pddl4j.encoding.CodedProblem;
+import fr.uga.pddl4j.planners.statespace.search.strategy.Node;
+import fr.uga.pddl4j.util.BitExp;
+import fr.uga.pddl4j.util.BitOp;
+import fr.uga.pddl4j.util.BitState;
+import fr.uga.pddl4j.util.BitVector;
+import fr.uga.pddl4j.util.CondBitExp;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * This class implements a bit-sliced relaxed planning graph that checks the relaxed reachability of
+ * the goal and computes the level of the goal for up to 64 states at once. Each proposition and each
+ * relaxed operator is labelled by a <code>long</code> whose bit <i>i</i> stands for the state
+ * <i>i</i> of the batch: an operator is applicable in the states of the AND of the labels of its
+ * preconditions and its effects are reached in the OR of the labels of its supporters. A word
+ * operation thus propagates the planning graph of 64 states.
+ * <p>
+ * The relaxed operators are the unconditional relaxed operators of the problem, i.e., one relaxed
+ * operator per conditional effect whose preconditions are the positive preconditions of the operator
+ * and the positive condition of the effect. The negative preconditions and goals are ignored. The
+ * level of the goal in a state is the index of the first layer of the planning graph where all the
+ * goal propositions are reached, i.e., the max heuristic with unit costs. A state whose goal is
+ * not reachable in the relaxed problem is a dead end and its level is <code>Integer.MAX_VALUE</code>.
+ * Only the operators having a precondition reached in the previous layer are evaluated in a layer.
+ * </p>
+ *
+ * @author PDDL4J contributors
+ * @version 1.0 - 19.10.2026
+ * @see Max
+ */
+public final class BitSlicedReachability extends AbstractHeuristic {
+
+    /**
+     * The serial id of the class.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The number of states of a batch.
+     */
+    public static final int BATCH_SIZE = Long.SIZE;
+
+    /**
+     * The preconditions of the relaxed operators.
+     */
+    private int[][] preconditions;
+
+    /**
+     * The effects of the relaxed operators.
+     */
+    private int[][] effects;
+
+    /**
+     * The relaxed operators having a specified proposition as precondition.
+     */
+    private int[][] precondEdges;
+
+    /**
+     * The relaxed operators without precondition.
+     */
+    private int[] unconditional;
+
+    /**
+     * The positive goal propositions.
+     */
+    private int[] goals;
+
+    /**
+     * The labels of the propositions reached in the current layer.
+     */
+    private long[] reached;
+
+    /**
+     * The labels of the propositions reached in the next layer.
+     */
+    private long[] pending;
+
+    /**
+     * The labels of the states in which the relaxed operators have already been applied.
+     */
+    private long[] applied;
+
+    /**
+     * The propositions whose label changed in the current layer.
+     */
+    private int[] changed;
+
+    /**
+     * The propositions whose label changes in the next layer.
+     */
+    private int[] next;
+
+    /**
+     * The marks of the propositions added to the next layer.
+     */
+    private int[] factMarks;
+
+    /**
+     * The relaxed operators to evaluate in a layer.
+     */
+    private int[] candidates;
+
+    /**
+     * The marks of the relaxed operators added to the candidates.
+     */
+    private int[] operatorMarks;
+
+    /**
+     * The current mark.
+     */
+    private int mark;
+
+    /**
+     * The levels computed by the estimation of a single state.
+     */
+    private int[] singleLevel;
+
+    /**
+     * Creates a new bit-sliced relaxed reachability heuristic for a specified planning problem.
+     *
+     * @param problem the planning problem.
+     * @throws NullPointerException if <code>problem == null</code>.
+     */
+    public BitSlicedReachability(final CodedProblem problem) {
+        super(problem);
+        super.setAdmissible(true);
+        final int nbFacts = super.getRevelantFacts().size();
+        final List<int[]> pre = new ArrayList<>();
+        final List<int[]> eff = new ArrayList<>();
+        for (BitOp op : super.getOperators()) {
+            for (CondBitExp ce : op.getCondEffects()) {
+                if (!ce.getEffects().getPositive().isEmpty()) {
+                    final BitVector condition = new BitVector(op.getPreconditions().getPositive());
+                    condition.or(ce.getCondition().getPositive());
+                    pre.add(condition.stream().toArray());
+                    eff.add(ce.getEffects().getPositive().stream().toArray());
+                }
+            }
+        }
+        final int nbOperators = pre.size();
+        this.preconditions = pre.toArray(new int[nbOperators][]);
+        this.effects = eff.toArray(new int[nbOperators][]);
+        final List<List<Integer>> edges = new ArrayList<>(nbFacts);
+        for (int p = 0; p < nbFacts; p++) {
+            edges.add(new ArrayList<>());
+        }
+        final List<Integer> free = new ArrayList<>();
+        for (int o = 0; o < nbOperators; o++) {
+            if (this.preconditions[o].length == 0) {
+                free.add(o);
+            }
+            for (int p : this.preconditions[o]) {
+                edges.get(p).add(o);
+            }
+        }
+        this.precondEdges = new int[nbFacts][];
+        for (int p = 0; p < nbFacts; p++) {
+            this.precondEdges[p] = edges.get(p).stream().mapToInt(Integer::intValue).toArray();
+        }
+        this.unconditional = free.stream().mapToInt(Integer::intValue).toArray();
+        this.goals = super.getGoal().getPositive().stream().toArray();
+        this.reached = new long[nbFacts];
+        this.pending = new long[nbFacts];
+        this.applied = new long[nbOperators];
+        this.changed = new int[nbFacts];
+        this.next = new int[nbFacts];
+        this.factMarks = new int[nbFacts];
+        this.candidates = new int[nbOperators];
+        this.operatorMarks = new int[nbOperators];
+        this.mark = 0;
+        this.singleLevel = new int[1];
+    }
+
+    /**
+     * Set the goal of the the relaxed problem to solve in order to compute the heuristic.
+     *
+     * @param goal the goal.
+     */
+    @Override
+    protected void setGoal(final BitExp goal) {
+        if (!goal.equals(super.getGoal())) {
+            super.setGoal(goal);
+            this.goals = goal.getPositive().stream().toArray();
+        }
+    }
+
+    /**
+     * Return the estimated distance to the goal to reach the specified state. If the return value is
+     * <code>Integer.MAX_VALUE</code>, it means that the goal is unreachable from the specified
+     * state.
+     *
+     * @param state the state from which the distance to the goal must be estimated.
+     * @param goal  the goal expression.
+     * @return the distance to the goal state from the specified state.
+     * @throws NullPointerException if <code>state == null &#38;&#38; goal == null</code>.
+     */
+    @Override
+    public int estimate(final BitState state, final BitExp goal) {
+        this.estimate(Collections.singletonList(state), 0, goal, this.singleLevel);
+        return this.singleLevel[0];
+    }
+
+    /**
+     * Return the estimated distance to the goal to reach the specified state. If the return value is
+     * <code>Integer.MAX_VALUE</code>, it means that the goal is unreachable from the specified
+     * state.
+     *
+     * @param node the state from which the distance to the goal must be estimated.
+     * @param goal the goal expression.
+     * @return the distance to the goal state from the specified state.
+     */
+    @Override
+    public double estimate(final Node node, final BitExp goal) {
+        return this.estimate((BitState) node, goal);
+    }
+
+    /**
+     * Returns the estimated distance to the goal of a list of states. The states are evaluated by
+     * batches of <code>BATCH_SIZE</code> states.
+     *
+     * @param states the states from which the distance to the goal must be estimated.
+     * @param goal   the goal expression.
+     * @return the distance to the goal of each state or <code>Integer.MAX_VALUE</code> if the goal
+     *     is unreachable from the state.
+     * @throws NullPointerException if <code>states == null &#38;&#38; goal == null</code>.
+     */
+    public int[] estimate(final List<? extends BitState> states, final BitExp goal) {
+        final int[] levels = new int[states.size()];
+        for (int from = 0; from < states.size(); from += BitSlicedReachability.BATCH_SIZE) {
+            this.estimate(states, from, goal, levels);
+        }
+        return levels;
+    }
+
+    /**
+     * Computes the distance to the goal of a batch of at most <code>BATCH_SIZE</code> consecutive
+     * states of a list in a single propagation of the bit-sliced relaxed planning graph.
+     *
+     * @param states the states from which the distance to the goal must be estimated.
+     * @param from   the index of the first state of the batch.
+     * @param goal   the goal expression.
+     * @param levels the array where the distance to the goal of the state <i>from + i</i> is stored
+     *               at index <i>from + i</i>, <code>Integer.MAX_VALUE</code> if the goal is
+     *               unreachable.
+     * @return the dead-end flags of the batch: the bit <i>i</i> is set if the goal is unreachable
+     *     from the state <i>from + i</i>.
+     * @throws NullPointerException if <code>states == null &#38;&#38; goal == null</code>.
+     */
+    public long estimate(final List<? extends BitState> states, final int from, final BitExp goal,
+                         final int[] levels) {
+        this.setGoal(goal);
+        final int length = Math.min(BitSlicedReachability.BATCH_SIZE, states.size() - from);
+        final long batch = length == BitSlicedReachability.BATCH_SIZE ? -1L : (1L << length) - 1;
+        Arrays.fill(this.reached, 0L);
+        Arrays.fill(this.applied, 0L);
+        this.mark++;
+        int nbChanged = 0;
+        for (int i = 0; i < length; i++) {
+            final BitState state = states.get(from + i);
+            final long bit = 1L << i;
+            for (int p = state.nextSetBit(0); p >= 0 && p < this.reached.length; p = state.nextSetBit(p + 1)) {
+                if (this.reached[p] == 0L) {
+                    this.changed[nbChanged++] = p;
+                }
+                this.reached[p] |= bit;
+            }
+        }
+        // The relaxed operators without precondition are applicable in the first layer of all states
+        int nbCandidates = 0;
+        for (int o : this.unconditional) {
+            this.candidates[nbCandidates++] = o;
+        }
+        long solved = 0L;
+        int level = 0;
+        while (true) {
+            long satisfied = batch & ~solved;
+            for (int g = 0; g < this.goals.length && satisfied != 0L; g++) {
+                satisfied &= this.reached[this.goals[g]];
+            }
+            for (long bits = satisfied; bits != 0L; bits &= bits - 1) {
+                levels[from + Long.numberOfTrailingZeros(bits)] = level;
+            }
+            solved |= satisfied;
+            if (solved == batch) {
+                break;
+            }
+            // Collects the operators having a precondition reached in the current layer
+            this.mark++;
+            for (int c = 0; c < nbCandidates; c++) {
+                this.operatorMarks[this.candidates[c]] = this.mark;
+            }
+            for (int c = 0; c < nbChanged; c++) {
+                for (int o : this.precondEdges[this.changed[c]]) {
+                    if (this.operatorMarks[o] != this.mark) {
+                        this.operatorMarks[o] = this.mark;
+                        this.candidates[nbCandidates++] = o;
+                    }
+                }
+            }
+            // Applies the candidates in the states where they became applicable
+            int nbNext = 0;
+            for (int c = 0; c < nbCandidates; c++) {
+                final int o = this.candidates[c];
+                long applicable = batch & ~this.applied[o];
+                for (int p : this.preconditions[o]) {
+                    applicable &= this.reached[p];
+                    if (applicable == 0L) {
+                        break;
+                    }
+                }
+                if (applicable != 0L) {
+                    this.applied[o] |= applicable;
+                    for (int p : this.effects[o]) {
+                        final long added = applicable & ~this.reached[p] & ~this.pending[p];
+                        if (added != 0L) {
+                            if (this.factMarks[p] != this.mark) {
+                                this.factMarks[p] = this.mark;
+                                this.next[nbNext++] = p;
+                            }
+                            this.pending[p] |= added;
+                        }
+                    }
+                }
+            }
+            if (nbNext == 0) {
+                break;
+            }
+            for (int c = 0; c < nbNext; c++) {
+                final int p = this.next[c];
+                this.reached[p] |= this.pending[p];
+                this.pending[p] = 0L;
+                this.changed[c] = p;
+            }
+            nbChanged = nbNext;
+            nbCandidates = 0;
+            level++;
+        }
+        final long deadEnds = batch & ~solved;
+        for (long bits = deadEnds; bits != 0L; bits &= bits - 1) {
+            levels[from + Long.numberOfTrailingZeros(bits)] = Integer.MAX_VALUE;
+        }
+        return deadEnds;
+    }
+
+    /**
+     * Returns the propositions reached by a state of the last batch evaluated. When the goal is
+     * unreachable from the state, the propositions returned are all the propositions reachable from
+     * the state in the relaxed problem: every state made of these propositions is also a dead end.
+     *
+     * @param index the index of the state in the last batch evaluated.
+     * @return the propositions reached by the state.
+     */
+    public BitVector getReachedFacts(final int index) {
+        final long bit = 1L << index;
+        final BitVector facts = new BitVector(this.reached.length);
+        for (int p = 0; p < this.reached.length; p++) {
+            if ((this.reached[p] & bit) != 0L) {
+                facts.set(p);
+            }
+        }
+        return facts;
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2010 by Damien Pellier <Damien.Pellier@imag.fr>.
+ *
+ * This file is part of PDDL4J library.
+ *
+ * PDDL4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDDL4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDDL4J.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+
+package fr.uga.pddl4j.heuristics.relaxation;
+
+import fr.uga.pddl4j.planners.statespace.search.strategy.Node;
+import fr.uga.pddl4j.util.BitExp;
+import fr.uga.pddl4j.util.BitState;
+
+/**
+ * This class implements a decorator that looks up the values of an heuristic in a <code>HeuristicCache</code> before
+ * computing them. The key of a state is made of the fingerprint of the state, the fingerprint of the goal and the
+ * type of the heuristic, so that a cache can be shared by heuristics of different types and by searches toward
+ * different goals.
+ *
+ * @author PDDL4J contributors
+ * @version 1.0 - 19.10.2026
+ * @see HeuristicCache
+ */
+final class CachedHeuristic implements Heuristic {
+
+    /**
+     * The serial id of the class.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The decorated heuristic.
+     */
+    private final Heuristic heuristic;
+
+    /**
+     * The cache of heuristic values.
+     */
+    private final HeuristicCache cache;
+
+    /**
+     * The salt of the keys computed from the type of the heuristic.
+     */
+    private final long salt;
+
+    /**
+     * The last goal used to compute a key.
+     */
+    private BitExp goal;
+
+    /**
+     * The fingerprint of the last goal used to compute a key.
+     */
+    private long fingerprint;
+
+    /**
+     * Creates a new cached heuristic.
+     *
+     * @param heuristic the decorated heuristic.
+     * @param cache     the cache of heuristic values.
+     * @param type      the type of the decorated heuristic.
+     */
+    CachedHeuristic(final Heuristic heuristic, final HeuristicCache cache, final Heuristic.Type type) {
+        super();
+        this.heuristic = heuristic;
+        this.cache = cache;
+        this.salt = HeuristicCache.mix(-(type.ordinal() + 1L) << 1);
+        this.goal = null;
+        this.fingerprint = 0;
+    }
+
+    /**
+     * Return the estimated distance to the goal to reach the specified state. If the return value is
+     * <code>Integer.MAX_VALUE</code>, it means that the goal is unreachable from the specified
+     * state.
+     *
+     * @param state the state from which the distance to the goal must be estimated.
+     * @param goal  the goal expression.
+     * @return the distance to the goal state from the specified state.
+     */
+    @Override
+    public int estimate(final BitState state, final BitExp goal) {
+        final long key = this.key(state, goal, 0);
+        final double value = this.cache.get(key);
+        if (!Double.isNaN(value)) {
+            return (int) value;
+        }
+        final int estimate = this.heuristic.estimate(state, goal);
+        this.cache.put(key, estimate);
+        return estimate;
+    }
+
+    /**
+     * Return the estimated distance to the goal to reach the specified state. If the return value is
+     * <code>DOUBLE.MAX_VALUE</code>, it means that the goal is unreachable from the specified
+     * state.
+     *
+     * @param node the state from which the distance to the goal must be estimated.
+     * @param goal the goal expression.
+     * @return the distance to the goal state from the specified state.
+     */
+    @Override
+    public double estimate(final Node node, final BitExp goal) {
+        final long key = this.key(node, goal, 1);
+        final double value = this.cache.get(key);
+        if (!Double.isNaN(value)) {
+            return value;
+        }
+        final double estimate = this.heuristic.estimate(node, goal);
+        this.cache.put(key, estimate);
+        return estimate;
+    }
+
+    /**
+     * Returns if the decorated heuristic is admissible.
+     *
+     * @return <code>true</code> if the decorated heuristic is admissible; <code>false</code> otherwise.
+     */
+    @Override
+    public boolean isAdmissible() {
+        return this.heuristic.isAdmissible();
+    }
+
+    /**
+     * Returns the key of a state for a specified goal. The estimations of states and of nodes are distinguished
+     * because some heuristics compute a different value for a node, e.g., the cost of the relaxed plan instead of
+     * its length.
+     *
+     * @param state the state.
+     * @param goal  the goal.
+     * @param kind  0 for the estimation of a state and 1 for the estimation of a node.
+     * @return the key of the state.
+     */
+    private long key(final BitState state, final BitExp goal, final int kind) {
+        if (goal != this.goal) {
+            this.goal = goal;
+            this.fingerprint = HeuristicCache.mix(HeuristicCache.fingerprint(goal.getPositive())
+                ^ Long.rotateLeft(HeuristicCache.fingerprint(goal.getNegative()), 32));
+        }
+        return HeuristicCache.mix(HeuristicCache.fingerprint(state) ^ this.fingerprint ^ (this.salt + kind));
+    }
+}
@@ -36,7 +36,11 @@ import fr.uga.pddl4j.util.BitState;
  * <li> <tt>hsum(S)</tt> is the sum heuristic value and</li>
  * <li> <tt>hlev(S)</tt> the set-level heuristic value.</li>
  * </ul>
+ * Both values are computed by a {@link RelaxedGraphEvaluator} that explores the relaxed planning
+ * graph and expands the planning graph with mutexes only once for each state.
+ * <p>
  * <b>Warning:</b> The combo heuristic is not admissible.
+ * </p>
  *
  * @author D. Pellier
  * @version 1.0 - 01.09.2010
@@ -44,7 +48,7 @@ import fr.uga.pddl4j.util.BitState;
  * @see Sum
  * @see SetLevel
  */
-public final class Combo extends RelaxedGraphHeuristic {
+public final class Combo extends AbstractHeuristic {
 
     /**
      * The serial version id of the class.
@@ -52,10 +56,10 @@ public final class Combo extends RelaxedGraphHeuristic {
     private static final long serialVersionUID = 1L;
 
     /**
-     * The set level heuristic used to compute the delta function, i.e., the interaction degree
-     * among propositions of the goal.
+     * The evaluator used to compute the sum heuristic and the set-level heuristic used as delta
+     * function, i.e., the interaction degree among propositions of the goal.
      */
-    private SetLevel delta;
+    private final RelaxedGraphEvaluator evaluator;
 
     /**
      * Creates a new <code>COMBO</code> heuristic for a specified planning problem.
@@ -65,7 +69,7 @@ public final class Combo extends RelaxedGraphHeuristic {
      */
     public Combo(CodedProblem problem) {
         super(problem);
-        this.delta = new SetLevel(problem);
+        this.evaluator = new RelaxedGraphEvaluator(problem, true);
         super.setAdmissible(false);
     }
 
@@ -80,12 +84,7 @@ public final class Combo extends RelaxedGraphHeuristic {
      */
     @Override
     public int estimate(final BitState state, final BitExp goal) {
-        super.setGoal(goal);
-        // First, we expand the relaxed planing graph to compute the sum heuristic
-        super.expandRelaxedPlanningGraph(state);
-        // Second, we expand the relaxed planning graph with mutex to compute the set level heuristic
-        this.delta.expandPlanningGraph(state);
-        return super.isGoalReachable() ? this.getSumValue() + this.delta.estimate(state, goal) : Integer.MAX_VALUE;
+        return RelaxedGraphEvaluator.getComboValue(this.evaluator.evaluate(state, goal));
     }
 
     /**
@@ -0,0 +1,539 @@
+/*
+ * Copyright (c) 2010 by Damien Pellier <Damien.Pellier@imag.fr>.
+ *
+ * This file is part of PDDL4J library.
+ *
+ * PDDL4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDDL4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDDL4J.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+
+package fr.uga.pddl4j.heuristics.relaxation;
+
+import fr.uga.pddl4j.encoding.CodedProblem;
+import fr.uga.pddl4j.planners.statespace.search.strategy.Node;
+import fr.uga.pddl4j.util.BitExp;
+import fr.uga.pddl4j.util.BitOp;
+import fr.uga.pddl4j.util.BitState;
+import fr.uga.pddl4j.util.BitVector;
+import fr.uga.pddl4j.util.CondBitExp;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * This abstract class implements the cost sensitive delete relaxation heuristics. The heuristic
+ * values are computed on the unconditional relaxed operators of the problem, i.e., one relaxed
+ * operator per conditional effect whose preconditions are the positive preconditions of the
+ * operator and the positive condition of the effect, whose effects are the positive effects of the
+ * conditional effect and whose cost is given by {@link BitOp#getCost()}. The negative preconditions
+ * and goals are ignored.
+ * <p>
+ * The cost of the propositions is computed by a generalized Dijkstra algorithm from the propositions
+ * of the state. The cost of the preconditions of an operator is either the sum (additive heuristic)
+ * or the max (max heuristic) of the cost of its preconditions. As the costs pushed in the priority
+ * queue never decrease, the queue is a radix heap over integer keys: the costs of the operators are
+ * scaled to integers, exactly when they have at most six decimals and rounded down otherwise so that
+ * the max heuristic remains admissible. The propagation stops as soon as the cost of all the goal
+ * propositions is known.
+ * </p>
+ * <p>
+ * All the arrays used by the computation are allocated once when the heuristic is created so that
+ * the evaluation of a state runs in <i>O((facts + operators) log C)</i> without any allocation,
+ * where <i>C</i> is the highest cost of a proposition.
+ * </p>
+ *
+ * @author PDDL4J contributors
+ * @version 1.0 - 19.10.2026
+ * @see RelaxedGraphHeuristic
+ */
+public abstract class CostRelaxedHeuristic extends AbstractHeuristic {
+
+    /**
+     * The serial version id of the class.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The largest scale used to convert the costs of the operators into integer keys.
+     */
+    private static final long MAX_SCALE = 1000000L;
+
+    /**
+     * The tolerance used to decide if a scaled cost is an integer.
+     */
+    private static final double EPSILON = 1e-6;
+
+    /**
+     * The number of buckets of the radix heap, i.e., one bucket per bit of a key plus one.
+     */
+    private static final int NB_BUCKETS = Long.SIZE + 1;
+
+    /**
+     * The key of the unreachable propositions.
+     */
+    private static final long UNREACHABLE = Long.MAX_VALUE;
+
+    /**
+     * The number of propositions including the artificial proposition true in every state.
+     */
+    private int nbFacts;
+
+    /**
+     * The artificial proposition used as precondition of the operators without precondition.
+     */
+    private int initFact;
+
+    /**
+     * The preconditions of the relaxed operators.
+     */
+    private int[][] preconditions;
+
+    /**
+     * The effects of the relaxed operators.
+     */
+    private int[][] effects;
+
+    /**
+     * The index of the operator of the problem from which each relaxed operator is built.
+     */
+    private int[] origins;
+
+    /**
+     * The integer cost of the relaxed operators.
+     */
+    private long[] keys;
+
+    /**
+     * The relaxed operators having each proposition as precondition.
+     */
+    private int[][] precondEdges;
+
+    /**
+     * The scale used to convert the costs into integer keys.
+     */
+    private long scale;
+
+    /**
+     * The goal propositions.
+     */
+    private int[] goals;
+
+    /**
+     * The integer cost of the propositions.
+     */
+    private long[] values;
+
+    /**
+     * The relaxed operator of lowest cost achieving each proposition, i.e., its best supporter.
+     */
+    private int[] supporters;
+
+    /**
+     * The number of unreached preconditions of each relaxed operator.
+     */
+    private int[] counters;
+
+    /**
+     * The integer cost of the preconditions of each relaxed operator.
+     */
+    private long[] accumulators;
+
+    /**
+     * The last evaluation in which each proposition was marked during the relaxed plan extraction.
+     */
+    private int[] factMarks;
+
+    /**
+     * The last evaluation in which each operator of the problem was marked during the relaxed plan
+     * extraction.
+     */
+    private int[] operatorMarks;
+
+    /**
+     * The current mark of the relaxed plan extraction.
+     */
+    private int mark;
+
+    /**
+     * The stack of the propositions to support during the relaxed plan extraction.
+     */
+    private int[] stack;
+
+    /**
+     * The propositions stored in the buckets of the radix heap.
+     */
+    private int[][] bucketFacts;
+
+    /**
+     * The keys stored in the buckets of the radix heap.
+     */
+    private long[][] bucketKeys;
+
+    /**
+     * The number of elements of each bucket of the radix heap.
+     */
+    private int[] bucketSizes;
+
+    /**
+     * The number of elements of the radix heap.
+     */
+    private int heapSize;
+
+    /**
+     * The last key removed from the radix heap.
+     */
+    private long lastKey;
+
+    /**
+     * Creates a new cost sensitive relaxed heuristic for a specified planning problem.
+     *
+     * @param problem the planning problem.
+     * @throws NullPointerException if <code>problem == null</code>.
+     */
+    protected CostRelaxedHeuristic(final CodedProblem problem) {
+        super(problem);
+        this.nbFacts = super.getRevelantFacts().size() + 1;
+        this.initFact = this.nbFacts - 1;
+        final List<BitOp> operators = super.getOperators();
+        final List<int[]> pre = new ArrayList<>();
+        final List<int[]> eff = new ArrayList<>();
+        final List<Integer> org = new ArrayList<>();
+        for (int o = 0; o < operators.size(); o++) {
+            final BitOp op = operators.get(o);
+            for (CondBitExp ce : op.getCondEffects()) {
+                if (!ce.getEffects().getPositive().isEmpty()) {
+                    final BitVector condition = new BitVector(op.getPreconditions().getPositive());
+                    condition.or(ce.getCondition().getPositive());
+                    // The operators without precondition are made dependent of the artificial proposition
+                    pre.add(condition.isEmpty() ? new int[] {this.initFact} : condition.stream().toArray());
+                    eff.add(ce.getEffects().getPositive().stream().toArray());
+                    org.add(o);
+                }
+            }
+        }
+        final int nbOperators = pre.size();
+        this.preconditions = pre.toArray(new int[nbOperators][]);
+        this.effects = eff.toArray(new int[nbOperators][]);
+        this.origins = org.stream().mapToInt(Integer::intValue).toArray();
+        this.scale = this.computeScale(operators);
+        this.keys = new long[nbOperators];
+        for (int o = 0; o < nbOperators; o++) {
+            this.keys[o] = this.toKey(operators.get(this.origins[o]).getCost());
+        }
+        final List<List<Integer>> edges = new ArrayList<>(this.nbFacts);
+        for (int p = 0; p < this.nbFacts; p++) {
+            edges.add(new ArrayList<>());
+        }
+        for (int o = 0; o < nbOperators; o++) {
+            for (int p : this.preconditions[o]) {
+                edges.get(p).add(o);
+            }
+        }
+        this.precondEdges = new int[this.nbFacts][];
+        for (int p = 0; p < this.nbFacts; p++) {
+            this.precondEdges[p] = edges.get(p).stream().mapToInt(Integer::intValue).toArray();
+        }
+        this.goals = super.getGoal().getPositive().stream().toArray();
+        this.values = new long[this.nbFacts];
+        this.supporters = new int[this.nbFacts];
+        this.counters = new int[nbOperators];
+        this.accumulators = new long[nbOperators];
+        this.factMarks = new int[this.nbFacts];
+        this.operatorMarks = new int[operators.size()];
+        this.mark = 0;
+        this.stack = new int[this.nbFacts];
+        this.bucketFacts = new int[CostRelaxedHeuristic.NB_BUCKETS][];
+        this.bucketKeys = new long[CostRelaxedHeuristic.NB_BUCKETS][];
+        for (int b = 0; b < CostRelaxedHeuristic.NB_BUCKETS; b++) {
+            this.bucketFacts[b] = new int[16];
+            this.bucketKeys[b] = new long[16];
+        }
+        this.bucketSizes = new int[CostRelaxedHeuristic.NB_BUCKETS];
+    }
+
+    /**
+     * Set the goal of the the relaxed problem to solve in order to compute the heuristic.
+     *
+     * @param goal the goal.
+     */
+    @Override
+    protected void setGoal(final BitExp goal) {
+        if (!goal.equals(super.getGoal())) {
+            super.setGoal(goal);
+            this.goals = goal.getPositive().stream().toArray();
+        }
+    }
+
+    /**
+     * Return the estimated distance to the goal to reach the specified state. If the return value is
+     * <code>Integer.MAX_VALUE</code>, it means that the goal is unreachable from the specified
+     * state.
+     *
+     * @param state the state from which the distance to the goal must be estimated.
+     * @param goal  the goal expression.
+     * @return the distance to the goal state from the specified state.
+     * @throws NullPointerException if <code>state == null &#38;&#38; goal == null</code>.
+     */
+    @Override
+    public int estimate(final BitState state, final BitExp goal) {
+        final double value = this.estimateCost(state, goal);
+        return value == Double.MAX_VALUE ? Integer.MAX_VALUE : (int) value;
+    }
+
+    /**
+     * Return the estimated distance to the goal to reach the specified state. If the return value is
+     * <code>Integer.MAX_VALUE</code>, it means that the goal is unreachable from the specified
+     * state.
+     *
+     * @param node the state from which the distance to the goal must be estimated.
+     * @param goal the goal expression.
+     * @return the distance to the goal state from the specified state.
+     */
+    @Override
+    public double estimate(final Node node, final BitExp goal) {
+        final double value = this.estimateCost(node, goal);
+        return value == Double.MAX_VALUE ? Integer.MAX_VALUE : value;
+    }
+
+    /**
+     * Computes the heuristic value of a specified state.
+     *
+     * @param state the state from which the distance to the goal must be estimated.
+     * @param goal  the goal expression.
+     * @return the heuristic value or <code>Double.MAX_VALUE</code> if the goal is not reachable.
+     */
+    protected abstract double estimateCost(BitState state, BitExp goal);
+
+    /**
+     * Computes the cost of the propositions from a specified state and returns the cost of the goal.
+     * The cost of a set of propositions is the sum of the cost of its propositions if
+     * <code>max</code> is <code>false</code> and the max otherwise.
+     *
+     * @param state the state.
+     * @param goal  the goal expression.
+     * @param max   <code>true</code> to compute the max heuristic, <code>false</code> to compute the
+     *              additive heuristic.
+     * @return the cost of the goal or <code>Double.MAX_VALUE</code> if the goal is not reachable.
+     */
+    protected final double computeCost(final BitState state, final BitExp goal, final boolean max) {
+        this.setGoal(goal);
+        Arrays.fill(this.values, CostRelaxedHeuristic.UNREACHABLE);
+        Arrays.fill(this.accumulators, 0L);
+        for (int o = 0; o < this.counters.length; o++) {
+            this.counters[o] = this.preconditions[o].length;
+        }
+        int remaining = 0;
+        for (int g : this.goals) {
+            if (!state.get(g)) {
+                remaining++;
+            }
+        }
+        this.clearHeap();
+        this.push(this.initFact, 0L);
+        for (int p = state.nextSetBit(0); p >= 0 && p < this.initFact; p = state.nextSetBit(p + 1)) {
+            this.push(p, 0L);
+        }
+        while (this.heapSize > 0 && remaining > 0) {
+            final int p = this.pop();
+            // The stale entries of the heap are ignored as the propositions are only pushed on improvement
+            if (this.lastKey == this.values[p]) {
+                if (!state.get(p) && Arrays.binarySearch(this.goals, p) >= 0) {
+                    remaining--;
+                }
+                for (int o : this.precondEdges[p]) {
+                    this.counters[o]--;
+                    this.accumulators[o] = max ? Math.max(this.accumulators[o], this.lastKey)
+                        : this.accumulators[o] + this.lastKey;
+                    if (this.counters[o] == 0) {
+                        final long value = this.accumulators[o] + this.keys[o];
+                        for (int e : this.effects[o]) {
+                            if (value < this.values[e]) {
+                                this.supporters[e] = o;
+                                this.push(e, value);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        long cost = 0L;
+        for (int g : this.goals) {
+            final long value = state.get(g) ? 0L : this.values[g];
+            if (value == CostRelaxedHeuristic.UNREACHABLE) {
+                return Double.MAX_VALUE;
+            }
+            cost = max ? Math.max(cost, value) : cost + value;
+        }
+        return (double) cost / this.scale;
+    }
+
+    /**
+     * Extracts a relaxed plan from the best supporters computed by the last call to
+     * {@link #computeCost(BitState, BitExp, boolean)} and returns its cost. Each operator of the
+     * problem is counted once even if several of its conditional effects are used.
+     *
+     * @param state the state from which the cost of the propositions was computed.
+     * @return the cost of the relaxed plan.
+     */
+    protected final double extractRelaxedPlan(final BitState state) {
+        this.mark++;
+        if (this.mark == Integer.MAX_VALUE) {
+            Arrays.fill(this.factMarks, 0);
+            Arrays.fill(this.operatorMarks, 0);
+            this.mark = 1;
+        }
+        final List<BitOp> operators = super.getOperators();
+        double cost = 0.0;
+        int top = 0;
+        for (int g : this.goals) {
+            if (!state.get(g) && this.factMarks[g] != this.mark) {
+                this.factMarks[g] = this.mark;
+                this.stack[top++] = g;
+            }
+        }
+        while (top > 0) {
+            final int o = this.supporters[this.stack[--top]];
+            final int origin = this.origins[o];
+            if (this.operatorMarks[origin] != this.mark) {
+                this.operatorMarks[origin] = this.mark;
+                cost += operators.get(origin).getCost();
+            }
+            for (int p : this.preconditions[o]) {
+                if (p != this.initFact && !state.get(p) && this.factMarks[p] != this.mark) {
+                    this.factMarks[p] = this.mark;
+                    this.stack[top++] = p;
+                }
+            }
+        }
+        return cost;
+    }
+
+    /**
+     * Computes the smallest power of ten that converts the cost of all the operators into integers.
+     * If there is no such power lower than {@link #MAX_SCALE}, the largest scale is returned and the
+     * costs are rounded down.
+     *
+     * @param operators the operators of the problem.
+     * @return the scale of the costs.
+     */
+    private long computeScale(final List<BitOp> operators) {
+        for (long s = 1L; s < CostRelaxedHeuristic.MAX_SCALE; s *= 10L) {
+            boolean integral = true;
+            for (int i = 0; i < operators.size() && integral; i++) {
+                final double cost = operators.get(i).getCost() * s;
+                integral = Math.abs(cost - Math.rint(cost)) < CostRelaxedHeuristic.EPSILON;
+            }
+            if (integral) {
+                return s;
+            }
+        }
+        return CostRelaxedHeuristic.MAX_SCALE;
+    }
+
+    /**
+     * Converts a cost into an integer key. The negative costs are considered as null.
+     *
+     * @param cost the cost.
+     * @return the integer key of the cost.
+     */
+    private long toKey(final double cost) {
+        final double scaled = Math.max(0.0, cost) * this.scale;
+        final double rounded = Math.rint(scaled);
+        return Math.abs(scaled - rounded) < CostRelaxedHeuristic.EPSILON ? (long) rounded : (long) Math.floor(scaled);
+    }
+
+    /**
+     * Empties the radix heap.
+     */
+    private void clearHeap() {
+        Arrays.fill(this.bucketSizes, 0);
+        this.heapSize = 0;
+        this.lastKey = 0L;
+    }
+
+    /**
+     * Returns the bucket of the radix heap of a specified key, i.e., the position of the highest bit
+     * that differs from the last key removed from the heap.
+     *
+     * @param key the key.
+     * @return the bucket of the key.
+     */
+    private int bucket(final long key) {
+        return key == this.lastKey ? 0 : Long.SIZE - Long.numberOfLeadingZeros(key ^ this.lastKey);
+    }
+
+    /**
+     * Inserts a proposition in the radix heap and sets its cost. The key must not be lower than the
+     * last key removed from the heap.
+     *
+     * @param p   the proposition.
+     * @param key the cost of the proposition.
+     */
+    private void push(final int p, final long key) {
+        this.values[p] = key;
+        this.insert(this.bucket(key), p, key);
+        this.heapSize++;
+    }
+
+    /**
+     * Inserts a proposition in a bucket of the radix heap. The bucket grows if it is full.
+     *
+     * @param b   the bucket.
+     * @param p   the proposition.
+     * @param key the key of the proposition.
+     */
+    private void insert(final int b, final int p, final long key) {
+        final int size = this.bucketSizes[b];
+        if (size == this.bucketFacts[b].length) {
+            this.bucketFacts[b] = Arrays.copyOf(this.bucketFacts[b], 2 * size);
+            this.bucketKeys[b] = Arrays.copyOf(this.bucketKeys[b], 2 * size);
+        }
+        this.bucketFacts[b][size] = p;
+        this.bucketKeys[b][size] = key;
+        this.bucketSizes[b] = size + 1;
+    }
+
+    /**
+     * Removes a proposition with the lowest key from the radix heap. The key of the proposition
+     * removed becomes the last key of the heap.
+     *
+     * @return the proposition with the lowest key.
+     */
+    private int pop() {
+        if (this.bucketSizes[0] == 0) {
+            int b = 1;
+            while (this.bucketSizes[b] == 0) {
+                b++;
+            }
+            final int size = this.bucketSizes[b];
+            final int[] facts = this.bucketFacts[b];
+            final long[] keys = this.bucketKeys[b];
+            long min = keys[0];
+            for (int i = 1; i < size; i++) {
+                min = Math.min(min, keys[i]);
+            }
+            // Redistributes the bucket: all its keys fall into lower buckets relatively to the new last key
+            this.lastKey = min;
+            this.bucketSizes[b] = 0;
+            for (int i = 0; i < size; i++) {
+                this.insert(this.bucket(keys[i]), facts[i], keys[i]);
+            }
+        }
+        this.heapSize--;
+        this.bucketSizes[0]--;
+        return this.bucketFacts[0][this.bucketSizes[0]];
+    }
+
+}
@@ -23,6 +23,7 @@ import fr.uga.pddl4j.encoding.CodedProblem;
 import fr.uga.pddl4j.planners.statespace.search.strategy.Node;
 import fr.uga.pddl4j.util.BitExp;
 import fr.uga.pddl4j.util.BitState;
+import fr.uga.pddl4j.util.BitVector;
 
 /**
  * This class implements the heuristics of the fast forward planner. For more about this
@@ -47,6 +48,12 @@ import fr.uga.pddl4j.util.BitState;
  * achieving action with minimal operators_difficulty. This heuristic works well in situation where
  * there are severals ways to achieve one fact. but some ways need less effort than others.
  * </p>
+ * <p>
+ * Each estimation also computes the set of helpful operators of the state, i.e., the operators
+ * applicable in the state that achieve a goal of the relaxed plan at level 1. These operators can
+ * be used by the search strategies to restrict the expansion of a node to its most promising
+ * successors (see {@link #getHelpfulOperators()}).
+ * </p>
  * <b>Warning:</b> The relaxed plan heuristic is not admissible.
  *
  * @author D. Pellier
@@ -102,4 +109,17 @@ public final class FastForward extends RelaxedGraphHeuristic {
         return estimate((BitState) node, goal);
     }
 
+    /**
+     * Returns the helpful operators of the last state estimated. The bits set in the returned
+     * vector are the indexes of the helpful operators in the list of operators of the problem. If
+     * the goal was unreachable or already satisfied in the last state estimated, the vector is
+     * empty. The returned vector is overwritten by the next estimation.
+     *
+     * @return the helpful operators of the last state estimated.
+     */
+    @Override
+    public BitVector getHelpfulOperators() {
+        return super.getHelpfulOperators();
+    }
+
 }
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2010 by Damien Pellier <Damien.Pellier@imag.fr>.
+ *
+ * This file is part of PDDL4J library.
+ *
+ * PDDL4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDDL4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDDL4J.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+
+package fr.uga.pddl4j.heuristics.relaxation;
+
+import fr.uga.pddl4j.encoding.CodedProblem;
+import fr.uga.pddl4j.util.BitExp;
+import fr.uga.pddl4j.util.BitState;
+
+/**
+ * This class implements the cost sensitive version of the fast forward heuristic. The best supporter
+ * of each proposition is computed with the cost sensitive additive heuristic (see {@link SumCost})
+ * and a relaxed plan is extracted backward from the goal propositions by following the best
+ * supporters. The heuristic value is the sum of the cost of the operators of the relaxed plan.
+ * Unlike {@link FastForward}, the relaxed plan is chosen according to the cost of the operators
+ * rather than to their number.
+ * <b>Warning:</b> The fast forward cost heuristic is not admissible.
+ *
+ * @author PDDL4J contributors
+ * @version 1.0 - 19.10.2026
+ * @see CostRelaxedHeuristic
+ */
+public class FastForwardCost extends CostRelaxedHeuristic {
+
+    /**
+     * The serial version id of the class.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Creates a new <code>FastForwardCost</code> heuristic for a specified planning problem.
+     *
+     * @param problem the planning problem.
+     * @throws NullPointerException if <code>problem == null</code>.
+     */
+    public FastForwardCost(final CodedProblem problem) {
+        super(problem);
+        super.setAdmissible(false);
+    }
+
+    /**
+     * Computes the cost of the relaxed plan of a specified state.
+     *
+     * @param state the state from which the distance to the goal must be estimated.
+     * @param goal  the goal expression.
+     * @return the heuristic value or <code>Double.MAX_VALUE</code> if the goal is not reachable.
+     */
+    @Override
+    protected double estimateCost(final BitState state, final BitExp goal) {
+        final double value = super.computeCost(state, goal, false);
+        return value == Double.MAX_VALUE ? value : super.extractRelaxedPlan(state);
+    }
+
+}
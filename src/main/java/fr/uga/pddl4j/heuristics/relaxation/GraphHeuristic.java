@@ -330,6 +330,10 @@ public abstract class GraphHeuristic extends AbstractHeuristic {
 
         // Initialize the initial actions level of the planning graph
         this.opsLayer = new BitVector();
+        // Clear the mutexes and the achievers of the previous expansion
+        this.propositionsMutex.clear();
+        this.operatorsMutex.clear();
+        this.achievers.clear();
 
         // The current level of the planning graph (the first level is 0)
         int k = 0;
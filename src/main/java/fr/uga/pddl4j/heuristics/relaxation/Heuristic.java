@@ -119,6 +119,54 @@ public interface Heuristic extends Serializable {
          * The type for the <code>SumMutex</code> heuristic.
          */
         SUM_MUTEX,
+        /**
+         * The type for the <code>GoalCount</code> heuristic.
+         */
+        GOAL_COUNT,
+        /**
+         * The type for the <code>LandmarkCount</code> heuristic.
+         */
+        LANDMARK_COUNT,
+        /**
+         * The type for the <code>LandmarkCut</code> heuristic.
+         */
+        LANDMARK_CUT,
+        /**
+         * The type for the <code>PatternDatabaseHeuristic</code> heuristic.
+         */
+        PATTERN_DATABASE,
+        /**
+         * The type for the <code>MergeAndShrinkHeuristic</code> heuristic.
+         */
+        MERGE_AND_SHRINK,
+        /**
+         * The type for the <code>OperatorCounting</code> heuristic with the net change constraints only.
+         */
+        STATE_EQUATION,
+        /**
+         * The type for the <code>OperatorCounting</code> heuristic.
+         */
+        OPERATOR_COUNTING,
+        /**
+         * The type for the <code>SumCost</code> heuristic.
+         */
+        SUM_COST,
+        /**
+         * The type for the <code>MaxCost</code> heuristic.
+         */
+        MAX_COST,
+        /**
+         * The type for the <code>FastForwardCost</code> heuristic.
+         */
+        FAST_FORWARD_COST,
+        /**
+         * The type for the <code>ContextEnhancedAdditive</code> heuristic.
+         */
+        CONTEXT_ENHANCED_ADDITIVE,
+        /**
+         * The type for the <code>CausalGraphHeuristic</code> heuristic.
+         */
+        CAUSAL_GRAPH,
 
     }
 
@@ -0,0 +1,505 @@
+/*
+ * Copyright (c) 2010 by Damien Pellier <Damien.Pellier@imag.fr>.
+ *
+ * This file is part of PDDL4J library.
+ *
+ * PDDL4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDDL4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDDL4J.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+
+package fr.uga.pddl4j.heuristics.relaxation;
+
+import fr.uga.pddl4j.encoding.CodedProblem;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * This class implements a bounded cache of heuristic values keyed by state fingerprints. The cache is meant to be
+ * owned by a planner and shared by all the strategies of the planner, e.g., the enforced hill climbing and the greedy
+ * best first search of <code>FFAnytime</code>, so that a state evaluated in one phase is not evaluated again in the
+ * following phases.
+ * <p>
+ * The size of the cache is bounded by a memory budget given in bytes. The entries are stored in flat arrays indexed
+ * by an open addressing table. When the cache is full, an entry is evicted either with the CLOCK policy, i.e., a
+ * second chance is given to the entries hit since the last pass of the hand, or with the LRU policy, i.e., the least
+ * recently used entry is evicted. The states are identified by a 64 bits fingerprint. The probability of a collision
+ * between two different states is negligible for the number of states explored by a planner but not null.
+ * </p>
+ *
+ * @author PDDL4J contributors
+ * @version 1.0 - 19.10.2026
+ * @see CachedHeuristic
+ */
+public final class HeuristicCache implements Serializable {
+
+    /**
+     * The serial id of the class.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The eviction policies of the cache.
+     */
+    public enum Policy {
+        /**
+         * The CLOCK policy: an approximation of LRU that gives a second chance to the entries hit at least once.
+         */
+        CLOCK,
+        /**
+         * The LRU policy: the least recently used entry is evicted.
+         */
+        LRU
+    }
+
+    /**
+     * The default memory budget of the cache in bytes.
+     */
+    public static final long DEFAULT_MEMORY = 64L * 1024L * 1024L;
+
+    /**
+     * The default eviction policy of the cache.
+     */
+    public static final Policy DEFAULT_POLICY = Policy.CLOCK;
+
+    /**
+     * The maximum number of entries of the cache.
+     */
+    private static final int MAX_CAPACITY = 1 << 26;
+
+    /**
+     * The number of bytes used by an entry: the key, the value and at most four cells of the open addressing table.
+     */
+    private static final int ENTRY_SIZE = 32;
+
+    /**
+     * The eviction policy of the cache.
+     */
+    private final Policy policy;
+
+    /**
+     * The maximum number of entries of the cache.
+     */
+    private final int capacity;
+
+    /**
+     * The keys of the entries.
+     */
+    private final long[] keys;
+
+    /**
+     * The values of the entries.
+     */
+    private final double[] values;
+
+    /**
+     * The open addressing table: each cell contains the slot of an entry plus one or 0 if the cell is free.
+     */
+    private final int[] table;
+
+    /**
+     * The mask used to compute the cells of the open addressing table.
+     */
+    private final int mask;
+
+    /**
+     * The reference bits of the entries used by the CLOCK policy.
+     */
+    private final boolean[] referenced;
+
+    /**
+     * The previous entries in the recency list used by the LRU policy.
+     */
+    private final int[] previous;
+
+    /**
+     * The next entries in the recency list used by the LRU policy.
+     */
+    private final int[] next;
+
+    /**
+     * The number of entries of the cache.
+     */
+    private int size;
+
+    /**
+     * The hand of the CLOCK policy.
+     */
+    private int hand;
+
+    /**
+     * The most recently used entry of the LRU policy.
+     */
+    private int head;
+
+    /**
+     * The least recently used entry of the LRU policy.
+     */
+    private int tail;
+
+    /**
+     * The number of hits.
+     */
+    private long hits;
+
+    /**
+     * The number of misses.
+     */
+    private long misses;
+
+    /**
+     * The number of evictions.
+     */
+    private long evictions;
+
+    /**
+     * The problem of the cached values.
+     */
+    private CodedProblem problem;
+
+    /**
+     * Creates a new cache with the default memory budget and the default eviction policy.
+     */
+    public HeuristicCache() {
+        this(HeuristicCache.DEFAULT_MEMORY, HeuristicCache.DEFAULT_POLICY);
+    }
+
+    /**
+     * Creates a new cache.
+     *
+     * @param memory the memory budget of the cache in bytes. The memory must be strictly positive.
+     * @param policy the eviction policy of the cache.
+     * @throws NullPointerException if <code>policy == null</code>.
+     * @throws IllegalArgumentException if <code>memory &lt;= 0</code>.
+     */
+    public HeuristicCache(final long memory, final Policy policy) {
+        super();
+        if (policy == null) {
+            throw new NullPointerException("policy == null");
+        }
+        if (memory <= 0) {
+            throw new IllegalArgumentException("memory <= 0");
+        }
+        this.policy = policy;
+        final int entrySize = policy.equals(Policy.LRU) ? HeuristicCache.ENTRY_SIZE + 8
+            : HeuristicCache.ENTRY_SIZE + 1;
+        this.capacity = (int) Math.max(1, Math.min(HeuristicCache.MAX_CAPACITY, memory / entrySize));
+        this.keys = new long[this.capacity];
+        this.values = new double[this.capacity];
+        final int cells = Integer.highestOneBit(2 * this.capacity - 1) << 1;
+        this.table = new int[cells];
+        this.mask = cells - 1;
+        if (policy.equals(Policy.LRU)) {
+            this.referenced = null;
+            this.previous = new int[this.capacity];
+            this.next = new int[this.capacity];
+        } else {
+            this.referenced = new boolean[this.capacity];
+            this.previous = null;
+            this.next = null;
+        }
+        this.clear();
+    }
+
+    /**
+     * Returns the eviction policy of the cache.
+     *
+     * @return the eviction policy of the cache.
+     */
+    public Policy getPolicy() {
+        return this.policy;
+    }
+
+    /**
+     * Returns the maximum number of entries of the cache.
+     *
+     * @return the maximum number of entries of the cache.
+     */
+    public int capacity() {
+        return this.capacity;
+    }
+
+    /**
+     * Returns the number of entries of the cache.
+     *
+     * @return the number of entries of the cache.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns the number of hits since the creation or the last clear of the cache.
+     *
+     * @return the number of hits.
+     */
+    public long getHits() {
+        return this.hits;
+    }
+
+    /**
+     * Returns the number of misses since the creation or the last clear of the cache.
+     *
+     * @return the number of misses.
+     */
+    public long getMisses() {
+        return this.misses;
+    }
+
+    /**
+     * Returns the number of evictions since the creation or the last clear of the cache.
+     *
+     * @return the number of evictions.
+     */
+    public long getEvictions() {
+        return this.evictions;
+    }
+
+    /**
+     * Removes all the entries of the cache and resets its counters.
+     */
+    public void clear() {
+        Arrays.fill(this.table, 0);
+        if (this.referenced != null) {
+            Arrays.fill(this.referenced, false);
+        }
+        this.size = 0;
+        this.hand = 0;
+        this.head = -1;
+        this.tail = -1;
+        this.hits = 0;
+        this.misses = 0;
+        this.evictions = 0;
+        this.problem = null;
+    }
+
+    /**
+     * Binds the cache to a problem. The values cached for a previous problem are removed.
+     *
+     * @param problem the problem.
+     */
+    public void bind(final CodedProblem problem) {
+        if (this.problem != problem) {
+            final long h = this.hits;
+            final long m = this.misses;
+            final long e = this.evictions;
+            this.clear();
+            this.hits = h;
+            this.misses = m;
+            this.evictions = e;
+            this.problem = problem;
+        }
+    }
+
+    /**
+     * Returns the value cached for a specified key.
+     *
+     * @param key the key.
+     * @return the value cached for the key or <code>Double.NaN</code> if the key is not in the cache.
+     */
+    public double get(final long key) {
+        final int cell = this.find(key);
+        if (this.table[cell] == 0) {
+            this.misses++;
+            return Double.NaN;
+        }
+        this.hits++;
+        final int slot = this.table[cell] - 1;
+        this.touch(slot);
+        return this.values[slot];
+    }
+
+    /**
+     * Caches a value for a specified key. If the cache is full, an entry is evicted according to the policy of the
+     * cache.
+     *
+     * @param key   the key.
+     * @param value the value.
+     */
+    public void put(final long key, final double value) {
+        int cell = this.find(key);
+        if (this.table[cell] != 0) {
+            final int slot = this.table[cell] - 1;
+            this.values[slot] = value;
+            this.touch(slot);
+            return;
+        }
+        final int slot;
+        if (this.size < this.capacity) {
+            slot = this.size++;
+        } else {
+            slot = this.evict();
+            this.remove(this.find(this.keys[slot]));
+            cell = this.find(key);
+            this.evictions++;
+        }
+        this.keys[slot] = key;
+        this.values[slot] = value;
+        this.table[cell] = slot + 1;
+        if (this.referenced != null) {
+            this.referenced[slot] = false;
+        } else {
+            this.link(slot);
+        }
+    }
+
+    /**
+     * Returns the 64 bits fingerprint of a set of bits. The fingerprint is the sum of a mixing function applied to
+     * the indexes of the bits set.
+     *
+     * @param bits the set of bits.
+     * @return the fingerprint of the set of bits.
+     */
+    public static long fingerprint(final BitSet bits) {
+        long fingerprint = 0;
+        for (int i = bits.nextSetBit(0); i >= 0; i = bits.nextSetBit(i + 1)) {
+            fingerprint += HeuristicCache.mix(i + 1);
+        }
+        return fingerprint;
+    }
+
+    /**
+     * Mixes the bits of a long value (splitmix64 finalizer).
+     *
+     * @param value the value to mix.
+     * @return the mixed value.
+     */
+    static long mix(final long value) {
+        long z = value * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Returns the home cell of a key in the open addressing table.
+     *
+     * @param key the key.
+     * @return the home cell of the key.
+     */
+    private int home(final long key) {
+        return (int) (key ^ (key >>> 32)) & this.mask;
+    }
+
+    /**
+     * Returns the cell of a key in the open addressing table or the free cell where it must be inserted.
+     *
+     * @param key the key.
+     * @return the cell of the key.
+     */
+    private int find(final long key) {
+        int cell = this.home(key);
+        while (this.table[cell] != 0 && this.keys[this.table[cell] - 1] != key) {
+            cell = (cell + 1) & this.mask;
+        }
+        return cell;
+    }
+
+    /**
+     * Frees a cell of the open addressing table. The following cells of the probe sequence are shifted backward so
+     * that no tombstone is needed.
+     *
+     * @param cell the cell to free.
+     */
+    private void remove(final int cell) {
+        int free = cell;
+        int current = cell;
+        while (true) {
+            current = (current + 1) & this.mask;
+            final int slot = this.table[current];
+            if (slot == 0) {
+                break;
+            }
+            final int home = this.home(this.keys[slot - 1]);
+            final boolean inPlace = free <= current ? free < home && home <= current : free < home || home <= current;
+            if (!inPlace) {
+                this.table[free] = slot;
+                free = current;
+            }
+        }
+        this.table[free] = 0;
+    }
+
+    /**
+     * Records an access to an entry.
+     *
+     * @param slot the slot of the entry.
+     */
+    private void touch(final int slot) {
+        if (this.referenced != null) {
+            this.referenced[slot] = true;
+        } else if (slot != this.head) {
+            this.unlink(slot);
+            this.link(slot);
+        }
+    }
+
+    /**
+     * Selects the entry to evict according to the policy of the cache.
+     *
+     * @return the slot of the entry to evict.
+     */
+    private int evict() {
+        if (this.referenced != null) {
+            while (this.referenced[this.hand]) {
+                this.referenced[this.hand] = false;
+                this.hand = (this.hand + 1) % this.capacity;
+            }
+            final int victim = this.hand;
+            this.hand = (this.hand + 1) % this.capacity;
+            return victim;
+        } else {
+            final int victim = this.tail;
+            this.unlink(victim);
+            return victim;
+        }
+    }
+
+    /**
+     * Inserts an entry at the head of the recency list.
+     *
+     * @param slot the slot of the entry.
+     */
+    private void link(final int slot) {
+        this.previous[slot] = -1;
+        this.next[slot] = this.head;
+        if (this.head != -1) {
+            this.previous[this.head] = slot;
+        } else {
+            this.tail = slot;
+        }
+        this.head = slot;
+    }
+
+    /**
+     * Removes an entry from the recency list.
+     *
+     * @param slot the slot of the entry.
+     */
+    private void unlink(final int slot) {
+        final int p = this.previous[slot];
+        final int n = this.next[slot];
+        if (p != -1) {
+            this.next[p] = n;
+        } else {
+            this.head = n;
+        }
+        if (n != -1) {
+            this.previous[n] = p;
+        } else {
+            this.tail = p;
+        }
+    }
+}
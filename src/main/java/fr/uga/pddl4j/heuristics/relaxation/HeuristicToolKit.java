@@ -20,8 +20,21 @@
 package fr.uga.pddl4j.heuristics.relaxation;
 
 import fr.uga.pddl4j.encoding.CodedProblem;
+import fr.uga.pddl4j.heuristics.abstraction.MergeAndShrinkHeuristic;
+import fr.uga.pddl4j.heuristics.abstraction.PatternDatabaseHeuristic;
+import fr.uga.pddl4j.heuristics.causalgraph.CausalGraphHeuristic;
+import fr.uga.pddl4j.heuristics.causalgraph.ContextEnhancedAdditive;
+import fr.uga.pddl4j.heuristics.landmarks.LandmarkCount;
+import fr.uga.pddl4j.heuristics.landmarks.LandmarkCut;
+import fr.uga.pddl4j.heuristics.lp.OperatorCounting;
 
+import java.io.File;
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
 
 /**
  * This classes implements useful methods to manipulate the heuristics.
@@ -37,12 +50,50 @@ public final class HeuristicToolKit implements Serializable {
      */
     private static final long serialVersionUID = 1L;
 
+    /**
+     * The types of the heuristics computed from the relaxed planning graph.
+     */
+    private static final Set<Heuristic.Type> RELAXED_GRAPH_TYPES = Collections.unmodifiableSet(
+        EnumSet.of(Heuristic.Type.SUM, Heuristic.Type.MAX, Heuristic.Type.FAST_FORWARD));
+
+    /**
+     * The types of the heuristics computed from the planning graph with mutexes.
+     */
+    private static final Set<Heuristic.Type> MUTEX_GRAPH_TYPES = Collections.unmodifiableSet(
+        EnumSet.of(Heuristic.Type.SUM_MUTEX, Heuristic.Type.SET_LEVEL, Heuristic.Type.COMBO));
+
+    /**
+     * The cache directory of the pattern databases or null if the pattern databases are not stored on disk.
+     */
+    private static File patternDatabaseDirectory = null;
+
     /**
      * Private constructor just for prevent user to instantiate this class.
      */
     private HeuristicToolKit() {
     }
 
+    /**
+     * Returns the cache directory of the pattern databases of the pattern database heuristics created.
+     *
+     * @return the cache directory of the pattern databases or null if the pattern databases are not stored on disk.
+     */
+    public static File getPatternDatabaseDirectory() {
+        return HeuristicToolKit.patternDatabaseDirectory;
+    }
+
+    /**
+     * Sets the cache directory of the pattern databases of the pattern database heuristics created. The files of the
+     * cache are deserialized, so the directory must only be writable by trusted users.
+     *
+     * @param directory the cache directory of the pattern databases or null if the pattern databases must not be
+     *                  stored on disk.
+     * @see PatternDatabaseHeuristic#PatternDatabaseHeuristic(CodedProblem, int, File)
+     */
+    public static void setPatternDatabaseDirectory(final File directory) {
+        HeuristicToolKit.patternDatabaseDirectory = directory;
+    }
+
     /**
      * Create an heuristic of a specified type.
      *
@@ -73,8 +124,107 @@ public final class HeuristicToolKit implements Serializable {
             heuristic = new MinCost(problem);
         } else if (type.equals(Heuristic.Type.SET_LEVEL)) {
             heuristic = new SetLevel(problem);
+        } else if (type.equals(Heuristic.Type.GOAL_COUNT)) {
+            heuristic = new GoalCount(problem);
+        } else if (type.equals(Heuristic.Type.LANDMARK_COUNT)) {
+            heuristic = new LandmarkCount(problem);
+        } else if (type.equals(Heuristic.Type.LANDMARK_CUT)) {
+            heuristic = new LandmarkCut(problem);
+        } else if (type.equals(Heuristic.Type.PATTERN_DATABASE)) {
+            heuristic = new PatternDatabaseHeuristic(problem, PatternDatabaseHeuristic.DEFAULT_MAX_SIZE,
+                HeuristicToolKit.patternDatabaseDirectory);
+        } else if (type.equals(Heuristic.Type.MERGE_AND_SHRINK)) {
+            heuristic = new MergeAndShrinkHeuristic(problem);
+        } else if (type.equals(Heuristic.Type.STATE_EQUATION)) {
+            heuristic = new OperatorCounting(problem, true, false);
+        } else if (type.equals(Heuristic.Type.OPERATOR_COUNTING)) {
+            heuristic = new OperatorCounting(problem);
+        } else if (type.equals(Heuristic.Type.SUM_COST)) {
+            heuristic = new SumCost(problem);
+        } else if (type.equals(Heuristic.Type.MAX_COST)) {
+            heuristic = new MaxCost(problem);
+        } else if (type.equals(Heuristic.Type.FAST_FORWARD_COST)) {
+            heuristic = new FastForwardCost(problem);
+        } else if (type.equals(Heuristic.Type.CONTEXT_ENHANCED_ADDITIVE)) {
+            heuristic = new ContextEnhancedAdditive(problem);
+        } else if (type.equals(Heuristic.Type.CAUSAL_GRAPH)) {
+            heuristic = new CausalGraphHeuristic(problem);
         }
         return heuristic;
     }
 
+    /**
+     * Create an heuristic of a specified type whose values are looked up in a specified cache before being computed.
+     * The heuristics whose values depend on the path to the evaluated states, i.e., the landmark count heuristic, are
+     * never cached.
+     *
+     * @param type    the type of the heuristic to create.
+     * @param problem the problem for which the heuristic is created.
+     * @param cache   the cache of heuristic values or null to create an heuristic without cache.
+     * @return the heuristic created.
+     * @throws NullPointerException if <code>type == null || problem == null</code>.
+     */
+    public static Heuristic createHeuristic(final Heuristic.Type type, final CodedProblem problem,
+                                            final HeuristicCache cache) {
+        return HeuristicToolKit.cache(HeuristicToolKit.createHeuristic(type, problem), type, problem, cache);
+    }
+
+    /**
+     * Create the heuristics of specified types whose values are looked up in a specified cache before being computed.
+     * When at least two of the heuristics are computed from the relaxed planning graph, i.e., the sum, max, fast
+     * forward, sum mutex, set-level and combo heuristics, they share a single {@link RelaxedGraphEvaluator} so that
+     * the graph is explored only once for each state.
+     *
+     * @param types   the types of the heuristics to create.
+     * @param problem the problem for which the heuristics are created.
+     * @param cache   the cache of heuristic values or null to create heuristics without cache.
+     * @return the heuristics created in the order of the types.
+     * @throws NullPointerException if <code>types == null || problem == null</code>.
+     */
+    public static List<Heuristic> createHeuristics(final List<Heuristic.Type> types, final CodedProblem problem,
+                                                   final HeuristicCache cache) {
+        int shared = 0;
+        boolean mutex = false;
+        for (Heuristic.Type type : types) {
+            if (HeuristicToolKit.RELAXED_GRAPH_TYPES.contains(type)) {
+                shared++;
+            } else if (HeuristicToolKit.MUTEX_GRAPH_TYPES.contains(type)) {
+                shared++;
+                mutex = true;
+            }
+        }
+        final RelaxedGraphEvaluator evaluator = shared > 1 ? new RelaxedGraphEvaluator(problem, mutex) : null;
+        final List<Heuristic> heuristics = new ArrayList<>(types.size());
+        for (Heuristic.Type type : types) {
+            final Heuristic heuristic;
+            if (evaluator != null && (HeuristicToolKit.RELAXED_GRAPH_TYPES.contains(type)
+                || HeuristicToolKit.MUTEX_GRAPH_TYPES.contains(type))) {
+                heuristic = evaluator.getHeuristic(type);
+            } else {
+                heuristic = HeuristicToolKit.createHeuristic(type, problem);
+            }
+            heuristics.add(HeuristicToolKit.cache(heuristic, type, problem, cache));
+        }
+        return heuristics;
+    }
+
+    /**
+     * Wraps an heuristic of a specified type so that its values are looked up in a specified cache before being
+     * computed. The landmark count heuristic is never cached.
+     *
+     * @param heuristic the heuristic.
+     * @param type      the type of the heuristic.
+     * @param problem   the problem for which the heuristic is created.
+     * @param cache     the cache of heuristic values or null.
+     * @return the heuristic wrapped or the heuristic itself if it must not be cached.
+     */
+    private static Heuristic cache(final Heuristic heuristic, final Heuristic.Type type, final CodedProblem problem,
+                                   final HeuristicCache cache) {
+        if (cache == null || heuristic == null || type.equals(Heuristic.Type.LANDMARK_COUNT)) {
+            return heuristic;
+        }
+        cache.bind(problem);
+        return new CachedHeuristic(heuristic, cache, type);
+    }
+
 }
@@ -22,18 +22,18 @@ package fr.uga.pddl4j.heuristics.relaxation;
 import fr.uga.pddl4j.encoding.CodedProblem;
 import fr.uga.pddl4j.planners.statespace.search.strategy.Node;
 import fr.uga.pddl4j.util.BitExp;
-import fr.uga.pddl4j.util.BitOp;
-import fr.uga.pddl4j.util.BitState;
-
-import java.util.LinkedList;
 
 /**
+ * This class implements the Min Cost heuristic. The heuristic value is the cost of a relaxed plan
+ * extracted from the best supporters of the cost sensitive additive heuristic, i.e., the heuristic
+ * is the {@link FastForwardCost} heuristic.
  * <b>Warning:</b> The Min Cost heuristic is not admissible.
  *
  * @author E. Hermellin
- * @version 1.0 - 19.02.2018
+ * @version 1.1 - 19.10.2026
+ * @see FastForwardCost
  */
-public class MinCost extends AbstractHeuristic {
+public class MinCost extends FastForwardCost {
 
     /**
      * The serial id of the class.
@@ -48,36 +48,6 @@ public class MinCost extends AbstractHeuristic {
      */
     public MinCost(final CodedProblem problem) {
         super(problem);
-        super.setAdmissible(false);
-    }
-
-    /**
-     * Return the estimated distance to the goal to reach the specified state. If the return value is
-     * <code>Integer.MAX_VALUE</code>, it means that the goal is unreachable from the specified
-     * state.
-     *
-     * @param state the state from which the distance to the goal must be estimated.
-     * @param goal  the goal expression.
-     * @return the distance to the goal state from the specified state.
-     * @throws NullPointerException if <code>state == null &#38;&#38; goal == null</code>.
-     */
-    @Override
-    public int estimate(final BitState state, final BitExp goal) {
-        return (int) estimateCost(new Node(state), goal);
-    }
-
-    /**
-     * Return the estimated distance to the goal to reach the specified state. If the return value is
-     * <code>DOUBLE.MAX_VALUE</code>, it means that the goal is unreachable from the specified
-     * state.
-     *
-     * @param node the state from which the distance to the goal must be estimated.
-     * @param goal the goal expression.
-     * @return the distance to the goal state from the specified state.
-     */
-    @Override
-    public double estimate(final Node node, final BitExp goal) {
-        return estimateCost(node, goal);
     }
 
     /**
@@ -90,51 +60,7 @@ public class MinCost extends AbstractHeuristic {
      * @return the distance to the goal state from the specified node.
      */
     public double estimateCost(final Node node, final BitExp goal) {
-        final LinkedList<Node> openList = new LinkedList<>();
-
-        openList.add(node);
-        Node solution = null;
-
-        while (solution == null) {
-
-            final Node current = openList.pop();
-            openList.remove(current);
-
-            int index = 0;
-            Node nextNode = null;
-            double cost = Double.MAX_VALUE;
-
-            for (BitOp op : getOperators()) {
-                if (op.isApplicable(current)) {
-                    if (op.getCost() <= cost) { //TODO take into account = or not
-                        final BitState nextState = new BitState(current);
-                        nextState.or(op.getCondEffects().get(0).getEffects().getPositive());
-                        nextState.andNot(op.getCondEffects().get(0).getEffects().getNegative());
-
-                        final Node successor = new Node(nextState);
-                        successor.setCost(current.getCost() + op.getCost());
-                        successor.setParent(current);
-                        successor.setOperator(index);
-                        successor.setDepth(current.getDepth() + 1);
-
-                        cost = op.getCost();
-                        nextNode = successor;
-                    }
-                }
-                index++;
-            }
-
-            if (nextNode != null) {
-                if (nextNode.satisfy(goal)) {
-                    solution = nextNode;
-                } else {
-                    openList.add(nextNode);
-                }
-            } else {
-                return Double.MAX_VALUE;
-            }
-        }
-        return solution.getCost();
+        return super.estimateCost(node, goal);
     }
 
 }
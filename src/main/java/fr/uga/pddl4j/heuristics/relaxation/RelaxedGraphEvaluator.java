@@ -0,0 +1,291 @@
+/*
+ * Copyright (c) 2010 by Damien Pellier <Damien.Pellier@imag.fr>.
+ *
+ * This file is part of PDDL4J library.
+ *
+ * PDDL4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDDL4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDDL4J.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+package fr.uga.pddl4j.heuristics.relaxation;
+
+import fr.uga.pddl4j.encoding.CodedProblem;
+import fr.uga.pddl4j.planners.statespace.search.strategy.Node;
+import fr.uga.pddl4j.util.BitExp;
+import fr.uga.pddl4j.util.BitState;
+
+import java.io.Serializable;
+
+/**
+ * This class implements an evaluator that computes several heuristics from a single relaxed
+ * planning graph. The relaxed planning graph is explored once for each state and the additive, max,
+ * relaxed plan and level sum heuristic values are derived from the levels and the costs of the
+ * propositions and the operators of the same graph. When the evaluator is created with mutexes,
+ * the planning graph with mutexes is also expanded once for each state to compute the sum mutex and
+ * the set-level heuristic values. This evaluator must be used instead of several heuristics when
+ * more than one of these values is needed for the same state, e.g., to combine them or to log them.
+ * The values of the last evaluated state are kept so that the views returned by
+ * {@link #getHeuristic(Heuristic.Type)} do not explore the graph again for the same state.
+ * <p>
+ * When used as a heuristic, the value returned is the relaxed plan heuristic value.
+ * </p>
+ * <b>Warning:</b> The heuristic is not admissible.
+ *
+ * @author PDDL4J contributors
+ * @version 1.0 - 19.10.2026
+ * @see RelaxedGraphValues
+ */
+public final class RelaxedGraphEvaluator extends RelaxedGraphHeuristic {
+
+    /**
+     * The serial version id of the class.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The planning graph with mutexes or null if the mutexes are not computed.
+     */
+    private final SetLevel mutexGraph;
+
+    /**
+     * The last evaluated state.
+     */
+    private BitState lastState;
+
+    /**
+     * The goal of the last evaluated state.
+     */
+    private BitExp lastGoal;
+
+    /**
+     * The values of the last evaluated state.
+     */
+    private RelaxedGraphValues lastValues;
+
+    /**
+     * Creates a new evaluator without mutexes for a specified planning problem.
+     *
+     * @param problem the planning problem.
+     * @throws NullPointerException if <code>problem == null</code>.
+     */
+    public RelaxedGraphEvaluator(CodedProblem problem) {
+        this(problem, false);
+    }
+
+    /**
+     * Creates a new evaluator for a specified planning problem.
+     *
+     * @param problem the planning problem.
+     * @param mutex   <code>true</code> to expand the planning graph with mutexes and compute the sum
+     *                mutex and set-level heuristic values.
+     * @throws NullPointerException if <code>problem == null</code>.
+     */
+    public RelaxedGraphEvaluator(CodedProblem problem, boolean mutex) {
+        super(problem);
+        this.mutexGraph = mutex ? new SetLevel(problem) : null;
+        super.setAdmissible(false);
+    }
+
+    /**
+     * Computes the values of the heuristics from a single relaxed planning graph explored from the
+     * specified state.
+     *
+     * @param state the state from which the distance to the goal must be estimated.
+     * @param goal  the goal expression.
+     * @return the values of the heuristics for the specified state.
+     * @throws NullPointerException if <code>state == null &#38;&#38; goal == null</code>.
+     */
+    public RelaxedGraphValues evaluate(final BitState state, final BitExp goal) {
+        if (goal.equals(this.lastGoal) && state.equals(this.lastState)) {
+            return this.lastValues;
+        }
+        super.setGoal(goal);
+        super.exploreRelaxedPlanningGraph(state);
+        RelaxedGraphValues values = RelaxedGraphValues.UNREACHABLE;
+        if (this.mutexGraph != null) {
+            this.mutexGraph.setGoal(goal);
+            final int setLevel = this.mutexGraph.expandPlanningGraph(state);
+            final int sumMutex = this.mutexGraph.isGoalReachable() ? this.mutexGraph.getSumValue()
+                : Integer.MAX_VALUE;
+            if (super.isGoalReachable()) {
+                values = new RelaxedGraphValues(super.getAdditiveValue(), super.getMaxValue(),
+                    super.getRelaxedPlanValue(), super.getSumValue(), sumMutex, setLevel);
+            } else {
+                values = new RelaxedGraphValues(Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE,
+                    Integer.MAX_VALUE, sumMutex, setLevel);
+            }
+        } else if (super.isGoalReachable()) {
+            values = new RelaxedGraphValues(super.getAdditiveValue(), super.getMaxValue(),
+                super.getRelaxedPlanValue(), super.getSumValue());
+        }
+        this.lastState = new BitState(state);
+        this.lastGoal = goal;
+        this.lastValues = values;
+        return values;
+    }
+
+    /**
+     * Returns a view of this evaluator as a heuristic of a specified type. The views share the
+     * planning graphs of this evaluator: several views evaluated on the same state explore the graphs
+     * only once. The supported types are <code>SUM</code>, <code>MAX</code>, <code>FAST_FORWARD</code>
+     * and, if the evaluator was created with mutexes, <code>SUM_MUTEX</code>, <code>SET_LEVEL</code>
+     * and <code>COMBO</code>.
+     *
+     * @param type the type of the heuristic.
+     * @return the view of this evaluator as a heuristic of the specified type.
+     * @throws IllegalArgumentException if the type is not supported by this evaluator.
+     */
+    public Heuristic getHeuristic(final Heuristic.Type type) {
+        final boolean mutex = this.mutexGraph != null;
+        switch (type) {
+            case SUM:
+                return new View(this, RelaxedGraphValues::getLevelSumValue, false);
+            case MAX:
+                return new View(this, RelaxedGraphValues::getMaxValue, true);
+            case FAST_FORWARD:
+                return new View(this, RelaxedGraphValues::getRelaxedPlanValue, false);
+            case SUM_MUTEX:
+                if (mutex) {
+                    return new View(this, RelaxedGraphValues::getSumMutexValue, false);
+                }
+                break;
+            case SET_LEVEL:
+                if (mutex) {
+                    return new View(this, RelaxedGraphValues::getSetLevelValue, true);
+                }
+                break;
+            case COMBO:
+                if (mutex) {
+                    return new View(this, RelaxedGraphEvaluator::getComboValue, false);
+                }
+                break;
+            default:
+                break;
+        }
+        throw new IllegalArgumentException("heuristic " + type + " not supported by the evaluator");
+    }
+
+    /**
+     * Returns the combo heuristic value, i.e., the level sum heuristic value plus the set-level
+     * heuristic value.
+     *
+     * @param values the values of the heuristics.
+     * @return the combo heuristic value.
+     * @see Combo
+     */
+    static int getComboValue(final RelaxedGraphValues values) {
+        if (values.getLevelSumValue() == Integer.MAX_VALUE || values.getSetLevelValue() == Integer.MAX_VALUE) {
+            return Integer.MAX_VALUE;
+        }
+        return values.getLevelSumValue() + values.getSetLevelValue();
+    }
+
+    /**
+     * Return the estimated distance to the goal to reach the specified state. If the return value is
+     * <code>Integer.MAX_VALUE</code>, it means that the goal is unreachable from the specified
+     * state.
+     *
+     * @param state the state from which the distance to the goal must be estimated.
+     * @param goal  the goal expression.
+     * @return the distance to the goal state from the specified state.
+     * @throws NullPointerException if <code>state == null &#38;&#38; goal == null</code>.
+     */
+    @Override
+    public int estimate(final BitState state, final BitExp goal) {
+        return this.evaluate(state, goal).getRelaxedPlanValue();
+    }
+
+    /**
+     * Return the estimated distance to the goal to reach the specified state. If the return value is
+     * <code>Integer.MAX_VALUE</code>, it means that the goal is unreachable from the specified
+     * state.
+     *
+     * @param node the state from which the distance to the goal must be estimated.
+     * @param goal the goal expression.
+     * @return the distance to the goal state from the specified state.
+     */
+    @Override
+    public double estimate(final Node node, final BitExp goal) {
+        return estimate((BitState) node, goal);
+    }
+
+    /**
+     * This class implements a view of the evaluator as a heuristic that returns one of the values
+     * of the evaluator.
+     */
+    private static final class View implements Heuristic {
+
+        /**
+         * The serial version id of the class.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * The evaluator.
+         */
+        private final RelaxedGraphEvaluator evaluator;
+
+        /**
+         * The function that selects the value of the heuristic.
+         */
+        private final Selector selector;
+
+        /**
+         * The flag to indicate if the heuristic is admissible.
+         */
+        private final boolean admissible;
+
+        /**
+         * Creates a new view.
+         *
+         * @param evaluator  the evaluator.
+         * @param selector   the function that selects the value of the heuristic.
+         * @param admissible the flag to indicate if the heuristic is admissible.
+         */
+        private View(final RelaxedGraphEvaluator evaluator, final Selector selector, final boolean admissible) {
+            this.evaluator = evaluator;
+            this.selector = selector;
+            this.admissible = admissible;
+        }
+
+        @Override
+        public int estimate(final BitState state, final BitExp goal) {
+            return this.selector.select(this.evaluator.evaluate(state, goal));
+        }
+
+        @Override
+        public double estimate(final Node node, final BitExp goal) {
+            return this.estimate((BitState) node, goal);
+        }
+
+        @Override
+        public boolean isAdmissible() {
+            return this.admissible;
+        }
+    }
+
+    /**
+     * This interface defines the function that selects a value of the heuristics.
+     */
+    @FunctionalInterface
+    private interface Selector extends Serializable {
+
+        /**
+         * Selects a value of the heuristics.
+         *
+         * @param values the values of the heuristics.
+         * @return the value selected.
+         */
+        int select(RelaxedGraphValues values);
+    }
+}
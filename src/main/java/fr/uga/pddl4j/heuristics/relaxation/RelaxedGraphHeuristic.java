@@ -82,6 +82,16 @@ public abstract class RelaxedGraphHeuristic extends AbstractHeuristic {
      */
     private int[] nPropLevel;
 
+    /**
+     * The array used to store the additive cost of the positive propositions.
+     */
+    private int[] pPropCost;
+
+    /**
+     * The array used to store the additive cost of the negative propositions.
+     */
+    private int[] nPropCost;
+
     /**
      * The array used to store the preconditions' edges for each operator.
      */
@@ -122,6 +132,12 @@ public abstract class RelaxedGraphHeuristic extends AbstractHeuristic {
      */
     private int level;
 
+    /**
+     * The bit vector used to store the helpful operators computed during the last relaxed plan
+     * extraction.
+     */
+    private BitVector helpfulOperators;
+
     /**
      * Creates a new RelaxedGraphHeuristic heuristic.
      *
@@ -143,6 +159,10 @@ public abstract class RelaxedGraphHeuristic extends AbstractHeuristic {
         this.pPropLevel = new int[nbRelevantFacts];
         // Initialize the array that must contain the level of the negative propositions
         this.nPropLevel = new int[nbRelevantFacts];
+        // Initialize the array that must contain the additive cost of the positive propositions
+        this.pPropCost = new int[nbRelevantFacts];
+        // Initialize the array that must contain the additive cost of the negative propositions
+        this.nPropCost = new int[nbRelevantFacts];
         // Initialize the array that must contain the level of the operators
         this.operatorsLevel = new int[nbUncondOperators];
         // Initialize the array that must contain the difficulty of the operators
@@ -175,6 +195,8 @@ public abstract class RelaxedGraphHeuristic extends AbstractHeuristic {
         this.goalCardinality = super.getGoal().cardinality();
         // The array that contains for each operator the number of propositions of its preconditions
         this.precondCardinality = new int[nbUncondOperators];
+        // Initialize the bit vector used to store the helpful operators of the last relaxed plan
+        this.helpfulOperators = new BitVector(nbOperators);
 
         // The index of the unconditional operators
         int uncondOpIndex = 0;
@@ -277,6 +299,8 @@ public abstract class RelaxedGraphHeuristic extends AbstractHeuristic {
         Arrays.fill(this.precondCounters, 0);
         // The array that contains the difficulty value for each operator
         Arrays.fill(this.operatorsDifficulty, Integer.MAX_VALUE);
+        // The helpful operators are only available once a relaxed plan is extracted from the graph
+        this.helpfulOperators.clear();
 
         // The positive goal to reach
         final BitVector pGoal = super.getGoal().getPositive();
@@ -412,6 +436,146 @@ public abstract class RelaxedGraphHeuristic extends AbstractHeuristic {
         return this.level;
     }
 
+    /**
+     * This method explores the relaxed planning graph from a specified initial state and labels each proposition
+     * with its level and its additive cost in a single pass. The graph is expanded level by level as in
+     * {@link #expandRelaxedPlanningGraph(BitState)}: the level of a proposition, the level and the difficulty of an
+     * operator are the same. The additive cost of a proposition reached by an operator is one plus the sum of the
+     * additive costs of the preconditions of the operator. When the additive cost of a proposition decreases, the
+     * proposition is propagated again with the next level so that the exploration stops at the fixed point of both
+     * labels. After the exploration, the level of the graph is the level of the goal propositions and the values of
+     * the sum, max, additive and relaxed plan heuristics can be computed from the labels.
+     *
+     * @param state the initial state of the relaxed planning graph.
+     * @return the level of the graph built.
+     */
+    protected final int exploreRelaxedPlanningGraph(final BitState state) {
+        Arrays.fill(this.operatorsLevel, Integer.MAX_VALUE);
+        Arrays.fill(this.pPropLevel, Integer.MAX_VALUE);
+        Arrays.fill(this.nPropLevel, Integer.MAX_VALUE);
+        Arrays.fill(this.pPropCost, Integer.MAX_VALUE);
+        Arrays.fill(this.nPropCost, Integer.MAX_VALUE);
+        Arrays.fill(this.precondCounters, 0);
+        Arrays.fill(this.operatorsDifficulty, Integer.MAX_VALUE);
+        this.helpfulOperators.clear();
+
+        final BitVector pGoal = super.getGoal().getPositive();
+        final BitVector nGoal = super.getGoal().getNegative();
+        this.goalCounter = 0;
+        int goalLevel = 0;
+
+        // The propositions reached or whose additive cost decreased at the current level
+        BitVector ppk = new BitVector(state);
+        BitVector npk = new BitVector();
+        npk.flip(0, super.getRevelantFacts().size());
+        npk.andNot(state);
+        for (int p = ppk.nextSetBit(0); p >= 0; p = ppk.nextSetBit(p + 1)) {
+            this.pPropLevel[p] = 0;
+            this.pPropCost[p] = 0;
+            if (pGoal.get(p)) {
+                this.goalCounter++;
+            }
+        }
+        for (int p = npk.nextSetBit(0); p >= 0; p = npk.nextSetBit(p + 1)) {
+            this.nPropLevel[p] = 0;
+            this.nPropCost[p] = 0;
+            if (nGoal.get(p)) {
+                this.goalCounter++;
+            }
+        }
+
+        int lev = 0;
+        while (!ppk.isEmpty() || !npk.isEmpty()) {
+            // The operators whose preconditions are reached and whose additive cost may change
+            final BitVector ops = new BitVector();
+            for (int p = ppk.nextSetBit(0); p >= 0; p = ppk.nextSetBit(p + 1)) {
+                this.updatePreconditionCounters(this.precondEdges[p].getPositive(), this.pPropLevel[p] == lev, ops);
+            }
+            for (int p = npk.nextSetBit(0); p >= 0; p = npk.nextSetBit(p + 1)) {
+                this.updatePreconditionCounters(this.precondEdges[p].getNegative(), this.nPropLevel[p] == lev, ops);
+            }
+            final BitVector pNext = new BitVector();
+            final BitVector nNext = new BitVector();
+            for (int o = ops.nextSetBit(0); o >= 0; o = ops.nextSetBit(o + 1)) {
+                final BitVector pPre = this.preconditions[o].getPositive();
+                final BitVector nPre = this.preconditions[o].getNegative();
+                // The operator appears in the graph: its level and its difficulty are set once
+                if (this.operatorsLevel[o] == Integer.MAX_VALUE) {
+                    this.operatorsLevel[o] = lev;
+                    this.operatorsDifficulty[o] = 0;
+                    for (int p = pPre.nextSetBit(0); p >= 0; p = pPre.nextSetBit(p + 1)) {
+                        this.operatorsDifficulty[o] += this.pPropLevel[p];
+                    }
+                    for (int p = nPre.nextSetBit(0); p >= 0; p = nPre.nextSetBit(p + 1)) {
+                        this.operatorsDifficulty[o] += this.nPropLevel[p];
+                    }
+                }
+                int cost = 1;
+                for (int p = pPre.nextSetBit(0); p >= 0; p = pPre.nextSetBit(p + 1)) {
+                    cost += this.pPropCost[p];
+                }
+                for (int p = nPre.nextSetBit(0); p >= 0; p = nPre.nextSetBit(p + 1)) {
+                    cost += this.nPropCost[p];
+                }
+                final BitVector pEff = this.effects[o].getPositive();
+                for (int p = pEff.nextSetBit(0); p >= 0; p = pEff.nextSetBit(p + 1)) {
+                    if (this.pPropLevel[p] == Integer.MAX_VALUE) {
+                        this.pPropLevel[p] = lev + 1;
+                        if (pGoal.get(p)) {
+                            this.goalCounter++;
+                            goalLevel = lev + 1;
+                        }
+                    }
+                    if (cost < this.pPropCost[p]) {
+                        this.pPropCost[p] = cost;
+                        pNext.set(p);
+                    }
+                }
+                final BitVector nEff = this.effects[o].getNegative();
+                for (int p = nEff.nextSetBit(0); p >= 0; p = nEff.nextSetBit(p + 1)) {
+                    if (this.nPropLevel[p] == Integer.MAX_VALUE) {
+                        this.nPropLevel[p] = lev + 1;
+                        if (nGoal.get(p)) {
+                            this.goalCounter++;
+                            goalLevel = lev + 1;
+                        }
+                    }
+                    if (cost < this.nPropCost[p]) {
+                        this.nPropCost[p] = cost;
+                        nNext.set(p);
+                    }
+                }
+            }
+            ppk = pNext;
+            npk = nNext;
+            lev++;
+        }
+        // The relaxed plan is extracted from the level where the last goal proposition appears
+        this.level = this.isGoalReachable() ? goalLevel : lev;
+        return this.level;
+    }
+
+    /**
+     * Updates the counters of the preconditions reached of the operators that have a proposition as precondition and
+     * marks the operators whose preconditions are all reached.
+     *
+     * @param edges   the operators that have the proposition as precondition.
+     * @param reached <code>true</code> if the proposition is reached for the first time; <code>false</code> if only
+     *                its additive cost decreased.
+     * @param ops     the bit vector used to mark the operators whose preconditions are all reached.
+     */
+    private void updatePreconditionCounters(final BitVector edges, final boolean reached, final BitVector ops) {
+        for (int pe = edges.nextSetBit(0); pe >= 0; pe = edges.nextSetBit(pe + 1)) {
+            // If the operator has a no-empty set of preconditions we increment its counter
+            if (reached && this.precondCardinality[pe] != 0) {
+                this.precondCounters[pe]++;
+            }
+            if (this.precondCounters[pe] == this.precondCardinality[pe]) {
+                ops.set(pe);
+            }
+        }
+    }
+
     /**
      * Returns <code>true</code> if the goal is reachable after the planning graph expansion.
      *
@@ -466,6 +630,26 @@ public abstract class RelaxedGraphHeuristic extends AbstractHeuristic {
         return max;
     }
 
+    /**
+     * Compute the additive heuristic, i.e., the sum of the additive costs of the goal propositions. The additive
+     * costs are the labels computed by the last call to {@link #exploreRelaxedPlanningGraph(BitState)}: every
+     * operator has a unit cost, as for the levels used by the other heuristics.
+     *
+     * @return the additive heuristic value.
+     */
+    protected final int getAdditiveValue() {
+        int value = 0;
+        final BitVector pGoal = super.getGoal().getPositive();
+        final BitVector nGoal = super.getGoal().getNegative();
+        for (int g = pGoal.nextSetBit(0); g >= 0; g = pGoal.nextSetBit(g + 1)) {
+            value += this.pPropCost[g];
+        }
+        for (int g = nGoal.nextSetBit(0); g >= 0; g = nGoal.nextSetBit(g + 1)) {
+            value += this.nPropCost[g];
+        }
+        return value;
+    }
+
     /**
      * Compute the relaxed plan heuristic value.
      *
@@ -494,6 +678,10 @@ public abstract class RelaxedGraphHeuristic extends AbstractHeuristic {
         for (int k = level; k > 0; k--) {
             // goals at level k
             final BitExp gk = goals[k];
+            // The goals at level 1 are complete before their resolvers are selected
+            if (k == 1) {
+                this.computeHelpfulOperators(gk);
+            }
             final BitVector pGk = gk.getPositive();
             final BitVector nGk = gk.getNegative();
             // goals at level k - 1
@@ -529,7 +717,7 @@ public abstract class RelaxedGraphHeuristic extends AbstractHeuristic {
                     pGk.andNot(pEffect);
                     nGk.andNot(nEffect);
                     // We increment the number of action of the relaxed plan
-                    value += this.getOperators().get(resolverIndex).getCost();
+                    value += this.getOperators().get(this.unconditionalOperators[resolverIndex][0]).getCost();
                 } else { // NOOP case
                     pGk1.clear(pg);
                     pGk.clear(pg);
@@ -563,7 +751,7 @@ public abstract class RelaxedGraphHeuristic extends AbstractHeuristic {
                     pGk.andNot(pEffect);
                     nGk.andNot(nEffect);
                     // We increment the number of action of the relaxed plan
-                    value += this.getOperators().get(resolverIndex).getCost();
+                    value += this.getOperators().get(this.unconditionalOperators[resolverIndex][0]).getCost();
                 } else { // NOOP case
                     nGk1.set(ng);
                     nGk.clear(ng);
@@ -573,6 +761,48 @@ public abstract class RelaxedGraphHeuristic extends AbstractHeuristic {
         return value;
     }
 
+    /**
+     * Returns the helpful operators computed during the last relaxed plan extraction. Following J.
+     * Hoffmann and B. Nebel, an operator is helpful if it is applicable in the state from which the
+     * relaxed plan was extracted and if it achieves at least one of the goals of the relaxed plan
+     * at level 1. The bits set in the returned vector are the indexes of the operators in the list
+     * of operators of the problem. The vector is reused by the next extraction and must be copied
+     * if needed later.
+     *
+     * @return the helpful operators of the last relaxed plan extracted.
+     * @see #getRelaxedPlanValue()
+     */
+    protected BitVector getHelpfulOperators() {
+        return this.helpfulOperators;
+    }
+
+    /**
+     * Computes the helpful operators from the goals of the relaxed plan at level 1, i.e., the
+     * operators of the level 0 of the graph that achieve at least one of these goals.
+     *
+     * @param goals the goals of the relaxed plan at level 1.
+     */
+    private void computeHelpfulOperators(final BitExp goals) {
+        final BitVector pGoals = goals.getPositive();
+        for (int g = pGoals.nextSetBit(0); g >= 0; g = pGoals.nextSetBit(g + 1)) {
+            final BitVector achievers = this.effectsEdges[g].getPositive();
+            for (int a = achievers.nextSetBit(0); a >= 0; a = achievers.nextSetBit(a + 1)) {
+                if (this.operatorsLevel[a] == 0) {
+                    this.helpfulOperators.set(this.unconditionalOperators[a][0]);
+                }
+            }
+        }
+        final BitVector nGoals = goals.getNegative();
+        for (int g = nGoals.nextSetBit(0); g >= 0; g = nGoals.nextSetBit(g + 1)) {
+            final BitVector achievers = this.effectsEdges[g].getNegative();
+            for (int a = achievers.nextSetBit(0); a >= 0; a = achievers.nextSetBit(a + 1)) {
+                if (this.operatorsLevel[a] == 0) {
+                    this.helpfulOperators.set(this.unconditionalOperators[a][0]);
+                }
+            }
+        }
+    }
+
     /**
      * Select an effect according to the unconditional operators difficulty heuristic. The question
      * is, which achiever should be choose when no NOOP is available ? It is certainly a good idea
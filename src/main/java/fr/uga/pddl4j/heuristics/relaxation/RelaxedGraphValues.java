@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2010 by Damien Pellier <Damien.Pellier@imag.fr>.
+ *
+ * This file is part of PDDL4J library.
+ *
+ * PDDL4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDDL4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDDL4J.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+package fr.uga.pddl4j.heuristics.relaxation;
+
+import java.io.Serializable;
+
+/**
+ * This class contains the values of the heuristics computed from a single relaxed planning graph
+ * by a {@link RelaxedGraphEvaluator}. If the goal is not reachable in the relaxed planning graph,
+ * all the values are equal to <code>Integer.MAX_VALUE</code>. The sum mutex and set-level values are
+ * only available when the evaluator also expands the planning graph with mutexes.
+ *
+ * @author PDDL4J contributors
+ * @version 1.0 - 19.10.2026
+ * @see RelaxedGraphEvaluator
+ */
+public final class RelaxedGraphValues implements Serializable {
+
+    /**
+     * The serial version id of the class.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The values returned when the goal is not reachable.
+     */
+    public static final RelaxedGraphValues UNREACHABLE = new RelaxedGraphValues(Integer.MAX_VALUE,
+        Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE);
+
+    /**
+     * The value of the heuristics that are not computed.
+     */
+    private static final int NOT_COMPUTED = -1;
+
+    /**
+     * The additive heuristic value.
+     */
+    private final int additive;
+
+    /**
+     * The max heuristic value.
+     */
+    private final int max;
+
+    /**
+     * The relaxed plan heuristic value.
+     */
+    private final int relaxedPlan;
+
+    /**
+     * The level sum heuristic value.
+     */
+    private final int levelSum;
+
+    /**
+     * The sum mutex heuristic value.
+     */
+    private final int sumMutex;
+
+    /**
+     * The set-level heuristic value.
+     */
+    private final int setLevel;
+
+    /**
+     * Creates new heuristic values without the values of the planning graph with mutexes.
+     *
+     * @param additive    the additive heuristic value.
+     * @param max         the max heuristic value.
+     * @param relaxedPlan the relaxed plan heuristic value.
+     * @param levelSum    the level sum heuristic value.
+     */
+    public RelaxedGraphValues(final int additive, final int max, final int relaxedPlan, final int levelSum) {
+        this(additive, max, relaxedPlan, levelSum, RelaxedGraphValues.NOT_COMPUTED, RelaxedGraphValues.NOT_COMPUTED);
+    }
+
+    /**
+     * Creates new heuristic values.
+     *
+     * @param additive    the additive heuristic value.
+     * @param max         the max heuristic value.
+     * @param relaxedPlan the relaxed plan heuristic value.
+     * @param levelSum    the level sum heuristic value.
+     * @param sumMutex    the sum mutex heuristic value.
+     * @param setLevel    the set-level heuristic value.
+     */
+    public RelaxedGraphValues(final int additive, final int max, final int relaxedPlan, final int levelSum,
+                              final int sumMutex, final int setLevel) {
+        this.additive = additive;
+        this.max = max;
+        this.relaxedPlan = relaxedPlan;
+        this.levelSum = levelSum;
+        this.sumMutex = sumMutex;
+        this.setLevel = setLevel;
+    }
+
+    /**
+     * Returns <code>true</code> if the goal is reachable in the relaxed planning graph.
+     *
+     * @return <code>true</code> if the goal is reachable in the relaxed planning graph;
+     * <code>false</code> otherwise.
+     */
+    public boolean isGoalReachable() {
+        return this.relaxedPlan != Integer.MAX_VALUE;
+    }
+
+    /**
+     * Returns <code>true</code> if the values of the planning graph with mutexes are available.
+     *
+     * @return <code>true</code> if the sum mutex and set-level values are available; <code>false</code>
+     *     otherwise.
+     */
+    public boolean hasMutexValues() {
+        return this.setLevel != RelaxedGraphValues.NOT_COMPUTED;
+    }
+
+    /**
+     * Returns the additive heuristic value, i.e., the sum of the additive costs of the goal
+     * propositions, every operator having a unit cost.
+     *
+     * @return the additive heuristic value.
+     */
+    public int getAdditiveValue() {
+        return this.additive;
+    }
+
+    /**
+     * Returns the max heuristic value, i.e., the level of the planning graph where all the goal
+     * propositions are reached.
+     *
+     * @return the max heuristic value.
+     * @see Max
+     */
+    public int getMaxValue() {
+        return this.max;
+    }
+
+    /**
+     * Returns the relaxed plan heuristic value, i.e., the cost of the relaxed plan extracted.
+     *
+     * @return the relaxed plan heuristic value.
+     * @see FastForward
+     */
+    public int getRelaxedPlanValue() {
+        return this.relaxedPlan;
+    }
+
+    /**
+     * Returns the level sum heuristic value, i.e., the sum of the levels of the goal propositions.
+     *
+     * @return the level sum heuristic value.
+     * @see Sum
+     */
+    public int getLevelSumValue() {
+        return this.levelSum;
+    }
+
+    /**
+     * Returns the sum mutex heuristic value, i.e., the sum of the levels of the goal propositions
+     * in the planning graph with mutexes.
+     *
+     * @return the sum mutex heuristic value.
+     * @throws IllegalStateException if the planning graph with mutexes was not expanded.
+     * @see SumMutex
+     */
+    public int getSumMutexValue() {
+        if (!this.hasMutexValues()) {
+            throw new IllegalStateException("planning graph with mutexes not expanded");
+        }
+        return this.sumMutex;
+    }
+
+    /**
+     * Returns the set-level heuristic value, i.e., the level of the planning graph with mutexes
+     * where all the goal propositions are reached and pairwise not mutex.
+     *
+     * @return the set-level heuristic value.
+     * @throws IllegalStateException if the planning graph with mutexes was not expanded.
+     * @see SetLevel
+     */
+    public int getSetLevelValue() {
+        if (!this.hasMutexValues()) {
+            throw new IllegalStateException("planning graph with mutexes not expanded");
+        }
+        return this.setLevel;
+    }
+
+    /**
+     * Returns a string representation of the heuristic values.
+     *
+     * @return a string representation of the heuristic values.
+     */
+    @Override
+    public String toString() {
+        return "[hadd=" + this.additive + ", hmax=" + this.max + ", hff=" + this.relaxedPlan
+            + ", hlevelsum=" + this.levelSum
+            + (this.hasMutexValues() ? ", hsummutex=" + this.sumMutex + ", hsetlevel=" + this.setLevel : "") + "]";
+    }
+
+}
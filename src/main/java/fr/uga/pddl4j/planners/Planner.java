@@ -106,7 +106,23 @@ public interface Planner extends Serializable {
         /**
          * The HC Anytime (Hill Climbing Anytime Planner).
          */
-        HCAnytime
+        HCAnytime,
+        /**
+         * The Lazy GBFS (Lazy Greedy Best First Search Planner).
+         */
+        LazyGBFS,
+        /**
+         * The FF Anytime planner with a Restarting Weighted A* in place of its greedy best first search.
+         */
+        FFAnytimeRWA,
+        /**
+         * The FF Anytime planner with a Lazy Greedy Best First Search in place of its greedy best first search.
+         */
+        FFAnytimeLazyGBFS,
+        /**
+         * The Multi Queue GBFS (Greedy Best First Search with one open list per heuristic).
+         */
+        MultiQueueGBFS
     }
 
     /**
@@ -71,6 +71,16 @@ public class Statistics implements Serializable {
      */
     private String problem;
 
+    /**
+     * The number of heuristic values read from the heuristic cache.
+     */
+    private long heuristicCacheHits;
+
+    /**
+     * The number of heuristic values not found in the heuristic cache.
+     */
+    private long heuristicCacheMisses;
+
     /**
      * Creates a new statistics object to store statistical information about  planner performances.
      * The default statistic values are set to 0.
@@ -84,6 +94,8 @@ public class Statistics implements Serializable {
         this.numberOfActions = 0;
         this.numberOfRelevantFacts = 0;
         this.problem = null;
+        this.heuristicCacheHits = 0;
+        this.heuristicCacheMisses = 0;
     }
 
     /**
@@ -234,6 +246,42 @@ public class Statistics implements Serializable {
         this.timeToParse = time;
     }
 
+    /**
+     * Returns the number of heuristic values read from the heuristic cache.
+     *
+     * @return the number of heuristic values read from the heuristic cache.
+     */
+    public final long getHeuristicCacheHits() {
+        return this.heuristicCacheHits;
+    }
+
+    /**
+     * Sets the number of heuristic values read from the heuristic cache.
+     *
+     * @param hits the number of heuristic values read from the heuristic cache.
+     */
+    public final void setHeuristicCacheHits(final long hits) {
+        this.heuristicCacheHits = hits;
+    }
+
+    /**
+     * Returns the number of heuristic values not found in the heuristic cache.
+     *
+     * @return the number of heuristic values not found in the heuristic cache.
+     */
+    public final long getHeuristicCacheMisses() {
+        return this.heuristicCacheMisses;
+    }
+
+    /**
+     * Sets the number of heuristic values not found in the heuristic cache.
+     *
+     * @param misses the number of heuristic values not found in the heuristic cache.
+     */
+    public final void setHeuristicCacheMisses(final long misses) {
+        this.heuristicCacheMisses = misses;
+    }
+
     /**
      * Returns a string representation of this statistics.
      *
@@ -263,6 +311,11 @@ public class Statistics implements Serializable {
         strb.append(String.format("%8.2f MBytes for problem representation%n", memoryForProblemInMBytes));
         strb.append(String.format("%8.2f MBytes for searching%n", memoryUsedToSearchInMBytes));
         strb.append(String.format("%8.2f MBytes total%n%n%n", totalMemoryInMBytes));
+        if (this.heuristicCacheHits + this.heuristicCacheMisses > 0) {
+            strb.append(String.format("* Heuristic cache:%n"));
+            strb.append(String.format("%8d hits%n", this.heuristicCacheHits));
+            strb.append(String.format("%8d misses%n%n%n", this.heuristicCacheMisses));
+        }
 
         return strb.toString();
     }
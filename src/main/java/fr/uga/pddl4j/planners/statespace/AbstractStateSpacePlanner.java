@@ -15,7 +15,9 @@
 
 package fr.uga.pddl4j.planners.statespace;
 
+import fr.uga.pddl4j.heuristics.relaxation.HeuristicCache;
 import fr.uga.pddl4j.planners.AbstractPlanner;
+import fr.uga.pddl4j.planners.statespace.search.strategy.DeadEndRegistry;
 import fr.uga.pddl4j.planners.statespace.search.strategy.StateSpaceStrategy;
 
 import java.util.ArrayList;
@@ -45,6 +47,16 @@ public abstract class AbstractStateSpacePlanner extends AbstractPlanner implemen
      */
     private List<StateSpaceStrategy> stateSpaceStrategiesList;
 
+    /**
+     * The cache of heuristic values shared by the state space strategies of the planner.
+     */
+    private HeuristicCache heuristicCache;
+
+    /**
+     * The registry of the dead ends shared by the state space strategies of the planner.
+     */
+    private DeadEndRegistry deadEndRegistry;
+
     /**
      * Creates a new planner.
      */
@@ -95,4 +107,60 @@ public abstract class AbstractStateSpacePlanner extends AbstractPlanner implemen
     public boolean isAnytime() {
         return anytime;
     }
+
+    /**
+     * Returns the cache of heuristic values shared by the state space strategies of the planner.
+     *
+     * @return the cache of heuristic values or null if the planner does not use a cache.
+     */
+    public final HeuristicCache getHeuristicCache() {
+        return this.heuristicCache;
+    }
+
+    /**
+     * Sets the cache of heuristic values shared by the state space strategies of the planner. The cache is set to all
+     * the strategies returned by <code>getStateSpaceStrategies()</code> so that the states evaluated by a strategy
+     * are not evaluated again by the following ones.
+     *
+     * @param cache the cache of heuristic values or null to compute every heuristic value.
+     */
+    public final void setHeuristicCache(final HeuristicCache cache) {
+        this.heuristicCache = cache;
+        for (StateSpaceStrategy strategy : this.getStateSpaceStrategies()) {
+            strategy.setHeuristicCache(cache);
+        }
+    }
+
+    /**
+     * Returns the registry of the dead ends shared by the state space strategies of the planner.
+     *
+     * @return the registry of the dead ends or null if the planner does not use a registry.
+     */
+    public final DeadEndRegistry getDeadEndRegistry() {
+        return this.deadEndRegistry;
+    }
+
+    /**
+     * Sets the registry of the dead ends shared by the state space strategies of the planner. The registry is set to
+     * all the strategies returned by <code>getStateSpaceStrategies()</code> so that the dead ends found by a strategy
+     * are pruned by the following ones before their heuristic value is computed.
+     *
+     * @param registry the registry of the dead ends or null to not record the dead ends.
+     */
+    public final void setDeadEndRegistry(final DeadEndRegistry registry) {
+        this.deadEndRegistry = registry;
+        for (StateSpaceStrategy strategy : this.getStateSpaceStrategies()) {
+            strategy.setDeadEndRegistry(registry);
+        }
+    }
+
+    /**
+     * Saves the number of hits and misses of the cache of heuristic values in the statistics of the planner.
+     */
+    public final void saveHeuristicCacheStatistics() {
+        if (this.heuristicCache != null) {
+            this.getStatistics().setHeuristicCacheHits(this.heuristicCache.getHits());
+            this.getStatistics().setHeuristicCacheMisses(this.heuristicCache.getMisses());
+        }
+    }
 }
@@ -57,6 +57,22 @@ public interface StateSpacePlanner extends Planner {
      */
     double DEFAULT_WEIGHT = 1.0;
 
+    /**
+     * The heuristic cache key for properties.
+     */
+    String HEURISTIC_CACHE = "HEURISTIC_CACHE";
+
+    /**
+     * The default memory of the heuristic cache in MBytes, i.e., no heuristic cache.
+     */
+    int DEFAULT_HEURISTIC_CACHE = 0;
+
+    /**
+     * The pattern database cache directory key for properties. The directory is not set by default, i.e., the pattern
+     * databases are not stored on disk.
+     */
+    String PATTERN_DATABASE_CACHE = "PATTERN_DATABASE_CACHE";
+
     /**
      * The default anytime value.
      */
@@ -102,6 +118,7 @@ public interface StateSpacePlanner extends Planner {
         options.put(StateSpacePlanner.PLANNER, StateSpacePlanner.DEFAULT_STATE_SPACE_PLANNER);
         options.put(StateSpacePlanner.HEURISTIC, StateSpacePlanner.DEFAULT_HEURISTIC);
         options.put(StateSpacePlanner.WEIGHT, StateSpacePlanner.DEFAULT_WEIGHT);
+        options.put(StateSpacePlanner.HEURISTIC_CACHE, StateSpacePlanner.DEFAULT_HEURISTIC_CACHE);
         return options;
     }
 }
@@ -18,14 +18,21 @@ package fr.uga.pddl4j.planners.statespace;
 import fr.uga.pddl4j.encoding.CodedProblem;
 import fr.uga.pddl4j.exceptions.FileException;
 import fr.uga.pddl4j.heuristics.relaxation.Heuristic;
+import fr.uga.pddl4j.heuristics.relaxation.HeuristicCache;
+import fr.uga.pddl4j.heuristics.relaxation.HeuristicToolKit;
 import fr.uga.pddl4j.parser.ErrorManager;
 import fr.uga.pddl4j.planners.Planner;
 import fr.uga.pddl4j.planners.ProblemFactory;
 import fr.uga.pddl4j.planners.Statistics;
 import fr.uga.pddl4j.planners.statespace.ff.FF;
 import fr.uga.pddl4j.planners.statespace.ff.FFAnytime;
+import fr.uga.pddl4j.planners.statespace.generic.GenericAnytimePlanner;
+import fr.uga.pddl4j.planners.statespace.generic.GenericPlanner;
 import fr.uga.pddl4j.planners.statespace.hc.HCAnytime;
 import fr.uga.pddl4j.planners.statespace.hsp.HSP;
+import fr.uga.pddl4j.planners.statespace.search.strategy.LazyGreedyBestFirstSearch;
+import fr.uga.pddl4j.planners.statespace.search.strategy.MultiQueueGreedyBestFirstSearch;
+import fr.uga.pddl4j.planners.statespace.search.strategy.RestartingWeightedAStar;
 import fr.uga.pddl4j.util.MemoryAgent;
 import fr.uga.pddl4j.util.Plan;
 import org.apache.logging.log4j.LogManager;
@@ -108,6 +115,20 @@ public class StateSpacePlannerFactory implements Serializable {
                 planner = new HCAnytime();
                 break;
 
+            case LazyGBFS:
+                planner = new GenericAnytimePlanner(new LazyGreedyBestFirstSearch());
+                break;
+
+            case MultiQueueGBFS:
+                planner = new GenericPlanner(new MultiQueueGreedyBestFirstSearch());
+                break;
+
+            case FFAnytimeRWA:
+            case FFAnytimeLazyGBFS:
+                planner = this.getPlanner(name, StateSpacePlanner.DEFAULT_STATISTICS,
+                    StateSpacePlanner.DEFAULT_TRACE_LEVEL);
+                break;
+
             default:
                 LOGGER.trace(StateSpacePlannerFactory.printUsage());
                 break;
@@ -144,6 +165,20 @@ public class StateSpacePlannerFactory implements Serializable {
                 planner = new HCAnytime(statisticState, traceLevel);
                 break;
 
+            case LazyGBFS:
+                planner = new GenericAnytimePlanner(statisticState, traceLevel, new LazyGreedyBestFirstSearch());
+                break;
+
+            case MultiQueueGBFS:
+                planner = new GenericPlanner(statisticState, traceLevel, new MultiQueueGreedyBestFirstSearch());
+                break;
+
+            case FFAnytimeRWA:
+            case FFAnytimeLazyGBFS:
+                planner = this.getPlanner(name, StateSpacePlanner.DEFAULT_TIMEOUT * 1000,
+                    StateSpacePlanner.DEFAULT_HEURISTIC, StateSpacePlanner.DEFAULT_WEIGHT, statisticState, traceLevel);
+                break;
+
             default:
                 LOGGER.trace(StateSpacePlannerFactory.printUsage());
                 break;
@@ -184,6 +219,26 @@ public class StateSpacePlannerFactory implements Serializable {
                 planner = new HCAnytime(timeout, heuristicType, weight, statisticState, traceLevel);
                 break;
 
+            case LazyGBFS:
+                planner = new GenericAnytimePlanner(statisticState, traceLevel,
+                    new LazyGreedyBestFirstSearch(timeout, heuristicType, weight));
+                break;
+
+            case MultiQueueGBFS:
+                planner = new GenericPlanner(statisticState, traceLevel,
+                    new MultiQueueGreedyBestFirstSearch(timeout, heuristicType, weight));
+                break;
+
+            case FFAnytimeRWA:
+                planner = new FFAnytime(timeout, heuristicType, weight, statisticState, traceLevel,
+                    new RestartingWeightedAStar(timeout, heuristicType, weight));
+                break;
+
+            case FFAnytimeLazyGBFS:
+                planner = new FFAnytime(timeout, heuristicType, weight, statisticState, traceLevel,
+                    new LazyGreedyBestFirstSearch(timeout, heuristicType, weight));
+                break;
+
             default:
                 LOGGER.trace(StateSpacePlannerFactory.printUsage());
                 break;
@@ -208,6 +263,11 @@ public class StateSpacePlannerFactory implements Serializable {
             .append("     0      HSP planner\n")
             .append("     1      FF planner\n")
             .append("     2      FF Anytime planner\n")
+            .append("     3      HC Anytime planner\n")
+            .append("     4      Lazy GBFS planner\n")
+            .append("     5      FF Anytime planner with restarting weighted A*\n")
+            .append("     6      FF Anytime planner with lazy GBFS\n")
+            .append("     7      Multi queue GBFS planner\n")
             .append("-u <num>    specifies the heuristic to used (preset: 0)\n")
             .append("     0      ff heuristic\n")
             .append("     1      sum heuristic\n")
@@ -219,6 +279,18 @@ public class StateSpacePlannerFactory implements Serializable {
             .append("     7      max heuristic\n")
             .append("     8      set-level heuristic\n")
             .append("     9      min cost heuristic\n")
+            .append("    10      goal count heuristic\n")
+            .append("    11      landmark count heuristic\n")
+            .append("    12      landmark cut heuristic\n")
+            .append("    13      pattern database heuristic\n")
+            .append("    14      merge and shrink heuristic\n")
+            .append("    15      state equation heuristic\n")
+            .append("    16      operator counting heuristic\n")
+            .append("    17      sum cost heuristic\n")
+            .append("    18      max cost heuristic\n")
+            .append("    19      fast forward cost heuristic\n")
+            .append("    20      context-enhanced additive heuristic\n")
+            .append("    21      causal graph heuristic\n")
             .append("-i <num>    run-time information level (preset: 1)\n")
             .append("     0      nothing\n")
             .append("     1      info on action number, search and search\n")
@@ -240,6 +312,8 @@ public class StateSpacePlannerFactory implements Serializable {
             .append("               - memory used for searching in MBytes\n")
             .append("               - total memory used in MBytes\n")
             .append("               - length of the solution plan\n")
+            .append("-c <num>    memory of the heuristic cache in MBytes (preset: 0, i.e., no cache)\n")
+            .append("-b <str>    cache directory of the pattern databases (preset: none, i.e., no cache)\n")
             .append("-s <bool>   generate statistics or not (preset: true)\n")
             .append("-d <bool>   print cost in solution plan (preset: false)\n")
             .append("-h          print this message\n\n");
@@ -271,6 +345,14 @@ public class StateSpacePlannerFactory implements Serializable {
                         arguments.put(AbstractStateSpacePlanner.PLANNER, Planner.Name.FFAnytime);
                     } else if (planner == 3) {
                         arguments.put(AbstractStateSpacePlanner.PLANNER, Planner.Name.HCAnytime);
+                    } else if (planner == 4) {
+                        arguments.put(AbstractStateSpacePlanner.PLANNER, Planner.Name.LazyGBFS);
+                    } else if (planner == 5) {
+                        arguments.put(AbstractStateSpacePlanner.PLANNER, Planner.Name.FFAnytimeRWA);
+                    } else if (planner == 6) {
+                        arguments.put(AbstractStateSpacePlanner.PLANNER, Planner.Name.FFAnytimeLazyGBFS);
+                    } else if (planner == 7) {
+                        arguments.put(AbstractStateSpacePlanner.PLANNER, Planner.Name.MultiQueueGBFS);
                     } else {
                         throw (new RuntimeException("Wrong planner argument"));
                     }
@@ -292,7 +374,7 @@ public class StateSpacePlannerFactory implements Serializable {
                     arguments.put(AbstractStateSpacePlanner.TIMEOUT, cpu);
                 } else if ("-u".equalsIgnoreCase(args[i]) && ((i + 1) < args.length)) {
                     final int heuristic = Integer.parseInt(args[i + 1]);
-                    if (heuristic < 0 || heuristic > 9) {
+                    if (heuristic < 0 || heuristic > 21) {
                         LOGGER.trace(StateSpacePlannerFactory.printUsage());
                     }
                     if (heuristic == 0) {
@@ -322,6 +404,42 @@ public class StateSpacePlannerFactory implements Serializable {
                     } else if (heuristic == 8) {
                         arguments.put(AbstractStateSpacePlanner.HEURISTIC,
                             Heuristic.Type.SET_LEVEL);
+                    } else if (heuristic == 10) {
+                        arguments.put(AbstractStateSpacePlanner.HEURISTIC,
+                            Heuristic.Type.GOAL_COUNT);
+                    } else if (heuristic == 11) {
+                        arguments.put(AbstractStateSpacePlanner.HEURISTIC,
+                            Heuristic.Type.LANDMARK_COUNT);
+                    } else if (heuristic == 12) {
+                        arguments.put(AbstractStateSpacePlanner.HEURISTIC,
+                            Heuristic.Type.LANDMARK_CUT);
+                    } else if (heuristic == 13) {
+                        arguments.put(AbstractStateSpacePlanner.HEURISTIC,
+                            Heuristic.Type.PATTERN_DATABASE);
+                    } else if (heuristic == 14) {
+                        arguments.put(AbstractStateSpacePlanner.HEURISTIC,
+                            Heuristic.Type.MERGE_AND_SHRINK);
+                    } else if (heuristic == 15) {
+                        arguments.put(AbstractStateSpacePlanner.HEURISTIC,
+                            Heuristic.Type.STATE_EQUATION);
+                    } else if (heuristic == 16) {
+                        arguments.put(AbstractStateSpacePlanner.HEURISTIC,
+                            Heuristic.Type.OPERATOR_COUNTING);
+                    } else if (heuristic == 17) {
+                        arguments.put(AbstractStateSpacePlanner.HEURISTIC,
+                            Heuristic.Type.SUM_COST);
+                    } else if (heuristic == 18) {
+                        arguments.put(AbstractStateSpacePlanner.HEURISTIC,
+                            Heuristic.Type.MAX_COST);
+                    } else if (heuristic == 19) {
+                        arguments.put(AbstractStateSpacePlanner.HEURISTIC,
+                            Heuristic.Type.FAST_FORWARD_COST);
+                    } else if (heuristic == 20) {
+                        arguments.put(AbstractStateSpacePlanner.HEURISTIC,
+                            Heuristic.Type.CONTEXT_ENHANCED_ADDITIVE);
+                    } else if (heuristic == 21) {
+                        arguments.put(AbstractStateSpacePlanner.HEURISTIC,
+                            Heuristic.Type.CAUSAL_GRAPH);
                     } else {
                         arguments.put(AbstractStateSpacePlanner.HEURISTIC,
                             Heuristic.Type.MIN_COST);
@@ -338,6 +456,14 @@ public class StateSpacePlannerFactory implements Serializable {
                         LOGGER.trace(StateSpacePlannerFactory.printUsage());
                     }
                     arguments.put(AbstractStateSpacePlanner.TRACE_LEVEL, level);
+                } else if ("-c".equalsIgnoreCase(args[i]) && ((i + 1) < args.length)) {
+                    final int memory = Integer.parseInt(args[i + 1]);
+                    if (memory < 0) {
+                        LOGGER.trace(StateSpacePlannerFactory.printUsage());
+                    }
+                    arguments.put(AbstractStateSpacePlanner.HEURISTIC_CACHE, memory);
+                } else if ("-b".equalsIgnoreCase(args[i]) && ((i + 1) < args.length)) {
+                    arguments.put(AbstractStateSpacePlanner.PATTERN_DATABASE_CACHE, new File(args[i + 1]));
                 } else if ("-s".equalsIgnoreCase(args[i]) && ((i + 1) < args.length)) {
                     final boolean isStatUsed = Boolean.parseBoolean(args[i + 1]);
                     arguments.put(AbstractStateSpacePlanner.STATISTICS, isStatUsed);
@@ -379,6 +505,11 @@ public class StateSpacePlannerFactory implements Serializable {
      *      0      HSP planner
      *      1      FF planner
      *      2      FF Anytime planner
+     *      3      HC Anytime planner
+     *      4      Lazy GBFS planner
+     *      5      FF Anytime planner with restarting weighted A*
+     *      6      FF Anytime planner with lazy GBFS
+     *      7      Multi queue GBFS planner
      * -u <i>num</i>   specifies the heuristic to use (preset: 0)
      *      0      ff heuristic
      *      1      sum heuristic
@@ -390,6 +521,18 @@ public class StateSpacePlannerFactory implements Serializable {
      *      7      max heuristic
      *      8      set-level heuristic
      *      9      min cost heuristic
+     *     10      goal count heuristic
+     *     11      landmark count heuristic
+     *     12      landmark cut heuristic
+     *     13      pattern database heuristic
+     *     14      merge and shrink heuristic
+     *     15      state equation heuristic
+     *     16      operator counting heuristic
+     *     17      sum cost heuristic
+     *     18      max cost heuristic
+     *     19      fast forward cost heuristic
+     *     20      context-enhanced additive heuristic
+     *     21      causal graph heuristic
      * -i <i>num</i>   run-time information level (preset: 1)
      *      0      nothing
      *      1      info on action number, search and search
@@ -411,6 +554,8 @@ public class StateSpacePlannerFactory implements Serializable {
      *                - memory used for searching in MBytes
      *                - total memory used in MBytes
      *                - length of the solution plan
+     * -c <i>num</i>   memory of the heuristic cache in MBytes (preset: 0, i.e., no cache)
+     * -b <i>str</i>   cache directory of the pattern databases (preset: none, i.e., no cache)
      * -s <i>bool</i>   no statistics (preset: true)
      * -d <i>bool</i>   print cost in solution plan (preset: false)
      * -h          print this message
@@ -435,10 +580,17 @@ public class StateSpacePlannerFactory implements Serializable {
             final Heuristic.Type heuristicType = (Heuristic.Type) arguments.get(AbstractStateSpacePlanner.HEURISTIC);
             final double weight = (Double) arguments.get(AbstractStateSpacePlanner.WEIGHT);
             final boolean saveStats = (Boolean) arguments.get(AbstractStateSpacePlanner.STATISTICS);
+            final int heuristicCache = (Integer) arguments.get(AbstractStateSpacePlanner.HEURISTIC_CACHE);
+            final File patternDatabaseCache = (File) arguments.get(AbstractStateSpacePlanner.PATTERN_DATABASE_CACHE);
+            HeuristicToolKit.setPatternDatabaseDirectory(patternDatabaseCache);
 
             // Creates the planner
             final AbstractStateSpacePlanner planner = stateSpacePlannerFactory.getPlanner(plannerName, timeout,
                 heuristicType, weight, saveStats, traceLevel);
+            if (heuristicCache > 0) {
+                planner.setHeuristicCache(new HeuristicCache(heuristicCache * 1024L * 1024L,
+                    HeuristicCache.DEFAULT_POLICY));
+            }
 
             // Creates the problem factory
             final ProblemFactory factory = ProblemFactory.getInstance();
@@ -491,6 +643,9 @@ public class StateSpacePlannerFactory implements Serializable {
 
                 // Searches for a solution plan
                 final Plan plan = planner.search(pb);
+                if (saveStats) {
+                    planner.saveHeuristicCacheStatistics();
+                }
 
                 // Print the results
                 final String problemName = problem.getName().substring(0, problem.getName().indexOf('.'));
@@ -543,6 +698,12 @@ public class StateSpacePlannerFactory implements Serializable {
                         strb.append(String.format("              %8.2f MBytes for searching%n",
                             memoryUsedToSearchInMBytes));
                         strb.append(String.format("              %8.2f MBytes total%n%n%n", totalMemoryInMBytes));
+                        if (planner.getHeuristicCache() != null) {
+                            strb.append(String.format("heuristic cache: %8d hits%n",
+                                planner.getStatistics().getHeuristicCacheHits()));
+                            strb.append(String.format("                 %8d misses%n%n%n",
+                                planner.getStatistics().getHeuristicCacheMisses()));
+                        }
                     }
                     LOGGER.trace(strb);
                 } else if (traceLevel == 8) {
@@ -22,6 +22,7 @@ package fr.uga.pddl4j.planners.statespace.ff;
 import fr.uga.pddl4j.encoding.CodedProblem;
 import fr.uga.pddl4j.heuristics.relaxation.Heuristic;
 import fr.uga.pddl4j.planners.statespace.AbstractStateSpacePlannerAnytime;
+import fr.uga.pddl4j.planners.statespace.search.strategy.AbstractStateSpaceStrategyAnytime;
 import fr.uga.pddl4j.planners.statespace.search.strategy.EnforcedHillClimbing;
 import fr.uga.pddl4j.planners.statespace.search.strategy.GreedyBestFirstSearchAnytime;
 import fr.uga.pddl4j.planners.statespace.search.strategy.Node;
@@ -52,9 +53,10 @@ public final class FFAnytime extends AbstractStateSpacePlannerAnytime {
     private EnforcedHillClimbing enforcedHillClimbing;
 
     /**
-     * The Greedy Best First Search Anytime strategy.
+     * The anytime strategy run after the enforced hill climbing, by default a Greedy Best First Search Anytime
+     * strategy.
      */
-    private GreedyBestFirstSearchAnytime greedyBestFirstSearchAnytime;
+    private AbstractStateSpaceStrategyAnytime greedyBestFirstSearchAnytime;
 
     /**
      * Returns the list containing all solution nodes found.
@@ -127,6 +129,31 @@ public final class FFAnytime extends AbstractStateSpacePlannerAnytime {
         this.getStateSpaceStrategies().add(greedyBestFirstSearchAnytime);
     }
 
+    /**
+     * Creates a new planner that runs a specified anytime strategy in place of the greedy best first search anytime
+     * strategy, e.g., a lazy greedy best first search. The cost and depth bounds of the anytime strategy are set from
+     * the solution found by the enforced hill climbing.
+     *
+     * @param timeout         the time out of the planner.
+     * @param heuristicType   the heuristicType to use to solve the planning problem.
+     * @param weight          the weight set to the heuristic.
+     * @param statisticState  the statistics generation value.
+     * @param traceLevel      the trace level of the planner.
+     * @param anytimeStrategy the anytime strategy run after the enforced hill climbing. The strategy cannot be null.
+     */
+    public FFAnytime(final int timeout, final Heuristic.Type heuristicType, final double weight,
+                     final boolean statisticState, final int traceLevel,
+                     final AbstractStateSpaceStrategyAnytime anytimeStrategy) {
+        super(statisticState, traceLevel);
+        Objects.requireNonNull(anytimeStrategy);
+
+        enforcedHillClimbing = new EnforcedHillClimbing(timeout, heuristicType, weight);
+        greedyBestFirstSearchAnytime = anytimeStrategy;
+
+        this.getStateSpaceStrategies().add(enforcedHillClimbing);
+        this.getStateSpaceStrategies().add(greedyBestFirstSearchAnytime);
+    }
+
     /**
      * Search a solution plan to a specified domain and problem.
      *
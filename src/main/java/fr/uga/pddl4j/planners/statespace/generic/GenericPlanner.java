@@ -23,6 +23,7 @@ import fr.uga.pddl4j.encoding.CodedProblem;
 import fr.uga.pddl4j.planners.statespace.AbstractStateSpacePlanner;
 import fr.uga.pddl4j.planners.statespace.search.strategy.Node;
 import fr.uga.pddl4j.planners.statespace.search.strategy.StateSpaceStrategy;
+import fr.uga.pddl4j.planners.statespace.search.strategy.VisitedSet;
 import fr.uga.pddl4j.util.SequentialPlan;
 import org.apache.logging.log4j.Logger;
 
@@ -87,6 +88,11 @@ public final class GenericPlanner extends AbstractStateSpacePlanner {
 
         logger.trace("* starting search strategy\n");
         final Node solutionNode = this.searchStrategy.searchSolutionNode(problem);
+        final VisitedSet visited = this.searchStrategy.getVisitedSet();
+        if (visited != null) {
+            logger.trace("* " + visited.size() + " visited state(s), omission probability: "
+                + visited.getOmissionProbability() + "\n");
+        }
         if (isSaveState()) {
             this.getStatistics().setTimeToSearch(this.searchStrategy.getSearchingTime());
             this.getStatistics().setMemoryUsedToSearch(this.searchStrategy.getMemoryUsed());
@@ -69,7 +69,8 @@ public final class AStar extends AbstractStateSpaceStrategy {
     public Node search(final CodedProblem codedProblem) {
         Objects.requireNonNull(codedProblem);
         final long begin = System.currentTimeMillis();
-        final Heuristic heuristic = HeuristicToolKit.createHeuristic(getHeuristicType(), codedProblem);
+        final Heuristic heuristic = HeuristicToolKit.createHeuristic(getHeuristicType(), codedProblem,
+            this.getHeuristicCache());
         // Get the initial state from the planning problem
         final BitState init = new BitState(codedProblem.getInit());
         // Initialize the closed list of nodes (store the nodes explored)
@@ -133,10 +134,12 @@ public final class AStar extends AbstractStateSpaceStrategy {
                                 state.setCost(g);
                                 state.setParent(current);
                                 state.setOperator(index);
-                                state.setHeuristic(heuristic.estimate(state, codedProblem.getGoal()));
+                                state.setHeuristic(this.estimate(heuristic, state, codedProblem.getGoal()));
                                 state.setDepth(current.getDepth() + 1);
-                                open.add(state);
-                                openSet.put(state, state);
+                                if (!this.isDeadEnd(state)) {
+                                    open.add(state);
+                                    openSet.put(state, state);
+                                }
                             }
                         } else if (g < result.getCost()) {
                             result.setCost(g);
@@ -44,41 +44,11 @@ public final class AStarAnytime extends AbstractStateSpaceStrategyAnytime {
      */
     private static final long serialVersionUID = 1L;
 
-    /**
-     * The bound cost for strategy search.
-     */
-    private double boundCost;
-
-    /**
-     * The The bound cost for strategy search.
-     */
-    private double boundDepth;
-
-    /**
-     * Sets the bound cost for strategy search.
-     *
-     * @param boundCost the bound cost for strategy search
-     */
-    public void setBoundCost(double boundCost) {
-        this.boundCost = boundCost;
-    }
-
-    /**
-     * Sets the bound depth for strategy search.
-     *
-     * @param boundDepth the bound depth for strategy search
-     */
-    public void setBoundDepth(double boundDepth) {
-        this.boundDepth = boundDepth;
-    }
-
     /**
      * Creates a new Greedy Best First Search search strategy with default parameters.
      */
     public AStarAnytime() {
         super();
-        this.boundCost = Double.MAX_VALUE;
-        this.boundDepth = Double.MAX_VALUE;
     }
 
     /**
@@ -90,8 +60,6 @@ public final class AStarAnytime extends AbstractStateSpaceStrategyAnytime {
      */
     public AStarAnytime(int timeout, Heuristic.Type heuristic, double weight) {
         super(timeout, heuristic, weight);
-        this.boundCost = Double.MAX_VALUE;
-        this.boundDepth = Double.MAX_VALUE;
     }
 
     /**
@@ -106,8 +74,8 @@ public final class AStarAnytime extends AbstractStateSpaceStrategyAnytime {
     public AStarAnytime(int timeout, Heuristic.Type heuristic, double weight,
                         double boundCost, double boundDepth) {
         super(timeout, heuristic, weight);
-        this.boundCost = boundCost;
-        this.boundDepth = boundDepth;
+        this.setBoundCost(boundCost);
+        this.setBoundDepth(boundDepth);
     }
 
     /**
@@ -122,7 +90,8 @@ public final class AStarAnytime extends AbstractStateSpaceStrategyAnytime {
         Objects.requireNonNull(problem);
 
         final long begin = System.currentTimeMillis();
-        final Heuristic heuristic = HeuristicToolKit.createHeuristic(this.getHeuristicType(), problem);
+        final Heuristic heuristic = HeuristicToolKit.createHeuristic(this.getHeuristicType(), problem,
+            this.getHeuristicCache());
         // Get the initial state from the planning problem
         final BitState init = new BitState(problem.getInit());
         // Initialize the closed list of nodes (store the nodes explored)
@@ -163,10 +132,10 @@ public final class AStarAnytime extends AbstractStateSpaceStrategyAnytime {
 
                 final Plan p = extractPlan(solution, problem);
 
-                boundCost = p.cost();
-                boundDepth = p.size();
+                this.setBoundCost(p.cost());
+                this.setBoundDepth(p.size());
                 logger.trace("* " + this.getSolutionNodes().size() + " solution(s) found. Best cost: "
-                    + boundCost + "\n");
+                    + this.getBoundCost() + "\n");
             } else {
                 // Try to apply the operators of the problem to this node
                 int index = 0;
@@ -192,7 +161,8 @@ public final class AStarAnytime extends AbstractStateSpaceStrategyAnytime {
                                     result.setParent(current);
                                     result.setOperator(index);
                                     result.setDepth(current.getDepth() + 1);
-                                    if (result.getCost() < boundCost && result.getDepth() <= boundDepth) {
+                                    if (result.getCost() < this.getBoundCost()
+                                        && result.getDepth() <= this.getBoundDepth()) {
                                         open.add(result);
                                         openSet.put(result, result);
                                         closeSet.remove(result);
@@ -202,9 +172,10 @@ public final class AStarAnytime extends AbstractStateSpaceStrategyAnytime {
                                 state.setCost(g);
                                 state.setParent(current);
                                 state.setOperator(index);
-                                state.setHeuristic(heuristic.estimate(state, problem.getGoal()));
+                                state.setHeuristic(this.estimate(heuristic, state, problem.getGoal()));
                                 state.setDepth(current.getDepth() + 1);
-                                if (state.getCost() < boundCost && state.getDepth() <= boundDepth) {
+                                if (state.getCost() < this.getBoundCost()
+                                    && state.getDepth() <= this.getBoundDepth() && !this.isDeadEnd(state)) {
                                     open.add(state);
                                     openSet.put(state, state);
                                 }
@@ -235,12 +206,4 @@ public final class AStarAnytime extends AbstractStateSpaceStrategyAnytime {
 
         return solution;
     }
-
-    /**
-     * Clear boundaries at the end of the computation.
-     */
-    private void clearBounds() {
-        this.boundCost = Double.MAX_VALUE;
-        this.boundDepth = Double.MAX_VALUE;
-    }
 }
@@ -17,8 +17,11 @@ package fr.uga.pddl4j.planners.statespace.search.strategy;
 
 import fr.uga.pddl4j.encoding.CodedProblem;
 import fr.uga.pddl4j.heuristics.relaxation.Heuristic;
+import fr.uga.pddl4j.heuristics.relaxation.HeuristicCache;
 import fr.uga.pddl4j.planners.statespace.StateSpacePlanner;
+import fr.uga.pddl4j.util.BitExp;
 import fr.uga.pddl4j.util.BitOp;
+import fr.uga.pddl4j.util.BitState;
 import fr.uga.pddl4j.util.Plan;
 import fr.uga.pddl4j.util.SequentialPlan;
 import fr.uga.pddl4j.util.SolutionEvent;
@@ -81,6 +84,16 @@ public abstract class AbstractStateSpaceStrategy implements StateSpaceStrategy {
      */
     private int createdNodes;
 
+    /**
+     * The cache of heuristic values.
+     */
+    private HeuristicCache heuristicCache;
+
+    /**
+     * The registry of the dead ends.
+     */
+    private DeadEndRegistry deadEndRegistry;
+
     /**
      * Returns the heuristicType to use to solve the planning problem.
      *
@@ -242,6 +255,46 @@ public abstract class AbstractStateSpaceStrategy implements StateSpaceStrategy {
         this.createdNodes = createdNodes;
     }
 
+    /**
+     * Returns the cache of heuristic values used by the strategy.
+     *
+     * @return the cache of heuristic values used by the strategy or null if the strategy does not use a cache.
+     */
+    @Override
+    public HeuristicCache getHeuristicCache() {
+        return this.heuristicCache;
+    }
+
+    /**
+     * Sets the cache of heuristic values used by the strategy.
+     *
+     * @param cache the cache of heuristic values or null to compute every heuristic value.
+     */
+    @Override
+    public void setHeuristicCache(final HeuristicCache cache) {
+        this.heuristicCache = cache;
+    }
+
+    /**
+     * Returns the registry of the dead ends used by the strategy.
+     *
+     * @return the registry of the dead ends used by the strategy or null if the strategy does not use a registry.
+     */
+    @Override
+    public DeadEndRegistry getDeadEndRegistry() {
+        return this.deadEndRegistry;
+    }
+
+    /**
+     * Sets the registry of the dead ends used by the strategy.
+     *
+     * @param registry the registry of the dead ends or null to not record the dead ends.
+     */
+    @Override
+    public void setDeadEndRegistry(final DeadEndRegistry registry) {
+        this.deadEndRegistry = registry;
+    }
+
     /**
      * Create a new search strategy.
      */
@@ -296,6 +349,9 @@ public abstract class AbstractStateSpaceStrategy implements StateSpaceStrategy {
     @Override
     public Node searchSolutionNode(final CodedProblem codedProblem) {
         Objects.requireNonNull(codedProblem);
+        if (this.deadEndRegistry != null) {
+            this.deadEndRegistry.bind(codedProblem);
+        }
         return search(codedProblem);
     }
 
@@ -308,6 +364,9 @@ public abstract class AbstractStateSpaceStrategy implements StateSpaceStrategy {
     @Override
     public Plan searchPlan(final CodedProblem codedProblem) {
         Objects.requireNonNull(codedProblem);
+        if (this.deadEndRegistry != null) {
+            this.deadEndRegistry.bind(codedProblem);
+        }
         final Node solutionNode = search(codedProblem);
         if (solutionNode != null) {
             return extractPlan(solutionNode, codedProblem);
@@ -339,6 +398,39 @@ public abstract class AbstractStateSpaceStrategy implements StateSpaceStrategy {
         }
     }
 
+    /**
+     * Returns the heuristic value of a state for the goal of the problem. If the strategy uses a registry of the dead
+     * ends, the heuristic is not computed for the known dead ends and the states proved dead ends by the heuristic are
+     * recorded in the registry. A node is estimated as a node and a state as a state.
+     *
+     * @param heuristic the heuristic.
+     * @param state     the state.
+     * @param goal      the goal of the problem.
+     * @return the heuristic value of the state or <code>Integer.MAX_VALUE</code> if the state is a dead end.
+     */
+    protected final double estimate(final Heuristic heuristic, final BitState state, final BitExp goal) {
+        if (this.deadEndRegistry != null && this.deadEndRegistry.isDeadEnd(state)) {
+            return Integer.MAX_VALUE;
+        }
+        final double value = state instanceof Node ? heuristic.estimate((Node) state, goal)
+            : heuristic.estimate(state, goal);
+        if (this.deadEndRegistry != null && value >= Integer.MAX_VALUE) {
+            this.deadEndRegistry.add(state);
+        }
+        return value;
+    }
+
+    /**
+     * Returns if a node estimated with {@link #estimate(Heuristic, BitState, BitExp)} must be pruned, i.e., the
+     * strategy uses a registry of the dead ends and the node is a dead end.
+     *
+     * @param node the node.
+     * @return <code>true</code> if the node must be pruned; <code>false</code> otherwise.
+     */
+    protected final boolean isDeadEnd(final Node node) {
+        return this.deadEndRegistry != null && node.getHeuristic() >= Integer.MAX_VALUE;
+    }
+
     /**
      * Reset Nodes statistics.
      */
@@ -33,11 +33,22 @@ public abstract class AbstractStateSpaceStrategyAnytime extends AbstractStateSpa
      */
     private static final long serialVersionUID = 1L;
 
+    /**
+     * The bound cost for strategy search.
+     */
+    private double boundCost;
+
+    /**
+     * The bound depth for strategy search.
+     */
+    private double boundDepth;
+
     /**
      * Creates a new planner.
      */
     public AbstractStateSpaceStrategyAnytime() {
         super();
+        this.clearBounds();
     }
 
     /**
@@ -49,6 +60,51 @@ public abstract class AbstractStateSpaceStrategyAnytime extends AbstractStateSpa
      */
     public AbstractStateSpaceStrategyAnytime(int timeout, Heuristic.Type heuristic, double weight) {
         super(timeout, heuristic, weight);
+        this.clearBounds();
+    }
+
+    /**
+     * Returns the bound cost for strategy search.
+     *
+     * @return the bound cost for strategy search.
+     */
+    public double getBoundCost() {
+        return this.boundCost;
+    }
+
+    /**
+     * Sets the bound cost for strategy search.
+     *
+     * @param boundCost the bound cost for strategy search
+     */
+    public void setBoundCost(double boundCost) {
+        this.boundCost = boundCost;
+    }
+
+    /**
+     * Returns the bound depth for strategy search.
+     *
+     * @return the bound depth for strategy search.
+     */
+    public double getBoundDepth() {
+        return this.boundDepth;
+    }
+
+    /**
+     * Sets the bound depth for strategy search.
+     *
+     * @param boundDepth the bound depth for strategy search
+     */
+    public void setBoundDepth(double boundDepth) {
+        this.boundDepth = boundDepth;
+    }
+
+    /**
+     * Clear boundaries at the end of the computation.
+     */
+    protected final void clearBounds() {
+        this.boundCost = Double.MAX_VALUE;
+        this.boundDepth = Double.MAX_VALUE;
     }
 
     /**
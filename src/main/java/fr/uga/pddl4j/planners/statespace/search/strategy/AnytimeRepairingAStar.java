@@ -0,0 +1,298 @@
+/*
+ * Copyright (c) 2016 by Damien Pellier <Damien.Pellier@imag.fr>.
+ *
+ * This file is part of PDDL4J library.
+ *
+ * PDDL4J is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * PDDL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with PDDL4J.  If not, see
+ * <http://www.gnu.org/licenses/>
+ */
+
+package fr.uga.pddl4j.planners.statespace.search.strategy;
+
+import fr.uga.pddl4j.encoding.CodedProblem;
+import fr.uga.pddl4j.heuristics.relaxation.Heuristic;
+import fr.uga.pddl4j.heuristics.relaxation.HeuristicToolKit;
+import fr.uga.pddl4j.planners.Planner;
+import fr.uga.pddl4j.util.BitExp;
+import fr.uga.pddl4j.util.BitOp;
+import fr.uga.pddl4j.util.BitState;
+import fr.uga.pddl4j.util.MemoryAgent;
+import fr.uga.pddl4j.util.SolutionEvent;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * This class implements the Anytime Repairing A* (ARA*) search strategy (M. Likhachev, G. Gordon and S. Thrun, "ARA*:
+ * Anytime A* with provable bounds on sub-optimality", NIPS, 2003). The strategy runs a sequence of weighted A* searches
+ * with a weight decreased by a fixed step from the weight of the strategy down to 1. Each search stops as soon as the
+ * cost of the best solution found is lower than the smallest weighted <i>f</i> value of the open list. The search
+ * effort is reused from one iteration to the next: the nodes whose cost decreased after their expansion are kept in
+ * an inconsistent list and moved with the open list into the open list of the next iteration.
+ * <p>
+ * Each improved solution is published with {@link #fireSolution(SolutionEvent)} and added to the solution nodes with
+ * its sub-optimality bound, i.e., the ratio between its cost and the smallest <i>f</i> value of the open and
+ * inconsistent lists, which is an upper bound of the ratio between its cost and the optimal cost if the heuristic is
+ * admissible. The cost bound of the strategy is used as the cost of an initial solution to prune the search.
+ * </p>
+ *
+ * @author PDDL4J contributors
+ * @version 1.0 - 19.10.2026
+ */
+public final class AnytimeRepairingAStar extends AbstractStateSpaceStrategyAnytime {
+
+    /**
+     * The serial id of the class.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The default step used to decrease the weight between two iterations.
+     */
+    public static final double DEFAULT_WEIGHT_STEP = 0.5;
+
+    /**
+     * The step used to decrease the weight between two iterations.
+     */
+    private double weightStep;
+
+    /**
+     * The sub-optimality bounds of the solutions found.
+     */
+    private final List<Double> suboptimalityBounds;
+
+    /**
+     * Creates a new ARA* search strategy with default parameters.
+     */
+    public AnytimeRepairingAStar() {
+        super();
+        this.weightStep = AnytimeRepairingAStar.DEFAULT_WEIGHT_STEP;
+        this.suboptimalityBounds = new ArrayList<>();
+    }
+
+    /**
+     * Creates a new ARA* search strategy.
+     *
+     * @param timeout   the time out of the planner.
+     * @param heuristic the heuristicType to use to solve the planning problem.
+     * @param weight    the initial weight set to the heuristic.
+     */
+    public AnytimeRepairingAStar(final int timeout, final Heuristic.Type heuristic, final double weight) {
+        super(timeout, heuristic, weight);
+        this.weightStep = AnytimeRepairingAStar.DEFAULT_WEIGHT_STEP;
+        this.suboptimalityBounds = new ArrayList<>();
+    }
+
+    /**
+     * Creates a new ARA* search strategy.
+     *
+     * @param timeout    the time out of the planner.
+     * @param heuristic  the heuristicType to use to solve the planning problem.
+     * @param weight     the initial weight set to the heuristic.
+     * @param weightStep the step used to decrease the weight between two iterations. The step must be strictly
+     *                   positive.
+     * @throws IllegalArgumentException if <code>weightStep &lt;= 0</code>.
+     */
+    public AnytimeRepairingAStar(final int timeout, final Heuristic.Type heuristic, final double weight,
+                                 final double weightStep) {
+        super(timeout, heuristic, weight);
+        this.setWeightStep(weightStep);
+        this.suboptimalityBounds = new ArrayList<>();
+    }
+
+    /**
+     * Returns the step used to decrease the weight between two iterations.
+     *
+     * @return the step used to decrease the weight between two iterations.
+     */
+    public double getWeightStep() {
+        return this.weightStep;
+    }
+
+    /**
+     * Sets the step used to decrease the weight between two iterations.
+     *
+     * @param weightStep the step used to decrease the weight between two iterations. The step must be strictly
+     *                   positive.
+     * @throws IllegalArgumentException if <code>weightStep &lt;= 0</code>.
+     */
+    public void setWeightStep(final double weightStep) {
+        if (weightStep <= 0) {
+            throw new IllegalArgumentException("weightStep <= 0");
+        }
+        this.weightStep = weightStep;
+    }
+
+    /**
+     * Returns the sub-optimality bounds of the solutions found by the last search in the order of the solution nodes.
+     * The bound of the best solution is tightened by the iterations that do not improve it.
+     *
+     * @return the sub-optimality bounds of the solutions found by the last search.
+     */
+    public List<Double> getSuboptimalityBounds() {
+        return this.suboptimalityBounds;
+    }
+
+    /**
+     * Solves the planning problem and returns the best solution node found.
+     *
+     * @param problem the problem to be solved. The problem cannot be null.
+     * @return the best solution node or null if no solution was found.
+     */
+    @Override
+    public Node search(final CodedProblem problem) {
+        final Logger logger = Planner.getLogger();
+        Objects.requireNonNull(problem);
+        final long begin = System.currentTimeMillis();
+        final Heuristic heuristic = HeuristicToolKit.createHeuristic(this.getHeuristicType(), problem,
+            this.getHeuristicCache());
+        final BitExp goal = problem.getGoal();
+        // The node of each state reached with the lowest cost. A node is never modified: a cheaper node replaces it
+        final Map<BitState, Node> nodes = new HashMap<>();
+        // The states expanded in the current iteration
+        final Set<BitState> closed = new HashSet<>();
+        // The nodes whose cost decreased after their expansion in the current iteration
+        final List<Node> incons = new ArrayList<>();
+        double weight = Math.max(1.0, this.getWeight());
+        PriorityQueue<Node> open = new PriorityQueue<>(100, new NodeComparator(weight));
+        final BitState init = new BitState(problem.getInit());
+        final Node root = new Node(init, null, -1, 0.0, 0, this.estimate(heuristic, init, goal));
+
+        this.resetNodesStatistics();
+        this.clearResults();
+        this.suboptimalityBounds.clear();
+        if (!this.isDeadEnd(root)) {
+            open.add(root);
+            nodes.put(root, root);
+        }
+        Node solution = null;
+        double incumbent = this.getBoundCost();
+        int explored = 0;
+        int created = 0;
+        final int timeout = this.getTimeout();
+        long searchingTime = 0;
+        boolean optimal = false;
+        while (!optimal && searchingTime < timeout) {
+            // Improves the best solution with the current weight
+            boolean improved = false;
+            while (!open.isEmpty() && searchingTime < timeout) {
+                final Node current = open.peek();
+                if (nodes.get(current) != current) {
+                    // The node was replaced by a cheaper node
+                    open.poll();
+                    continue;
+                }
+                if (current.getValueF(weight) >= incumbent) {
+                    break;
+                }
+                open.poll();
+                if (current.satisfy(goal)) {
+                    solution = current;
+                    incumbent = current.getCost();
+                    improved = true;
+                    continue;
+                }
+                closed.add(current);
+                explored++;
+                int index = 0;
+                for (BitOp op : problem.getOperators()) {
+                    if (op.isApplicable(current)) {
+                        final Node state = new Node(current);
+                        created++;
+                        op.getCondEffects().stream().filter(ce -> current.satisfy(ce.getCondition())).forEach(ce ->
+                            state.apply(ce.getEffects())
+                        );
+                        final double g = current.getCost() + op.getCost();
+                        final Node other = nodes.get(state);
+                        if (g < incumbent && (other == null || g < other.getCost())) {
+                            state.setCost(g);
+                            state.setParent(current);
+                            state.setOperator(index);
+                            state.setDepth(current.getDepth() + 1);
+                            state.setHeuristic(other == null ? this.estimate(heuristic, state, goal)
+                                : other.getHeuristic());
+                            if (!this.isDeadEnd(state)) {
+                                nodes.put(state, state);
+                                if (closed.contains(state)) {
+                                    incons.add(state);
+                                } else {
+                                    open.add(state);
+                                }
+                            }
+                        }
+                    }
+                    index++;
+                }
+                searchingTime = System.currentTimeMillis() - begin;
+            }
+
+            // Computes the sub-optimality bound from the smallest f value of the open and inconsistent lists
+            double lower = Double.MAX_VALUE;
+            for (Node node : open) {
+                if (nodes.get(node) == node) {
+                    lower = Math.min(lower, node.getValueF(1.0));
+                }
+            }
+            for (Node node : incons) {
+                if (nodes.get(node) == node) {
+                    lower = Math.min(lower, node.getValueF(1.0));
+                }
+            }
+            final double bound = lower >= incumbent ? 1.0 : Math.min(weight, incumbent / lower);
+            optimal = bound <= 1.0 || weight <= 1.0 && searchingTime < timeout;
+            if (improved) {
+                this.getSolutionNodes().add(solution);
+                this.suboptimalityBounds.add(bound);
+                fireSolution(new SolutionEvent(this, solution, problem));
+                logger.trace("* " + this.getSolutionNodes().size() + " solution(s) found. Best cost: "
+                    + solution.getCost() + " (weight " + weight + ", sub-optimality bound " + bound + ")\n");
+            } else if (solution != null) {
+                // The iterations without improvement tighten the bound of the best solution
+                final int last = this.suboptimalityBounds.size() - 1;
+                this.suboptimalityBounds.set(last, Math.min(this.suboptimalityBounds.get(last), bound));
+            }
+
+            if (!optimal) {
+                // Moves the inconsistent nodes in the open list and reorders the open list with the next weight
+                weight = Math.max(1.0, weight - this.weightStep);
+                final PriorityQueue<Node> next = new PriorityQueue<>(Math.max(100, open.size() + incons.size()),
+                    new NodeComparator(weight));
+                for (Node node : open) {
+                    if (nodes.get(node) == node) {
+                        next.add(node);
+                    }
+                }
+                for (Node node : incons) {
+                    if (nodes.get(node) == node) {
+                        next.add(node);
+                    }
+                }
+                open = next;
+                incons.clear();
+                closed.clear();
+            }
+            searchingTime = System.currentTimeMillis() - begin;
+        }
+
+        this.setCreatedNodes(created);
+        this.setExploredNodes(explored);
+        this.setPendingNodes(open.size());
+        this.setMemoryUsed(MemoryAgent.getDeepSizeOf(nodes) + MemoryAgent.getDeepSizeOf(open));
+        this.setSearchingTime(searchingTime);
+        this.clearBounds();
+        return solution;
+    }
+}
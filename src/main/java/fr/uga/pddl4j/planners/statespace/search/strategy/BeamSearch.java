@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2016 by Damien Pellier <Damien.Pellier@imag.fr>.
+ *
+ * This file is part of PDDL4J library.
+ *
+ * PDDL4J is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * PDDL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with PDDL4J.  If not, see
+ * <http://www.gnu.org/licenses/>
+ */
+
+package fr.uga.pddl4j.planners.statespace.search.strategy;
+
+import fr.uga.pddl4j.encoding.CodedProblem;
+import fr.uga.pddl4j.heuristics.relaxation.Heuristic;
+import fr.uga.pddl4j.heuristics.relaxation.HeuristicToolKit;
+import fr.uga.pddl4j.util.BitExp;
+import fr.uga.pddl4j.util.BitOp;
+import fr.uga.pddl4j.util.BitState;
+import fr.uga.pddl4j.util.MemoryAgent;
+import fr.uga.pddl4j.util.SolutionEvent;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * This class implements the beam search strategy. The search explores the state space layer by layer, as a breadth
+ * first search, but only keeps in each layer the <i>width</i> nodes with the best <i>f = g + w * h</i> value. The
+ * successors of a layer are filtered with an open-addressing table of the layer, which keeps the cheapest node of each
+ * state, and with a table of the nodes kept in the previous layers. The search stops at the first layer that contains
+ * a goal and returns the cheapest goal node of the layer. The strategy is incomplete but the number of nodes kept in
+ * memory never exceeds the width times the depth of the search.
+ *
+ * @author PDDL4J contributors
+ * @version 1.0 - 19.10.2026
+ * @see BeamStackSearch
+ */
+public final class BeamSearch extends AbstractStateSpaceStrategy {
+
+    /**
+     * The serial id of the class.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The default width of the beam.
+     */
+    public static final int DEFAULT_WIDTH = 500;
+
+    /**
+     * The width of the beam.
+     */
+    private int width;
+
+    /**
+     * Creates a new beam search strategy with default parameters.
+     */
+    public BeamSearch() {
+        super();
+        this.width = BeamSearch.DEFAULT_WIDTH;
+    }
+
+    /**
+     * Creates a new beam search strategy.
+     *
+     * @param timeout the time out of the planner.
+     */
+    public BeamSearch(final int timeout) {
+        super(timeout);
+        this.width = BeamSearch.DEFAULT_WIDTH;
+    }
+
+    /**
+     * Creates a new beam search strategy.
+     *
+     * @param timeout   the time out of the planner.
+     * @param heuristic the heuristicType to use to solve the planning problem.
+     * @param weight    the weight set to the heuristic.
+     */
+    public BeamSearch(final int timeout, final Heuristic.Type heuristic, final double weight) {
+        super(timeout, heuristic, weight);
+        this.width = BeamSearch.DEFAULT_WIDTH;
+    }
+
+    /**
+     * Creates a new beam search strategy.
+     *
+     * @param timeout   the time out of the planner.
+     * @param heuristic the heuristicType to use to solve the planning problem.
+     * @param weight    the weight set to the heuristic.
+     * @param width     the width of the beam. The width must be strictly positive.
+     * @throws IllegalArgumentException if <code>width &lt;= 0</code>.
+     */
+    public BeamSearch(final int timeout, final Heuristic.Type heuristic, final double weight, final int width) {
+        super(timeout, heuristic, weight);
+        this.setWidth(width);
+    }
+
+    /**
+     * Returns the width of the beam.
+     *
+     * @return the width of the beam.
+     */
+    public int getWidth() {
+        return this.width;
+    }
+
+    /**
+     * Sets the width of the beam.
+     *
+     * @param width the width of the beam. The width must be strictly positive.
+     * @throws IllegalArgumentException if <code>width &lt;= 0</code>.
+     */
+    public void setWidth(final int width) {
+        if (width <= 0) {
+            throw new IllegalArgumentException("width <= 0");
+        }
+        this.width = width;
+    }
+
+    /**
+     * Solves the planning problem and returns the first solution node found.
+     *
+     * @param codedProblem the problem to be solved. The problem cannot be null.
+     * @return a solution node or null if no solution was found.
+     */
+    @Override
+    public Node search(final CodedProblem codedProblem) {
+        Objects.requireNonNull(codedProblem);
+        final long begin = System.currentTimeMillis();
+        final Heuristic heuristic = HeuristicToolKit.createHeuristic(getHeuristicType(), codedProblem,
+            this.getHeuristicCache());
+        final BitExp goal = codedProblem.getGoal();
+        final NodeComparator comparator = new NodeComparator(getWeight());
+        final BitState init = new BitState(codedProblem.getInit());
+        final Node root = new Node(init, null, -1, 0.0, 0, this.estimate(heuristic, init, goal));
+        // The nodes kept in the previous layers
+        final StateTable visited = new StateTable(this.width);
+        Node[] layer = this.isDeadEnd(root) ? new Node[0] : new Node[] {root};
+        visited.put(root);
+
+        this.resetNodesStatistics();
+        Node solution = null;
+        int explored = 0;
+        int created = 0;
+        final int timeout = getTimeout();
+        long time = 0;
+        while (layer.length > 0 && solution == null && time < timeout) {
+            for (Node node : layer) {
+                if (node.satisfy(goal) && (solution == null || node.getCost() < solution.getCost())) {
+                    solution = node;
+                }
+            }
+            if (solution == null) {
+                // The successors of the layer with the cheapest node of each state
+                final StateTable successors = new StateTable(2 * layer.length);
+                for (Node node : layer) {
+                    explored++;
+                    int index = 0;
+                    for (BitOp op : codedProblem.getOperators()) {
+                        if (op.isApplicable(node)) {
+                            final Node state = new Node(node);
+                            created++;
+                            op.getCondEffects().stream().filter(ce -> node.satisfy(ce.getCondition())).forEach(ce ->
+                                state.apply(ce.getEffects())
+                            );
+                            final double g = node.getCost() + op.getCost();
+                            final Node previous = visited.get(state);
+                            final Node other = successors.get(state);
+                            if ((previous == null || g < previous.getCost())
+                                    && (other == null || g < other.getCost())) {
+                                state.setCost(g);
+                                state.setParent(node);
+                                state.setOperator(index);
+                                state.setDepth(node.getDepth() + 1);
+                                state.setHeuristic(other == null ? this.estimate(heuristic, state, goal)
+                                    : other.getHeuristic());
+                                if (!this.isDeadEnd(state)) {
+                                    successors.put(state);
+                                }
+                            }
+                        }
+                        index++;
+                    }
+                }
+                // Keeps the best nodes of the next layer
+                layer = successors.toArray();
+                if (layer.length > this.width) {
+                    Arrays.sort(layer, comparator);
+                    layer = Arrays.copyOf(layer, this.width);
+                }
+                for (Node node : layer) {
+                    visited.put(node);
+                }
+            }
+            time = System.currentTimeMillis() - begin;
+        }
+        if (solution != null) {
+            fireSolution(new SolutionEvent(this, solution, codedProblem));
+        }
+
+        this.setCreatedNodes(created);
+        this.setExploredNodes(explored);
+        this.setPendingNodes(layer.length);
+        this.setMemoryUsed(MemoryAgent.getDeepSizeOf(visited));
+        this.setSearchingTime(time);
+        return solution;
+    }
+}
@@ -0,0 +1,328 @@
+/*
+ * Copyright (c) 2016 by Damien Pellier <Damien.Pellier@imag.fr>.
+ *
+ * This file is part of PDDL4J library.
+ *
+ * PDDL4J is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * PDDL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with PDDL4J.  If not, see
+ * <http://www.gnu.org/licenses/>
+ */
+
+package fr.uga.pddl4j.planners.statespace.search.strategy;
+
+import fr.uga.pddl4j.encoding.CodedProblem;
+import fr.uga.pddl4j.heuristics.relaxation.Heuristic;
+import fr.uga.pddl4j.heuristics.relaxation.HeuristicToolKit;
+import fr.uga.pddl4j.planners.Planner;
+import fr.uga.pddl4j.util.BitExp;
+import fr.uga.pddl4j.util.BitOp;
+import fr.uga.pddl4j.util.BitState;
+import fr.uga.pddl4j.util.MemoryAgent;
+import fr.uga.pddl4j.util.SolutionEvent;
+import org.apache.logging.log4j.Logger;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * This class implements the beam-stack search strategy (R. Zhou and E. A. Hansen, "Beam-stack search: integrating
+ * backtracking with beam search", ICAPS, 2005). The strategy runs a sequence of beam searches that explore the state
+ * space layer by layer and keep at most <i>width</i> nodes per layer. The successors are ordered by <i>f</i> value and
+ * the ties are broken by a deterministic total order on the states, i.e., the lexicographic order of their facts. The
+ * beam stack records, for each layer, the range <i>[min, max)</i> of the successors kept in the next layer in this
+ * order, a bound being an <i>f</i> value and a state: the successors not lower than <i>max</i> were pruned. Once a
+ * beam search is over, the strategy backtracks to the deepest layer with pruned successors that can still lead to a
+ * solution cheaper than the best solution found and the next beam search explores these successors. The search ends
+ * when the beam stack is empty.
+ * <p>
+ * Each improved solution is published with {@link #fireSolution(SolutionEvent)} and added to the solution nodes. The
+ * cost bound of the strategy is used as the cost of an initial solution to prune the search. If the heuristic is
+ * admissible and the weight is 1, the last solution found is optimal. The number of nodes kept in memory never exceeds
+ * the width times the depth of the search.
+ * </p>
+ *
+ * @author PDDL4J contributors
+ * @version 1.0 - 19.10.2026
+ * @see BeamSearch
+ */
+public final class BeamStackSearch extends AbstractStateSpaceStrategyAnytime {
+
+    /**
+     * The serial id of the class.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The width of the beam.
+     */
+    private int width;
+
+    /**
+     * Creates a new beam-stack search strategy with default parameters.
+     */
+    public BeamStackSearch() {
+        super();
+        this.width = BeamSearch.DEFAULT_WIDTH;
+    }
+
+    /**
+     * Creates a new beam-stack search strategy.
+     *
+     * @param timeout   the time out of the planner.
+     * @param heuristic the heuristicType to use to solve the planning problem.
+     * @param weight    the weight set to the heuristic.
+     */
+    public BeamStackSearch(final int timeout, final Heuristic.Type heuristic, final double weight) {
+        super(timeout, heuristic, weight);
+        this.width = BeamSearch.DEFAULT_WIDTH;
+    }
+
+    /**
+     * Creates a new beam-stack search strategy.
+     *
+     * @param timeout   the time out of the planner.
+     * @param heuristic the heuristicType to use to solve the planning problem.
+     * @param weight    the weight set to the heuristic.
+     * @param width     the width of the beam. The width must be strictly positive.
+     * @throws IllegalArgumentException if <code>width &lt;= 0</code>.
+     */
+    public BeamStackSearch(final int timeout, final Heuristic.Type heuristic, final double weight, final int width) {
+        super(timeout, heuristic, weight);
+        this.setWidth(width);
+    }
+
+    /**
+     * Returns the width of the beam.
+     *
+     * @return the width of the beam.
+     */
+    public int getWidth() {
+        return this.width;
+    }
+
+    /**
+     * Sets the width of the beam.
+     *
+     * @param width the width of the beam. The width must be strictly positive.
+     * @throws IllegalArgumentException if <code>width &lt;= 0</code>.
+     */
+    public void setWidth(final int width) {
+        if (width <= 0) {
+            throw new IllegalArgumentException("width <= 0");
+        }
+        this.width = width;
+    }
+
+    /**
+     * Solves the planning problem and returns the best solution node found.
+     *
+     * @param problem the problem to be solved. The problem cannot be null.
+     * @return the best solution node or null if no solution was found.
+     */
+    @Override
+    public Node search(final CodedProblem problem) {
+        final Logger logger = Planner.getLogger();
+        Objects.requireNonNull(problem);
+        final long begin = System.currentTimeMillis();
+        final Heuristic heuristic = HeuristicToolKit.createHeuristic(this.getHeuristicType(), problem,
+            this.getHeuristicCache());
+        final BitExp goal = problem.getGoal();
+        final double weight = this.getWeight();
+        final Comparator<Node> comparator = new NodeComparator(weight).thenComparing(BeamStackSearch::compare);
+        final BitState init = new BitState(problem.getInit());
+        final Node root = new Node(init, null, -1, 0.0, 0, this.estimate(heuristic, init, goal));
+        // The beam stack: the item l is the range [min, max) of the nodes kept in the layer l + 1
+        final List<Bound[]> stack = new ArrayList<>();
+        // The nodes kept in the layers of the current beam search
+        final StateTable visited = new StateTable(this.width);
+
+        this.resetNodesStatistics();
+        this.clearResults();
+        Node solution = null;
+        double incumbent = this.getBoundCost();
+        int explored = 0;
+        int created = 0;
+        int pending = 0;
+        final int timeout = this.getTimeout();
+        long searchingTime = 0;
+        boolean optimal = this.isDeadEnd(root);
+        while (!optimal && searchingTime < timeout) {
+            // Runs a beam search restricted by the beam stack
+            visited.clear();
+            Node[] layer = new Node[] {root};
+            visited.put(root);
+            int depth = 0;
+            while (layer.length > 0 && searchingTime < timeout) {
+                for (Node node : layer) {
+                    if (node.satisfy(goal) && node.getCost() < incumbent) {
+                        solution = node;
+                        incumbent = node.getCost();
+                        this.getSolutionNodes().add(solution);
+                        fireSolution(new SolutionEvent(this, solution, problem));
+                        logger.trace("* " + this.getSolutionNodes().size() + " solution(s) found. Best cost: "
+                            + incumbent + " (depth " + depth + ")\n");
+                    }
+                }
+                if (depth == stack.size()) {
+                    stack.add(new Bound[] {new Bound(0.0, null), new Bound(incumbent, null)});
+                }
+                final Bound[] range = stack.get(depth);
+                final StateTable successors = new StateTable(2 * layer.length);
+                for (Node node : layer) {
+                    explored++;
+                    int index = 0;
+                    for (BitOp op : problem.getOperators()) {
+                        if (op.isApplicable(node)) {
+                            final Node state = new Node(node);
+                            created++;
+                            op.getCondEffects().stream().filter(ce -> node.satisfy(ce.getCondition())).forEach(ce ->
+                                state.apply(ce.getEffects())
+                            );
+                            final double g = node.getCost() + op.getCost();
+                            final Node previous = visited.get(state);
+                            final Node other = successors.get(state);
+                            if (g < incumbent && (previous == null || g < previous.getCost())
+                                    && (other == null || g < other.getCost())) {
+                                state.setCost(g);
+                                state.setParent(node);
+                                state.setOperator(index);
+                                state.setDepth(node.getDepth() + 1);
+                                state.setHeuristic(other == null ? this.estimate(heuristic, state, goal)
+                                    : other.getHeuristic());
+                                final double f = state.getValueF(weight);
+                                if (!this.isDeadEnd(state) && f < incumbent && range[0].compareTo(f, state) <= 0
+                                        && range[1].compareTo(f, state) > 0) {
+                                    successors.put(state);
+                                }
+                            }
+                        }
+                        index++;
+                    }
+                }
+                // Prunes the next layer and records the first pruned node in the beam stack
+                layer = successors.toArray();
+                if (layer.length > this.width) {
+                    Arrays.sort(layer, comparator);
+                    final Node cut = layer[this.width];
+                    range[1] = new Bound(cut.getValueF(weight), new BitState(cut));
+                    layer = Arrays.copyOf(layer, this.width);
+                }
+                for (Node node : layer) {
+                    visited.put(node);
+                }
+                depth++;
+                searchingTime = System.currentTimeMillis() - begin;
+            }
+            pending = layer.length;
+            // The layers below the last explored layer do not belong to the beam stack any more
+            while (stack.size() > depth) {
+                stack.remove(stack.size() - 1);
+            }
+
+            // Backtracks to the deepest layer with pruned nodes that can lead to a cheaper solution
+            while (!stack.isEmpty() && stack.get(stack.size() - 1)[1].value >= incumbent) {
+                stack.remove(stack.size() - 1);
+            }
+            if (stack.isEmpty()) {
+                optimal = searchingTime < timeout;
+            } else {
+                final Bound[] range = stack.get(stack.size() - 1);
+                range[0] = range[1];
+                range[1] = new Bound(incumbent, null);
+            }
+            searchingTime = System.currentTimeMillis() - begin;
+        }
+
+        this.setCreatedNodes(created);
+        this.setExploredNodes(explored);
+        this.setPendingNodes(pending);
+        this.setMemoryUsed(MemoryAgent.getDeepSizeOf(visited));
+        this.setSearchingTime(searchingTime);
+        this.clearBounds();
+        return solution;
+    }
+
+    /**
+     * Compares two states in the lexicographic order of their facts, i.e., the greatest state is the state that
+     * contains the lowest fact not contained by the other state.
+     *
+     * @param s1 the first state.
+     * @param s2 the second state.
+     * @return a negative integer, zero, or a positive integer as the first state is lower than, equal to, or greater
+     *     than the second state.
+     */
+    private static int compare(final BitState s1, final BitState s2) {
+        int i = s1.nextSetBit(0);
+        int j = s2.nextSetBit(0);
+        while (i == j && i >= 0) {
+            i = s1.nextSetBit(i + 1);
+            j = s2.nextSetBit(j + 1);
+        }
+        if (i == j) {
+            return 0;
+        } else if (i < 0) {
+            return -1;
+        } else if (j < 0) {
+            return 1;
+        }
+        return i < j ? 1 : -1;
+    }
+
+    /**
+     * This class implements a bound of a range of the beam stack, i.e., an <i>f</i> value and a state. A bound
+     * without state is lower than the nodes with the same <i>f</i> value.
+     */
+    private static final class Bound implements Serializable {
+
+        /**
+         * The serial id of the class.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * The f value of the bound.
+         */
+        private final double value;
+
+        /**
+         * The state of the bound or null if the bound is lower than all the states with the same f value.
+         */
+        private final BitState state;
+
+        /**
+         * Creates a new bound.
+         *
+         * @param value the f value of the bound.
+         * @param state the state of the bound or null.
+         */
+        Bound(final double value, final BitState state) {
+            this.value = value;
+            this.state = state;
+        }
+
+        /**
+         * Compares the bound to a node.
+         *
+         * @param value the f value of the node.
+         * @param node  the node.
+         * @return a negative integer, zero, or a positive integer as the bound is lower than, equal to, or greater
+         *     than the node.
+         */
+        int compareTo(final double value, final BitState node) {
+            final int cmp = Double.compare(this.value, value);
+            if (cmp != 0) {
+                return cmp;
+            }
+            return this.state == null ? -1 : BeamStackSearch.compare(this.state, node);
+        }
+    }
+}
@@ -0,0 +1,285 @@
+/*
+ * Copyright (c) 2016 by Damien Pellier <Damien.Pellier@imag.fr>.
+ *
+ * This file is part of PDDL4J library.
+ *
+ * PDDL4J is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * PDDL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with PDDL4J.  If not, see
+ * <http://www.gnu.org/licenses/>
+ */
+
+package fr.uga.pddl4j.planners.statespace.search.strategy;
+
+import fr.uga.pddl4j.encoding.CodedProblem;
+import fr.uga.pddl4j.heuristics.relaxation.Heuristic;
+import fr.uga.pddl4j.heuristics.relaxation.HeuristicToolKit;
+import fr.uga.pddl4j.util.BitExp;
+import fr.uga.pddl4j.util.BitOp;
+import fr.uga.pddl4j.util.BitState;
+import fr.uga.pddl4j.util.MemoryAgent;
+import fr.uga.pddl4j.util.SolutionEvent;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * This class implements the Best First Width Search strategy. For more information on this strategy
+ * see N. Lipovetzky and H. Geffner. "Best-First Width Search: Exploration and Exploitation in
+ * Classical Planning". In proceedings of the 31st AAAI Conference on Artificial Intelligence, 2017.
+ * <p>
+ * The nodes are ordered first by their novelty, then by the number of goals they do not satisfy and
+ * finally by their heuristic value. The novelty of a node is computed with a novelty table (see
+ * {@link NoveltyTable}) specific to its heuristic value and to its number of unsatisfied goals, so
+ * that a state is novel if it makes a fact or a pair of facts true for the first time among the
+ * states with the same heuristic value and the same goal count. Unlike IW(k), the states which are
+ * not novel are not pruned but expanded last, which keeps the search complete.
+ * </p>
+ * <p>
+ * A node for which the heuristic returns <code>Integer.MAX_VALUE</code>, i.e., a node from which the
+ * goal is not reachable, is pruned.
+ * </p>
+ *
+ * @author PDDL4J contributors
+ * @version 1.0 - 19.10.2026
+ * @see IteratedWidth
+ */
+public final class BestFirstWidthSearch extends AbstractStateSpaceStrategy {
+
+    /**
+     * The serial id of the class.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The default width of the novelty tables.
+     */
+    public static final int DEFAULT_WIDTH = 2;
+
+    /**
+     * The width of the novelty tables.
+     */
+    private int width;
+
+    /**
+     * Returns the width of the novelty tables.
+     *
+     * @return the width of the novelty tables.
+     */
+    public int getWidth() {
+        return this.width;
+    }
+
+    /**
+     * Sets the width of the novelty tables.
+     *
+     * @param width the width of the novelty tables.
+     * @throws IllegalArgumentException if <code>width &lt; 1 || width &gt; NoveltyTable.MAX_WIDTH</code>.
+     */
+    public void setWidth(final int width) {
+        if (width < 1 || width > NoveltyTable.MAX_WIDTH) {
+            throw new IllegalArgumentException("width must be between 1 and " + NoveltyTable.MAX_WIDTH);
+        }
+        this.width = width;
+    }
+
+    /**
+     * Creates a new Best First Width Search search strategy with default parameters.
+     */
+    public BestFirstWidthSearch() {
+        super();
+        this.width = BestFirstWidthSearch.DEFAULT_WIDTH;
+    }
+
+    /**
+     * Creates a new Best First Width Search search strategy with the default width.
+     *
+     * @param timeout   the time out of the planner.
+     * @param heuristic the heuristicType to use to solve the planning problem.
+     * @param weight    the weight set to the heuristic.
+     */
+    public BestFirstWidthSearch(int timeout, Heuristic.Type heuristic, double weight) {
+        this(timeout, heuristic, weight, BestFirstWidthSearch.DEFAULT_WIDTH);
+    }
+
+    /**
+     * Creates a new Best First Width Search search strategy.
+     *
+     * @param timeout   the time out of the planner.
+     * @param heuristic the heuristicType to use to solve the planning problem.
+     * @param weight    the weight set to the heuristic.
+     * @param width     the width of the novelty tables.
+     * @throws IllegalArgumentException if <code>width &lt; 1 || width &gt; NoveltyTable.MAX_WIDTH</code>.
+     */
+    public BestFirstWidthSearch(int timeout, Heuristic.Type heuristic, double weight, int width) {
+        super(timeout, heuristic, weight);
+        this.setWidth(width);
+    }
+
+    /**
+     * The best first width search algorithm. Solves the planning problem and returns the first solution found.
+     *
+     * @param codedProblem the problem to be solved. The problem cannot be null.
+     * @return a solution node or null if it does not exist.
+     */
+    public Node search(final CodedProblem codedProblem) {
+        Objects.requireNonNull(codedProblem);
+        final long begin = System.currentTimeMillis();
+
+        final Heuristic heuristic = HeuristicToolKit.createHeuristic(getHeuristicType(), codedProblem,
+            this.getHeuristicCache());
+        final Map<Double, NoveltyTable[]> tables = new HashMap<>();
+        final PriorityQueue<Entry> openList = new PriorityQueue<>(100, Comparator.comparingInt(Entry::getNovelty)
+            .thenComparingInt(Entry::getGoalCount).thenComparingDouble(e -> e.getNode().getHeuristic()));
+        final Set<Node> openSet = new HashSet<>();
+        final Set<Node> closeSet = new HashSet<>();
+        final int timeout = getTimeout();
+
+        final BitState init = new BitState(codedProblem.getInit());
+        final Node root = new Node(init, null, -1, 0.0, 0, 0.0);
+
+        this.resetNodesStatistics();
+        this.push(root, heuristic, tables, openList, openSet, codedProblem);
+        Node solution = null;
+        long searchingTime = 0;
+        while (!openList.isEmpty() && solution == null && searchingTime < timeout) {
+            final Node current = openList.poll().getNode();
+            openSet.remove(current);
+            closeSet.add(current);
+            if (current.satisfy(codedProblem.getGoal())) {
+                solution = current;
+                fireSolution(new SolutionEvent(this, solution, codedProblem));
+            } else {
+                int index = 0;
+                for (BitOp op : codedProblem.getOperators()) {
+                    // Test if a specified operator is applicable in the current state
+                    if (op.isApplicable(current)) {
+                        final Node successor = new Node(current);
+                        this.setCreatedNodes(this.getCreatedNodes() + 1);
+                        // Apply the effect of the applicable operator
+                        op.getCondEffects().stream().filter(ce -> current.satisfy(ce.getCondition()))
+                            .forEach(ce -> successor.apply(ce.getEffects()));
+                        // Each state is evaluated only once
+                        if (!closeSet.contains(successor) && !openSet.contains(successor)) {
+                            successor.setCost(current.getCost() + op.getCost());
+                            successor.setParent(current);
+                            successor.setOperator(index);
+                            successor.setDepth(current.getDepth() + 1);
+                            this.push(successor, heuristic, tables, openList, openSet, codedProblem);
+                        }
+                    }
+                    index++;
+                }
+            }
+            // Take time to compute the searching time
+            searchingTime = System.currentTimeMillis() - begin;
+        }
+
+        this.setExploredNodes(closeSet.size());
+        this.setPendingNodes(openSet.size());
+        this.setMemoryUsed(MemoryAgent.getDeepSizeOf(closeSet) + MemoryAgent.getDeepSizeOf(openList)
+            + MemoryAgent.getDeepSizeOf(tables) + MemoryAgent.getDeepSizeOf(heuristic));
+        this.setSearchingTime(searchingTime);
+
+        return solution;
+    }
+
+    /**
+     * Evaluates a node and inserts it in the open list. The novelty of the node is computed with the
+     * novelty table of its heuristic value and of its goal count. The node is pruned if the heuristic
+     * considers that the goal is not reachable from the node or if it is a known dead end.
+     *
+     * @param node      the node to insert.
+     * @param heuristic the heuristic.
+     * @param tables    the novelty tables of each heuristic value indexed by goal count.
+     * @param openList  the open list.
+     * @param openSet   the set of the pending nodes.
+     * @param problem   the problem to be solved.
+     */
+    private void push(final Node node, final Heuristic heuristic, final Map<Double, NoveltyTable[]> tables,
+                      final PriorityQueue<Entry> openList, final Set<Node> openSet, final CodedProblem problem) {
+        final double h = this.estimate(heuristic, node, problem.getGoal());
+        if (h < Integer.MAX_VALUE) {
+            node.setHeuristic(h);
+            final BitExp goal = problem.getGoal();
+            final int goalCount = node.countUnsatisfied(goal);
+            final NoveltyTable[] partition = tables.computeIfAbsent(h,
+                k -> new NoveltyTable[goal.getPositive().cardinality() + goal.getNegative().cardinality() + 1]);
+            if (partition[goalCount] == null) {
+                partition[goalCount] = new NoveltyTable(problem.getRelevantFacts().size(), this.width);
+            }
+            openSet.add(node);
+            openList.add(new Entry(node, partition[goalCount].evaluate(node), goalCount));
+        }
+    }
+
+    /**
+     * This class defines an entry of the open list, i.e., a node, its novelty and its goal count.
+     */
+    private static final class Entry {
+
+        /**
+         * The node of the entry.
+         */
+        private final Node node;
+
+        /**
+         * The novelty of the node.
+         */
+        private final int novelty;
+
+        /**
+         * The number of goals not satisfied by the node.
+         */
+        private final int goalCount;
+
+        /**
+         * Creates a new entry.
+         *
+         * @param node      the node of the entry.
+         * @param novelty   the novelty of the node.
+         * @param goalCount the number of goals not satisfied by the node.
+         */
+        private Entry(final Node node, final int novelty, final int goalCount) {
+            this.node = node;
+            this.novelty = novelty;
+            this.goalCount = goalCount;
+        }
+
+        /**
+         * Returns the node of the entry.
+         *
+         * @return the node of the entry.
+         */
+        private Node getNode() {
+            return this.node;
+        }
+
+        /**
+         * Returns the novelty of the node.
+         *
+         * @return the novelty of the node.
+         */
+        private int getNovelty() {
+            return this.novelty;
+        }
+
+        /**
+         * Returns the number of goals not satisfied by the node.
+         *
+         * @return the number of goals not satisfied by the node.
+         */
+        private int getGoalCount() {
+            return this.goalCount;
+        }
+    }
+}
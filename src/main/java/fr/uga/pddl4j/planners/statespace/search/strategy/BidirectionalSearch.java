@@ -0,0 +1,408 @@
+/*
+ * Copyright (c) 2016 by Damien Pellier <Damien.Pellier@imag.fr>.
+ *
+ * This file is part of PDDL4J library.
+ *
+ * PDDL4J is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * PDDL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with PDDL4J.  If not, see
+ * <http://www.gnu.org/licenses/>
+ */
+
+package fr.uga.pddl4j.planners.statespace.search.strategy;
+
+import fr.uga.pddl4j.encoding.CodedProblem;
+import fr.uga.pddl4j.heuristics.relaxation.Heuristic;
+import fr.uga.pddl4j.heuristics.relaxation.HeuristicToolKit;
+import fr.uga.pddl4j.planners.Planner;
+import fr.uga.pddl4j.util.BitOp;
+import fr.uga.pddl4j.util.BitState;
+import fr.uga.pddl4j.util.BitVector;
+import fr.uga.pddl4j.util.MemoryAgent;
+import fr.uga.pddl4j.util.SolutionEvent;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+
+/**
+ * This class implements a bidirectional front-to-end search strategy. A forward A* search from the initial state,
+ * guided by the heuristic of the strategy, and a backward regression search from the goal over subgoals are
+ * interleaved: at each iteration, the direction with the smallest number of pending nodes is expanded. The search
+ * stops when a state generated forward satisfies a subgoal generated backward; the plan is the path from the initial
+ * state to the state followed by the operators regressed from the goal to the subgoal.
+ * <p>
+ * The meetings are detected with two tries keyed on the facts, where each state and each subgoal is stored once. The
+ * forward states are stored by their true facts in increasing order: a new subgoal only follows the branches of the
+ * facts that are not negative in the subgoal and that do not skip its next positive fact. The subgoals are stored by
+ * their literals in increasing order of fact: a new state only follows the branches of the literals that it
+ * satisfies. The memory of the index is therefore at most linear in the size of the states and of the subgoals.
+ * The plan returned is not optimal in general since the search stops at the first meeting.
+ * </p>
+ *
+ * @author PDDL4J contributors
+ * @version 1.0 - 19.10.2026
+ * @see RegressionSearch
+ */
+public final class BidirectionalSearch extends AbstractStateSpaceStrategy {
+
+    /**
+     * The serial id of the class.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The number of forward expansions of the last search.
+     */
+    private int forwardExpansions;
+
+    /**
+     * The number of backward expansions of the last search.
+     */
+    private int backwardExpansions;
+
+    /**
+     * Creates a new bidirectional search strategy with default parameters.
+     */
+    public BidirectionalSearch() {
+        super();
+    }
+
+    /**
+     * Creates a new bidirectional search strategy.
+     *
+     * @param timeout the time out of the planner.
+     */
+    public BidirectionalSearch(final int timeout) {
+        super(timeout);
+    }
+
+    /**
+     * Creates a new bidirectional search strategy.
+     *
+     * @param timeout   the time out of the planner.
+     * @param heuristic the heuristic used by the forward search.
+     * @param weight    the weight set to the heuristics.
+     */
+    public BidirectionalSearch(final int timeout, final Heuristic.Type heuristic, final double weight) {
+        super(timeout, heuristic, weight);
+    }
+
+    /**
+     * Returns the number of forward expansions of the last search.
+     *
+     * @return the number of forward expansions of the last search.
+     */
+    public int getForwardExpansions() {
+        return this.forwardExpansions;
+    }
+
+    /**
+     * Returns the number of backward expansions of the last search.
+     *
+     * @return the number of backward expansions of the last search.
+     */
+    public int getBackwardExpansions() {
+        return this.backwardExpansions;
+    }
+
+    /**
+     * Solves the planning problem and returns the first solution node found.
+     *
+     * @param codedProblem the problem to be solved. The problem cannot be null.
+     * @return a solution node or null if no solution was found.
+     */
+    @Override
+    public Node search(final CodedProblem codedProblem) {
+        Objects.requireNonNull(codedProblem);
+        final long begin = System.currentTimeMillis();
+        this.resetNodesStatistics();
+        this.forwardExpansions = 0;
+        this.backwardExpansions = 0;
+        final Heuristic heuristic = HeuristicToolKit.createHeuristic(this.getHeuristicType(), codedProblem,
+            this.getHeuristicCache());
+        final Regression regression = new Regression(codedProblem);
+        final MeetingIndex meetings = new MeetingIndex();
+        final double weight = this.getWeight();
+
+        // The forward search keeps the node of lowest cost of each state
+        final Map<BitState, Node> states = new HashMap<>();
+        final PriorityQueue<Node> forward = new PriorityQueue<>(100, new NodeComparator(weight));
+        final BitState init = new BitState(codedProblem.getInit());
+        final Node root = new Node(init, null, -1, 0, this.estimate(heuristic, init, codedProblem.getGoal()));
+        forward.add(root);
+        states.put(root, root);
+        meetings.add(root);
+
+        final PriorityQueue<Subgoal> backward = new PriorityQueue<>(100,
+            Comparator.<Subgoal>comparingDouble(s -> s.getValueF(weight)).thenComparingDouble(Subgoal::getHeuristic));
+        final SubgoalIndex subgoals = new SubgoalIndex();
+        final Subgoal goal = regression.root();
+        backward.add(goal);
+        subgoals.add(goal);
+        this.setCreatedNodes(2);
+
+        Node solution = null;
+        final BitState meeting = meetings.add(goal);
+        if (meeting != null) {
+            solution = regression.extract(states.get(meeting), goal);
+        }
+        final int timeout = this.getTimeout();
+        long time = 0;
+        while (!forward.isEmpty() && !backward.isEmpty() && solution == null && time < timeout) {
+            if (forward.size() <= backward.size()) {
+                final Node current = forward.poll();
+                // Skip the nodes of the states reached since with a lower cost
+                if (states.get(current) == current) {
+                    this.forwardExpansions++;
+                    solution = this.expand(current, codedProblem, heuristic, states, forward, meetings, regression);
+                }
+            } else {
+                final Subgoal current = backward.poll();
+                this.backwardExpansions++;
+                for (int i = 0; i < codedProblem.getOperators().size() && solution == null; i++) {
+                    final Subgoal successor = regression.regress(current, i);
+                    if (successor != null && !subgoals.isSubsumed(successor, successor.getCost())) {
+                        this.setCreatedNodes(this.getCreatedNodes() + 1);
+                        subgoals.add(successor);
+                        backward.add(successor);
+                        final BitState state = meetings.add(successor);
+                        if (state != null) {
+                            solution = regression.extract(states.get(state), successor);
+                        }
+                    }
+                }
+            }
+            time = System.currentTimeMillis() - begin;
+        }
+        if (solution != null) {
+            fireSolution(new SolutionEvent(this, solution, codedProblem));
+        } else if (time >= timeout) {
+            Planner.getLogger().trace("* search stopped: time out reached\n");
+        }
+
+        this.setExploredNodes(this.forwardExpansions + this.backwardExpansions);
+        this.setPendingNodes(forward.size() + backward.size());
+        this.setMemoryUsed(MemoryAgent.getDeepSizeOf(states) + MemoryAgent.getDeepSizeOf(subgoals)
+            + MemoryAgent.getDeepSizeOf(meetings));
+        this.setSearchingTime(time);
+        return solution;
+    }
+
+    /**
+     * Expands a node of the forward search and returns the solution node if a new state satisfies a subgoal.
+     *
+     * @param current    the node to expand.
+     * @param problem    the problem.
+     * @param heuristic  the heuristic of the forward search.
+     * @param states     the node of lowest cost of each state generated.
+     * @param open       the pending nodes of the forward search.
+     * @param meetings   the index used to detect the meetings of the two searches.
+     * @param regression the regression of the problem.
+     * @return the solution node or null if no new state satisfies a subgoal.
+     */
+    private Node expand(final Node current, final CodedProblem problem, final Heuristic heuristic,
+                        final Map<BitState, Node> states, final PriorityQueue<Node> open, final MeetingIndex meetings,
+                        final Regression regression) {
+        final List<BitOp> operators = problem.getOperators();
+        for (int i = 0; i < operators.size(); i++) {
+            final BitOp op = operators.get(i);
+            if (op.isApplicable(current)) {
+                final BitState state = new BitState(current);
+                op.getCondEffects().stream().filter(ce -> current.satisfy(ce.getCondition()))
+                    .forEach(ce -> state.apply(ce.getEffects()));
+                final double g = current.getCost() + op.getCost();
+                final Node previous = states.get(state);
+                if (previous == null || g < previous.getCost()) {
+                    final double h = previous == null
+                        ? this.estimate(heuristic, state, problem.getGoal()) : previous.getHeuristic();
+                    final Node successor = new Node(state, current, i, g, current.getDepth() + 1, h);
+                    this.setCreatedNodes(this.getCreatedNodes() + 1);
+                    if (previous != null || !this.isDeadEnd(successor)) {
+                        states.put(successor, successor);
+                        open.add(successor);
+                        if (previous == null) {
+                            final Subgoal subgoal = meetings.add(successor);
+                            if (subgoal != null) {
+                                return regression.extract(successor, subgoal);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * This class implements the index used to detect the forward states that satisfy a backward subgoal.
+     */
+    private static final class MeetingIndex implements Serializable {
+
+        /**
+         * The serial id of the class.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * The trie of the states keyed on their true facts.
+         */
+        private final Branch<BitState> states;
+
+        /**
+         * The trie of the subgoals keyed on their literals. The key of a literal of a fact f is 2f + 1 if the literal
+         * is positive and 2f otherwise.
+         */
+        private final Branch<Subgoal> subgoals;
+
+        /**
+         * Creates a new empty index.
+         */
+        MeetingIndex() {
+            this.states = new Branch<>();
+            this.subgoals = new Branch<>();
+        }
+
+        /**
+         * Adds a state to the index and returns a subgoal of the index that it satisfies.
+         *
+         * @param state the state.
+         * @return a subgoal satisfied by the state or null if the state satisfies no subgoal of the index.
+         */
+        Subgoal add(final BitState state) {
+            Branch<BitState> branch = this.states;
+            for (int f = state.nextSetBit(0); f >= 0; f = state.nextSetBit(f + 1)) {
+                branch = branch.getChild(f);
+            }
+            if (branch.value == null) {
+                branch.value = state;
+            }
+            return MeetingIndex.find(this.subgoals, state);
+        }
+
+        /**
+         * Adds a subgoal to the index and returns a state of the index that satisfies it.
+         *
+         * @param subgoal the subgoal.
+         * @return a state that satisfies the subgoal or null if no state of the index satisfies the subgoal.
+         */
+        BitState add(final Subgoal subgoal) {
+            final BitVector positive = subgoal.getPositive();
+            final BitVector negative = subgoal.getNegative();
+            final BitVector facts = new BitVector(positive);
+            facts.or(negative);
+            Branch<Subgoal> branch = this.subgoals;
+            for (int f = facts.nextSetBit(0); f >= 0; f = facts.nextSetBit(f + 1)) {
+                branch = branch.getChild(2 * f + (positive.get(f) ? 1 : 0));
+            }
+            if (branch.value == null) {
+                branch.value = subgoal;
+            }
+            return MeetingIndex.find(this.states, positive, negative, positive.nextSetBit(0));
+        }
+
+        /**
+         * Returns a subgoal of a trie satisfied by a state.
+         *
+         * @param branch the root of the trie.
+         * @param state  the state.
+         * @return a subgoal satisfied by the state or null if the state satisfies no subgoal of the trie.
+         */
+        private static Subgoal find(final Branch<Subgoal> branch, final BitState state) {
+            if (branch.value != null) {
+                return branch.value;
+            }
+            for (Map.Entry<Integer, Branch<Subgoal>> child : branch.children.entrySet()) {
+                final int literal = child.getKey();
+                if (state.get(literal >> 1) == ((literal & 1) == 1)) {
+                    final Subgoal subgoal = MeetingIndex.find(child.getValue(), state);
+                    if (subgoal != null) {
+                        return subgoal;
+                    }
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Returns a state of a trie that satisfies a subgoal. The facts of the branch followed are lower than the
+         * next positive fact of the subgoal that is not yet matched.
+         *
+         * @param branch   the branch of the trie.
+         * @param positive the positive facts of the subgoal.
+         * @param negative the negative facts of the subgoal.
+         * @param next     the next positive fact of the subgoal not yet matched or -1 if all are matched.
+         * @return a state that satisfies the subgoal or null if no state of the branch satisfies the subgoal.
+         */
+        private static BitState find(final Branch<BitState> branch, final BitVector positive,
+                                     final BitVector negative, final int next) {
+            if (next < 0 && branch.value != null) {
+                return branch.value;
+            }
+            final Map<Integer, Branch<BitState>> children = next < 0 ? branch.children
+                : branch.children.headMap(next, true);
+            for (Map.Entry<Integer, Branch<BitState>> child : children.entrySet()) {
+                final int fact = child.getKey();
+                if (!negative.get(fact)) {
+                    final int following = fact == next ? positive.nextSetBit(fact + 1) : next;
+                    final BitState state = MeetingIndex.find(child.getValue(), positive, negative, following);
+                    if (state != null) {
+                        return state;
+                    }
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * This class implements a branch of the tries of the meeting index.
+     *
+     * @param <T> the type of the values stored in the trie.
+     */
+    private static final class Branch<T> implements Serializable {
+
+        /**
+         * The serial id of the class.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * The children of the branch sorted by key.
+         */
+        private final TreeMap<Integer, Branch<T>> children;
+
+        /**
+         * The value stored at the end of the branch or null if no value ends here.
+         */
+        private T value;
+
+        /**
+         * Creates a new empty branch.
+         */
+        Branch() {
+            this.children = new TreeMap<>();
+            this.value = null;
+        }
+
+        /**
+         * Returns the child of a key, creating it if it does not exist.
+         *
+         * @param key the key.
+         * @return the child of the key.
+         */
+        Branch<T> getChild(final int key) {
+            return this.children.computeIfAbsent(key, k -> new Branch<>());
+        }
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2016 by Damien Pellier <Damien.Pellier@imag.fr>.
+ *
+ * This file is part of PDDL4J library.
+ *
+ * PDDL4J is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * PDDL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with PDDL4J.  If not, see
+ * <http://www.gnu.org/licenses/>
+ */
+
+package fr.uga.pddl4j.planners.statespace.search.strategy;
+
+import fr.uga.pddl4j.util.BitState;
+
+import java.util.Arrays;
+
+/**
+ * This class implements a set of visited states with bitstate hashing, also known as supertrace (G. J. Holzmann, "An
+ * analysis of bitstate hashing", Formal Methods in System Design, 1998). A state is stored by setting the bits of a
+ * large bit array given by <i>k</i> hash functions of the state and a state is reported as visited if all its bits are
+ * set. The memory of the set is fixed and a state costs only a few bits, but a state whose bits were all set by other
+ * states is omitted.
+ * <p>
+ * The <i>k</i> bit indexes are computed by double hashing from a 64 bits hash code of the state. When a state is added,
+ * the probability that it would have been omitted is the fraction of the bits set raised to the power <i>k</i>; the
+ * omission probability of the set is computed from these probabilities for all the states added.
+ * </p>
+ *
+ * @author PDDL4J contributors
+ * @version 1.0 - 19.10.2026
+ */
+public final class BitStateHashing implements VisitedSet {
+
+    /**
+     * The serial id of the class.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The default number of bits of the bit array, i.e., 2^27 bits or 16 MB.
+     */
+    public static final long DEFAULT_BITS = 1L << 27;
+
+    /**
+     * The default number of hash functions.
+     */
+    public static final int DEFAULT_HASH_FUNCTIONS = 3;
+
+    /**
+     * The bit array.
+     */
+    private final long[] bits;
+
+    /**
+     * The mask of the bit indexes.
+     */
+    private final long mask;
+
+    /**
+     * The number of hash functions.
+     */
+    private final int functions;
+
+    /**
+     * The number of states added.
+     */
+    private long size;
+
+    /**
+     * The number of bits set.
+     */
+    private long ones;
+
+    /**
+     * The logarithm of the probability that no state was omitted.
+     */
+    private double logNoOmission;
+
+    /**
+     * Creates a new empty set with the default number of bits and hash functions.
+     */
+    public BitStateHashing() {
+        this(BitStateHashing.DEFAULT_BITS, BitStateHashing.DEFAULT_HASH_FUNCTIONS);
+    }
+
+    /**
+     * Creates a new empty set.
+     *
+     * @param bits      the number of bits of the bit array. The number is rounded up to a power of two and must be
+     *                  between 64 and 2^36.
+     * @param functions the number of hash functions. The number must be strictly positive.
+     * @throws IllegalArgumentException if <code>bits &lt; 64 || bits &gt; 2^36</code> or
+     *                                  <code>functions &lt;= 0</code>.
+     */
+    public BitStateHashing(final long bits, final int functions) {
+        if (bits < Long.SIZE || bits > 1L << 36) {
+            throw new IllegalArgumentException("bits < 64 || bits > 2^36");
+        }
+        if (functions <= 0) {
+            throw new IllegalArgumentException("functions <= 0");
+        }
+        final long length = Long.highestOneBit(bits - 1) << 1;
+        this.bits = new long[(int) (length / Long.SIZE)];
+        this.mask = length - 1;
+        this.functions = functions;
+        this.clear();
+    }
+
+    /**
+     * Returns the number of bits of the bit array.
+     *
+     * @return the number of bits of the bit array.
+     */
+    public long getBits() {
+        return this.mask + 1;
+    }
+
+    /**
+     * Returns the number of hash functions.
+     *
+     * @return the number of hash functions.
+     */
+    public int getHashFunctions() {
+        return this.functions;
+    }
+
+    /**
+     * Adds a state to the set if one of its bits is not set.
+     *
+     * @param state the state.
+     * @return <code>true</code> if the state was added; <code>false</code> if it is reported as visited.
+     */
+    @Override
+    public boolean add(final BitState state) {
+        final long hash = VisitedSet.hash(state);
+        final long step = VisitedSet.mix(hash) | 1L;
+        final double fill = (double) this.ones / (this.mask + 1);
+        boolean added = false;
+        long index = hash;
+        for (int i = 0; i < this.functions; i++) {
+            final int word = (int) ((index & this.mask) >>> 6);
+            final long bit = 1L << index;
+            if ((this.bits[word] & bit) == 0) {
+                this.bits[word] |= bit;
+                this.ones++;
+                added = true;
+            }
+            index += step;
+        }
+        if (added) {
+            this.size++;
+            this.logNoOmission += Math.log1p(-Math.pow(fill, this.functions));
+        }
+        return added;
+    }
+
+    /**
+     * Returns if all the bits of a state are set.
+     *
+     * @param state the state.
+     * @return <code>true</code> if the state is reported as visited; <code>false</code> otherwise.
+     */
+    @Override
+    public boolean contains(final BitState state) {
+        final long hash = VisitedSet.hash(state);
+        final long step = VisitedSet.mix(hash) | 1L;
+        long index = hash;
+        for (int i = 0; i < this.functions; i++) {
+            if ((this.bits[(int) ((index & this.mask) >>> 6)] & 1L << index) == 0) {
+                return false;
+            }
+            index += step;
+        }
+        return true;
+    }
+
+    /**
+     * Returns the number of states added to the set since it was cleared.
+     *
+     * @return the number of states added to the set since it was cleared.
+     */
+    @Override
+    public long size() {
+        return this.size;
+    }
+
+    /**
+     * Returns an estimate of the probability that at least one state was omitted since the set was cleared.
+     *
+     * @return an estimate of the probability that at least one state was omitted.
+     */
+    @Override
+    public double getOmissionProbability() {
+        return -Math.expm1(this.logNoOmission);
+    }
+
+    /**
+     * Removes all the states of the set.
+     */
+    @Override
+    public void clear() {
+        Arrays.fill(this.bits, 0L);
+        this.size = 0;
+        this.ones = 0;
+        this.logNoOmission = 0.0;
+    }
+}
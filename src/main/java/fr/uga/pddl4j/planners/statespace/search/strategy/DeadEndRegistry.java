@@ -0,0 +1,223 @@
+/*
+ * Copyright (c) 2016 by Damien Pellier <Damien.Pellier@imag.fr>.
+ *
+ * This file is part of PDDL4J library.
+ *
+ * PDDL4J is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * PDDL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with PDDL4J.  If not, see
+ * <http://www.gnu.org/licenses/>
+ */
+
+
+package fr.uga.pddl4j.planners.statespace.search.strategy;
+
+import fr.uga.pddl4j.encoding.CodedProblem;
+import fr.uga.pddl4j.heuristics.relaxation.BitSlicedReachability;
+import fr.uga.pddl4j.util.BitState;
+import fr.uga.pddl4j.util.BitVector;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * This class implements a registry of the dead ends found during a search. The registry is meant to be owned by a
+ * planner and shared by all the strategies of the planner so that a state proved dead by the heuristic in a phase,
+ * e.g., the enforced hill climbing of <code>FFAnytime</code>, is pruned in the following phases before its heuristic
+ * value is computed again.
+ * <p>
+ * A dead end is a state from which the goal of the problem is unreachable in the delete relaxation. As the relaxation
+ * is monotonic, every state whose propositions are all reached by the relaxed exploration of a dead end is also a
+ * dead end. When learning is enabled, the registry keeps, for each dead end recorded, the set of the propositions not
+ * reached by its relaxed exploration: a state is then a dead end as soon as it contains none of these propositions.
+ * The patterns subsumed by a more general pattern are removed and the number of patterns is bounded, the oldest
+ * pattern being removed first. When learning is disabled, only the dead ends themselves are recorded.
+ * </p>
+ *
+ * @author PDDL4J contributors
+ * @version 1.0 - 19.10.2026
+ */
+public final class DeadEndRegistry implements Serializable {
+
+    /**
+     * The serial id of the class.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The default maximum number of learned patterns.
+     */
+    public static final int DEFAULT_MAX_PATTERNS = 1024;
+
+    /**
+     * The dead ends recorded.
+     */
+    private final Set<BitVector> states;
+
+    /**
+     * The learned patterns, i.e., the propositions not reached by the relaxed exploration of a dead end.
+     */
+    private final List<BitVector> patterns;
+
+    /**
+     * The flag used to enable the learning of the patterns.
+     */
+    private final boolean learning;
+
+    /**
+     * The maximum number of learned patterns.
+     */
+    private final int maxPatterns;
+
+    /**
+     * The problem of the dead ends recorded.
+     */
+    private CodedProblem problem;
+
+    /**
+     * The relaxed exploration used to learn the patterns.
+     */
+    private BitSlicedReachability reachability;
+
+    /**
+     * The number of states pruned by the registry.
+     */
+    private long hits;
+
+    /**
+     * Creates a new registry that learns patterns.
+     */
+    public DeadEndRegistry() {
+        this(true, DeadEndRegistry.DEFAULT_MAX_PATTERNS);
+    }
+
+    /**
+     * Creates a new registry.
+     *
+     * @param learning    <code>true</code> to learn patterns from the relaxed exploration of the dead ends;
+     *                    <code>false</code> to record only the dead ends.
+     * @param maxPatterns the maximum number of learned patterns. The maximum number must be strictly positive.
+     * @throws IllegalArgumentException if <code>maxPatterns &lt;= 0</code>.
+     */
+    public DeadEndRegistry(final boolean learning, final int maxPatterns) {
+        super();
+        if (maxPatterns <= 0) {
+            throw new IllegalArgumentException("maxPatterns <= 0");
+        }
+        this.states = new HashSet<>();
+        this.patterns = new ArrayList<>();
+        this.learning = learning;
+        this.maxPatterns = maxPatterns;
+        this.problem = null;
+        this.reachability = null;
+        this.hits = 0;
+    }
+
+    /**
+     * Binds the registry to a problem. The dead ends recorded for a previous problem are removed.
+     *
+     * @param problem the problem.
+     */
+    public void bind(final CodedProblem problem) {
+        if (this.problem != problem) {
+            this.states.clear();
+            this.patterns.clear();
+            this.problem = problem;
+            this.reachability = null;
+        }
+    }
+
+    /**
+     * Returns if a state is a known dead end. A state is a known dead end if it was recorded or if it contains none of
+     * the propositions of a learned pattern.
+     *
+     * @param state the state.
+     * @return <code>true</code> if the state is a known dead end; <code>false</code> otherwise.
+     */
+    public boolean isDeadEnd(final BitState state) {
+        boolean dead = this.states.contains(state);
+        for (int i = 0; i < this.patterns.size() && !dead; i++) {
+            dead = !state.intersects(this.patterns.get(i));
+        }
+        if (dead) {
+            this.hits++;
+        }
+        return dead;
+    }
+
+    /**
+     * Records a dead end, i.e., a state from which the heuristic proved the goal of the problem unreachable. When
+     * learning is enabled and the registry is bound to a problem, a pattern is learned from the relaxed exploration of
+     * the state.
+     *
+     * @param state the dead end.
+     */
+    public void add(final BitState state) {
+        if (this.learning && this.problem != null) {
+            if (this.reachability == null) {
+                this.reachability = new BitSlicedReachability(this.problem);
+            }
+            if (this.reachability.estimate(state, this.problem.getGoal()) == Integer.MAX_VALUE) {
+                final BitVector pattern = this.reachability.getReachedFacts(0);
+                pattern.flip(0, this.problem.getRelevantFacts().size());
+                final Iterator<BitVector> i = this.patterns.iterator();
+                while (i.hasNext()) {
+                    final BitVector other = i.next();
+                    if (other.include(pattern)) {
+                        i.remove();
+                    }
+                }
+                if (this.patterns.size() == this.maxPatterns) {
+                    this.patterns.remove(0);
+                }
+                this.patterns.add(pattern);
+                return;
+            }
+        }
+        this.states.add(new BitVector(state));
+    }
+
+    /**
+     * Returns the number of dead ends recorded without pattern.
+     *
+     * @return the number of dead ends recorded without pattern.
+     */
+    public int size() {
+        return this.states.size();
+    }
+
+    /**
+     * Returns the number of learned patterns.
+     *
+     * @return the number of learned patterns.
+     */
+    public int getNumberOfPatterns() {
+        return this.patterns.size();
+    }
+
+    /**
+     * Returns the number of states pruned by the registry.
+     *
+     * @return the number of states pruned by the registry.
+     */
+    public long getHits() {
+        return this.hits;
+    }
+
+    /**
+     * Removes the dead ends and the patterns recorded and resets the counter of the registry.
+     */
+    public void clear() {
+        this.states.clear();
+        this.patterns.clear();
+        this.hits = 0;
+    }
+}
@@ -37,6 +37,11 @@ public final class DepthFirstSearch extends AbstractStateSpaceStrategy {
      */
     private static final long serialVersionUID = 1L;
 
+    /**
+     * The set of the visited states or null to use the closed list of the strategy.
+     */
+    private VisitedSet visitedSet;
+
     /**
      * Creates a new Greedy best First Search search strategy with default parameters.
      */
@@ -53,6 +58,26 @@ public final class DepthFirstSearch extends AbstractStateSpaceStrategy {
         super(timeout);
     }
 
+    /**
+     * Returns the set of the visited states used by the strategy.
+     *
+     * @return the set of the visited states used by the strategy or null if the strategy uses its own closed list.
+     */
+    @Override
+    public VisitedSet getVisitedSet() {
+        return this.visitedSet;
+    }
+
+    /**
+     * Sets the set of the visited states used by the strategy.
+     *
+     * @param visitedSet the set of the visited states or null to use the closed list of the strategy.
+     */
+    @Override
+    public void setVisitedSet(final VisitedSet visitedSet) {
+        this.visitedSet = visitedSet;
+    }
+
     /**
      * The greedy best first search algorithm. Solves the planning problem and returns the first solution plan found.
      * This method must be completed.
@@ -72,9 +97,16 @@ public final class DepthFirstSearch extends AbstractStateSpaceStrategy {
         Node root = new Node(init, null, 0, 0, 0);
         root.setDepth(0);
         openSet.add(root);
+        // The set of the visited states replaces the closed list if the strategy uses one
+        final VisitedSet visited = this.getVisitedSet();
+        if (visited != null) {
+            visited.clear();
+            visited.add(root);
+        }
 
         this.resetNodesStatistics();
         Node solution = null;
+        int explored = 0;
         long searchingTime = 0;
         while (!openSet.isEmpty() && solution == null && searchingTime < timeout) {
             // Pop the first node in the pending list open
@@ -84,7 +116,10 @@ public final class DepthFirstSearch extends AbstractStateSpaceStrategy {
                 solution = current;
                 fireSolution(new SolutionEvent(this, solution, codedProblem));
             } else {
-                closeSet.add(current);
+                explored++;
+                if (visited == null) {
+                    closeSet.add(current);
+                }
                 int index = 0;
                 for (BitOp op : codedProblem.getOperators()) {
 
@@ -103,7 +138,8 @@ public final class DepthFirstSearch extends AbstractStateSpaceStrategy {
                         successor.setOperator(index);
                         successor.setDepth(current.getDepth() + 1);
 
-                        if (!closeSet.contains(successor) && !openSet.contains(successor)) {
+                        if (visited != null ? visited.add(successor)
+                                : !closeSet.contains(successor) && !openSet.contains(successor)) {
                             openSet.addFirst(successor);
                         }
                     }
@@ -115,9 +151,10 @@ public final class DepthFirstSearch extends AbstractStateSpaceStrategy {
             searchingTime = end - begin;
         }
 
-        this.setExploredNodes(closeSet.size());
+        this.setExploredNodes(explored);
         this.setPendingNodes(openSet.size());
-        this.setMemoryUsed(MemoryAgent.getDeepSizeOf(closeSet) + MemoryAgent.getDeepSizeOf(openSet));
+        this.setMemoryUsed(MemoryAgent.getDeepSizeOf(closeSet) + MemoryAgent.getDeepSizeOf(openSet)
+            + (visited == null ? 0 : MemoryAgent.getDeepSizeOf(visited)));
         this.setSearchingTime(searchingTime);
 
         return solution;
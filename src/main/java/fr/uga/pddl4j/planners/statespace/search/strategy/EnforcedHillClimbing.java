@@ -20,18 +20,29 @@
 package fr.uga.pddl4j.planners.statespace.search.strategy;
 
 import fr.uga.pddl4j.encoding.CodedProblem;
+import fr.uga.pddl4j.heuristics.relaxation.FastForward;
 import fr.uga.pddl4j.heuristics.relaxation.Heuristic;
 import fr.uga.pddl4j.heuristics.relaxation.HeuristicToolKit;
 import fr.uga.pddl4j.util.BitOp;
 import fr.uga.pddl4j.util.BitState;
+import fr.uga.pddl4j.util.BitVector;
 import fr.uga.pddl4j.util.MemoryAgent;
 import fr.uga.pddl4j.util.SolutionEvent;
 
+import java.util.IdentityHashMap;
 import java.util.LinkedList;
+import java.util.Map;
 import java.util.Objects;
 
 /**
  * This class implements Enforced Hill Climbing search strategy.
+ * <p>
+ * When the helpful actions pruning is enabled, the heuristic used must be the {@link FastForward} heuristic and
+ * the expansion of a node is restricted to its helpful successors. The helpful operators of a node are recorded when
+ * the node is evaluated. If a node has no helpful successor, all its successors are generated. If the breadth first
+ * search used to escape a plateau fails with the pruning, it is started again from the same node with a full
+ * expansion.
+ * </p>
  *
  * @author Samuel Aaron Boyd
  * @author E. Hermellin
@@ -44,6 +55,31 @@ public final class EnforcedHillClimbing extends AbstractStateSpaceStrategy {
      */
     private static final long serialVersionUID = 1L;
 
+    /**
+     * The flag used to restrict the expansion of the nodes to their helpful successors.
+     */
+    private boolean helpfulActionsPruning;
+
+    /**
+     * Returns <code>true</code> if the expansion of the nodes is restricted to their helpful successors.
+     *
+     * @return <code>true</code> if the helpful actions pruning is enabled; <code>false</code> otherwise.
+     */
+    public boolean isHelpfulActionsPruning() {
+        return this.helpfulActionsPruning;
+    }
+
+    /**
+     * Enables or disables the restriction of the expansion of the nodes to their helpful successors. The
+     * pruning requires the fast forward heuristic: the search fails with an <code>IllegalStateException</code>
+     * if the pruning is enabled with an other heuristic.
+     *
+     * @param helpfulActionsPruning the helpful actions pruning flag.
+     */
+    public void setHelpfulActionsPruning(final boolean helpfulActionsPruning) {
+        this.helpfulActionsPruning = helpfulActionsPruning;
+    }
+
     /**
      * Creates a new Enforced Hill Climbing search strategy with default parameters.
      *
@@ -68,20 +104,35 @@ public final class EnforcedHillClimbing extends AbstractStateSpaceStrategy {
      *
      * @param codedProblem the problem to be solved. The problem cannot be null.
      * @return the solution node or null.
+     * @throws IllegalStateException if the helpful actions pruning is enabled and the heuristic used is not the fast
+     *     forward heuristic.
      */
     public Node search(final CodedProblem codedProblem) {
         Objects.requireNonNull(codedProblem);
+        if (this.helpfulActionsPruning && this.getHeuristicType() != Heuristic.Type.FAST_FORWARD) {
+            throw new IllegalStateException("helpful actions pruning requires the FAST_FORWARD heuristic");
+        }
         final long begin = System.currentTimeMillis();
 
-        final Heuristic heuristic = HeuristicToolKit.createHeuristic(getHeuristicType(), codedProblem);
+        // The helpful actions are a side effect of the evaluation of a state: they cannot be read from the cache
+        final Heuristic heuristic = HeuristicToolKit.createHeuristic(getHeuristicType(), codedProblem,
+            this.helpfulActionsPruning ? null : this.getHeuristicCache());
         final LinkedList<Node> openList = new LinkedList<>();
         final int timeout = getTimeout();
 
         BitState init = new BitState(codedProblem.getInit());
         Node root = new Node(init, null, 0, 0, heuristic.estimate(init, codedProblem.getGoal()));
         openList.add(root);
+        // The helpful operators of the pending nodes, recorded when the nodes are evaluated
+        final Map<Node, BitVector> helpfulOperators = this.helpfulActionsPruning ? new IdentityHashMap<>() : null;
+        if (helpfulOperators != null) {
+            helpfulOperators.put(root, new BitVector(((FastForward) heuristic).getHelpfulOperators()));
+        }
 
         double bestHeuristic = root.getHeuristic();
+        boolean pruningEnabled = this.helpfulActionsPruning;
+        // The node from which the current breadth first search is started
+        Node start = root;
 
         Node solution = null;
         boolean deadEndFree = true;
@@ -90,7 +141,9 @@ public final class EnforcedHillClimbing extends AbstractStateSpaceStrategy {
         long searchingTime = 0;
         while (!openList.isEmpty() && solution == null && deadEndFree && searchingTime < timeout) {
             final Node currentState = openList.pop();
-            final LinkedList<Node> successors = getSuccessors(currentState, codedProblem, heuristic);
+            final BitVector helpful = helpfulOperators == null ? null : helpfulOperators.remove(currentState);
+            final LinkedList<Node> successors = getSuccessors(currentState, codedProblem, heuristic,
+                pruningEnabled ? helpful : null, helpfulOperators);
             deadEndFree = !successors.isEmpty();
 
             while (!successors.isEmpty() && solution == null) {
@@ -104,37 +157,58 @@ public final class EnforcedHillClimbing extends AbstractStateSpaceStrategy {
                 if (heuristicSuccessor < bestHeuristic) {
                     successors.clear();
                     openList.clear();
+                    if (helpfulOperators != null) {
+                        final BitVector successorHelpful = helpfulOperators.get(successor);
+                        helpfulOperators.clear();
+                        helpfulOperators.put(successor, successorHelpful);
+                    }
                     bestHeuristic = heuristicSuccessor;
+                    start = successor;
+                    pruningEnabled = this.helpfulActionsPruning;
                 }
                 openList.addLast(successor);
             }
 
+            // The breadth first search restricted to the helpful successors failed to find a better node,
+            // we start it again from the same node with a full expansion
+            if (openList.isEmpty() && solution == null && pruningEnabled) {
+                openList.add(start);
+                pruningEnabled = false;
+                deadEndFree = true;
+            }
+
             // Take time to compute the searching time
             long end = System.currentTimeMillis();
             searchingTime = end - begin;
         }
 
-        this.setMemoryUsed(MemoryAgent.getDeepSizeOf(openList) + MemoryAgent.getDeepSizeOf(heuristic));
+        this.setMemoryUsed(MemoryAgent.getDeepSizeOf(openList) + MemoryAgent.getDeepSizeOf(heuristic)
+            + (helpfulOperators == null ? 0 : MemoryAgent.getDeepSizeOf(helpfulOperators)));
         this.setSearchingTime(searchingTime);
 
         return solution;
     }
 
     /**
-     * Get the successors from a node.
+     * Get the successors from a node. If helpful operators are given, only the helpful successors are returned
+     * unless the node has no helpful successor. In that case, all the successors are returned.
      *
-     * @param parent    the parent node.
-     * @param problem   the coded problem to solve.
-     * @param heuristic the heuristic used.
+     * @param parent           the parent node.
+     * @param problem          the coded problem to solve.
+     * @param heuristic        the heuristic used.
+     * @param helpful          the helpful operators of the parent node or null to return all the successors.
+     * @param helpfulOperators the map where the helpful operators of the successors are recorded when they are
+     *                         evaluated or null if they are not recorded.
      * @return the list of successors from the parent node.
      */
-    private LinkedList<Node> getSuccessors(Node parent, CodedProblem problem, Heuristic heuristic) {
+    private LinkedList<Node> getSuccessors(Node parent, CodedProblem problem, Heuristic heuristic,
+                                           BitVector helpful, Map<Node, BitVector> helpfulOperators) {
         final LinkedList<Node> successors = new LinkedList<>();
 
         int index = 0;
         for (BitOp op : problem.getOperators()) {
-            // Test if a specified operator is applicable in the current state
-            if (op.isApplicable(parent)) {
+            // Test if a specified operator is helpful and applicable in the current state
+            if ((helpful == null || helpful.get(index)) && op.isApplicable(parent)) {
                 final BitState nextState = new BitState(parent);
                 nextState.or(op.getCondEffects().get(0).getEffects().getPositive());
                 nextState.andNot(op.getCondEffects().get(0).getEffects().getNegative());
@@ -143,15 +217,24 @@ public final class EnforcedHillClimbing extends AbstractStateSpaceStrategy {
                 final Node successor = new Node(nextState);
                 this.setCreatedNodes(this.getCreatedNodes() + 1);
                 successor.setCost(parent.getCost() + op.getCost());
-                successor.setHeuristic(heuristic.estimate(nextState, problem.getGoal()));
+                successor.setHeuristic(this.estimate(heuristic, nextState, problem.getGoal()));
                 successor.setParent(parent);
                 successor.setOperator(index);
                 successor.setDepth(parent.getDepth() + 1);
-                successors.add(successor);
+                if (!this.isDeadEnd(successor)) {
+                    if (helpfulOperators != null) {
+                        // The helpful operators are those of the last state estimated by the heuristic
+                        helpfulOperators.put(successor, new BitVector(((FastForward) heuristic).getHelpfulOperators()));
+                    }
+                    successors.add(successor);
+                }
             }
             index++;
         }
 
+        if (helpful != null && successors.isEmpty()) {
+            return this.getSuccessors(parent, problem, heuristic, null, helpfulOperators);
+        }
         return successors;
     }
 }
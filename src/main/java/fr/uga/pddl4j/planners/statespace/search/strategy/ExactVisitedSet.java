@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2016 by Damien Pellier <Damien.Pellier@imag.fr>.
+ *
+ * This file is part of PDDL4J library.
+ *
+ * PDDL4J is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * PDDL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with PDDL4J.  If not, see
+ * <http://www.gnu.org/licenses/>
+ */
+
+package fr.uga.pddl4j.planners.statespace.search.strategy;
+
+import fr.uga.pddl4j.util.BitState;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * This class implements an exact set of visited states. The set stores a copy of each state added and never omits a
+ * state.
+ *
+ * @author PDDL4J contributors
+ * @version 1.0 - 19.10.2026
+ */
+public final class ExactVisitedSet implements VisitedSet {
+
+    /**
+     * The serial id of the class.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The states of the set.
+     */
+    private final Set<BitState> states;
+
+    /**
+     * Creates a new empty set.
+     */
+    public ExactVisitedSet() {
+        this.states = new HashSet<>();
+    }
+
+    /**
+     * Adds a state to the set if it is not in the set.
+     *
+     * @param state the state.
+     * @return <code>true</code> if the state was added; <code>false</code> if it was already in the set.
+     */
+    @Override
+    public boolean add(final BitState state) {
+        return !this.states.contains(state) && this.states.add(new BitState(state));
+    }
+
+    /**
+     * Returns if a state is in the set.
+     *
+     * @param state the state.
+     * @return <code>true</code> if the state is in the set; <code>false</code> otherwise.
+     */
+    @Override
+    public boolean contains(final BitState state) {
+        return this.states.contains(state);
+    }
+
+    /**
+     * Returns the number of states of the set.
+     *
+     * @return the number of states of the set.
+     */
+    @Override
+    public long size() {
+        return this.states.size();
+    }
+
+    /**
+     * Returns the probability that at least one state was omitted, i.e., 0 as the set is exact.
+     *
+     * @return 0.
+     */
+    @Override
+    public double getOmissionProbability() {
+        return 0.0;
+    }
+
+    /**
+     * Removes all the states of the set.
+     */
+    @Override
+    public void clear() {
+        this.states.clear();
+    }
+}
@@ -0,0 +1,857 @@
+/*
+ * Copyright (c) 2016 by Damien Pellier <Damien.Pellier@imag.fr>.
+ *
+ * This file is part of PDDL4J library.
+ *
+ * PDDL4J is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * PDDL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with PDDL4J.  If not, see
+ * <http://www.gnu.org/licenses/>
+ */
+
+package fr.uga.pddl4j.planners.statespace.search.strategy;
+
+import fr.uga.pddl4j.encoding.CodedProblem;
+import fr.uga.pddl4j.heuristics.relaxation.Heuristic;
+import fr.uga.pddl4j.heuristics.relaxation.HeuristicToolKit;
+import fr.uga.pddl4j.planners.Planner;
+import fr.uga.pddl4j.util.BitExp;
+import fr.uga.pddl4j.util.BitOp;
+import fr.uga.pddl4j.util.BitState;
+import fr.uga.pddl4j.util.MemoryAgent;
+import fr.uga.pddl4j.util.SolutionEvent;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.stream.Stream;
+
+/**
+ * This class implements a breadth first search strategy in external memory with delayed duplicate detection (R. E.
+ * Korf, "Best-first frontier search with delayed duplicate detection", AAAI, 2004). The layers of the search are stored
+ * on disk in files of records sorted by state. A record is made of the packed state, the index of the record of its
+ * parent in the previous layer and the index of the operator that produced it, so that the plan is rebuilt from the
+ * files once a goal is reached. The successors of a layer are collected in a buffer of bounded size which is sorted
+ * and written as a run file each time it is full. The runs are then merged and the states already stored in the
+ * previous layers are removed by a single merge with the layer files before the next layer is written.
+ * <p>
+ * The files are written with NIO channels in a temporary directory created in the scratch directory of the strategy
+ * and deleted at the end of the search. The search stops without solution if the files would use more disk space than
+ * the maximum disk space of the strategy. When the pruning is enabled, the strategy runs a breadth-first iterative
+ * deepening A* (R. Zhou and E. A. Hansen, "Breadth-first heuristic search", Artificial Intelligence, 2006): the
+ * successors whose <i>f = g + w * h</i> value exceeds a bound are not written and the search is restarted with the
+ * smallest pruned value as long as no solution is found. In both cases, the plan returned is a shortest plan in number
+ * of actions, i.e., an optimal plan if the operators have a unit cost and, with the pruning, if the heuristic is
+ * admissible and the weight is 1.
+ * </p>
+ *
+ * @author PDDL4J contributors
+ * @version 1.0 - 19.10.2026
+ */
+public final class ExternalBreadthFirstSearch extends AbstractStateSpaceStrategy {
+
+    /**
+     * The serial id of the class.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The default number of records of the buffer used to sort the successors in memory.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 1 << 18;
+
+    /**
+     * The default maximum disk space in bytes used by the files of the search.
+     */
+    public static final long DEFAULT_MAX_DISK_SPACE = 1L << 32;
+
+    /**
+     * The size in bytes of the buffers used to read and write the files.
+     */
+    private static final int IO_BUFFER_SIZE = 1 << 16;
+
+    /**
+     * The path of the scratch directory in which the files of the search are written.
+     */
+    private String scratchDirectory;
+
+    /**
+     * The maximum disk space in bytes used by the files of the search.
+     */
+    private long maxDiskSpace;
+
+    /**
+     * The number of records of the buffer used to sort the successors in memory.
+     */
+    private int bufferSize;
+
+    /**
+     * The flag used to indicate if the successors are pruned with the heuristic.
+     */
+    private boolean pruning;
+
+    /**
+     * The disk space in bytes currently used by the files of the search.
+     */
+    private long diskSpace;
+
+    /**
+     * The maximum disk space in bytes used by the files of the last search.
+     */
+    private long diskSpaceUsed;
+
+    /**
+     * Creates a new external breadth first search strategy with default parameters and without pruning.
+     */
+    public ExternalBreadthFirstSearch() {
+        super();
+        this.init(false);
+    }
+
+    /**
+     * Creates a new external breadth first search strategy without pruning.
+     *
+     * @param timeout the time out of the planner.
+     */
+    public ExternalBreadthFirstSearch(final int timeout) {
+        super(timeout);
+        this.init(false);
+    }
+
+    /**
+     * Creates a new external breadth first search strategy with the successors pruned with the heuristic.
+     *
+     * @param timeout   the time out of the planner.
+     * @param heuristic the heuristicType to use to solve the planning problem.
+     * @param weight    the weight set to the heuristic.
+     */
+    public ExternalBreadthFirstSearch(final int timeout, final Heuristic.Type heuristic, final double weight) {
+        super(timeout, heuristic, weight);
+        this.init(true);
+    }
+
+    /**
+     * Initializes the parameters of the strategy with their default value.
+     *
+     * @param pruning the flag used to indicate if the successors are pruned with the heuristic.
+     */
+    private void init(final boolean pruning) {
+        this.scratchDirectory = System.getProperty("java.io.tmpdir");
+        this.maxDiskSpace = ExternalBreadthFirstSearch.DEFAULT_MAX_DISK_SPACE;
+        this.bufferSize = ExternalBreadthFirstSearch.DEFAULT_BUFFER_SIZE;
+        this.pruning = pruning;
+        this.diskSpace = 0;
+        this.diskSpaceUsed = 0;
+    }
+
+    /**
+     * Returns the scratch directory in which the files of the search are written.
+     *
+     * @return the scratch directory in which the files of the search are written.
+     */
+    public Path getScratchDirectory() {
+        return Paths.get(this.scratchDirectory);
+    }
+
+    /**
+     * Sets the scratch directory in which the files of the search are written. The directory must be on a local file
+     * system and is created if it does not exist.
+     *
+     * @param scratchDirectory the scratch directory. The directory cannot be null.
+     */
+    public void setScratchDirectory(final Path scratchDirectory) {
+        Objects.requireNonNull(scratchDirectory);
+        this.scratchDirectory = scratchDirectory.toString();
+    }
+
+    /**
+     * Returns the maximum disk space in bytes used by the files of the search.
+     *
+     * @return the maximum disk space in bytes used by the files of the search.
+     */
+    public long getMaxDiskSpace() {
+        return this.maxDiskSpace;
+    }
+
+    /**
+     * Sets the maximum disk space in bytes used by the files of the search.
+     *
+     * @param maxDiskSpace the maximum disk space in bytes. The disk space must be strictly positive.
+     * @throws IllegalArgumentException if <code>maxDiskSpace &lt;= 0</code>.
+     */
+    public void setMaxDiskSpace(final long maxDiskSpace) {
+        if (maxDiskSpace <= 0) {
+            throw new IllegalArgumentException("maxDiskSpace <= 0");
+        }
+        this.maxDiskSpace = maxDiskSpace;
+    }
+
+    /**
+     * Returns the number of records of the buffer used to sort the successors in memory.
+     *
+     * @return the number of records of the buffer used to sort the successors in memory.
+     */
+    public int getBufferSize() {
+        return this.bufferSize;
+    }
+
+    /**
+     * Sets the number of records of the buffer used to sort the successors in memory.
+     *
+     * @param bufferSize the number of records of the buffer. The size must be strictly positive.
+     * @throws IllegalArgumentException if <code>bufferSize &lt;= 0</code>.
+     */
+    public void setBufferSize(final int bufferSize) {
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("bufferSize <= 0");
+        }
+        this.bufferSize = bufferSize;
+    }
+
+    /**
+     * Returns if the successors are pruned with the heuristic.
+     *
+     * @return <code>true</code> if the successors are pruned with the heuristic; <code>false</code> otherwise.
+     */
+    public boolean isPruning() {
+        return this.pruning;
+    }
+
+    /**
+     * Sets if the successors are pruned with the heuristic.
+     *
+     * @param pruning <code>true</code> if the successors are pruned with the heuristic; <code>false</code> otherwise.
+     */
+    public void setPruning(final boolean pruning) {
+        this.pruning = pruning;
+    }
+
+    /**
+     * Returns the maximum disk space in bytes used by the files of the last search.
+     *
+     * @return the maximum disk space in bytes used by the files of the last search.
+     */
+    public long getDiskSpaceUsed() {
+        return this.diskSpaceUsed;
+    }
+
+    /**
+     * Solves the planning problem and returns the first solution node found.
+     *
+     * @param codedProblem the problem to be solved. The problem cannot be null.
+     * @return a solution node or null if no solution was found.
+     * @throws UncheckedIOException if an error occurs while the files of the search are read or written.
+     */
+    @Override
+    public Node search(final CodedProblem codedProblem) {
+        Objects.requireNonNull(codedProblem);
+        this.diskSpace = 0;
+        this.diskSpaceUsed = 0;
+        try {
+            final Path scratch = Files.createDirectories(this.getScratchDirectory());
+            final Path directory = Files.createTempDirectory(scratch, "pddl4j-");
+            try {
+                return this.search(codedProblem, directory);
+            } finally {
+                try (Stream<Path> files = Files.list(directory)) {
+                    for (Path file : (Iterable<Path>) files::iterator) {
+                        Files.delete(file);
+                    }
+                }
+                Files.delete(directory);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Solves the planning problem with the files of the search written in a specified directory.
+     *
+     * @param problem   the problem to be solved.
+     * @param directory the directory of the files of the search.
+     * @return a solution node or null if no solution was found.
+     * @throws IOException if an error occurs while the files of the search are read or written.
+     */
+    private Node search(final CodedProblem problem, final Path directory) throws IOException {
+        final long begin = System.currentTimeMillis();
+        final Heuristic heuristic = this.pruning ? HeuristicToolKit.createHeuristic(this.getHeuristicType(), problem,
+            this.getHeuristicCache()) : null;
+        final BitExp goal = problem.getGoal();
+        final double weight = this.getWeight();
+        final int words = (problem.getRelevantFacts().size() + Long.SIZE - 1) / Long.SIZE;
+        final Comparator<long[]> comparator = (r1, r2) -> {
+            final int cmp = ExternalBreadthFirstSearch.compare(r1, r2, words);
+            return cmp != 0 ? cmp : Double.compare(Double.longBitsToDouble(r1[words + 2]),
+                Double.longBitsToDouble(r2[words + 2]));
+        };
+        // The buffer of the successors sorted in memory
+        final long[][] buffer = new long[this.bufferSize][];
+        // The files of the layers of the search
+        final List<Path> layers = new ArrayList<>();
+        final BitState init = new BitState(problem.getInit());
+        final long[] root = ExternalBreadthFirstSearch.pack(init, -1, -1, 0.0, words);
+        layers.add(directory.resolve("layer-0"));
+        try (RecordWriter writer = new RecordWriter(layers.get(0), words)) {
+            writer.write(root);
+        }
+        double bound = this.pruning ? weight * this.estimate(heuristic, init, goal) : Double.POSITIVE_INFINITY;
+
+        this.resetNodesStatistics();
+        Node solution = null;
+        boolean exhausted = false;
+        int explored = 0;
+        int created = 0;
+        long pending = 0;
+        final int timeout = this.getTimeout();
+        long searchingTime = 0;
+        boolean over = this.pruning && bound >= Integer.MAX_VALUE;
+        while (!over && searchingTime < timeout) {
+            double next = Double.POSITIVE_INFINITY;
+            int depth = 0;
+            pending = 1;
+            while (pending > 0 && solution == null && !exhausted && searchingTime < timeout) {
+                // Expands the layer and writes its successors in sorted runs
+                final List<Path> runs = new ArrayList<>();
+                int size = 0;
+                try (RecordReader reader = new RecordReader(layers.get(depth), words)) {
+                    while (solution == null && !exhausted && reader.next() && searchingTime < timeout) {
+                        final long[] record = reader.getRecord();
+                        final BitState state = ExternalBreadthFirstSearch.unpack(record, words);
+                        if (state.satisfy(goal)) {
+                            solution = this.extract(problem, layers, depth, reader.getIndex(), words);
+                        } else {
+                            explored++;
+                            final double cost = Double.longBitsToDouble(record[words + 2]);
+                            int index = 0;
+                            for (BitOp op : problem.getOperators()) {
+                                if (op.isApplicable(state)) {
+                                    final BitState successor = new BitState(state);
+                                    created++;
+                                    op.getCondEffects().stream().filter(ce -> state.satisfy(ce.getCondition()))
+                                        .forEach(ce -> successor.apply(ce.getEffects()));
+                                    final double g = cost + op.getCost();
+                                    final double f = this.pruning
+                                        ? g + weight * this.estimate(heuristic, successor, goal) : g;
+                                    if (f > bound) {
+                                        next = Math.min(next, f);
+                                    } else {
+                                        if (buffer[size] == null) {
+                                            buffer[size] = new long[words + 3];
+                                        }
+                                        ExternalBreadthFirstSearch.pack(successor, reader.getIndex(), index, g,
+                                            buffer[size], words);
+                                        size++;
+                                        if (size == buffer.length) {
+                                            exhausted = !this.writeRun(directory, runs, buffer, size, comparator,
+                                                words);
+                                            size = 0;
+                                        }
+                                    }
+                                }
+                                index++;
+                            }
+                        }
+                        searchingTime = System.currentTimeMillis() - begin;
+                    }
+                }
+                if (solution == null && !exhausted && size > 0) {
+                    exhausted = !this.writeRun(directory, runs, buffer, size, comparator, words);
+                }
+                // Merges the runs and removes the states of the previous layers
+                if (solution == null && !exhausted && searchingTime < timeout) {
+                    final Path layer = directory.resolve("layer-" + (depth + 1));
+                    pending = this.merge(runs, layers, layer, comparator, words);
+                    exhausted = pending < 0;
+                    layers.add(layer);
+                    depth++;
+                }
+                for (Path run : runs) {
+                    this.delete(run);
+                }
+                searchingTime = System.currentTimeMillis() - begin;
+            }
+            // Restarts with the smallest pruned value if the pruning prevented to find a solution
+            over = solution != null || exhausted || next >= Integer.MAX_VALUE;
+            bound = next;
+            while (layers.size() > 1) {
+                this.delete(layers.remove(layers.size() - 1));
+            }
+            searchingTime = System.currentTimeMillis() - begin;
+        }
+        if (exhausted) {
+            Planner.getLogger().trace("* search stopped: maximum disk space of " + this.maxDiskSpace
+                + " bytes reached\n");
+        }
+        if (solution != null) {
+            fireSolution(new SolutionEvent(this, solution, problem));
+        }
+
+        this.setCreatedNodes(created);
+        this.setExploredNodes(explored);
+        this.setPendingNodes((int) Math.max(0, Math.min(Integer.MAX_VALUE, pending)));
+        this.setMemoryUsed(MemoryAgent.getDeepSizeOf(buffer));
+        this.setSearchingTime(searchingTime);
+        return solution;
+    }
+
+    /**
+     * Sorts the records of the buffer and writes the records with distinct states in a new run file. The record with
+     * the lowest cost is kept for each state.
+     *
+     * @param directory  the directory of the files of the search.
+     * @param runs       the run files of the layer.
+     * @param buffer     the buffer of records.
+     * @param size       the number of records of the buffer.
+     * @param comparator the comparator of the records.
+     * @param words      the number of words of the packed states.
+     * @return <code>true</code> if the run is written; <code>false</code> if the maximum disk space is reached.
+     * @throws IOException if an error occurs while the run file is written.
+     */
+    private boolean writeRun(final Path directory, final List<Path> runs, final long[][] buffer, final int size,
+                             final Comparator<long[]> comparator, final int words) throws IOException {
+        Arrays.sort(buffer, 0, size, comparator);
+        final Path run = directory.resolve("run-" + runs.size());
+        runs.add(run);
+        boolean written = true;
+        try (RecordWriter writer = new RecordWriter(run, words)) {
+            for (int i = 0; i < size && written; i++) {
+                if (i == 0 || ExternalBreadthFirstSearch.compare(buffer[i - 1], buffer[i], words) != 0) {
+                    written = writer.write(buffer[i]);
+                }
+            }
+        }
+        return written;
+    }
+
+    /**
+     * Merges the runs of a layer and writes the records whose states are not in the previous layers in a new layer
+     * file. The record with the lowest cost is kept for each state.
+     *
+     * @param runs       the run files of the layer.
+     * @param layers     the files of the previous layers.
+     * @param layer      the file of the new layer.
+     * @param comparator the comparator of the records.
+     * @param words      the number of words of the packed states.
+     * @return the number of records of the new layer or -1 if the maximum disk space is reached.
+     * @throws IOException if an error occurs while the files are read or written.
+     */
+    private long merge(final List<Path> runs, final List<Path> layers, final Path layer,
+                       final Comparator<long[]> comparator, final int words) throws IOException {
+        final Comparator<RecordReader> order = (r1, r2) -> comparator.compare(r1.getRecord(), r2.getRecord());
+        final PriorityQueue<RecordReader> heap = new PriorityQueue<>(Math.max(1, runs.size()), order);
+        final List<RecordReader> previous = new ArrayList<>(layers.size());
+        final long[] last = new long[words];
+        boolean first = true;
+        boolean written = true;
+        try (RecordWriter writer = new RecordWriter(layer, words)) {
+            for (Path run : runs) {
+                final RecordReader reader = new RecordReader(run, words);
+                if (reader.next()) {
+                    heap.add(reader);
+                } else {
+                    reader.close();
+                }
+            }
+            for (Path file : layers) {
+                final RecordReader reader = new RecordReader(file, words);
+                previous.add(reader);
+                reader.next();
+            }
+            while (!heap.isEmpty() && written) {
+                final RecordReader reader = heap.poll();
+                final long[] record = reader.getRecord();
+                if (first || ExternalBreadthFirstSearch.compare(record, last, words) != 0) {
+                    // The first record of a state is the record with the lowest cost
+                    boolean duplicate = false;
+                    for (RecordReader other : previous) {
+                        while (other.isValid() && ExternalBreadthFirstSearch.compare(other.getRecord(), record,
+                                words) < 0) {
+                            other.next();
+                        }
+                        duplicate |= other.isValid()
+                            && ExternalBreadthFirstSearch.compare(other.getRecord(), record, words) == 0;
+                    }
+                    if (!duplicate) {
+                        written = writer.write(record);
+                    }
+                    System.arraycopy(record, 0, last, 0, words);
+                    first = false;
+                }
+                if (reader.next()) {
+                    heap.add(reader);
+                } else {
+                    reader.close();
+                }
+            }
+            return written ? writer.getCount() : -1;
+        } finally {
+            for (RecordReader reader : heap) {
+                reader.close();
+            }
+            for (RecordReader reader : previous) {
+                reader.close();
+            }
+        }
+    }
+
+    /**
+     * Rebuilds the solution node of a record from the parent indexes stored in the layer files.
+     *
+     * @param problem the problem to be solved.
+     * @param layers  the files of the layers.
+     * @param depth   the layer of the record.
+     * @param index   the index of the record in its layer.
+     * @param words   the number of words of the packed states.
+     * @return the solution node.
+     * @throws IOException if an error occurs while the layer files are read.
+     */
+    private Node extract(final CodedProblem problem, final List<Path> layers, final int depth, final long index,
+                         final int words) throws IOException {
+        final LinkedList<long[]> path = new LinkedList<>();
+        final ByteBuffer bytes = ByteBuffer.allocate((words + 3) * Long.BYTES);
+        long position = index;
+        for (int d = depth; d >= 0; d--) {
+            try (FileChannel channel = FileChannel.open(layers.get(d), StandardOpenOption.READ)) {
+                final long offset = position * bytes.capacity();
+                bytes.clear();
+                while (bytes.hasRemaining() && channel.read(bytes, offset + bytes.position()) > 0) {
+                    // Reads the whole record
+                }
+                bytes.flip();
+                final long[] record = new long[words + 3];
+                bytes.asLongBuffer().get(record);
+                path.addFirst(record);
+                position = record[words];
+            }
+        }
+        Node node = null;
+        for (long[] record : path) {
+            final int operator = (int) record[words + 1];
+            final double cost = node == null ? 0.0 : node.getCost() + problem.getOperators().get(operator).getCost();
+            node = new Node(ExternalBreadthFirstSearch.unpack(record, words), node, operator, cost,
+                node == null ? 0 : node.getDepth() + 1, 0.0);
+        }
+        return node;
+    }
+
+    /**
+     * Records the disk space used by a new record and returns if the maximum disk space is not reached.
+     *
+     * @param bytes the size of the record in bytes.
+     * @return <code>true</code> if the record can be written; <code>false</code> otherwise.
+     */
+    private boolean allocate(final int bytes) {
+        if (this.diskSpace + bytes > this.maxDiskSpace) {
+            return false;
+        }
+        this.diskSpace += bytes;
+        this.diskSpaceUsed = Math.max(this.diskSpaceUsed, this.diskSpace);
+        return true;
+    }
+
+    /**
+     * Deletes a file of the search and releases its disk space.
+     *
+     * @param file the file.
+     * @throws IOException if an error occurs while the file is deleted.
+     */
+    private void delete(final Path file) throws IOException {
+        this.diskSpace -= Files.size(file);
+        Files.delete(file);
+    }
+
+    /**
+     * Compares the packed states of two records as unsigned numbers.
+     *
+     * @param r1    the first record.
+     * @param r2    the second record.
+     * @param words the number of words of the packed states.
+     * @return a negative integer, zero, or a positive integer as the state of the first record is less than, equal to,
+     *     or greater than the state of the second record.
+     */
+    private static int compare(final long[] r1, final long[] r2, final int words) {
+        for (int i = words - 1; i >= 0; i--) {
+            final int cmp = Long.compareUnsigned(r1[i], r2[i]);
+            if (cmp != 0) {
+                return cmp;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Packs a state in a new record.
+     *
+     * @param state    the state.
+     * @param parent   the index of the record of the parent in the previous layer.
+     * @param operator the index of the operator that produced the state.
+     * @param cost     the cost of the state.
+     * @param words    the number of words of the packed states.
+     * @return the record.
+     */
+    private static long[] pack(final BitState state, final long parent, final int operator, final double cost,
+                               final int words) {
+        final long[] record = new long[words + 3];
+        ExternalBreadthFirstSearch.pack(state, parent, operator, cost, record, words);
+        return record;
+    }
+
+    /**
+     * Packs a state in a record.
+     *
+     * @param state    the state.
+     * @param parent   the index of the record of the parent in the previous layer.
+     * @param operator the index of the operator that produced the state.
+     * @param cost     the cost of the state.
+     * @param record   the record.
+     * @param words    the number of words of the packed states.
+     */
+    private static void pack(final BitState state, final long parent, final int operator, final double cost,
+                             final long[] record, final int words) {
+        final long[] bits = state.toLongArray();
+        Arrays.fill(record, 0, words, 0L);
+        System.arraycopy(bits, 0, record, 0, Math.min(bits.length, words));
+        record[words] = parent;
+        record[words + 1] = operator;
+        record[words + 2] = Double.doubleToLongBits(cost);
+    }
+
+    /**
+     * Unpacks the state of a record.
+     *
+     * @param record the record.
+     * @param words  the number of words of the packed states.
+     * @return the state.
+     */
+    private static BitState unpack(final long[] record, final int words) {
+        final BitState state = new BitState();
+        state.or(BitSet.valueOf(Arrays.copyOf(record, words)));
+        return state;
+    }
+
+    /**
+     * This class implements a sequential writer of records in a file.
+     */
+    private final class RecordWriter implements Closeable {
+
+        /**
+         * The channel of the file.
+         */
+        private final FileChannel channel;
+
+        /**
+         * The buffer of the channel.
+         */
+        private final ByteBuffer buffer;
+
+        /**
+         * The size of a record in bytes.
+         */
+        private final int size;
+
+        /**
+         * The number of records written.
+         */
+        private long count;
+
+        /**
+         * Creates a new writer of records.
+         *
+         * @param file  the file.
+         * @param words the number of words of the packed states.
+         * @throws IOException if the file cannot be created.
+         */
+        RecordWriter(final Path file, final int words) throws IOException {
+            this.channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+            this.size = (words + 3) * Long.BYTES;
+            this.buffer = ByteBuffer.allocate(Math.max(ExternalBreadthFirstSearch.IO_BUFFER_SIZE, this.size));
+            this.count = 0;
+        }
+
+        /**
+         * Returns the number of records written.
+         *
+         * @return the number of records written.
+         */
+        long getCount() {
+            return this.count;
+        }
+
+        /**
+         * Writes a record if the maximum disk space is not reached.
+         *
+         * @param record the record.
+         * @return <code>true</code> if the record is written; <code>false</code> otherwise.
+         * @throws IOException if an error occurs while the file is written.
+         */
+        boolean write(final long[] record) throws IOException {
+            if (!ExternalBreadthFirstSearch.this.allocate(this.size)) {
+                return false;
+            }
+            if (this.buffer.remaining() < this.size) {
+                this.flush();
+            }
+            for (long word : record) {
+                this.buffer.putLong(word);
+            }
+            this.count++;
+            return true;
+        }
+
+        /**
+         * Writes the content of the buffer in the file.
+         *
+         * @throws IOException if an error occurs while the file is written.
+         */
+        private void flush() throws IOException {
+            this.buffer.flip();
+            while (this.buffer.hasRemaining()) {
+                this.channel.write(this.buffer);
+            }
+            this.buffer.clear();
+        }
+
+        /**
+         * Writes the content of the buffer and closes the file.
+         *
+         * @throws IOException if an error occurs while the file is written.
+         */
+        @Override
+        public void close() throws IOException {
+            try {
+                this.flush();
+            } finally {
+                this.channel.close();
+            }
+        }
+    }
+
+    /**
+     * This class implements a sequential reader of the records of a file.
+     */
+    private static final class RecordReader implements Closeable {
+
+        /**
+         * The channel of the file.
+         */
+        private final FileChannel channel;
+
+        /**
+         * The buffer of the channel.
+         */
+        private final ByteBuffer buffer;
+
+        /**
+         * The current record.
+         */
+        private final long[] record;
+
+        /**
+         * The index of the current record in the file.
+         */
+        private long index;
+
+        /**
+         * The flag used to indicate if the current record is valid, i.e., the end of the file is not reached.
+         */
+        private boolean valid;
+
+        /**
+         * Creates a new reader of records positioned before the first record.
+         *
+         * @param file  the file.
+         * @param words the number of words of the packed states.
+         * @throws IOException if the file cannot be opened.
+         */
+        RecordReader(final Path file, final int words) throws IOException {
+            this.channel = FileChannel.open(file, StandardOpenOption.READ);
+            this.record = new long[words + 3];
+            final int size = this.record.length * Long.BYTES;
+            this.buffer = ByteBuffer.allocate(Math.max(ExternalBreadthFirstSearch.IO_BUFFER_SIZE, size));
+            this.buffer.flip();
+            this.index = -1;
+            this.valid = false;
+        }
+
+        /**
+         * Returns the current record.
+         *
+         * @return the current record.
+         */
+        long[] getRecord() {
+            return this.record;
+        }
+
+        /**
+         * Returns the index of the current record in the file.
+         *
+         * @return the index of the current record in the file.
+         */
+        long getIndex() {
+            return this.index;
+        }
+
+        /**
+         * Returns if the current record is valid, i.e., the end of the file is not reached.
+         *
+         * @return <code>true</code> if the current record is valid; <code>false</code> otherwise.
+         */
+        boolean isValid() {
+            return this.valid;
+        }
+
+        /**
+         * Reads the next record of the file.
+         *
+         * @return <code>true</code> if a record is read; <code>false</code> if the end of the file is reached.
+         * @throws IOException if an error occurs while the file is read.
+         */
+        boolean next() throws IOException {
+            final int size = this.record.length * Long.BYTES;
+            if (this.buffer.remaining() < size) {
+                this.buffer.compact();
+                while (this.buffer.hasRemaining() && this.channel.read(this.buffer) > 0) {
+                    // Fills the buffer until the end of the file
+                }
+                this.buffer.flip();
+            }
+            this.valid = this.buffer.remaining() >= size;
+            if (this.valid) {
+                for (int i = 0; i < this.record.length; i++) {
+                    this.record[i] = this.buffer.getLong();
+                }
+                this.index++;
+            }
+            return this.valid;
+        }
+
+        /**
+         * Closes the file.
+         *
+         * @throws IOException if an error occurs while the file is closed.
+         */
+        @Override
+        public void close() throws IOException {
+            this.channel.close();
+        }
+    }
+}
@@ -16,21 +16,31 @@
 package fr.uga.pddl4j.planners.statespace.search.strategy;
 
 import fr.uga.pddl4j.encoding.CodedProblem;
+import fr.uga.pddl4j.heuristics.relaxation.FastForward;
 import fr.uga.pddl4j.heuristics.relaxation.Heuristic;
 import fr.uga.pddl4j.heuristics.relaxation.HeuristicToolKit;
 import fr.uga.pddl4j.util.BitOp;
 import fr.uga.pddl4j.util.BitState;
+import fr.uga.pddl4j.util.BitVector;
 import fr.uga.pddl4j.util.MemoryAgent;
 import fr.uga.pddl4j.util.SolutionEvent;
 
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 
 /**
  * This class implements Greedy Best First Search strategy.
+ * <p>
+ * When the helpful actions pruning is enabled, the heuristic used must be the {@link FastForward} heuristic and
+ * the expansion of a node is restricted to its helpful successors. The helpful operators of a node are recorded when
+ * the node is evaluated. If a node has no helpful successor, all its successors are generated. If the search fails
+ * with the pruning, it is started again from the initial state with a full expansion.
+ * </p>
  *
  * @author E. Hermellin
  * @version 1.0 - 01.06.2018
@@ -42,6 +52,36 @@ public final class GreedyBestFirstSearch extends AbstractStateSpaceStrategy {
      */
     private static final long serialVersionUID = 1L;
 
+    /**
+     * The flag used to restrict the expansion of the nodes to their helpful successors.
+     */
+    private boolean helpfulActionsPruning;
+
+    /**
+     * The set of the visited states or null to use the closed list of the strategy.
+     */
+    private VisitedSet visitedSet;
+
+    /**
+     * Returns <code>true</code> if the expansion of the nodes is restricted to their helpful successors.
+     *
+     * @return <code>true</code> if the helpful actions pruning is enabled; <code>false</code> otherwise.
+     */
+    public boolean isHelpfulActionsPruning() {
+        return this.helpfulActionsPruning;
+    }
+
+    /**
+     * Enables or disables the restriction of the expansion of the nodes to their helpful successors. The
+     * pruning requires the fast forward heuristic: the search fails with an <code>IllegalStateException</code>
+     * if the pruning is enabled with an other heuristic.
+     *
+     * @param helpfulActionsPruning the helpful actions pruning flag.
+     */
+    public void setHelpfulActionsPruning(final boolean helpfulActionsPruning) {
+        this.helpfulActionsPruning = helpfulActionsPruning;
+    }
+
     /**
      * Creates a new Greedy best First Search search strategy with default parameters.
      *
@@ -61,18 +101,45 @@ public final class GreedyBestFirstSearch extends AbstractStateSpaceStrategy {
         super(timeout, heuristic, weight);
     }
 
+    /**
+     * Returns the set of the visited states used by the strategy.
+     *
+     * @return the set of the visited states used by the strategy or null if the strategy uses its own closed list.
+     */
+    @Override
+    public VisitedSet getVisitedSet() {
+        return this.visitedSet;
+    }
+
+    /**
+     * Sets the set of the visited states used by the strategy.
+     *
+     * @param visitedSet the set of the visited states or null to use the closed list of the strategy.
+     */
+    @Override
+    public void setVisitedSet(final VisitedSet visitedSet) {
+        this.visitedSet = visitedSet;
+    }
+
     /**
      * The greedy best first search algorithm. Solves the planning problem and returns the first solution plan found.
      * This method must be completed.
      *
      * @param codedProblem the problem to be solved. The problem cannot be null.
      * @return a solution plan or null if it does not exist.
+     * @throws IllegalStateException if the helpful actions pruning is enabled and the heuristic used is not the fast
+     *     forward heuristic.
      */
     public Node search(final CodedProblem codedProblem) {
         Objects.requireNonNull(codedProblem);
+        if (this.helpfulActionsPruning && this.getHeuristicType() != Heuristic.Type.FAST_FORWARD) {
+            throw new IllegalStateException("helpful actions pruning requires the FAST_FORWARD heuristic");
+        }
         final long begin = System.currentTimeMillis();
 
-        final Heuristic heuristic = HeuristicToolKit.createHeuristic(getHeuristicType(), codedProblem);
+        // The helpful actions are a side effect of the evaluation of a state: they cannot be read from the cache
+        final Heuristic heuristic = HeuristicToolKit.createHeuristic(getHeuristicType(), codedProblem,
+            this.helpfulActionsPruning ? null : this.getHeuristicCache());
         final Set<Node> closeSet = new HashSet<>();
         final Set<Node> openSet = new HashSet<>();
         final int timeout = getTimeout();
@@ -81,10 +148,23 @@ public final class GreedyBestFirstSearch extends AbstractStateSpaceStrategy {
         Node root = new Node(init, null, 0, 0, heuristic.estimate(init, codedProblem.getGoal()));
         root.setDepth(0);
         openSet.add(root);
+        // The helpful operators of the pending nodes, recorded when the nodes are evaluated
+        final Map<Node, BitVector> helpfulOperators = this.helpfulActionsPruning ? new IdentityHashMap<>() : null;
+        if (helpfulOperators != null) {
+            helpfulOperators.put(root, new BitVector(((FastForward) heuristic).getHelpfulOperators()));
+        }
+        // The successors already visited are not added to the open list if the strategy uses a set of visited states
+        final VisitedSet visited = this.getVisitedSet();
+        if (visited != null) {
+            visited.clear();
+            visited.add(root);
+        }
 
         this.resetNodesStatistics();
         Node solution = null;
+        int explored = 0;
         long searchingTime = 0;
+        boolean pruning = this.helpfulActionsPruning;
         while (!openSet.isEmpty() && solution == null && searchingTime < timeout) {
             // Pop the first node in the pending list open
             final Node current = popPriorityNode(openSet);
@@ -93,12 +173,20 @@ public final class GreedyBestFirstSearch extends AbstractStateSpaceStrategy {
                 solution = current;
                 fireSolution(new SolutionEvent(this, solution, codedProblem));
             } else {
-                closeSet.add(current);
+                explored++;
+                if (visited == null) {
+                    closeSet.add(current);
+                }
+                BitVector helpful = pruning ? helpfulOperators.remove(current) : null;
+                // A node without helpful operators is fully expanded
+                if (helpful != null && helpful.isEmpty()) {
+                    helpful = null;
+                }
                 int index = 0;
                 for (BitOp op : codedProblem.getOperators()) {
 
-                    // Test if a specified operator is applicable in the current state
-                    if (op.isApplicable(current)) {
+                    // Test if a specified operator is helpful and applicable in the current state
+                    if ((helpful == null || helpful.get(index)) && op.isApplicable(current)) {
                         final BitState nextState = new BitState(current);
                         nextState.or(op.getCondEffects().get(0).getEffects().getPositive());
                         nextState.andNot(op.getCondEffects().get(0).getEffects().getNegative());
@@ -107,24 +195,42 @@ public final class GreedyBestFirstSearch extends AbstractStateSpaceStrategy {
                         final Node successor = new Node(nextState);
                         this.setCreatedNodes(this.getCreatedNodes() + 1);
                         successor.setCost(current.getCost() + op.getCost());
-                        successor.setHeuristic(heuristic.estimate(nextState, codedProblem.getGoal()));
+                        successor.setHeuristic(this.estimate(heuristic, nextState, codedProblem.getGoal()));
                         successor.setParent(current);
                         successor.setOperator(index);
                         successor.setDepth(current.getDepth() + 1);
-                        openSet.add(successor);
+                        if (!this.isDeadEnd(successor) && (visited == null || visited.add(successor))) {
+                            if (openSet.add(successor) && pruning) {
+                                // The helpful operators are those of the last state estimated by the heuristic
+                                helpfulOperators.put(successor,
+                                    new BitVector(((FastForward) heuristic).getHelpfulOperators()));
+                            }
+                        }
                     }
                     index++;
                 }
             }
+            // The search restricted to the helpful successors failed, we start it again with a full expansion
+            if (openSet.isEmpty() && solution == null && pruning) {
+                closeSet.clear();
+                helpfulOperators.clear();
+                if (visited != null) {
+                    visited.clear();
+                    visited.add(root);
+                }
+                openSet.add(root);
+                pruning = false;
+            }
             // Take time to compute the searching time
             long end = System.currentTimeMillis();
             searchingTime = end - begin;
         }
 
-        this.setExploredNodes(closeSet.size());
+        this.setExploredNodes(explored);
         this.setPendingNodes(openSet.size());
         this.setMemoryUsed(MemoryAgent.getDeepSizeOf(closeSet) + MemoryAgent.getDeepSizeOf(openSet)
-            + MemoryAgent.getDeepSizeOf(heuristic));
+            + MemoryAgent.getDeepSizeOf(heuristic) + (visited == null ? 0 : MemoryAgent.getDeepSizeOf(visited))
+            + (helpfulOperators == null ? 0 : MemoryAgent.getDeepSizeOf(helpfulOperators)));
         this.setSearchingTime(searchingTime);
 
         return solution;
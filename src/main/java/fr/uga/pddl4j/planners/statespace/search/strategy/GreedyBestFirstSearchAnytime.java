@@ -45,41 +45,11 @@ public final class GreedyBestFirstSearchAnytime extends AbstractStateSpaceStrate
      */
     private static final long serialVersionUID = 1L;
 
-    /**
-     * The bound cost for strategy search.
-     */
-    private double boundCost;
-
-    /**
-     * The The bound cost for strategy search.
-     */
-    private double boundDepth;
-
-    /**
-     * Sets the bound cost for strategy search.
-     *
-     * @param boundCost the bound cost for strategy search
-     */
-    public void setBoundCost(double boundCost) {
-        this.boundCost = boundCost;
-    }
-
-    /**
-     * Sets the bound depth for strategy search.
-     *
-     * @param boundDepth the bound depth for strategy search
-     */
-    public void setBoundDepth(double boundDepth) {
-        this.boundDepth = boundDepth;
-    }
-
     /**
      * Creates a new Greedy Best First Search search strategy with default parameters.
      */
     public GreedyBestFirstSearchAnytime() {
         super();
-        this.boundCost = Double.MAX_VALUE;
-        this.boundDepth = Double.MAX_VALUE;
     }
 
     /**
@@ -91,8 +61,6 @@ public final class GreedyBestFirstSearchAnytime extends AbstractStateSpaceStrate
      */
     public GreedyBestFirstSearchAnytime(int timeout, Heuristic.Type heuristic, double weight) {
         super(timeout, heuristic, weight);
-        this.boundCost = Double.MAX_VALUE;
-        this.boundDepth = Double.MAX_VALUE;
     }
 
     /**
@@ -107,8 +75,8 @@ public final class GreedyBestFirstSearchAnytime extends AbstractStateSpaceStrate
     public GreedyBestFirstSearchAnytime(int timeout, Heuristic.Type heuristic, double weight,
                                         double boundCost, double boundDepth) {
         super(timeout, heuristic, weight);
-        this.boundCost = boundCost;
-        this.boundDepth = boundDepth;
+        this.setBoundCost(boundCost);
+        this.setBoundDepth(boundDepth);
     }
 
     /**
@@ -124,7 +92,8 @@ public final class GreedyBestFirstSearchAnytime extends AbstractStateSpaceStrate
 
         final long begin = System.currentTimeMillis();
 
-        final Heuristic heuristic = HeuristicToolKit.createHeuristic(getHeuristicType(), problem);
+        final Heuristic heuristic = HeuristicToolKit.createHeuristic(getHeuristicType(), problem,
+            this.getHeuristicCache());
         final Set<Node> closeSet = new HashSet<>();
         final Set<Node> openSet = new HashSet<>();
         final int timeout = getTimeout();
@@ -150,11 +119,11 @@ public final class GreedyBestFirstSearchAnytime extends AbstractStateSpaceStrate
                 fireSolution(new SolutionEvent(this, solution, problem));
 
                 final Plan p = extractPlan(solution, problem);
-                boundCost = p.cost();
-                boundDepth = p.size();
+                this.setBoundCost(p.cost());
+                this.setBoundDepth(p.size());
 
                 logger.trace("* " + this.getSolutionNodes().size() + " solution(s) found. Best cost: "
-                    + boundCost + "\n");
+                    + this.getBoundCost() + "\n");
             } else {
                 closeSet.add(current);
                 int index = 0;
@@ -170,11 +139,12 @@ public final class GreedyBestFirstSearchAnytime extends AbstractStateSpaceStrate
                         final Node successor = new Node(nextState);
                         this.setCreatedNodes(this.getCreatedNodes() + 1);
                         successor.setCost(current.getCost() + op.getCost());
-                        successor.setHeuristic(heuristic.estimate(nextState, problem.getGoal()));
+                        successor.setHeuristic(this.estimate(heuristic, nextState, problem.getGoal()));
                         successor.setParent(current);
                         successor.setOperator(index);
                         successor.setDepth(current.getDepth() + 1);
-                        if (successor.getCost() < boundCost && successor.getDepth() <= boundDepth) {
+                        if (successor.getCost() < this.getBoundCost()
+                            && successor.getDepth() <= this.getBoundDepth() && !this.isDeadEnd(successor)) {
                             openSet.add(successor);
                         }
                     }
@@ -197,14 +167,6 @@ public final class GreedyBestFirstSearchAnytime extends AbstractStateSpaceStrate
         return solution;
     }
 
-    /**
-     * Clear boundaries at the end of the computation.
-     */
-    private void clearBounds() {
-        this.boundCost = Double.MAX_VALUE;
-        this.boundDepth = Double.MAX_VALUE;
-    }
-
     /**
      * Get a node from a list of nodes.
      *
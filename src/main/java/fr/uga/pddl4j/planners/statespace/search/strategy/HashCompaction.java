@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2016 by Damien Pellier <Damien.Pellier@imag.fr>.
+ *
+ * This file is part of PDDL4J library.
+ *
+ * PDDL4J is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * PDDL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with PDDL4J.  If not, see
+ * <http://www.gnu.org/licenses/>
+ */
+
+package fr.uga.pddl4j.planners.statespace.search.strategy;
+
+import fr.uga.pddl4j.util.BitState;
+
+import java.util.Arrays;
+
+/**
+ * This class implements a set of visited states with hash compaction (P. Wolper and D. Leroy, "Reliable hashing
+ * without collision detection", CAV, 1993). The set stores a 64 bits signature of each state in an open-addressing
+ * table probed linearly instead of the state itself, i.e., 8 bytes per state whatever the number of facts of the
+ * problem. A state whose signature is the signature of another state is omitted.
+ * <p>
+ * When a state is added to a set of <i>n</i> signatures, the probability that it would have been omitted is
+ * <i>n / 2^64</i>; the omission probability of the set is computed from these probabilities for all the states added,
+ * i.e., about <i>n^2 / 2^65</i>. The table is doubled when it is three quarters full.
+ * </p>
+ *
+ * @author PDDL4J contributors
+ * @version 1.0 - 19.10.2026
+ */
+public final class HashCompaction implements VisitedSet {
+
+    /**
+     * The serial id of the class.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The default capacity of the table.
+     */
+    public static final int DEFAULT_CAPACITY = 1 << 16;
+
+    /**
+     * The maximum number of cells of the table.
+     */
+    private static final int MAX_CELLS = 1 << 30;
+
+    /**
+     * The inverse of 2^64.
+     */
+    private static final double INV_2_64 = 0x1.0p-64;
+
+    /**
+     * The initial number of cells of the table.
+     */
+    private final int initial;
+
+    /**
+     * The signatures of the table, 0 for the free cells.
+     */
+    private long[] cells;
+
+    /**
+     * The number of signatures of the table.
+     */
+    private int size;
+
+    /**
+     * The logarithm of the probability that no state was omitted.
+     */
+    private double logNoOmission;
+
+    /**
+     * Creates a new empty set with the default capacity.
+     */
+    public HashCompaction() {
+        this(HashCompaction.DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a new empty set.
+     *
+     * @param capacity the number of states that the set can store without growing. The capacity must be strictly
+     *                 positive.
+     * @throws IllegalArgumentException if <code>capacity &lt;= 0</code>.
+     */
+    public HashCompaction(final int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity <= 0");
+        }
+        this.initial = (int) Math.min(HashCompaction.MAX_CELLS, Long.highestOneBit(4L * capacity / 3) << 1);
+        this.clear();
+    }
+
+    /**
+     * Adds a state to the set if its signature is not in the set.
+     *
+     * @param state the state.
+     * @return <code>true</code> if the state was added; <code>false</code> if it is reported as visited.
+     * @throws IllegalStateException if the table cannot grow anymore.
+     */
+    @Override
+    public boolean add(final BitState state) {
+        final long signature = HashCompaction.signature(state);
+        final int mask = this.cells.length - 1;
+        int i = (int) signature & mask;
+        while (this.cells[i] != 0L) {
+            if (this.cells[i] == signature) {
+                return false;
+            }
+            i = (i + 1) & mask;
+        }
+        this.logNoOmission += Math.log1p(-this.size * HashCompaction.INV_2_64);
+        this.cells[i] = signature;
+        this.size++;
+        if (4L * this.size > 3L * this.cells.length) {
+            this.grow();
+        }
+        return true;
+    }
+
+    /**
+     * Returns if the signature of a state is in the set.
+     *
+     * @param state the state.
+     * @return <code>true</code> if the state is reported as visited; <code>false</code> otherwise.
+     */
+    @Override
+    public boolean contains(final BitState state) {
+        final long signature = HashCompaction.signature(state);
+        final int mask = this.cells.length - 1;
+        for (int i = (int) signature & mask; this.cells[i] != 0L; i = (i + 1) & mask) {
+            if (this.cells[i] == signature) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the number of states added to the set since it was cleared.
+     *
+     * @return the number of states added to the set since it was cleared.
+     */
+    @Override
+    public long size() {
+        return this.size;
+    }
+
+    /**
+     * Returns an estimate of the probability that at least one state was omitted since the set was cleared.
+     *
+     * @return an estimate of the probability that at least one state was omitted.
+     */
+    @Override
+    public double getOmissionProbability() {
+        return -Math.expm1(this.logNoOmission);
+    }
+
+    /**
+     * Removes all the states of the set and restores its initial capacity.
+     */
+    @Override
+    public void clear() {
+        if (this.cells == null || this.cells.length != this.initial) {
+            this.cells = new long[this.initial];
+        } else {
+            Arrays.fill(this.cells, 0L);
+        }
+        this.size = 0;
+        this.logNoOmission = 0.0;
+    }
+
+    /**
+     * Doubles the number of cells of the table.
+     *
+     * @throws IllegalStateException if the table cannot grow anymore.
+     */
+    private void grow() {
+        if (this.cells.length >= HashCompaction.MAX_CELLS) {
+            throw new IllegalStateException("hash compaction table full");
+        }
+        final long[] old = this.cells;
+        this.cells = new long[2 * old.length];
+        final int mask = this.cells.length - 1;
+        for (long signature : old) {
+            if (signature != 0L) {
+                int i = (int) signature & mask;
+                while (this.cells[i] != 0L) {
+                    i = (i + 1) & mask;
+                }
+                this.cells[i] = signature;
+            }
+        }
+    }
+
+    /**
+     * Returns the signature of a state, i.e., its 64 bits hash code where 0 is reserved for the free cells.
+     *
+     * @param state the state.
+     * @return the signature of the state.
+     */
+    private static long signature(final BitState state) {
+        final long hash = VisitedSet.hash(state);
+        return hash == 0L ? 1L : hash;
+    }
+}
@@ -69,7 +69,8 @@ public final class HillClimbing extends AbstractStateSpaceStrategy {
     public Node search(final CodedProblem codedProblem) {
         Objects.requireNonNull(codedProblem);
         final LinkedList<Node> openList = new LinkedList<>();
-        final Heuristic heuristic = HeuristicToolKit.createHeuristic(getHeuristicType(), codedProblem);
+        final Heuristic heuristic = HeuristicToolKit.createHeuristic(getHeuristicType(), codedProblem,
+            this.getHeuristicCache());
 
         BitState init = new BitState(codedProblem.getInit());
         Node root = new Node(init, null, 0, 0, heuristic.estimate(init, codedProblem.getGoal()));
@@ -135,11 +136,13 @@ public final class HillClimbing extends AbstractStateSpaceStrategy {
                 final Node successor = new Node(nextState);
                 this.setCreatedNodes(this.getCreatedNodes() + 1);
                 successor.setCost(parent.getCost() + op.getCost());
-                successor.setHeuristic(heuristic.estimate(nextState, problem.getGoal()));
+                successor.setHeuristic(this.estimate(heuristic, nextState, problem.getGoal()));
                 successor.setParent(parent);
                 successor.setOperator(index);
                 successor.setDepth(parent.getDepth() + 1);
-                successors.add(successor);
+                if (!this.isDeadEnd(successor)) {
+                    successors.add(successor);
+                }
             }
             index++;
         }
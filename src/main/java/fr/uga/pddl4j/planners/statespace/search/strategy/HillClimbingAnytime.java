@@ -85,7 +85,8 @@ public final class HillClimbingAnytime extends AbstractStateSpaceStrategyAnytime
         final Logger logger = Planner.getLogger();
         Objects.requireNonNull(problem);
 
-        final Heuristic heuristic = HeuristicToolKit.createHeuristic(this.getHeuristicType(), problem);
+        final Heuristic heuristic = HeuristicToolKit.createHeuristic(this.getHeuristicType(), problem,
+            this.getHeuristicCache());
 
         BitState init = new BitState(problem.getInit());
         Node root = new Node(init, null, 0, 0, heuristic.estimate(init, problem.getGoal()));
@@ -199,11 +200,13 @@ public final class HillClimbingAnytime extends AbstractStateSpaceStrategyAnytime
                 final Node successor = new Node(nextState);
                 this.setCreatedNodes(this.getCreatedNodes() + 1);
                 successor.setCost(parent.getCost() + op.getCost());
-                successor.setHeuristic(heuristic.estimate(successor, problem.getGoal()));
+                successor.setHeuristic(this.estimate(heuristic, successor, problem.getGoal()));
                 successor.setParent(parent);
                 successor.setOperator(index);
                 successor.setDepth(parent.getDepth() + 1);
-                successors.add(successor);
+                if (!this.isDeadEnd(successor)) {
+                    successors.add(successor);
+                }
             }
             index++;
         }
@@ -0,0 +1,244 @@
+/*
+ * Copyright (c) 2016 by Damien Pellier <Damien.Pellier@imag.fr>.
+ *
+ * This file is part of PDDL4J library.
+ *
+ * PDDL4J is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * PDDL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with PDDL4J.  If not, see
+ * <http://www.gnu.org/licenses/>
+ */
+
+package fr.uga.pddl4j.planners.statespace.search.strategy;
+
+import fr.uga.pddl4j.encoding.CodedProblem;
+import fr.uga.pddl4j.util.BitExp;
+import fr.uga.pddl4j.util.BitOp;
+import fr.uga.pddl4j.util.BitState;
+import fr.uga.pddl4j.util.MemoryAgent;
+import fr.uga.pddl4j.util.SolutionEvent;
+
+import java.util.LinkedList;
+import java.util.Objects;
+
+/**
+ * This class implements the Iterated Width search strategy IW(k). For more information on this
+ * strategy see N. Lipovetzky and H. Geffner. "Width and Serialization of Classical Planning
+ * Problems". In proceedings of the 20th European Conference on Artificial Intelligence, 2012.
+ * <p>
+ * IW(k) is a breadth first search that prunes the states whose novelty is greater than
+ * <code>k</code> (see {@link NoveltyTable}). As the duplicate states are never novel, no closed
+ * list is needed. The strategy runs IW(1), then IW(2) and so on up to the width of the strategy
+ * until a solution is found. IW(k) is complete for the problems of width lower or equal to
+ * <code>k</code> and runs in a time exponential in <code>k</code> only.
+ * </p>
+ * <p>
+ * As the width of a conjunctive goal is often large, the search can be serialized (SIW): the
+ * iterated width search is run from the initial state until a state satisfying one more goal is
+ * found and then run again from this state until all the goals are satisfied. The serialized search
+ * is incomplete.
+ * </p>
+ *
+ * @author PDDL4J contributors
+ * @version 1.0 - 19.10.2026
+ * @see NoveltyTable
+ */
+public final class IteratedWidth extends AbstractStateSpaceStrategy {
+
+    /**
+     * The serial id of the class.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The default maximal width of the search.
+     */
+    public static final int DEFAULT_WIDTH = 2;
+
+    /**
+     * The maximal width of the search.
+     */
+    private int width;
+
+    /**
+     * The flag used to indicate that the goals are achieved one at a time.
+     */
+    private boolean serialized;
+
+    /**
+     * Returns the maximal width of the search.
+     *
+     * @return the maximal width of the search.
+     */
+    public int getWidth() {
+        return this.width;
+    }
+
+    /**
+     * Sets the maximal width of the search.
+     *
+     * @param width the maximal width of the search.
+     * @throws IllegalArgumentException if <code>width &lt; 1 || width &gt; NoveltyTable.MAX_WIDTH</code>.
+     */
+    public void setWidth(final int width) {
+        if (width < 1 || width > NoveltyTable.MAX_WIDTH) {
+            throw new IllegalArgumentException("width must be between 1 and " + NoveltyTable.MAX_WIDTH);
+        }
+        this.width = width;
+    }
+
+    /**
+     * Returns <code>true</code> if the search is serialized, i.e., if the goals are achieved one at a time.
+     *
+     * @return <code>true</code> if the search is serialized; <code>false</code> otherwise.
+     */
+    public boolean isSerialized() {
+        return this.serialized;
+    }
+
+    /**
+     * Sets the flag used to indicate that the search is serialized, i.e., that the goals are achieved one at a
+     * time.
+     *
+     * @param serialized <code>true</code> to serialize the search; <code>false</code> otherwise.
+     */
+    public void setSerialized(final boolean serialized) {
+        this.serialized = serialized;
+    }
+
+    /**
+     * Creates a new Iterated Width search strategy with default parameters.
+     */
+    public IteratedWidth() {
+        super();
+        this.width = IteratedWidth.DEFAULT_WIDTH;
+    }
+
+    /**
+     * Creates a new Iterated Width search strategy with the default width.
+     *
+     * @param timeout the time out of the planner.
+     */
+    public IteratedWidth(int timeout) {
+        this(timeout, IteratedWidth.DEFAULT_WIDTH);
+    }
+
+    /**
+     * Creates a new Iterated Width search strategy.
+     *
+     * @param timeout the time out of the planner.
+     * @param width   the maximal width of the search.
+     * @throws IllegalArgumentException if <code>width &lt; 1 || width &gt; NoveltyTable.MAX_WIDTH</code>.
+     */
+    public IteratedWidth(int timeout, int width) {
+        this(timeout, width, false);
+    }
+
+    /**
+     * Creates a new Iterated Width search strategy.
+     *
+     * @param timeout    the time out of the planner.
+     * @param width      the maximal width of the search.
+     * @param serialized <code>true</code> to achieve the goals one at a time; <code>false</code> otherwise.
+     * @throws IllegalArgumentException if <code>width &lt; 1 || width &gt; NoveltyTable.MAX_WIDTH</code>.
+     */
+    public IteratedWidth(int timeout, int width, boolean serialized) {
+        super(timeout);
+        this.setWidth(width);
+        this.serialized = serialized;
+    }
+
+    /**
+     * The iterated width search algorithm. Solves the planning problem and returns the first solution found.
+     *
+     * @param codedProblem the problem to be solved. The problem cannot be null.
+     * @return a solution node or null if it does not exist.
+     */
+    public Node search(final CodedProblem codedProblem) {
+        Objects.requireNonNull(codedProblem);
+        final long begin = System.currentTimeMillis();
+        final BitExp goal = codedProblem.getGoal();
+
+        this.resetNodesStatistics();
+        Node current = new Node(new BitState(codedProblem.getInit()), null, -1, 0.0, 0, 0.0);
+        Node solution = null;
+        while (solution == null && current != null) {
+            final int unsatisfied = current.countUnsatisfied(goal);
+            if (unsatisfied == 0) {
+                solution = current;
+            } else {
+                // A serialized search stops as soon as one more goal is satisfied
+                final int target = this.serialized ? unsatisfied : 1;
+                Node next = null;
+                for (int k = 1; k <= this.width && next == null; k++) {
+                    next = this.search(current, codedProblem, k, target, begin);
+                }
+                current = next;
+            }
+        }
+        if (solution != null) {
+            fireSolution(new SolutionEvent(this, solution, codedProblem));
+        }
+        this.setSearchingTime(System.currentTimeMillis() - begin);
+        return solution;
+    }
+
+    /**
+     * Runs IW(k) from a specified node until a node with less unsatisfied goals than a target is
+     * found.
+     *
+     * @param root    the root node of the search.
+     * @param problem the problem to be solved.
+     * @param k       the width of the search.
+     * @param target  the number of unsatisfied goals to improve.
+     * @param begin   the beginning time of the search.
+     * @return the node found or null if no such node is found before the time out.
+     */
+    private Node search(final Node root, final CodedProblem problem, final int k, final int target,
+                        final long begin) {
+        final BitExp goal = problem.getGoal();
+        final int timeout = getTimeout();
+        final NoveltyTable table = new NoveltyTable(problem.getRelevantFacts().size(), k);
+        final LinkedList<Node> openList = new LinkedList<>();
+        table.evaluate(root);
+        openList.add(root);
+        Node solution = null;
+        long searchingTime = System.currentTimeMillis() - begin;
+        while (!openList.isEmpty() && solution == null && searchingTime < timeout) {
+            final Node current = openList.poll();
+            this.setExploredNodes(this.getExploredNodes() + 1);
+            int index = 0;
+            for (BitOp op : problem.getOperators()) {
+                // Test if a specified operator is applicable in the current state
+                if (solution == null && op.isApplicable(current)) {
+                    final Node successor = new Node(current);
+                    this.setCreatedNodes(this.getCreatedNodes() + 1);
+                    // Apply the effect of the applicable operator
+                    op.getCondEffects().stream().filter(ce -> current.satisfy(ce.getCondition()))
+                        .forEach(ce -> successor.apply(ce.getEffects()));
+                    successor.setCost(current.getCost() + op.getCost());
+                    successor.setParent(current);
+                    successor.setOperator(index);
+                    successor.setDepth(current.getDepth() + 1);
+                    // The target is tested before the pruning and the states which are not novel are pruned
+                    if (successor.countUnsatisfied(goal) < target) {
+                        solution = successor;
+                    } else if (table.evaluate(successor) <= k) {
+                        openList.addLast(successor);
+                    }
+                }
+                index++;
+            }
+            // Take time to compute the searching time
+            searchingTime = System.currentTimeMillis() - begin;
+        }
+        this.setPendingNodes(openList.size());
+        this.setMemoryUsed(Math.max(this.getMemoryUsed(),
+            MemoryAgent.getDeepSizeOf(openList) + MemoryAgent.getDeepSizeOf(table)));
+        return solution;
+    }
+}
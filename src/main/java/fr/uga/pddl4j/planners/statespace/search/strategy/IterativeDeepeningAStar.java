@@ -0,0 +1,820 @@
+/*
+ * Copyright (c) 2016 by Damien Pellier <Damien.Pellier@imag.fr>.
+ *
+ * This file is part of PDDL4J library.
+ *
+ * PDDL4J is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * PDDL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with PDDL4J.  If not, see
+ * <http://www.gnu.org/licenses/>
+ */
+
+package fr.uga.pddl4j.planners.statespace.search.strategy;
+
+import fr.uga.pddl4j.encoding.CodedProblem;
+import fr.uga.pddl4j.heuristics.relaxation.Heuristic;
+import fr.uga.pddl4j.heuristics.relaxation.HeuristicCache;
+import fr.uga.pddl4j.heuristics.relaxation.HeuristicToolKit;
+import fr.uga.pddl4j.util.BitExp;
+import fr.uga.pddl4j.util.BitOp;
+import fr.uga.pddl4j.util.BitState;
+import fr.uga.pddl4j.util.BitVector;
+import fr.uga.pddl4j.util.CondBitExp;
+import fr.uga.pddl4j.util.MemoryAgent;
+import fr.uga.pddl4j.util.SolutionEvent;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * This class implements the Iterative Deepening A* (IDA*) search strategy with a bounded transposition table (R. E.
+ * Korf, "Depth-first iterative-deepening: an optimal admissible tree search", Artificial Intelligence, 1985). The
+ * strategy performs a sequence of depth first searches bounded by a threshold on <i>f = g + w * h</i>. The threshold
+ * of an iteration is the smallest <i>f</i> value that exceeded the threshold of the previous iteration. With an
+ * admissible heuristic and a weight of 1, the first solution found is optimal.
+ * <p>
+ * The memory used by the search does not depend on the number of nodes explored: the depth first search uses an
+ * explicit stack, modifies a single state in place and restores it when it backtracks, and the states already visited
+ * are stored in a transposition table of fixed size. Each entry of the table records the fingerprint of a state, the
+ * cost of the cheapest path to the state in the current iteration, used to prune the transpositions, and a lower
+ * bound on the cost to reach the goal learned from the previous iterations, used in place of the heuristic. The table
+ * is two-way set associative: a new entry replaces an entry of a previous iteration first and the deepest entry
+ * otherwise. The successors of a node are explored by increasing heuristic value. The successors of the nodes of the
+ * current path are stored in a single pool shared by all the depths, so that the memory used by the stack is
+ * proportional to the number of successors along the path rather than to the depth times the number of operators.
+ * The nodes of the solution plan are only created once the solution is found so that the plan can be extracted with
+ * {@link #extractPlan(Node, CodedProblem)}.
+ * </p>
+ *
+ * @author PDDL4J contributors
+ * @version 1.0 - 19.10.2026
+ */
+public final class IterativeDeepeningAStar extends AbstractStateSpaceStrategy {
+
+    /**
+     * The serial id of the class.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The default number of entries of the transposition table.
+     */
+    public static final int DEFAULT_TABLE_SIZE = 1 << 20;
+
+    /**
+     * The value returned when a solution is found.
+     */
+    private static final double FOUND = -1.0;
+
+    /**
+     * The value returned when a node is expanded and its successors are pushed on the stack.
+     */
+    private static final double EXPANDED = -2.0;
+
+    /**
+     * The initial number of successors of the pool.
+     */
+    private static final int INITIAL_POOL_SIZE = 64;
+
+    /**
+     * The number of nodes explored between two checks of the timeout.
+     */
+    private static final int CHECK_PERIOD = 1024;
+
+    /**
+     * The number of entries of the transposition table.
+     */
+    private int tableSize;
+
+    /**
+     * Creates a new IDA* search strategy with default parameters.
+     */
+    public IterativeDeepeningAStar() {
+        super();
+        this.tableSize = IterativeDeepeningAStar.DEFAULT_TABLE_SIZE;
+    }
+
+    /**
+     * Creates a new IDA* search strategy.
+     *
+     * @param timeout the time out of the planner.
+     */
+    public IterativeDeepeningAStar(final int timeout) {
+        super(timeout);
+        this.tableSize = IterativeDeepeningAStar.DEFAULT_TABLE_SIZE;
+    }
+
+    /**
+     * Creates a new IDA* search strategy.
+     *
+     * @param timeout   the time out of the planner.
+     * @param heuristic the heuristicType to use to solve the planning problem.
+     * @param weight    the weight set to the heuristic.
+     */
+    public IterativeDeepeningAStar(final int timeout, final Heuristic.Type heuristic, final double weight) {
+        super(timeout, heuristic, weight);
+        this.tableSize = IterativeDeepeningAStar.DEFAULT_TABLE_SIZE;
+    }
+
+    /**
+     * Creates a new IDA* search strategy.
+     *
+     * @param timeout   the time out of the planner.
+     * @param heuristic the heuristicType to use to solve the planning problem.
+     * @param weight    the weight set to the heuristic.
+     * @param tableSize the number of entries of the transposition table. The number must be strictly positive.
+     * @throws IllegalArgumentException if <code>tableSize &lt;= 0</code>.
+     */
+    public IterativeDeepeningAStar(final int timeout, final Heuristic.Type heuristic, final double weight,
+                                   final int tableSize) {
+        super(timeout, heuristic, weight);
+        this.setTableSize(tableSize);
+    }
+
+    /**
+     * Returns the number of entries of the transposition table.
+     *
+     * @return the number of entries of the transposition table.
+     */
+    public int getTableSize() {
+        return this.tableSize;
+    }
+
+    /**
+     * Sets the number of entries of the transposition table.
+     *
+     * @param tableSize the number of entries of the transposition table. The number must be strictly positive.
+     * @throws IllegalArgumentException if <code>tableSize &lt;= 0</code>.
+     */
+    public void setTableSize(final int tableSize) {
+        if (tableSize <= 0) {
+            throw new IllegalArgumentException("tableSize <= 0");
+        }
+        this.tableSize = tableSize;
+    }
+
+    /**
+     * Solves the planning problem and returns the first solution node found.
+     *
+     * @param codedProblem the problem to be solved. The problem cannot be null.
+     * @return a solution node or null if it does not exist.
+     */
+    @Override
+    public Node search(final CodedProblem codedProblem) {
+        Objects.requireNonNull(codedProblem);
+        final long begin = System.currentTimeMillis();
+        final Heuristic heuristic = HeuristicToolKit.createHeuristic(getHeuristicType(), codedProblem,
+            this.getHeuristicCache());
+        this.resetNodesStatistics();
+        final Search search = new Search(codedProblem, heuristic, begin);
+        final Node solution = search.run();
+        if (solution != null) {
+            fireSolution(new SolutionEvent(this, solution, codedProblem));
+        }
+        this.setPendingNodes(0);
+        this.setMemoryUsed(MemoryAgent.getDeepSizeOf(search.table));
+        this.setSearchingTime(System.currentTimeMillis() - begin);
+        return solution;
+    }
+
+    /**
+     * Returns if a state satisfies an expression without allocating memory.
+     *
+     * @param state the state.
+     * @param exp   the expression.
+     * @return <code>true</code> if the state satisfies the expression; <code>false</code> otherwise.
+     */
+    private static boolean satisfy(final BitState state, final BitExp exp) {
+        final BitVector positive = exp.getPositive();
+        for (int p = positive.nextSetBit(0); p >= 0; p = positive.nextSetBit(p + 1)) {
+            if (!state.get(p)) {
+                return false;
+            }
+        }
+        return !state.intersects(exp.getNegative());
+    }
+
+    /**
+     * This class implements the depth first searches of the IDA* strategy. It holds the state modified in place, the
+     * explicit stack of the nodes of the current path and the pool of their successors. The buffers of each depth
+     * are allocated once when the search reaches the depth for the first time.
+     */
+    private final class Search {
+
+        /**
+         * The problem to solve.
+         */
+        private final CodedProblem problem;
+
+        /**
+         * The operators of the problem.
+         */
+        private final List<BitOp> operators;
+
+        /**
+         * The goal of the problem.
+         */
+        private final BitExp goal;
+
+        /**
+         * The heuristic used to guide the search.
+         */
+        private final Heuristic heuristic;
+
+        /**
+         * The weight of the heuristic.
+         */
+        private final double weight;
+
+        /**
+         * The time when the search started.
+         */
+        private final long begin;
+
+        /**
+         * The transposition table.
+         */
+        private final TranspositionTable table;
+
+        /**
+         * The state modified in place.
+         */
+        private final BitState state;
+
+        /**
+         * The fingerprints of the states of the current path.
+         */
+        private long[] path;
+
+        /**
+         * The operators of the current path.
+         */
+        private int[] plan;
+
+        /**
+         * The operators of the successors of the nodes of the current path. The successors of the node of a depth
+         * follow the successors of the node of the previous depth.
+         */
+        private int[] successors;
+
+        /**
+         * The weighted heuristic values of the successors of the nodes of the current path.
+         */
+        private double[] values;
+
+        /**
+         * The index in the pool of the first successor of the node of each depth.
+         */
+        private int[] offsets;
+
+        /**
+         * The number of successors of the node of each depth.
+         */
+        private int[] counts;
+
+        /**
+         * The number of successors already explored of the node of each depth.
+         */
+        private int[] cursors;
+
+        /**
+         * The cost of the path to the node of each depth.
+         */
+        private double[] costs;
+
+        /**
+         * The weighted heuristic value of the node of each depth.
+         */
+        private double[] estimates;
+
+        /**
+         * The smallest <i>f</i> value exceeding the threshold returned by the successors of the node of each depth.
+         */
+        private double[] minima;
+
+        /**
+         * The lower bound of the weighted cost to reach the goal learned from the successors of the node of each depth.
+         */
+        private double[] bounds;
+
+        /**
+         * The propositions modified by the operator applied at each depth.
+         */
+        private BitVector[] touched;
+
+        /**
+         * The values of the propositions modified by the operator applied at each depth before its application.
+         */
+        private BitVector[] saved;
+
+        /**
+         * The conditional effects whose condition holds for the operator applied at each depth.
+         */
+        private int[][] active;
+
+        /**
+         * The maximum number of conditional effects of an operator.
+         */
+        private final int maxEffects;
+
+        /**
+         * The current iteration.
+         */
+        private int iteration;
+
+        /**
+         * The length of the solution found.
+         */
+        private int length;
+
+        /**
+         * The number of nodes created.
+         */
+        private int created;
+
+        /**
+         * The number of nodes explored.
+         */
+        private int explored;
+
+        /**
+         * The flag set when the timeout is reached.
+         */
+        private boolean timeout;
+
+        /**
+         * Creates a new search.
+         *
+         * @param problem   the problem to solve.
+         * @param heuristic the heuristic used to guide the search.
+         * @param begin     the time when the search started.
+         */
+        Search(final CodedProblem problem, final Heuristic heuristic, final long begin) {
+            this.problem = problem;
+            this.operators = problem.getOperators();
+            this.goal = problem.getGoal();
+            this.heuristic = heuristic;
+            this.weight = getWeight();
+            this.begin = begin;
+            this.table = new TranspositionTable(getTableSize());
+            this.state = new BitState(problem.getInit());
+            this.path = new long[0];
+            this.plan = new int[0];
+            this.successors = new int[IterativeDeepeningAStar.INITIAL_POOL_SIZE];
+            this.values = new double[IterativeDeepeningAStar.INITIAL_POOL_SIZE];
+            this.offsets = new int[0];
+            this.counts = new int[0];
+            this.cursors = new int[0];
+            this.costs = new double[0];
+            this.estimates = new double[0];
+            this.minima = new double[0];
+            this.bounds = new double[0];
+            this.touched = new BitVector[0];
+            this.saved = new BitVector[0];
+            this.active = new int[0][];
+            this.maxEffects = this.operators.stream().mapToInt(op -> op.getCondEffects().size()).max().orElse(0);
+            this.iteration = 0;
+            this.length = -1;
+            this.created = 0;
+            this.explored = 0;
+            this.timeout = false;
+        }
+
+        /**
+         * Runs the iterations of the IDA* strategy.
+         *
+         * @return the solution node or null if no solution was found.
+         */
+        Node run() {
+            final double h = estimate(this.heuristic, this.state, this.goal);
+            if (h >= Integer.MAX_VALUE) {
+                return null;
+            }
+            this.ensureDepth(0);
+            this.path[0] = HeuristicCache.fingerprint(this.state);
+            double threshold = this.weight * h;
+            boolean found = false;
+            while (!found && !this.timeout && threshold < Double.MAX_VALUE) {
+                this.iteration++;
+                final double next = this.search(this.weight * h, threshold);
+                found = next == IterativeDeepeningAStar.FOUND;
+                threshold = next;
+            }
+            setCreatedNodes(this.created);
+            setExploredNodes(this.explored);
+            return found ? this.extract(this.length) : null;
+        }
+
+        /**
+         * Searches in depth first the tree of the initial state with an explicit stack.
+         *
+         * @param value     the weighted heuristic value of the initial state.
+         * @param threshold the threshold of the iteration.
+         * @return <code>FOUND</code> if a solution is found, the smallest <i>f</i> value exceeding the threshold
+         *     otherwise, or <code>Double.MAX_VALUE</code> if no such value exists.
+         */
+        private double search(final double value, final double threshold) {
+            int depth = 0;
+            double t = this.enter(0, 0.0, value, threshold);
+            while (true) {
+                if (t != IterativeDeepeningAStar.EXPANDED) {
+                    // The search of the node of the current depth is over: its result is returned to its parent
+                    if (depth == 0 || t == IterativeDeepeningAStar.FOUND) {
+                        return t;
+                    }
+                    depth--;
+                    this.undo(depth);
+                    if (this.timeout) {
+                        return Double.MAX_VALUE;
+                    }
+                    final int i = this.offsets[depth] + this.cursors[depth] - 1;
+                    final double h = this.values[i];
+                    final double c = this.operators.get(this.successors[i]).getCost();
+                    final int slot = this.table.probe(this.path[depth + 1]);
+                    this.minima[depth] = Math.min(this.minima[depth], t);
+                    this.bounds[depth] = Math.min(this.bounds[depth],
+                        c + (slot >= 0 ? Math.max(h, this.table.getValue(slot)) : h));
+                }
+                if (this.cursors[depth] < this.counts[depth]) {
+                    // Pushes the next successor of the node of the current depth
+                    final int i = this.offsets[depth] + this.cursors[depth]++;
+                    final int o = this.successors[i];
+                    final BitOp op = this.operators.get(o);
+                    this.apply(op, depth);
+                    this.path[depth + 1] = HeuristicCache.fingerprint(this.state);
+                    this.plan[depth] = o;
+                    t = this.enter(depth + 1, this.costs[depth] + op.getCost(), this.values[i], threshold);
+                    depth++;
+                } else {
+                    // All the successors are explored: the bound learned is stored and the node is popped
+                    this.table.store(this.path[depth], this.costs[depth],
+                        Math.max(this.estimates[depth], this.bounds[depth]), depth, this.iteration);
+                    t = this.minima[depth];
+                }
+            }
+        }
+
+        /**
+         * Enters the current state at a specified depth: the state is either a leaf of the iteration or it is
+         * expanded and its successors are stored in the pool by increasing heuristic value.
+         *
+         * @param depth     the depth of the current state.
+         * @param cost      the cost of the current path.
+         * @param value     the weighted heuristic value of the current state.
+         * @param threshold the threshold of the iteration.
+         * @return <code>EXPANDED</code> if the state is expanded, <code>FOUND</code> if the state is a goal, the
+         *     <i>f</i> value of the state if it exceeds the threshold, or <code>Double.MAX_VALUE</code> if the timeout
+         *     is reached.
+         */
+        private double enter(final int depth, final double cost, final double value, final double threshold) {
+            final double f = cost + value;
+            if (f > threshold) {
+                return f;
+            }
+            if (IterativeDeepeningAStar.satisfy(this.state, this.goal)) {
+                this.length = depth;
+                return IterativeDeepeningAStar.FOUND;
+            }
+            this.explored++;
+            if (this.explored % IterativeDeepeningAStar.CHECK_PERIOD == 0
+                && System.currentTimeMillis() - this.begin >= getTimeout()) {
+                this.timeout = true;
+            }
+            if (this.timeout) {
+                return Double.MAX_VALUE;
+            }
+            this.table.store(this.path[depth], cost, value, depth, this.iteration);
+            this.ensureDepth(depth + 1);
+            // Evaluates the successors of the current state
+            final int offset = depth == 0 ? 0 : this.offsets[depth - 1] + this.counts[depth - 1];
+            int size = 0;
+            // The lower bound of the weighted cost to reach the goal learned from the successors
+            double bound = Double.MAX_VALUE;
+            for (int o = 0; o < this.operators.size(); o++) {
+                final BitOp op = this.operators.get(o);
+                if (IterativeDeepeningAStar.satisfy(this.state, op.getPreconditions())) {
+                    this.apply(op, depth);
+                    this.created++;
+                    final long child = HeuristicCache.fingerprint(this.state);
+                    final double g = cost + op.getCost();
+                    final int slot = this.table.probe(child);
+                    double v;
+                    final boolean visited = slot >= 0 && this.table.getIteration(slot) == this.iteration
+                        && this.table.getCost(slot) <= g;
+                    if (visited || this.isOnPath(child, depth)) {
+                        // The state is on the path or was already searched in this iteration with a larger budget
+                        bound = Math.min(bound, op.getCost() + (slot >= 0 ? this.table.getValue(slot) : 0.0));
+                        v = Double.MAX_VALUE;
+                    } else if (slot >= 0) {
+                        v = this.table.getValue(slot);
+                    } else {
+                        final double e = estimate(this.heuristic, this.state, this.goal);
+                        v = e >= Integer.MAX_VALUE ? Double.MAX_VALUE : this.weight * e;
+                    }
+                    this.undo(depth);
+                    if (v < Double.MAX_VALUE) {
+                        this.ensurePool(offset + size + 1);
+                        // Insertion sort of the successors by increasing heuristic value
+                        int i = offset + size++;
+                        while (i > offset && this.values[i - 1] > v) {
+                            this.successors[i] = this.successors[i - 1];
+                            this.values[i] = this.values[i - 1];
+                            i--;
+                        }
+                        this.successors[i] = o;
+                        this.values[i] = v;
+                    }
+                }
+            }
+            this.offsets[depth] = offset;
+            this.counts[depth] = size;
+            this.cursors[depth] = 0;
+            this.costs[depth] = cost;
+            this.estimates[depth] = value;
+            this.minima[depth] = Double.MAX_VALUE;
+            this.bounds[depth] = bound;
+            return IterativeDeepeningAStar.EXPANDED;
+        }
+
+        /**
+         * Returns if a state is on the current path.
+         *
+         * @param key   the fingerprint of the state.
+         * @param depth the depth of the current state.
+         * @return <code>true</code> if the state is on the current path; <code>false</code> otherwise.
+         */
+        private boolean isOnPath(final long key, final int depth) {
+            for (int d = depth; d >= 0; d--) {
+                if (this.path[d] == key) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Applies an operator to the state and saves the propositions it modifies.
+         *
+         * @param op    the operator.
+         * @param depth the depth of the current state.
+         */
+        private void apply(final BitOp op, final int depth) {
+            final BitVector modified = this.touched[depth];
+            final BitVector previous = this.saved[depth];
+            final int[] effects = this.active[depth];
+            final List<CondBitExp> condEffects = op.getCondEffects();
+            // The conditions are evaluated in the state before the application of the effects
+            int size = 0;
+            modified.clear();
+            for (int e = 0; e < condEffects.size(); e++) {
+                final CondBitExp ce = condEffects.get(e);
+                if (IterativeDeepeningAStar.satisfy(this.state, ce.getCondition())) {
+                    effects[size++] = e;
+                    modified.or(ce.getEffects().getPositive());
+                    modified.or(ce.getEffects().getNegative());
+                }
+            }
+            previous.clear();
+            previous.or(this.state);
+            previous.and(modified);
+            for (int e = 0; e < size; e++) {
+                this.state.apply(condEffects.get(effects[e]).getEffects());
+            }
+        }
+
+        /**
+         * Restores the state modified by the last operator applied at a specified depth.
+         *
+         * @param depth the depth of the current state.
+         */
+        private void undo(final int depth) {
+            this.state.andNot(this.touched[depth]);
+            this.state.or(this.saved[depth]);
+        }
+
+        /**
+         * Grows the pool of the successors if needed.
+         *
+         * @param size the number of successors the pool must hold.
+         */
+        private void ensurePool(final int size) {
+            if (size > this.successors.length) {
+                final int length = Math.max(size, 2 * this.successors.length);
+                this.successors = Arrays.copyOf(this.successors, length);
+                this.values = Arrays.copyOf(this.values, length);
+            }
+        }
+
+        /**
+         * Allocates the buffers of a specified depth if needed.
+         *
+         * @param depth the depth.
+         */
+        private void ensureDepth(final int depth) {
+            if (depth < this.path.length) {
+                return;
+            }
+            final int length = Math.max(depth + 1, 2 * this.path.length);
+            final int from = this.path.length;
+            this.path = Arrays.copyOf(this.path, length);
+            this.plan = Arrays.copyOf(this.plan, length);
+            this.offsets = Arrays.copyOf(this.offsets, length);
+            this.counts = Arrays.copyOf(this.counts, length);
+            this.cursors = Arrays.copyOf(this.cursors, length);
+            this.costs = Arrays.copyOf(this.costs, length);
+            this.estimates = Arrays.copyOf(this.estimates, length);
+            this.minima = Arrays.copyOf(this.minima, length);
+            this.bounds = Arrays.copyOf(this.bounds, length);
+            this.touched = Arrays.copyOf(this.touched, length);
+            this.saved = Arrays.copyOf(this.saved, length);
+            this.active = Arrays.copyOf(this.active, length);
+            for (int d = from; d < length; d++) {
+                this.active[d] = new int[this.maxEffects];
+                this.touched[d] = new BitVector();
+                this.saved[d] = new BitVector();
+            }
+        }
+
+        /**
+         * Creates the nodes of the solution path from the initial state.
+         *
+         * @param length the length of the solution path.
+         * @return the solution node.
+         */
+        private Node extract(final int length) {
+            final BitState init = new BitState(this.problem.getInit());
+            Node node = new Node(init, null, -1, 0.0, 0, 0.0);
+            for (int d = 0; d < length; d++) {
+                final BitOp op = this.operators.get(this.plan[d]);
+                final Node parent = node;
+                final Node child = new Node(parent);
+                op.getCondEffects().stream().filter(ce -> parent.satisfy(ce.getCondition())).forEach(ce ->
+                    child.apply(ce.getEffects())
+                );
+                child.setParent(parent);
+                child.setOperator(this.plan[d]);
+                child.setCost(parent.getCost() + op.getCost());
+                child.setDepth(d + 1);
+                child.setHeuristic(0.0);
+                node = child;
+            }
+            return node;
+        }
+    }
+
+    /**
+     * This class implements a two-way set associative transposition table of fixed size.
+     */
+    private static final class TranspositionTable implements Serializable {
+
+        /**
+         * The serial id of the class.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * The fingerprints of the states.
+         */
+        private final long[] keys;
+
+        /**
+         * The cost of the cheapest path to the states in the iteration of the entries.
+         */
+        private final double[] costs;
+
+        /**
+         * The lower bounds of the weighted cost to reach the goal from the states.
+         */
+        private final double[] values;
+
+        /**
+         * The depth of the states.
+         */
+        private final int[] depths;
+
+        /**
+         * The iteration of the entries, 0 for the free entries.
+         */
+        private final int[] iterations;
+
+        /**
+         * The mask used to compute the sets of the entries.
+         */
+        private final int mask;
+
+        /**
+         * Creates a new transposition table.
+         *
+         * @param size the maximum number of entries of the table.
+         */
+        TranspositionTable(final int size) {
+            final int sets = Math.max(1, Integer.highestOneBit(size) >>> 1);
+            this.keys = new long[2 * sets];
+            this.costs = new double[2 * sets];
+            this.values = new double[2 * sets];
+            this.depths = new int[2 * sets];
+            this.iterations = new int[2 * sets];
+            this.mask = sets - 1;
+        }
+
+        /**
+         * Returns the first entry of the set of a state.
+         *
+         * @param key the fingerprint of the state.
+         * @return the first entry of the set of the state.
+         */
+        private int set(final long key) {
+            return ((int) (key ^ (key >>> 32)) & this.mask) << 1;
+        }
+
+        /**
+         * Returns the entry of a state.
+         *
+         * @param key the fingerprint of the state.
+         * @return the entry of the state or -1 if the state is not in the table.
+         */
+        int probe(final long key) {
+            final int slot = this.set(key);
+            if (this.iterations[slot] != 0 && this.keys[slot] == key) {
+                return slot;
+            } else if (this.iterations[slot + 1] != 0 && this.keys[slot + 1] == key) {
+                return slot + 1;
+            }
+            return -1;
+        }
+
+        /**
+         * Stores an entry. The cost of an entry already stored in the same iteration is only decreased and its lower
+         * bound is only increased. A new entry replaces a free entry, an entry of a previous iteration or the deepest
+         * entry of its set.
+         *
+         * @param key       the fingerprint of the state.
+         * @param cost      the cost of the path to the state.
+         * @param value     the lower bound of the weighted cost to reach the goal from the state.
+         * @param depth     the depth of the state.
+         * @param iteration the current iteration.
+         */
+        void store(final long key, final double cost, final double value, final int depth, final int iteration) {
+            int slot = this.probe(key);
+            if (slot >= 0) {
+                if (this.iterations[slot] != iteration || cost < this.costs[slot]) {
+                    this.costs[slot] = cost;
+                    this.depths[slot] = depth;
+                }
+                this.values[slot] = Math.max(this.values[slot], value);
+                this.iterations[slot] = iteration;
+                return;
+            }
+            slot = this.set(key);
+            final int other = slot + 1;
+            if (this.iterations[slot] != 0) {
+                if (this.iterations[other] == 0 || this.iterations[other] < this.iterations[slot]) {
+                    slot = other;
+                } else if (this.iterations[other] == this.iterations[slot] && this.depths[other] > this.depths[slot]) {
+                    slot = other;
+                }
+            }
+            this.keys[slot] = key;
+            this.costs[slot] = cost;
+            this.values[slot] = value;
+            this.depths[slot] = depth;
+            this.iterations[slot] = iteration;
+        }
+
+        /**
+         * Returns the cost of the path to the state of an entry.
+         *
+         * @param slot the entry.
+         * @return the cost of the path to the state of the entry.
+         */
+        double getCost(final int slot) {
+            return this.costs[slot];
+        }
+
+        /**
+         * Returns the lower bound of the weighted cost to reach the goal from the state of an entry.
+         *
+         * @param slot the entry.
+         * @return the lower bound of the weighted cost to reach the goal.
+         */
+        double getValue(final int slot) {
+            return this.values[slot];
+        }
+
+        /**
+         * Returns the iteration of an entry.
+         *
+         * @param slot the entry.
+         * @return the iteration of the entry.
+         */
+        int getIteration(final int slot) {
+            return this.iterations[slot];
+        }
+    }
+}
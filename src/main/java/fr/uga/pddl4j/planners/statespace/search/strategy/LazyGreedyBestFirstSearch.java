@@ -0,0 +1,256 @@
+/*
+ * Copyright (c) 2016 by Damien Pellier <Damien.Pellier@imag.fr>.
+ *
+ * This file is part of PDDL4J library.
+ *
+ * PDDL4J is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * PDDL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with PDDL4J.  If not, see
+ * <http://www.gnu.org/licenses/>
+ */
+
+package fr.uga.pddl4j.planners.statespace.search.strategy;
+
+import fr.uga.pddl4j.encoding.CodedProblem;
+import fr.uga.pddl4j.heuristics.relaxation.FastForward;
+import fr.uga.pddl4j.heuristics.relaxation.Heuristic;
+import fr.uga.pddl4j.heuristics.relaxation.HeuristicToolKit;
+import fr.uga.pddl4j.planners.Planner;
+import fr.uga.pddl4j.util.BitOp;
+import fr.uga.pddl4j.util.BitState;
+import fr.uga.pddl4j.util.BitVector;
+import fr.uga.pddl4j.util.MemoryAgent;
+import fr.uga.pddl4j.util.Plan;
+import fr.uga.pddl4j.util.SolutionEvent;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+
+/**
+ * This class implements a Greedy Best First Search strategy with deferred heuristic evaluation.
+ * <p>
+ * The successors of a node are not evaluated when they are generated: they are inserted in the open lists with the
+ * heuristic value of their parent and their own heuristic value is only computed when they are selected for
+ * expansion. Most of the generated nodes are never expanded, so that most of the heuristic evaluations are saved.
+ * </p>
+ * <p>
+ * The strategy uses two open lists: the first one contains all the successors and the second one only the
+ * successors reached by a preferred operator of their parent, i.e., a helpful operator of the
+ * {@link FastForward} heuristic. The open lists are selected alternately according to their priority. Each time a
+ * node with a better heuristic value than all the nodes previously evaluated is expanded, the priority of the
+ * preferred open list is boosted. When the heuristic used is not the fast forward heuristic, the preferred open list
+ * remains empty and the strategy behaves as a lazy greedy best first search.
+ * </p>
+ * <p>
+ * As the anytime greedy best first search, the search goes on after the first solution found and prunes the nodes
+ * whose cost or depth exceed the bounds of the best solution found so far.
+ * </p>
+ *
+ * @author PDDL4J contributors
+ * @version 1.0 - 19.10.2026
+ * @see GreedyBestFirstSearchAnytime
+ */
+public final class LazyGreedyBestFirstSearch extends AbstractStateSpaceStrategyAnytime {
+
+    /**
+     * The serial id of the class.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The default boost of the preferred open list priority.
+     */
+    public static final int DEFAULT_BOOST = 1000;
+
+    /**
+     * The boost of the preferred open list priority when progress is made.
+     */
+    private int boost;
+
+    /**
+     * Returns the boost of the preferred open list priority when progress is made.
+     *
+     * @return the boost of the preferred open list priority.
+     */
+    public int getBoost() {
+        return this.boost;
+    }
+
+    /**
+     * Sets the boost of the preferred open list priority when progress is made.
+     *
+     * @param boost the boost of the preferred open list priority. The boost must be positive or null.
+     * @throws IllegalArgumentException if <code>boost &lt; 0</code>.
+     */
+    public void setBoost(final int boost) {
+        if (boost < 0) {
+            throw new IllegalArgumentException("boost < 0");
+        }
+        this.boost = boost;
+    }
+
+    /**
+     * Creates a new Lazy Greedy Best First Search search strategy with default parameters.
+     */
+    public LazyGreedyBestFirstSearch() {
+        super();
+        this.boost = LazyGreedyBestFirstSearch.DEFAULT_BOOST;
+    }
+
+    /**
+     * Creates a new Lazy Greedy Best First Search search strategy.
+     *
+     * @param timeout   the time out of the planner.
+     * @param heuristic the heuristicType to use to solve the planning problem.
+     * @param weight    the weight set to the heuristic.
+     */
+    public LazyGreedyBestFirstSearch(int timeout, Heuristic.Type heuristic, double weight) {
+        super(timeout, heuristic, weight);
+        this.boost = LazyGreedyBestFirstSearch.DEFAULT_BOOST;
+    }
+
+    /**
+     * Creates a new Lazy Greedy Best First Search search strategy.
+     *
+     * @param timeout    the time out of the planner.
+     * @param heuristic  the heuristicType to use to solve the planning problem.
+     * @param weight     the weight set to the heuristic.
+     * @param boundCost  the cost bound for the search.
+     * @param boundDepth the depth bound for the search.
+     */
+    public LazyGreedyBestFirstSearch(int timeout, Heuristic.Type heuristic, double weight,
+                                     double boundCost, double boundDepth) {
+        super(timeout, heuristic, weight);
+        this.boost = LazyGreedyBestFirstSearch.DEFAULT_BOOST;
+        this.setBoundCost(boundCost);
+        this.setBoundDepth(boundDepth);
+    }
+
+    /**
+     * The lazy greedy best first search algorithm. Solves the planning problem and returns the best solution found
+     * before the time out.
+     *
+     * @param problem the problem to be solved. The problem cannot be null.
+     * @return a solution node or null if it does not exist.
+     */
+    public Node search(final CodedProblem problem) {
+        final Logger logger = Planner.getLogger();
+        Objects.requireNonNull(problem);
+
+        final long begin = System.currentTimeMillis();
+
+        // The preferred operators are a side effect of the evaluation of a state: they cannot be read from the cache
+        final Heuristic heuristic = HeuristicToolKit.createHeuristic(getHeuristicType(), problem,
+            getHeuristicType().equals(Heuristic.Type.FAST_FORWARD) ? null : this.getHeuristicCache());
+        // The preferred operators are only computed by the fast forward heuristic
+        final boolean preferred = heuristic instanceof FastForward;
+        // The nodes of the open lists are ordered according to the heuristic value of their parent
+        final Comparator<Node> comparator = Comparator.comparingDouble(Node::getHeuristic);
+        final PriorityQueue<Node> openList = new PriorityQueue<>(100, comparator);
+        final PriorityQueue<Node> preferredList = new PriorityQueue<>(100, comparator);
+        final Map<BitState, Node> closeSet = new HashMap<>();
+        final int timeout = getTimeout();
+
+        final BitState init = new BitState(problem.getInit());
+        final Node root = new Node(init, null, -1, 0.0, 0, 0.0);
+        openList.add(root);
+
+        this.resetNodesStatistics();
+        this.clearResults();
+        Node solution = null;
+        double bestHeuristic = Double.MAX_VALUE;
+        int openPriority = 0;
+        int preferredPriority = 0;
+        long searchingTime = 0;
+
+        while ((!openList.isEmpty() || !preferredList.isEmpty()) && searchingTime < timeout) {
+            // Select the open list with the best priority
+            final Node current;
+            if (!preferredList.isEmpty() && (openList.isEmpty() || preferredPriority <= openPriority)) {
+                current = preferredList.poll();
+                preferredPriority++;
+            } else {
+                current = openList.poll();
+                openPriority++;
+            }
+
+            // A node can be pending in both open lists or reached again with a higher cost
+            final Node closed = closeSet.get(current);
+            if ((closed == null || current.getCost() < closed.getCost())
+                && current.getCost() < this.getBoundCost() && current.getDepth() <= this.getBoundDepth()) {
+
+                closeSet.put(current, current);
+
+                if (current.satisfy(problem.getGoal())) {
+                    this.getSolutionNodes().add(new Node(current, current.getParent(), 0,
+                        current.getCost(), current.getDepth(), current.getHeuristic()));
+                    solution = current;
+                    fireSolution(new SolutionEvent(this, solution, problem));
+
+                    final Plan p = extractPlan(solution, problem);
+                    this.setBoundCost(p.cost());
+                    this.setBoundDepth(p.size());
+
+                    logger.trace("* " + this.getSolutionNodes().size() + " solution(s) found. Best cost: "
+                        + this.getBoundCost() + "\n");
+                } else {
+                    // The heuristic value of the node is only computed when the node is expanded
+                    final double h = this.estimate(heuristic, current, problem.getGoal());
+                    // Boost the preferred open list when progress is made
+                    if (h < bestHeuristic) {
+                        bestHeuristic = h;
+                        preferredPriority -= this.boost;
+                    }
+                    final BitVector helpful = preferred ? ((FastForward) heuristic).getHelpfulOperators() : null;
+                    int index = 0;
+                    for (BitOp op : problem.getOperators()) {
+                        // Test if a specified operator is applicable in the current state which is not a dead end
+                        if (h != Integer.MAX_VALUE && op.isApplicable(current)) {
+                            final Node successor = new Node(current);
+                            this.setCreatedNodes(this.getCreatedNodes() + 1);
+                            // Apply the effect of the applicable operator
+                            op.getCondEffects().stream().filter(ce -> current.satisfy(ce.getCondition()))
+                                .forEach(ce -> successor.apply(ce.getEffects()));
+                            successor.setCost(current.getCost() + op.getCost());
+                            successor.setParent(current);
+                            successor.setOperator(index);
+                            successor.setDepth(current.getDepth() + 1);
+                            // The successor inherits the heuristic value of its parent
+                            successor.setHeuristic(h);
+                            final Node result = closeSet.get(successor);
+                            if ((result == null || successor.getCost() < result.getCost())
+                                && successor.getCost() < this.getBoundCost()
+                                && successor.getDepth() <= this.getBoundDepth()) {
+                                openList.add(successor);
+                                if (helpful != null && helpful.get(index)) {
+                                    preferredList.add(successor);
+                                }
+                            }
+                        }
+                        index++;
+                    }
+                }
+            }
+            // Take time to compute the searching time
+            searchingTime = System.currentTimeMillis() - begin;
+        }
+
+        this.setExploredNodes(closeSet.size());
+        this.setPendingNodes(openList.size() + preferredList.size());
+        this.setMemoryUsed(MemoryAgent.getDeepSizeOf(closeSet) + MemoryAgent.getDeepSizeOf(openList)
+            + MemoryAgent.getDeepSizeOf(preferredList) + MemoryAgent.getDeepSizeOf(heuristic));
+        this.setSearchingTime(searchingTime);
+
+        this.clearBounds();
+
+        return solution;
+    }
+}
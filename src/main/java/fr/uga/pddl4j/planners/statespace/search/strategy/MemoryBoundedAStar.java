@@ -0,0 +1,502 @@
+/*
+ * Copyright (c) 2016 by Damien Pellier <Damien.Pellier@imag.fr>.
+ *
+ * This file is part of PDDL4J library.
+ *
+ * PDDL4J is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * PDDL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with PDDL4J.  If not, see
+ * <http://www.gnu.org/licenses/>
+ */
+
+package fr.uga.pddl4j.planners.statespace.search.strategy;
+
+import fr.uga.pddl4j.encoding.CodedProblem;
+import fr.uga.pddl4j.heuristics.relaxation.Heuristic;
+import fr.uga.pddl4j.heuristics.relaxation.HeuristicToolKit;
+import fr.uga.pddl4j.util.BitExp;
+import fr.uga.pddl4j.util.BitOp;
+import fr.uga.pddl4j.util.BitState;
+import fr.uga.pddl4j.util.MemoryAgent;
+import fr.uga.pddl4j.util.SolutionEvent;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeSet;
+
+/**
+ * This class implements a memory-bounded A* search strategy in the style of SMA* (S. Russell, "Efficient
+ * memory-bounded search methods", ECAI, 1992). The strategy behaves as A* as long as the number of nodes in memory is
+ * below a budget. When the budget is exceeded, the leaf with the highest <i>f</i> value, the shallowest first, is
+ * removed from the memory and its <i>f</i> value is backed up to its parent. The successors removed from the memory
+ * are regenerated as soon as the lowest <i>f</i> value backed up to their parent is the best <i>f</i> value of the
+ * search. A node which is not a goal and cannot have successors in memory is never expanded. With an admissible
+ * heuristic and a weight of 1, the plan returned is optimal if the depth of an optimal plan is lower than the budget.
+ * <p>
+ * The budget is expressed either in number of nodes or in bytes. A budget in bytes is converted in number of nodes
+ * from an estimation of the memory used by a node of the problem to solve. The number of nodes removed from the memory
+ * and regenerated by the last search are reported by {@link #getForgottenNodes()} and {@link #getRegeneratedNodes()}.
+ * </p>
+ *
+ * @author PDDL4J contributors
+ * @version 1.0 - 19.10.2026
+ */
+public final class MemoryBoundedAStar extends AbstractStateSpaceStrategy {
+
+    /**
+     * The serial id of the class.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The default maximum number of nodes in memory.
+     */
+    public static final int DEFAULT_MAX_NODES = 1000000;
+
+    /**
+     * The estimated memory used by a node in bytes without its state.
+     */
+    private static final long NODE_SIZE = 256;
+
+    /**
+     * The maximum number of nodes in memory.
+     */
+    private int maxNodes;
+
+    /**
+     * The maximum memory used by the nodes in bytes or 0 if the budget is expressed in number of nodes.
+     */
+    private long maxMemory;
+
+    /**
+     * The number of nodes removed from the memory by the last search.
+     */
+    private int forgottenNodes;
+
+    /**
+     * The number of nodes generated again after their removal by the last search.
+     */
+    private int regeneratedNodes;
+
+    /**
+     * Creates a new memory-bounded A* search strategy with default parameters.
+     */
+    public MemoryBoundedAStar() {
+        super();
+        this.maxNodes = MemoryBoundedAStar.DEFAULT_MAX_NODES;
+        this.maxMemory = 0;
+    }
+
+    /**
+     * Creates a new memory-bounded A* search strategy.
+     *
+     * @param timeout the time out of the planner.
+     */
+    public MemoryBoundedAStar(final int timeout) {
+        super(timeout);
+        this.maxNodes = MemoryBoundedAStar.DEFAULT_MAX_NODES;
+        this.maxMemory = 0;
+    }
+
+    /**
+     * Creates a new memory-bounded A* search strategy.
+     *
+     * @param timeout   the time out of the planner.
+     * @param heuristic the heuristicType to use to solve the planning problem.
+     * @param weight    the weight set to the heuristic.
+     */
+    public MemoryBoundedAStar(final int timeout, final Heuristic.Type heuristic, final double weight) {
+        super(timeout, heuristic, weight);
+        this.maxNodes = MemoryBoundedAStar.DEFAULT_MAX_NODES;
+        this.maxMemory = 0;
+    }
+
+    /**
+     * Creates a new memory-bounded A* search strategy.
+     *
+     * @param timeout   the time out of the planner.
+     * @param heuristic the heuristicType to use to solve the planning problem.
+     * @param weight    the weight set to the heuristic.
+     * @param maxNodes  the maximum number of nodes in memory. The number must be greater than 1.
+     * @throws IllegalArgumentException if <code>maxNodes &lt; 2</code>.
+     */
+    public MemoryBoundedAStar(final int timeout, final Heuristic.Type heuristic, final double weight,
+                              final int maxNodes) {
+        super(timeout, heuristic, weight);
+        this.setMaxNodes(maxNodes);
+    }
+
+    /**
+     * Returns the maximum number of nodes in memory. The budget is only used if no budget in bytes is set.
+     *
+     * @return the maximum number of nodes in memory.
+     */
+    public int getMaxNodes() {
+        return this.maxNodes;
+    }
+
+    /**
+     * Sets the maximum number of nodes in memory and removes the budget in bytes.
+     *
+     * @param maxNodes the maximum number of nodes in memory. The number must be greater than 1.
+     * @throws IllegalArgumentException if <code>maxNodes &lt; 2</code>.
+     */
+    public void setMaxNodes(final int maxNodes) {
+        if (maxNodes < 2) {
+            throw new IllegalArgumentException("maxNodes < 2");
+        }
+        this.maxNodes = maxNodes;
+        this.maxMemory = 0;
+    }
+
+    /**
+     * Returns the maximum memory used by the nodes in bytes.
+     *
+     * @return the maximum memory used by the nodes in bytes or 0 if the budget is expressed in number of nodes.
+     */
+    public long getMaxMemory() {
+        return this.maxMemory;
+    }
+
+    /**
+     * Sets the maximum memory used by the nodes in bytes. The budget in bytes replaces the budget in number of nodes.
+     *
+     * @param maxMemory the maximum memory used by the nodes in bytes. The memory must be strictly positive.
+     * @throws IllegalArgumentException if <code>maxMemory &lt;= 0</code>.
+     */
+    public void setMaxMemory(final long maxMemory) {
+        if (maxMemory <= 0) {
+            throw new IllegalArgumentException("maxMemory <= 0");
+        }
+        this.maxMemory = maxMemory;
+    }
+
+    /**
+     * Returns the number of nodes removed from the memory by the last search.
+     *
+     * @return the number of nodes removed from the memory.
+     */
+    public int getForgottenNodes() {
+        return this.forgottenNodes;
+    }
+
+    /**
+     * Returns the number of nodes generated again after their removal by the last search.
+     *
+     * @return the number of nodes generated again.
+     */
+    public int getRegeneratedNodes() {
+        return this.regeneratedNodes;
+    }
+
+    /**
+     * Returns the maximum number of nodes in memory for a specified problem. If a budget in bytes is set, the number
+     * of nodes is the budget divided by the estimated size of a node of the problem.
+     *
+     * @param problem the problem.
+     * @return the maximum number of nodes in memory.
+     */
+    private int getNodeBudget(final CodedProblem problem) {
+        if (this.maxMemory <= 0) {
+            return this.maxNodes;
+        }
+        final long size = MemoryBoundedAStar.NODE_SIZE + 8L * ((problem.getRelevantFacts().size() + 63) / 64);
+        return (int) Math.max(2, Math.min(Integer.MAX_VALUE, this.maxMemory / size));
+    }
+
+    /**
+     * Solves the planning problem and returns the first solution node found.
+     *
+     * @param codedProblem the problem to be solved. The problem cannot be null.
+     * @return a solution node or null if it does not exist.
+     */
+    @Override
+    public Node search(final CodedProblem codedProblem) {
+        Objects.requireNonNull(codedProblem);
+        final long begin = System.currentTimeMillis();
+        final Heuristic heuristic = HeuristicToolKit.createHeuristic(getHeuristicType(), codedProblem,
+            this.getHeuristicCache());
+        final BitExp goal = codedProblem.getGoal();
+        final double weight = getWeight();
+        final int budget = this.getNodeBudget(codedProblem);
+        final Memory memory = new Memory();
+        this.resetNodesStatistics();
+
+        final BitState init = new BitState(codedProblem.getInit());
+        final Node rootNode = new Node(init, null, -1, 0, 0, this.estimate(heuristic, init, goal));
+        if (rootNode.getHeuristic() < Integer.MAX_VALUE) {
+            memory.add(new Entry(rootNode, null, weight * rootNode.getHeuristic(), 0));
+        }
+        Node solution = null;
+        long id = 1;
+        int explored = 0;
+        int created = 0;
+        int regenerated = 0;
+        int forgotten = 0;
+        final int timeout = getTimeout();
+        long time = 0;
+        while (!memory.leaves.isEmpty() && solution == null && time < timeout) {
+            // The best node is either the best leaf or the best node with successors removed from the memory
+            final Entry leaf = memory.leaves.first();
+            final Entry partial = memory.partial.isEmpty() ? null : memory.partial.first();
+            final Entry current = partial != null && partial.forgotten < leaf.value ? partial : leaf;
+            if (current == leaf && leaf.value >= Double.MAX_VALUE) {
+                // All the leaves are dead ends
+                break;
+            }
+            final Node node = current.node;
+            if (current == leaf && node.satisfy(goal)) {
+                solution = node;
+                fireSolution(new SolutionEvent(this, solution, codedProblem));
+            } else {
+                memory.leaves.remove(current);
+                memory.partial.remove(current);
+                final boolean regenerate = current.expanded;
+                current.expanded = true;
+                current.forgotten = Double.MAX_VALUE;
+                explored++;
+                int index = 0;
+                for (BitOp op : codedProblem.getOperators()) {
+                    if (op.isApplicable(node) && !current.hasChild(index)) {
+                        final Node state = new Node(node);
+                        op.getCondEffects().stream().filter(ce -> node.satisfy(ce.getCondition())).forEach(ce ->
+                            state.apply(ce.getEffects())
+                        );
+                        final double g = node.getCost() + op.getCost();
+                        final Entry other = memory.states.get(state);
+                        // A node which cannot have successors in memory is useless unless it is a goal
+                        if ((other == null || g < other.node.getCost())
+                            && (node.getDepth() + 2 < budget || state.satisfy(goal))) {
+                            state.setCost(g);
+                            state.setParent(node);
+                            state.setOperator(index);
+                            state.setDepth(node.getDepth() + 1);
+                            state.setHeuristic(this.estimate(heuristic, state, goal));
+                            created++;
+                            if (regenerate) {
+                                regenerated++;
+                            }
+                            if (!this.isDeadEnd(state) && state.getHeuristic() < Integer.MAX_VALUE) {
+                                // The f value of a successor is never lower than the f value of its parent
+                                final double value = Math.max(current.value, state.getValueF(weight));
+                                memory.add(new Entry(state, current, value, id++));
+                            }
+                        }
+                    }
+                    index++;
+                }
+                if (current.children.isEmpty()) {
+                    // The successors are dead ends or reached with a lower cost by other nodes in memory
+                    current.value = Double.MAX_VALUE;
+                    memory.forget(current);
+                } else {
+                    memory.backup(current);
+                }
+                // Removes the worst leaves until the budget is satisfied
+                while (memory.size > budget && memory.leaves.size() > 1) {
+                    memory.forget(memory.leaves.last());
+                    forgotten++;
+                }
+            }
+            time = System.currentTimeMillis() - begin;
+        }
+
+        this.setCreatedNodes(created);
+        this.setExploredNodes(explored);
+        this.setPendingNodes(memory.leaves.size());
+        this.forgottenNodes = forgotten;
+        this.regeneratedNodes = regenerated;
+        this.setMemoryUsed(MemoryAgent.getDeepSizeOf(memory.states));
+        this.setSearchingTime(time);
+        return solution;
+    }
+
+    /**
+     * This class implements a node of the search tree kept in memory.
+     */
+    private static final class Entry {
+
+        /**
+         * The node.
+         */
+        private final Node node;
+
+        /**
+         * The parent entry of the node or null for the root.
+         */
+        private final Entry parent;
+
+        /**
+         * The successors of the node in memory.
+         */
+        private final List<Entry> children;
+
+        /**
+         * The unique id of the entry used to break the ties.
+         */
+        private final long id;
+
+        /**
+         * The backed up f value of the node.
+         */
+        private double value;
+
+        /**
+         * The lowest f value of the successors of the node removed from the memory.
+         */
+        private double forgotten;
+
+        /**
+         * The flag set when the node was already expanded.
+         */
+        private boolean expanded;
+
+        /**
+         * Creates a new entry.
+         *
+         * @param node   the node.
+         * @param parent the parent entry or null for the root.
+         * @param value  the f value of the node.
+         * @param id     the unique id of the entry.
+         */
+        Entry(final Node node, final Entry parent, final double value, final long id) {
+            this.node = node;
+            this.parent = parent;
+            this.children = new ArrayList<>();
+            this.id = id;
+            this.value = value;
+            this.forgotten = Double.MAX_VALUE;
+            this.expanded = false;
+        }
+
+        /**
+         * Returns if the successor reached with a specified operator is in memory.
+         *
+         * @param operator the index of the operator.
+         * @return <code>true</code> if the successor is in memory; <code>false</code> otherwise.
+         */
+        boolean hasChild(final int operator) {
+            for (Entry child : this.children) {
+                if (child.node.getOperator() == operator) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * This class implements the memory of the search, i.e., the search tree, its leaves ordered by f value and its
+     * interior nodes with successors removed from the memory ordered by the lowest f value of these successors.
+     */
+    private static final class Memory {
+
+        /**
+         * The leaves ordered by increasing f value, the deepest first, then by creation.
+         */
+        private final TreeSet<Entry> leaves;
+
+        /**
+         * The interior nodes with successors removed from the memory ordered by the lowest f value of the successors
+         * removed, the deepest first, then by creation.
+         */
+        private final TreeSet<Entry> partial;
+
+        /**
+         * The cheapest entry of each state in memory.
+         */
+        private final Map<BitState, Entry> states;
+
+        /**
+         * The number of entries in memory.
+         */
+        private int size;
+
+        /**
+         * Creates a new empty memory.
+         */
+        Memory() {
+            this.leaves = new TreeSet<>(Comparator.<Entry>comparingDouble(e -> e.value)
+                .thenComparingInt(e -> -e.node.getDepth())
+                .thenComparingLong(e -> e.id));
+            this.partial = new TreeSet<>(Comparator.<Entry>comparingDouble(e -> e.forgotten)
+                .thenComparingInt(e -> -e.node.getDepth())
+                .thenComparingLong(e -> e.id));
+            this.states = new HashMap<>();
+            this.size = 0;
+        }
+
+        /**
+         * Adds a new leaf in memory.
+         *
+         * @param entry the leaf.
+         */
+        void add(final Entry entry) {
+            if (entry.parent != null) {
+                entry.parent.children.add(entry);
+            }
+            this.leaves.add(entry);
+            this.states.put(entry.node, entry);
+            this.size++;
+        }
+
+        /**
+         * Removes a leaf from the memory and backs up its f value to its parent. A parent without successors in memory
+         * becomes a leaf, or is removed if all its successors are dead ends. A parent with other successors in memory
+         * becomes a candidate for the regeneration of its successors removed.
+         *
+         * @param entry the leaf.
+         */
+        void forget(final Entry entry) {
+            this.leaves.remove(entry);
+            this.states.remove(entry.node, entry);
+            this.size--;
+            final Entry parent = entry.parent;
+            if (parent != null) {
+                this.partial.remove(parent);
+                parent.children.remove(entry);
+                parent.forgotten = Math.min(parent.forgotten, entry.value);
+                if (!parent.children.isEmpty()) {
+                    if (parent.forgotten < Double.MAX_VALUE) {
+                        this.partial.add(parent);
+                    }
+                    this.backup(parent);
+                } else if (parent.forgotten < Double.MAX_VALUE) {
+                    parent.value = Math.max(parent.value, parent.forgotten);
+                    this.leaves.add(parent);
+                } else {
+                    parent.value = Double.MAX_VALUE;
+                    this.forget(parent);
+                }
+            }
+        }
+
+        /**
+         * Backs up the f value of an interior node from its successors to the root.
+         *
+         * @param entry the interior node.
+         */
+        void backup(final Entry entry) {
+            Entry current = entry;
+            while (current != null && !current.children.isEmpty()) {
+                double value = current.forgotten;
+                for (Entry child : current.children) {
+                    value = Math.min(value, child.value);
+                }
+                if (value <= current.value) {
+                    return;
+                }
+                current.value = value;
+                current = current.parent;
+            }
+        }
+    }
+}
@@ -0,0 +1,329 @@
+/*
+ * Copyright (c) 2016 by Damien Pellier <Damien.Pellier@imag.fr>.
+ *
+ * This file is part of PDDL4J library.
+ *
+ * PDDL4J is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * PDDL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with PDDL4J.  If not, see
+ * <http://www.gnu.org/licenses/>
+ */
+
+package fr.uga.pddl4j.planners.statespace.search.strategy;
+
+import fr.uga.pddl4j.encoding.CodedProblem;
+import fr.uga.pddl4j.heuristics.relaxation.Heuristic;
+import fr.uga.pddl4j.heuristics.relaxation.HeuristicToolKit;
+import fr.uga.pddl4j.util.BitOp;
+import fr.uga.pddl4j.util.BitState;
+import fr.uga.pddl4j.util.MemoryAgent;
+import fr.uga.pddl4j.util.SolutionEvent;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * This class implements a Greedy Best First Search strategy guided by several heuristics.
+ * <p>
+ * The strategy keeps one open list per heuristic. Each generated node is evaluated once by each heuristic and
+ * inserted in all the open lists, each open list being ordered according to the value of its own heuristic. The
+ * open lists are selected alternately according to their priority: the open list with the lowest priority is
+ * selected and its priority is increased each time a node is popped. Each time a node with a better value than all
+ * the nodes previously expanded is found by an heuristic, the priority of its open list is boosted. With the
+ * default boost equal to zero, the open lists are selected in a round-robin way.
+ * </p>
+ * <p>
+ * A node for which an heuristic returns <code>Integer.MAX_VALUE</code>, i.e., a node from which the goal is not
+ * reachable, is pruned. The heuristic value of the node returned is the value of the first heuristic. The
+ * heuristics computed from the relaxed planning graph share a single graph exploration for each node.
+ * </p>
+ *
+ * @author PDDL4J contributors
+ * @version 1.0 - 19.10.2026
+ * @see GreedyBestFirstSearch
+ */
+public final class MultiQueueGreedyBestFirstSearch extends AbstractStateSpaceStrategy {
+
+    /**
+     * The serial id of the class.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The default boost of the open list priority.
+     */
+    public static final int DEFAULT_BOOST = 0;
+
+    /**
+     * The types of the heuristics used to order the open lists.
+     */
+    private List<Heuristic.Type> heuristicTypes;
+
+    /**
+     * The boost of the open list priority when progress is made.
+     */
+    private int boost;
+
+    /**
+     * Returns the types of the heuristics used to order the open lists.
+     *
+     * @return the types of the heuristics used to order the open lists.
+     */
+    public List<Heuristic.Type> getHeuristicTypes() {
+        return Collections.unmodifiableList(this.heuristicTypes);
+    }
+
+    /**
+     * Sets the types of the heuristics used to order the open lists. The first heuristic becomes the heuristic of
+     * the strategy.
+     *
+     * @param heuristicTypes the types of the heuristics. The list cannot be null or empty.
+     * @throws IllegalArgumentException if the list of heuristic types is empty.
+     */
+    public void setHeuristicTypes(final List<Heuristic.Type> heuristicTypes) {
+        Objects.requireNonNull(heuristicTypes);
+        if (heuristicTypes.isEmpty()) {
+            throw new IllegalArgumentException("heuristicTypes is empty");
+        }
+        this.heuristicTypes = new ArrayList<>(heuristicTypes);
+        this.setHeuristicType(this.heuristicTypes.get(0));
+    }
+
+    /**
+     * Returns the boost of the open list priority when progress is made.
+     *
+     * @return the boost of the open list priority.
+     */
+    public int getBoost() {
+        return this.boost;
+    }
+
+    /**
+     * Sets the boost of the open list priority when progress is made. A boost equal to zero selects the open lists
+     * in a round-robin way.
+     *
+     * @param boost the boost of the open list priority. The boost must be positive or null.
+     * @throws IllegalArgumentException if <code>boost &lt; 0</code>.
+     */
+    public void setBoost(final int boost) {
+        if (boost < 0) {
+            throw new IllegalArgumentException("boost < 0");
+        }
+        this.boost = boost;
+    }
+
+    /**
+     * Creates a new Multi Queue Greedy Best First Search search strategy with default parameters. The open lists
+     * are ordered by the default heuristic and the goal count heuristic.
+     */
+    public MultiQueueGreedyBestFirstSearch() {
+        super();
+        this.boost = MultiQueueGreedyBestFirstSearch.DEFAULT_BOOST;
+        this.setHeuristicTypes(Arrays.asList(this.getHeuristicType(), Heuristic.Type.GOAL_COUNT));
+    }
+
+    /**
+     * Creates a new Multi Queue Greedy Best First Search search strategy. The open lists are ordered by the
+     * specified heuristic and the goal count heuristic.
+     *
+     * @param timeout   the time out of the planner.
+     * @param heuristic the heuristicType to use to solve the planning problem.
+     * @param weight    the weight set to the heuristic.
+     */
+    public MultiQueueGreedyBestFirstSearch(int timeout, Heuristic.Type heuristic, double weight) {
+        super(timeout, heuristic, weight);
+        this.boost = MultiQueueGreedyBestFirstSearch.DEFAULT_BOOST;
+        if (heuristic.equals(Heuristic.Type.GOAL_COUNT)) {
+            this.setHeuristicTypes(Collections.singletonList(heuristic));
+        } else {
+            this.setHeuristicTypes(Arrays.asList(heuristic, Heuristic.Type.GOAL_COUNT));
+        }
+    }
+
+    /**
+     * Creates a new Multi Queue Greedy Best First Search search strategy.
+     *
+     * @param timeout    the time out of the planner.
+     * @param heuristics the types of the heuristics used to order the open lists.
+     * @param weight     the weight set to the heuristic.
+     */
+    public MultiQueueGreedyBestFirstSearch(int timeout, List<Heuristic.Type> heuristics, double weight) {
+        super(timeout, heuristics.get(0), weight);
+        this.boost = MultiQueueGreedyBestFirstSearch.DEFAULT_BOOST;
+        this.setHeuristicTypes(heuristics);
+    }
+
+    /**
+     * The multi queue greedy best first search algorithm. Solves the planning problem and returns the first solution
+     * found.
+     *
+     * @param codedProblem the problem to be solved. The problem cannot be null.
+     * @return a solution node or null if it does not exist.
+     */
+    public Node search(final CodedProblem codedProblem) {
+        Objects.requireNonNull(codedProblem);
+        final long begin = System.currentTimeMillis();
+
+        final int size = this.heuristicTypes.size();
+        final Heuristic[] heuristics = HeuristicToolKit.createHeuristics(this.heuristicTypes, codedProblem,
+            this.getHeuristicCache()).toArray(new Heuristic[size]);
+        final List<PriorityQueue<Entry>> openLists = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            openLists.add(new PriorityQueue<>(100, Comparator.comparingDouble(Entry::getHeuristic)));
+        }
+        final int[] priorities = new int[size];
+        final double[] bestHeuristics = new double[size];
+        Arrays.fill(bestHeuristics, Double.MAX_VALUE);
+        final Set<Node> openSet = new HashSet<>();
+        final Set<Node> closeSet = new HashSet<>();
+        final int timeout = getTimeout();
+
+        final BitState init = new BitState(codedProblem.getInit());
+        final Node root = new Node(init, null, -1, 0.0, 0, 0.0);
+
+        this.resetNodesStatistics();
+        this.push(root, heuristics, openLists, openSet, codedProblem);
+        Node solution = null;
+        long searchingTime = 0;
+        while (!openSet.isEmpty() && solution == null && searchingTime < timeout) {
+            // Select the non empty open list with the best priority
+            int selected = -1;
+            for (int i = 0; i < size; i++) {
+                if (!openLists.get(i).isEmpty() && (selected == -1 || priorities[i] < priorities[selected])) {
+                    selected = i;
+                }
+            }
+            final Entry entry = openLists.get(selected).poll();
+            priorities[selected]++;
+            final Node current = entry.getNode();
+
+            // A node is pending in all the open lists but it is expanded only once
+            if (!closeSet.contains(current)) {
+                openSet.remove(current);
+                closeSet.add(current);
+                // Boost the selected open list when progress is made
+                if (entry.getHeuristic() < bestHeuristics[selected]) {
+                    bestHeuristics[selected] = entry.getHeuristic();
+                    priorities[selected] -= this.boost;
+                }
+                if (current.satisfy(codedProblem.getGoal())) {
+                    solution = current;
+                    fireSolution(new SolutionEvent(this, solution, codedProblem));
+                } else {
+                    int index = 0;
+                    for (BitOp op : codedProblem.getOperators()) {
+                        // Test if a specified operator is applicable in the current state
+                        if (op.isApplicable(current)) {
+                            final Node successor = new Node(current);
+                            this.setCreatedNodes(this.getCreatedNodes() + 1);
+                            // Apply the effect of the applicable operator
+                            op.getCondEffects().stream().filter(ce -> current.satisfy(ce.getCondition()))
+                                .forEach(ce -> successor.apply(ce.getEffects()));
+                            // Each state is evaluated only once by each heuristic
+                            if (!closeSet.contains(successor) && !openSet.contains(successor)) {
+                                successor.setCost(current.getCost() + op.getCost());
+                                successor.setParent(current);
+                                successor.setOperator(index);
+                                successor.setDepth(current.getDepth() + 1);
+                                this.push(successor, heuristics, openLists, openSet, codedProblem);
+                            }
+                        }
+                        index++;
+                    }
+                }
+            }
+            // Take time to compute the searching time
+            searchingTime = System.currentTimeMillis() - begin;
+        }
+
+        this.setExploredNodes(closeSet.size());
+        this.setPendingNodes(openSet.size());
+        this.setMemoryUsed(MemoryAgent.getDeepSizeOf(closeSet) + MemoryAgent.getDeepSizeOf(openLists)
+            + MemoryAgent.getDeepSizeOf(heuristics));
+        this.setSearchingTime(searchingTime);
+
+        return solution;
+    }
+
+    /**
+     * Evaluates a node with each heuristic and inserts it in all the open lists. The node is pruned if one of the
+     * heuristic considers that the goal is not reachable from the node or if it is a known dead end.
+     *
+     * @param node       the node to insert.
+     * @param heuristics the heuristics used to order the open lists.
+     * @param openLists  the open lists.
+     * @param openSet    the set of the pending nodes.
+     * @param problem    the problem to be solved.
+     */
+    private void push(final Node node, final Heuristic[] heuristics, final List<PriorityQueue<Entry>> openLists,
+                      final Set<Node> openSet, final CodedProblem problem) {
+        final double[] values = new double[heuristics.length];
+        for (int i = 0; i < heuristics.length; i++) {
+            values[i] = this.estimate(heuristics[i], node, problem.getGoal());
+            if (values[i] >= Integer.MAX_VALUE) {
+                return;
+            }
+        }
+        node.setHeuristic(values[0]);
+        openSet.add(node);
+        for (int i = 0; i < heuristics.length; i++) {
+            openLists.get(i).add(new Entry(node, values[i]));
+        }
+    }
+
+    /**
+     * This class defines an entry of an open list, i.e., a node and its value for the heuristic of the open list.
+     */
+    private static final class Entry {
+
+        /**
+         * The node of the entry.
+         */
+        private final Node node;
+
+        /**
+         * The heuristic value of the node.
+         */
+        private final double heuristic;
+
+        /**
+         * Creates a new entry.
+         *
+         * @param node      the node of the entry.
+         * @param heuristic the heuristic value of the node.
+         */
+        private Entry(final Node node, final double heuristic) {
+            this.node = node;
+            this.heuristic = heuristic;
+        }
+
+        /**
+         * Returns the node of the entry.
+         *
+         * @return the node of the entry.
+         */
+        private Node getNode() {
+            return this.node;
+        }
+
+        /**
+         * Returns the heuristic value of the node.
+         *
+         * @return the heuristic value of the node.
+         */
+        private double getHeuristic() {
+            return this.heuristic;
+        }
+    }
+}
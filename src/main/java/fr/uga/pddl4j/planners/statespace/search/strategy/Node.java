@@ -20,6 +20,7 @@
 package fr.uga.pddl4j.planners.statespace.search.strategy;
 
 import fr.uga.pddl4j.util.BitState;
+import fr.uga.pddl4j.util.BitVector;
 
 /**
  * This class implements a node of the tree search.
@@ -59,6 +60,11 @@ public final class Node extends BitState {
      */
     private int depth;
 
+    /**
+     * The landmarks accepted on the path leading to this node or null if they are not computed.
+     */
+    private BitVector acceptedLandmarks;
+
     /**
      * Creates a new node from a specified state.
      *
@@ -197,6 +203,25 @@ public final class Node extends BitState {
         this.depth = depth;
     }
 
+    /**
+     * Returns the landmarks accepted on the path leading to this node. The accepted landmarks are set by the path
+     * dependent heuristics when the node is evaluated and released with the node.
+     *
+     * @return the landmarks accepted on the path leading to this node or null if they are not computed.
+     */
+    public final BitVector getAcceptedLandmarks() {
+        return this.acceptedLandmarks;
+    }
+
+    /**
+     * Sets the landmarks accepted on the path leading to this node.
+     *
+     * @param acceptedLandmarks the landmarks accepted on the path leading to this node.
+     */
+    public final void setAcceptedLandmarks(final BitVector acceptedLandmarks) {
+        this.acceptedLandmarks = acceptedLandmarks;
+    }
+
     /**
      * Returns the value of the heuristic function, i.e.,
      * <code>this.node.getCost() + this.node.getHeuristic()</code>.
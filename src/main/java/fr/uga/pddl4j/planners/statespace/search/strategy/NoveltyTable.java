@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2016 by Damien Pellier <Damien.Pellier@imag.fr>.
+ *
+ * This file is part of PDDL4J library.
+ *
+ * PDDL4J is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * PDDL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with PDDL4J.  If not, see
+ * <http://www.gnu.org/licenses/>
+ */
+
+package fr.uga.pddl4j.planners.statespace.search.strategy;
+
+import fr.uga.pddl4j.util.BitState;
+import fr.uga.pddl4j.util.BitVector;
+
+import java.io.Serializable;
+
+/**
+ * This class implements a novelty table used by the width based search strategies. The novelty of
+ * a state is the size of the smallest set of facts true in the state that is not true in any state
+ * previously evaluated with the table. The table records the facts and, for a width of 2, the pairs
+ * of facts of the states evaluated. The novelty of a state is <code>1</code> if the state makes a
+ * fact true for the first time, <code>2</code> if it makes a pair of facts true for the first time
+ * and <code>width + 1</code> otherwise.
+ * <p>
+ * The facts are stored in a bit vector and the pairs of facts in a triangular bit table: the row of
+ * a fact <code>p</code> has one bit for each fact <code>q &gt; p</code> and is only allocated when a
+ * pair <code>(p, q)</code> is recorded for the first time.
+ * </p>
+ *
+ * @author PDDL4J contributors
+ * @version 1.0 - 19.10.2026
+ */
+public final class NoveltyTable implements Serializable {
+
+    /**
+     * The serial id of the class.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The maximal width of the tables.
+     */
+    public static final int MAX_WIDTH = 2;
+
+    /**
+     * The number of facts of the problem.
+     */
+    private int size;
+
+    /**
+     * The width of the table.
+     */
+    private int width;
+
+    /**
+     * The facts already recorded.
+     */
+    private BitVector facts;
+
+    /**
+     * The rows of the pairs of facts already recorded.
+     */
+    private long[][] pairs;
+
+    /**
+     * The facts of the state evaluated.
+     */
+    private int[] buffer;
+
+    /**
+     * Creates a new novelty table.
+     *
+     * @param size  the number of relevant facts of the problem.
+     * @param width the width of the table, i.e., the size of the largest sets of facts recorded.
+     * @throws IllegalArgumentException if <code>width &lt; 1 || width &gt; MAX_WIDTH</code>.
+     */
+    public NoveltyTable(final int size, final int width) {
+        if (width < 1 || width > NoveltyTable.MAX_WIDTH) {
+            throw new IllegalArgumentException("width must be between 1 and " + NoveltyTable.MAX_WIDTH);
+        }
+        this.size = size;
+        this.width = width;
+        this.facts = new BitVector(size);
+        this.pairs = width > 1 ? new long[size][] : null;
+        this.buffer = width > 1 ? new int[size] : null;
+    }
+
+    /**
+     * Returns the width of the table.
+     *
+     * @return the width of the table.
+     */
+    public int getWidth() {
+        return this.width;
+    }
+
+    /**
+     * Returns the novelty of a state and records its facts and its pairs of facts.
+     *
+     * @param state the state.
+     * @return the novelty of the state, i.e., <code>1</code> or <code>2</code> if the state makes a
+     *     fact or a pair of facts true for the first time and <code>width + 1</code> otherwise.
+     */
+    public int evaluate(final BitState state) {
+        int novelty = this.width + 1;
+        int nb = 0;
+        for (int p = state.nextSetBit(0); p >= 0 && p < this.size; p = state.nextSetBit(p + 1)) {
+            if (!this.facts.get(p)) {
+                this.facts.set(p);
+                novelty = 1;
+            }
+            if (this.buffer != null) {
+                this.buffer[nb++] = p;
+            }
+        }
+        for (int i = 0; i < nb; i++) {
+            final int p = this.buffer[i];
+            for (int j = i + 1; j < nb; j++) {
+                if (this.record(p, this.buffer[j]) && novelty > 2) {
+                    novelty = 2;
+                }
+            }
+        }
+        return novelty;
+    }
+
+    /**
+     * Records a pair of facts.
+     *
+     * @param p the first fact.
+     * @param q the second fact with <code>q &gt; p</code>.
+     * @return <code>true</code> if the pair was not already recorded; <code>false</code> otherwise.
+     */
+    private boolean record(final int p, final int q) {
+        long[] row = this.pairs[p];
+        if (row == null) {
+            row = new long[(this.size - p - 1 + Long.SIZE - 1) / Long.SIZE];
+            this.pairs[p] = row;
+        }
+        final int bit = q - p - 1;
+        final long mask = 1L << bit;
+        final boolean novel = (row[bit / Long.SIZE] & mask) == 0;
+        row[bit / Long.SIZE] |= mask;
+        return novel;
+    }
+
+}
@@ -0,0 +1,262 @@
+/*
+ * Copyright (c) 2016 by Damien Pellier <Damien.Pellier@imag.fr>.
+ *
+ * This file is part of PDDL4J library.
+ *
+ * PDDL4J is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * PDDL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with PDDL4J.  If not, see
+ * <http://www.gnu.org/licenses/>
+ */
+
+package fr.uga.pddl4j.planners.statespace.search.strategy;
+
+import fr.uga.pddl4j.encoding.CodedProblem;
+import fr.uga.pddl4j.util.BitExp;
+import fr.uga.pddl4j.util.BitOp;
+import fr.uga.pddl4j.util.BitState;
+import fr.uga.pddl4j.util.BitVector;
+import fr.uga.pddl4j.util.CondBitExp;
+import fr.uga.pddl4j.util.StateVariables;
+
+import java.util.List;
+
+/**
+ * This class implements the regression of subgoals through the operators of a planning problem. An operator is
+ * regressed through a subgoal if it adds a positive fact or deletes a negative fact of the subgoal without deleting a
+ * positive fact or adding a negative fact of the subgoal; the regressed subgoal is the subgoal without the facts
+ * achieved by the operator plus the preconditions of the operator. The regressed subgoals that contain a fact and its
+ * negation or two facts of a same mutex group are pruned.
+ * <p>
+ * Only the unconditional effects are regressed: an operator whose conditional effects or contradictory effects touch
+ * a fact of the subgoal is not regressed through it, so that the regression is sound but may be incomplete on the
+ * problems with conditional effects. The distance from the initial state to a subgoal is estimated by the number of
+ * literals of the subgoal false in the initial state divided by the largest number of facts modified by an operator,
+ * times the smallest cost of an operator, which is admissible.
+ * </p>
+ *
+ * @author PDDL4J contributors
+ * @version 1.0 - 19.10.2026
+ */
+final class Regression {
+
+    /**
+     * The problem.
+     */
+    private final CodedProblem problem;
+
+    /**
+     * The initial state of the problem.
+     */
+    private final BitState init;
+
+    /**
+     * The state variables of the problem.
+     */
+    private final StateVariables variables;
+
+    /**
+     * The facts added by the unconditional effects of each operator.
+     */
+    private final BitVector[] adds;
+
+    /**
+     * The facts deleted by the unconditional effects of each operator.
+     */
+    private final BitVector[] deletes;
+
+    /**
+     * The facts touched by the conditional or contradictory effects of each operator.
+     */
+    private final BitVector[] unknowns;
+
+    /**
+     * The largest number of facts modified by an operator.
+     */
+    private final int maxModified;
+
+    /**
+     * The smallest cost of an operator.
+     */
+    private final double minCost;
+
+    /**
+     * Creates the regression of a planning problem.
+     *
+     * @param problem the problem.
+     */
+    Regression(final CodedProblem problem) {
+        this.problem = problem;
+        this.init = new BitState(problem.getInit());
+        this.variables = new StateVariables(problem);
+        final List<BitOp> operators = problem.getOperators();
+        this.adds = new BitVector[operators.size()];
+        this.deletes = new BitVector[operators.size()];
+        this.unknowns = new BitVector[operators.size()];
+        int modified = 0;
+        double cost = operators.isEmpty() ? 0.0 : Double.MAX_VALUE;
+        for (int i = 0; i < operators.size(); i++) {
+            final BitOp op = operators.get(i);
+            this.adds[i] = new BitVector();
+            this.deletes[i] = new BitVector();
+            this.unknowns[i] = new BitVector();
+            for (CondBitExp ce : op.getCondEffects()) {
+                if (ce.getCondition().isEmpty()) {
+                    this.adds[i].or(ce.getEffects().getPositive());
+                    this.deletes[i].or(ce.getEffects().getNegative());
+                } else {
+                    this.unknowns[i].or(ce.getEffects().getPositive());
+                    this.unknowns[i].or(ce.getEffects().getNegative());
+                }
+            }
+            // The result of a fact both added and deleted depends on the order of the effects
+            final BitVector both = new BitVector(this.adds[i]);
+            both.and(this.deletes[i]);
+            this.unknowns[i].or(both);
+            this.adds[i].andNot(this.unknowns[i]);
+            this.deletes[i].andNot(this.unknowns[i]);
+            modified = Math.max(modified, this.adds[i].cardinality() + this.deletes[i].cardinality());
+            cost = Math.min(cost, op.getCost());
+        }
+        this.maxModified = modified;
+        this.minCost = Math.max(0.0, cost);
+    }
+
+    /**
+     * Returns the problem.
+     *
+     * @return the problem.
+     */
+    CodedProblem getProblem() {
+        return this.problem;
+    }
+
+    /**
+     * Returns the subgoal of the goal of the problem.
+     *
+     * @return the subgoal of the goal of the problem.
+     */
+    Subgoal root() {
+        return new Subgoal(this.problem.getGoal(), null, -1, 0.0, 0, this.estimate(this.problem.getGoal()));
+    }
+
+    /**
+     * Returns if a subgoal is satisfied by the initial state.
+     *
+     * @param subgoal the subgoal.
+     * @return <code>true</code> if the subgoal is satisfied by the initial state; <code>false</code> otherwise.
+     */
+    boolean isReached(final BitExp subgoal) {
+        return this.init.satisfy(subgoal);
+    }
+
+    /**
+     * Returns the estimated distance from the initial state to a subgoal.
+     *
+     * @param subgoal the subgoal.
+     * @return the estimated distance from the initial state to the subgoal.
+     */
+    double estimate(final BitExp subgoal) {
+        final int unsatisfied = this.init.countUnsatisfied(subgoal);
+        if (unsatisfied == 0 || this.maxModified == 0) {
+            return 0.0;
+        }
+        return Math.ceil((double) unsatisfied / this.maxModified) * this.minCost;
+    }
+
+    /**
+     * Regresses a subgoal through an operator.
+     *
+     * @param subgoal the subgoal.
+     * @param index   the index of the operator.
+     * @return the regressed subgoal or null if the operator cannot be regressed through the subgoal or if the regressed
+     *     subgoal is inconsistent.
+     */
+    Subgoal regress(final Subgoal subgoal, final int index) {
+        final BitVector positive = subgoal.getPositive();
+        final BitVector negative = subgoal.getNegative();
+        final BitVector add = this.adds[index];
+        final BitVector delete = this.deletes[index];
+        if (!add.intersects(positive) && !delete.intersects(negative)
+            || delete.intersects(positive) || add.intersects(negative)
+            || this.unknowns[index].intersects(positive) || this.unknowns[index].intersects(negative)) {
+            return null;
+        }
+        final BitOp op = this.problem.getOperators().get(index);
+        final BitVector regressedPositive = new BitVector(positive);
+        regressedPositive.andNot(add);
+        regressedPositive.or(op.getPreconditions().getPositive());
+        final BitVector regressedNegative = new BitVector(negative);
+        regressedNegative.andNot(delete);
+        regressedNegative.or(op.getPreconditions().getNegative());
+        if (regressedPositive.intersects(regressedNegative)
+            || !this.isConsistent(regressedPositive, regressedNegative)) {
+            return null;
+        }
+        final BitExp regressed = new BitExp(regressedPositive, regressedNegative);
+        return new Subgoal(regressed, subgoal, index, subgoal.getCost() + op.getCost(), subgoal.getDepth() + 1,
+            this.estimate(regressed));
+    }
+
+    /**
+     * Extracts the solution node of a subgoal satisfied by the state of a node. The operators of the subgoal and of
+     * its ancestors are applied from the node up to the goal.
+     *
+     * @param node    the node.
+     * @param subgoal the subgoal satisfied by the state of the node.
+     * @return the solution node.
+     */
+    Node extract(final Node node, final Subgoal subgoal) {
+        Node current = node;
+        Subgoal next = subgoal;
+        while (next.getParent() != null) {
+            final BitOp op = this.problem.getOperators().get(next.getOperator());
+            final Node state = current;
+            final BitState successor = new BitState(state);
+            op.getCondEffects().stream().filter(ce -> state.satisfy(ce.getCondition()))
+                .forEach(ce -> successor.apply(ce.getEffects()));
+            current = new Node(successor, state, next.getOperator(), state.getCost() + op.getCost(),
+                state.getDepth() + 1, 0.0);
+            next = next.getParent();
+        }
+        return current;
+    }
+
+    /**
+     * Returns if a partial state satisfies the mutex groups of the problem, i.e., if at most one fact of each group is
+     * true and if one fact of each exactly one group can be true.
+     *
+     * @param positive the positive facts of the partial state.
+     * @param negative the negative facts of the partial state.
+     * @return <code>true</code> if the partial state satisfies the mutex groups; <code>false</code> otherwise.
+     */
+    private boolean isConsistent(final BitVector positive, final BitVector negative) {
+        final BitVector used = new BitVector();
+        for (int f = positive.nextSetBit(0); f >= 0; f = positive.nextSetBit(f + 1)) {
+            final int variable = this.variables.getVariable(f);
+            if (used.get(variable)) {
+                return false;
+            }
+            used.set(variable);
+        }
+        final BitVector checked = new BitVector();
+        for (int f = negative.nextSetBit(0); f >= 0; f = negative.nextSetBit(f + 1)) {
+            final int variable = this.variables.getVariable(f);
+            if (!checked.get(variable) && !used.get(variable) && this.variables.isExactlyOne(variable)) {
+                checked.set(variable);
+                boolean none = true;
+                for (int fact : this.variables.getFacts(variable)) {
+                    none &= negative.get(fact);
+                }
+                if (none) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2016 by Damien Pellier <Damien.Pellier@imag.fr>.
+ *
+ * This file is part of PDDL4J library.
+ *
+ * PDDL4J is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * PDDL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with PDDL4J.  If not, see
+ * <http://www.gnu.org/licenses/>
+ */
+
+package fr.uga.pddl4j.planners.statespace.search.strategy;
+
+import fr.uga.pddl4j.encoding.CodedProblem;
+import fr.uga.pddl4j.planners.Planner;
+import fr.uga.pddl4j.util.BitState;
+import fr.uga.pddl4j.util.MemoryAgent;
+import fr.uga.pddl4j.util.SolutionEvent;
+
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.PriorityQueue;
+
+/**
+ * This class implements a regression search strategy, i.e., an A* search backward from the goal of the problem over
+ * subgoals that stops when a subgoal is satisfied by the initial state. A subgoal is generated by regressing the
+ * unconditional effects of an operator through its parent subgoal and it is pruned if it is subsumed by a subgoal
+ * already generated with a lower or equal cost, i.e., if the literals of an other subgoal are a subset of its literals.
+ * <p>
+ * The subgoals are estimated by an admissible heuristic, so that the plan returned is optimal when the weight of the
+ * strategy is lower or equal to one. The operators whose conditional effects touch a subgoal are not regressed through
+ * it, so that the search may not find a plan on the problems with conditional effects.
+ * </p>
+ *
+ * @author PDDL4J contributors
+ * @version 1.0 - 19.10.2026
+ * @see Regression
+ */
+public final class RegressionSearch extends AbstractStateSpaceStrategy {
+
+    /**
+     * The serial id of the class.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Creates a new regression search strategy with default parameters.
+     */
+    public RegressionSearch() {
+        super();
+    }
+
+    /**
+     * Creates a new regression search strategy.
+     *
+     * @param timeout the time out of the planner.
+     */
+    public RegressionSearch(final int timeout) {
+        super(timeout);
+    }
+
+    /**
+     * Solves the planning problem and returns the first solution node found.
+     *
+     * @param codedProblem the problem to be solved. The problem cannot be null.
+     * @return a solution node or null if no solution was found.
+     */
+    @Override
+    public Node search(final CodedProblem codedProblem) {
+        Objects.requireNonNull(codedProblem);
+        final long begin = System.currentTimeMillis();
+        this.resetNodesStatistics();
+        final Regression regression = new Regression(codedProblem);
+        final double weight = this.getWeight();
+        final PriorityQueue<Subgoal> open = new PriorityQueue<>(100,
+            Comparator.<Subgoal>comparingDouble(s -> s.getValueF(weight)).thenComparingDouble(Subgoal::getHeuristic));
+        final SubgoalIndex index = new SubgoalIndex();
+        final Subgoal root = regression.root();
+        open.add(root);
+        index.add(root);
+        this.setCreatedNodes(1);
+
+        Node solution = null;
+        int explored = 0;
+        final int timeout = this.getTimeout();
+        long time = 0;
+        while (!open.isEmpty() && solution == null && time < timeout) {
+            final Subgoal current = open.poll();
+            explored++;
+            if (regression.isReached(current)) {
+                final Node init = new Node(new BitState(codedProblem.getInit()), null, -1, 0.0, 0, 0.0);
+                solution = regression.extract(init, current);
+                fireSolution(new SolutionEvent(this, solution, codedProblem));
+            } else {
+                for (int i = 0; i < codedProblem.getOperators().size(); i++) {
+                    final Subgoal successor = regression.regress(current, i);
+                    if (successor != null && !index.isSubsumed(successor, successor.getCost())) {
+                        this.setCreatedNodes(this.getCreatedNodes() + 1);
+                        index.add(successor);
+                        open.add(successor);
+                    }
+                }
+            }
+            time = System.currentTimeMillis() - begin;
+        }
+        if (solution == null && time >= timeout) {
+            Planner.getLogger().trace("* search stopped: time out reached\n");
+        }
+
+        this.setExploredNodes(explored);
+        this.setPendingNodes(open.size());
+        this.setMemoryUsed(MemoryAgent.getDeepSizeOf(index) + MemoryAgent.getDeepSizeOf(open));
+        this.setSearchingTime(time);
+        return solution;
+    }
+}
@@ -0,0 +1,256 @@
+/*
+ * Copyright (c) 2016 by Damien Pellier <Damien.Pellier@imag.fr>.
+ *
+ * This file is part of PDDL4J library.
+ *
+ * PDDL4J is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * PDDL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with PDDL4J.  If not, see
+ * <http://www.gnu.org/licenses/>
+ */
+
+package fr.uga.pddl4j.planners.statespace.search.strategy;
+
+import fr.uga.pddl4j.encoding.CodedProblem;
+import fr.uga.pddl4j.heuristics.relaxation.Heuristic;
+import fr.uga.pddl4j.heuristics.relaxation.HeuristicToolKit;
+import fr.uga.pddl4j.planners.Planner;
+import fr.uga.pddl4j.util.BitExp;
+import fr.uga.pddl4j.util.BitOp;
+import fr.uga.pddl4j.util.BitState;
+import fr.uga.pddl4j.util.MemoryAgent;
+import fr.uga.pddl4j.util.SolutionEvent;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * This class implements the Restarting Weighted A* (RWA*) search strategy (S. Richter, J. Thayer and W. Ruml, "The
+ * joy of forgetting: faster anytime search via restarting", ICAPS, 2010). The strategy runs a weighted A* search for
+ * each weight of a decreasing schedule, e.g., 5, 3, 2, 1.5 and 1. Each search restarts from the initial state with an
+ * empty open list, stops at the first solution cheaper than the best solution found so far and prunes the nodes whose
+ * cost is not lower than the cost of this solution. When the heuristic is admissible, whatever the weight, the nodes
+ * whose cost plus heuristic value is not lower than the cost of this solution are pruned; an inadmissible heuristic
+ * value is never used to prune, even with a weight of 1. The strategy stops at the end of the search with a weight
+ * lower than or equal to 1: with an admissible heuristic, its solution is optimal. If the last weight of the schedule
+ * is greater than 1, the search is repeated with the last weight until no cheaper solution exists or the timeout is
+ * reached.
+ * <p>
+ * The states reached by the previous searches are not forgotten: their heuristic value and the cheapest path found to
+ * them are kept, and a search that reaches such a state puts it back in its open list without evaluating the heuristic
+ * again. The cost bound of the strategy is used as the cost of an initial solution so that the strategy can replace
+ * the greedy best first search in {@link fr.uga.pddl4j.planners.statespace.ff.FFAnytime}. Each improved solution is
+ * published with {@link #fireSolution(SolutionEvent)} and added to the solution nodes.
+ * </p>
+ *
+ * @author PDDL4J contributors
+ * @version 1.0 - 19.10.2026
+ */
+public final class RestartingWeightedAStar extends AbstractStateSpaceStrategyAnytime {
+
+    /**
+     * The serial id of the class.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The default schedule of the weights.
+     */
+    private static final double[] DEFAULT_SCHEDULE = {5.0, 3.0, 2.0, 1.5, 1.0};
+
+    /**
+     * The schedule of the weights.
+     */
+    private double[] schedule;
+
+    /**
+     * Creates a new RWA* search strategy with default parameters.
+     */
+    public RestartingWeightedAStar() {
+        super();
+        this.schedule = RestartingWeightedAStar.DEFAULT_SCHEDULE.clone();
+    }
+
+    /**
+     * Creates a new RWA* search strategy. The schedule of the weights is made of the weights of the default schedule
+     * greater than the specified weight followed by the specified weight.
+     *
+     * @param timeout   the time out of the planner.
+     * @param heuristic the heuristicType to use to solve the planning problem.
+     * @param weight    the last weight of the schedule.
+     */
+    public RestartingWeightedAStar(final int timeout, final Heuristic.Type heuristic, final double weight) {
+        super(timeout, heuristic, weight);
+        final double[] weights = Arrays.stream(RestartingWeightedAStar.DEFAULT_SCHEDULE).filter(w -> w > weight)
+            .toArray();
+        this.schedule = Arrays.copyOf(weights, weights.length + 1);
+        this.schedule[weights.length] = weight;
+    }
+
+    /**
+     * Returns the schedule of the weights.
+     *
+     * @return the schedule of the weights.
+     */
+    public double[] getSchedule() {
+        return this.schedule.clone();
+    }
+
+    /**
+     * Sets the schedule of the weights.
+     *
+     * @param schedule the schedule of the weights. The schedule must contain at least one weight and its weights must
+     *                 be strictly positive and decreasing.
+     * @throws IllegalArgumentException if the schedule is empty or not strictly positive and decreasing.
+     */
+    public void setSchedule(final double... schedule) {
+        if (schedule.length == 0) {
+            throw new IllegalArgumentException("empty schedule");
+        }
+        for (int i = 0; i < schedule.length; i++) {
+            if (schedule[i] <= 0 || i > 0 && schedule[i] >= schedule[i - 1]) {
+                throw new IllegalArgumentException("schedule not strictly positive and decreasing");
+            }
+        }
+        this.schedule = schedule.clone();
+    }
+
+    /**
+     * Solves the planning problem and returns the best solution node found.
+     *
+     * @param problem the problem to be solved. The problem cannot be null.
+     * @return the best solution node or null if no solution was found.
+     */
+    @Override
+    public Node search(final CodedProblem problem) {
+        final Logger logger = Planner.getLogger();
+        Objects.requireNonNull(problem);
+        final long begin = System.currentTimeMillis();
+        final Heuristic heuristic = HeuristicToolKit.createHeuristic(this.getHeuristicType(), problem,
+            this.getHeuristicCache());
+        final BitExp goal = problem.getGoal();
+        // The cheapest node of each state reached by the searches. A node is never modified: a cheaper node replaces it
+        final Map<BitState, Node> seen = new HashMap<>();
+        final BitState init = new BitState(problem.getInit());
+        final Node root = new Node(init, null, -1, 0.0, 0, this.estimate(heuristic, init, goal));
+        seen.put(root, root);
+
+        this.resetNodesStatistics();
+        this.clearResults();
+        Node solution = null;
+        double incumbent = this.getBoundCost();
+        int explored = 0;
+        int created = 0;
+        int pending = 0;
+        final int timeout = this.getTimeout();
+        long searchingTime = 0;
+        int iteration = 0;
+        boolean done = this.isDeadEnd(root);
+        // Only an admissible heuristic value is a lower bound of the cost to the goal that can prune the nodes
+        final boolean bounded = heuristic.isAdmissible();
+        while (!done && searchingTime < timeout) {
+            final double weight = this.schedule[Math.min(iteration, this.schedule.length - 1)];
+            iteration++;
+            // Restarts from the initial state
+            final PriorityQueue<Node> open = new PriorityQueue<>(100, new NodeComparator(weight));
+            final Set<BitState> reached = new HashSet<>();
+            final Set<BitState> closed = new HashSet<>();
+            open.add(root);
+            reached.add(root);
+            Node found = null;
+            while (found == null && !open.isEmpty() && searchingTime < timeout) {
+                final Node current = open.poll();
+                if (seen.get(current) != current || this.isPruned(current, incumbent, bounded)
+                    || !closed.add(current)) {
+                    // The node was replaced by a cheaper node, is pruned by the best solution or is already expanded
+                    continue;
+                }
+                if (current.satisfy(goal)) {
+                    found = current;
+                    continue;
+                }
+                explored++;
+                int index = 0;
+                for (BitOp op : problem.getOperators()) {
+                    if (op.isApplicable(current)) {
+                        final Node state = new Node(current);
+                        created++;
+                        op.getCondEffects().stream().filter(ce -> current.satisfy(ce.getCondition())).forEach(ce ->
+                            state.apply(ce.getEffects())
+                        );
+                        final double g = current.getCost() + op.getCost();
+                        final Node other = seen.get(state);
+                        // The successors which cannot lead to a solution cheaper than the best solution are pruned
+                        if (g < incumbent) {
+                            if (other == null || g < other.getCost()) {
+                                state.setCost(g);
+                                state.setParent(current);
+                                state.setOperator(index);
+                                state.setDepth(current.getDepth() + 1);
+                                state.setHeuristic(other == null ? this.estimate(heuristic, state, goal)
+                                    : other.getHeuristic());
+                                if (!this.isDeadEnd(state) && !this.isPruned(state, incumbent, bounded)) {
+                                    seen.put(state, state);
+                                    reached.add(state);
+                                    closed.remove(state);
+                                    open.add(state);
+                                }
+                            } else if (!this.isPruned(other, incumbent, bounded) && reached.add(other)) {
+                                // The state was reached by a previous search: its node is put back in the open list
+                                open.add(other);
+                            }
+                        }
+                    }
+                    index++;
+                }
+                searchingTime = System.currentTimeMillis() - begin;
+            }
+            pending = open.size();
+            if (found != null) {
+                solution = found;
+                incumbent = found.getCost();
+                this.getSolutionNodes().add(solution);
+                fireSolution(new SolutionEvent(this, solution, problem));
+                logger.trace("* " + this.getSolutionNodes().size() + " solution(s) found. Best cost: "
+                    + incumbent + " (weight " + weight + ")\n");
+            } else {
+                // No solution cheaper than the best solution found exists or the timeout is reached
+                done = true;
+            }
+            // The search with a weight lower than or equal to 1 is not repeated
+            done |= weight <= 1.0;
+            searchingTime = System.currentTimeMillis() - begin;
+        }
+
+        this.setCreatedNodes(created);
+        this.setExploredNodes(explored);
+        this.setPendingNodes(pending);
+        this.setMemoryUsed(MemoryAgent.getDeepSizeOf(seen));
+        this.setSearchingTime(searchingTime);
+        this.clearBounds();
+        return solution;
+    }
+
+    /**
+     * Returns if a node cannot lead to a solution cheaper than the best solution found so far.
+     *
+     * @param node      the node.
+     * @param incumbent the cost of the best solution found so far.
+     * @param bounded   <code>true</code> if the heuristic value of the node is used as a lower bound of its cost to the
+     *                  goal; <code>false</code> otherwise.
+     * @return <code>true</code> if the node must be pruned; <code>false</code> otherwise.
+     */
+    private boolean isPruned(final Node node, final double incumbent, final boolean bounded) {
+        return node.getCost() + (bounded ? node.getHeuristic() : 0.0) >= incumbent;
+    }
+}
@@ -17,6 +17,7 @@ package fr.uga.pddl4j.planners.statespace.search.strategy;
 
 import fr.uga.pddl4j.encoding.CodedProblem;
 import fr.uga.pddl4j.heuristics.relaxation.Heuristic;
+import fr.uga.pddl4j.heuristics.relaxation.HeuristicCache;
 import fr.uga.pddl4j.util.Plan;
 import fr.uga.pddl4j.util.SolutionEvent;
 import fr.uga.pddl4j.util.SolutionListener;
@@ -150,6 +151,66 @@ public interface StateSpaceStrategy extends Serializable {
      */
     void setCreatedNodes(final int createdNodes);
 
+    /**
+     * Returns the cache of heuristic values used by the strategy. By default, a strategy does not use a cache.
+     *
+     * @return the cache of heuristic values used by the strategy or null if the strategy does not use a cache.
+     */
+    default HeuristicCache getHeuristicCache() {
+        return null;
+    }
+
+    /**
+     * Sets the cache of heuristic values used by the strategy. By default, a strategy does not support a cache.
+     *
+     * @param cache the cache of heuristic values or null to compute every heuristic value.
+     * @throws UnsupportedOperationException if the strategy does not support a cache of heuristic values.
+     */
+    default void setHeuristicCache(final HeuristicCache cache) {
+        throw new UnsupportedOperationException("heuristic cache not supported by " + this.getClass().getSimpleName());
+    }
+
+    /**
+     * Returns the registry of the dead ends used by the strategy. By default, a strategy does not use a registry.
+     *
+     * @return the registry of the dead ends used by the strategy or null if the strategy does not use a registry.
+     */
+    default DeadEndRegistry getDeadEndRegistry() {
+        return null;
+    }
+
+    /**
+     * Sets the registry of the dead ends used by the strategy. By default, a strategy does not support a registry.
+     *
+     * @param registry the registry of the dead ends or null to not record the dead ends.
+     * @throws UnsupportedOperationException if the strategy does not support a registry of the dead ends.
+     */
+    default void setDeadEndRegistry(final DeadEndRegistry registry) {
+        throw new UnsupportedOperationException("dead end registry not supported by "
+            + this.getClass().getSimpleName());
+    }
+
+    /**
+     * Returns the set of the visited states used by the strategy. By default, a strategy uses its own closed list.
+     *
+     * @return the set of the visited states used by the strategy or null if the strategy uses its own closed list.
+     */
+    default VisitedSet getVisitedSet() {
+        return null;
+    }
+
+    /**
+     * Sets the set of the visited states used by the strategy. The set is only supported by the strategies that detect
+     * the duplicate states without comparing their costs, i.e., the breadth first, depth first and greedy best first
+     * searches.
+     *
+     * @param visitedSet the set of the visited states or null to use the closed list of the strategy.
+     * @throws UnsupportedOperationException if the strategy does not support a set of the visited states.
+     */
+    default void setVisitedSet(final VisitedSet visitedSet) {
+        throw new UnsupportedOperationException("visited set not supported by " + this.getClass().getSimpleName());
+    }
+
     /**
      * Solves the planning problem and returns the first solution node found.
      *
@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2016 by Damien Pellier <Damien.Pellier@imag.fr>.
+ *
+ * This file is part of PDDL4J library.
+ *
+ * PDDL4J is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * PDDL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with PDDL4J.  If not, see
+ * <http://www.gnu.org/licenses/>
+ */
+
+package fr.uga.pddl4j.planners.statespace.search.strategy;
+
+import fr.uga.pddl4j.util.BitState;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * This class implements an open-addressing table of nodes used by the beam search strategies to detect duplicate
+ * states. The table stores at most one node per state, the cheapest one, in a single array probed linearly. Unlike a
+ * <code>HashMap</code>, the table does not allocate an entry per node and its memory only depends on the number of
+ * nodes stored. The array is doubled when the table is half full.
+ *
+ * @author PDDL4J contributors
+ * @version 1.0 - 19.10.2026
+ */
+public final class StateTable implements Serializable {
+
+    /**
+     * The serial id of the class.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The default capacity of the table.
+     */
+    public static final int DEFAULT_CAPACITY = 64;
+
+    /**
+     * The nodes of the table, <code>null</code> for the free cells.
+     */
+    private Node[] cells;
+
+    /**
+     * The number of nodes of the table.
+     */
+    private int size;
+
+    /**
+     * Creates a new empty table with the default capacity.
+     */
+    public StateTable() {
+        this(StateTable.DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a new empty table.
+     *
+     * @param capacity the number of nodes that the table can store without growing.
+     */
+    public StateTable(final int capacity) {
+        this.cells = new Node[Integer.highestOneBit(Math.max(2, 2 * capacity - 1)) << 1];
+        this.size = 0;
+    }
+
+    /**
+     * Returns the number of nodes of the table.
+     *
+     * @return the number of nodes of the table.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns the node stored for a specified state.
+     *
+     * @param state the state.
+     * @return the node stored for the state or <code>null</code> if the state is not in the table.
+     */
+    public Node get(final BitState state) {
+        final int mask = this.cells.length - 1;
+        for (int i = StateTable.hash(state) & mask; this.cells[i] != null; i = (i + 1) & mask) {
+            if (this.cells[i].equals(state)) {
+                return this.cells[i];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Stores a node if its state is not in the table or if it is cheaper than the node stored for its state.
+     *
+     * @param node the node.
+     * @return <code>true</code> if the node is stored; <code>false</code> otherwise.
+     */
+    public boolean put(final Node node) {
+        final int mask = this.cells.length - 1;
+        int i = StateTable.hash(node) & mask;
+        while (this.cells[i] != null) {
+            if (this.cells[i].equals(node)) {
+                if (node.getCost() < this.cells[i].getCost()) {
+                    this.cells[i] = node;
+                    return true;
+                }
+                return false;
+            }
+            i = (i + 1) & mask;
+        }
+        this.cells[i] = node;
+        this.size++;
+        if (2 * this.size > this.cells.length) {
+            this.grow();
+        }
+        return true;
+    }
+
+    /**
+     * Returns the nodes of the table.
+     *
+     * @return the nodes of the table in an array of length the size of the table.
+     */
+    public Node[] toArray() {
+        final Node[] nodes = new Node[this.size];
+        int n = 0;
+        for (Node node : this.cells) {
+            if (node != null) {
+                nodes[n++] = node;
+            }
+        }
+        return nodes;
+    }
+
+    /**
+     * Removes all the nodes of the table.
+     */
+    public void clear() {
+        Arrays.fill(this.cells, null);
+        this.size = 0;
+    }
+
+    /**
+     * Doubles the number of cells of the table.
+     */
+    private void grow() {
+        final Node[] old = this.cells;
+        this.cells = new Node[2 * old.length];
+        final int mask = this.cells.length - 1;
+        for (Node node : old) {
+            if (node != null) {
+                int i = StateTable.hash(node) & mask;
+                while (this.cells[i] != null) {
+                    i = (i + 1) & mask;
+                }
+                this.cells[i] = node;
+            }
+        }
+    }
+
+    /**
+     * Returns the hash code of a state spread over all the bits.
+     *
+     * @param state the state.
+     * @return the hash code of the state.
+     */
+    private static int hash(final BitState state) {
+        final int h = state.hashCode() * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2016 by Damien Pellier <Damien.Pellier@imag.fr>.
+ *
+ * This file is part of PDDL4J library.
+ *
+ * PDDL4J is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * PDDL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with PDDL4J.  If not, see
+ * <http://www.gnu.org/licenses/>
+ */
+
+package fr.uga.pddl4j.planners.statespace.search.strategy;
+
+import fr.uga.pddl4j.util.BitExp;
+
+/**
+ * This class implements a node of a regression search, i.e., a partial state that must hold to reach the goal. The
+ * parent of a subgoal is the subgoal reached by applying its operator.
+ *
+ * @author PDDL4J contributors
+ * @version 1.0 - 19.10.2026
+ */
+final class Subgoal extends BitExp {
+
+    /**
+     * The serial id of the class.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The parent subgoal of this subgoal.
+     */
+    private final Subgoal parent;
+
+    /**
+     * The operator regressed to reach this subgoal.
+     */
+    private final int operator;
+
+    /**
+     * The cost to reach the goal from this subgoal.
+     */
+    private final double cost;
+
+    /**
+     * The depth of the subgoal.
+     */
+    private final int depth;
+
+    /**
+     * The estimated distance from the initial state to this subgoal.
+     */
+    private final double heuristic;
+
+    /**
+     * Creates a new subgoal.
+     *
+     * @param exp       the expression of the subgoal.
+     * @param parent    the parent subgoal or null for the goal.
+     * @param operator  the operator regressed to reach the subgoal from its parent.
+     * @param cost      the cost to reach the goal from the subgoal.
+     * @param depth     the depth of the subgoal.
+     * @param heuristic the estimated distance from the initial state to the subgoal.
+     */
+    Subgoal(final BitExp exp, final Subgoal parent, final int operator, final double cost, final int depth,
+            final double heuristic) {
+        super(exp);
+        this.parent = parent;
+        this.operator = operator;
+        this.cost = cost;
+        this.depth = depth;
+        this.heuristic = heuristic;
+    }
+
+    /**
+     * Returns the parent subgoal of the subgoal.
+     *
+     * @return the parent subgoal or null for the goal.
+     */
+    Subgoal getParent() {
+        return this.parent;
+    }
+
+    /**
+     * Returns the operator regressed to reach the subgoal.
+     *
+     * @return the operator regressed to reach the subgoal.
+     */
+    int getOperator() {
+        return this.operator;
+    }
+
+    /**
+     * Returns the cost to reach the goal from the subgoal.
+     *
+     * @return the cost to reach the goal from the subgoal.
+     */
+    double getCost() {
+        return this.cost;
+    }
+
+    /**
+     * Returns the depth of the subgoal.
+     *
+     * @return the depth of the subgoal.
+     */
+    int getDepth() {
+        return this.depth;
+    }
+
+    /**
+     * Returns the estimated distance from the initial state to the subgoal.
+     *
+     * @return the estimated distance from the initial state to the subgoal.
+     */
+    double getHeuristic() {
+        return this.heuristic;
+    }
+
+    /**
+     * Returns the value of the heuristic function, i.e., <code>cost + weight * heuristic</code>.
+     *
+     * @param weight the weight of the heuristic.
+     * @return the value of the heuristic function.
+     */
+    double getValueF(final double weight) {
+        return weight * this.heuristic + this.cost;
+    }
+
+    /**
+     * Returns if a subgoal is equal to an other object. The equals method has the same behaviour as the equals method
+     * of the class BitExp.
+     *
+     * @param obj the other object.
+     * @return <code>true</code> if the subgoal is equal to the other specified object; <code>false</code> otherwise.
+     * @see BitExp#equals(Object)
+     */
+    @Override
+    public boolean equals(final Object obj) {
+        return super.equals(obj);
+    }
+
+    /**
+     * Returns the hash code value of the subgoal. The hashcode method has the same behaviour as the hashcode method of
+     * the class BitExp.
+     *
+     * @return the hashcode value for this subgoal.
+     * @see BitExp#hashCode()
+     */
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2016 by Damien Pellier <Damien.Pellier@imag.fr>.
+ *
+ * This file is part of PDDL4J library.
+ *
+ * PDDL4J is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * PDDL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with PDDL4J.  If not, see
+ * <http://www.gnu.org/licenses/>
+ */
+
+package fr.uga.pddl4j.planners.statespace.search.strategy;
+
+import fr.uga.pddl4j.util.BitExp;
+import fr.uga.pddl4j.util.BitVector;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * This class implements an index of subgoals used to detect the subgoals subsumed by a subgoal already generated. A
+ * subgoal subsumes an other one if its literals are a subset of the literals of the other one and if its cost is lower
+ * or equal: every plan that reaches the other subgoal from the initial state also reaches it.
+ * <p>
+ * The index stores for each literal the list of the subgoals that contain it. The subgoals that subsume a subgoal are
+ * found by counting, for each subgoal of the lists of its literals, the number of literals shared: a subgoal subsumes
+ * it if all its literals are shared.
+ * </p>
+ *
+ * @author PDDL4J contributors
+ * @version 1.0 - 19.10.2026
+ */
+final class SubgoalIndex {
+
+    /**
+     * The initial length of the lists of subgoals.
+     */
+    private static final int INITIAL_LENGTH = 4;
+
+    /**
+     * The subgoals of the index.
+     */
+    private final List<Subgoal> subgoals;
+
+    /**
+     * The subgoals without literals.
+     */
+    private final List<Subgoal> empty;
+
+    /**
+     * The number of literals of each subgoal.
+     */
+    private int[] sizes;
+
+    /**
+     * The subgoals that contain each literal; the literal of a positive fact <i>f</i> is <i>2f</i> and the literal of
+     * a negative fact is <i>2f + 1</i>.
+     */
+    private int[][] postings;
+
+    /**
+     * The number of subgoals that contain each literal.
+     */
+    private int[] lengths;
+
+    /**
+     * The number of literals shared with the subgoal being checked.
+     */
+    private int[] counts;
+
+    /**
+     * Creates a new empty index.
+     */
+    SubgoalIndex() {
+        this.subgoals = new ArrayList<>();
+        this.empty = new ArrayList<>();
+        this.sizes = new int[SubgoalIndex.INITIAL_LENGTH];
+        this.postings = new int[0][];
+        this.lengths = new int[0];
+        this.counts = new int[SubgoalIndex.INITIAL_LENGTH];
+    }
+
+    /**
+     * Returns the number of subgoals of the index.
+     *
+     * @return the number of subgoals of the index.
+     */
+    int size() {
+        return this.subgoals.size();
+    }
+
+    /**
+     * Adds a subgoal to the index.
+     *
+     * @param subgoal the subgoal.
+     */
+    void add(final Subgoal subgoal) {
+        final int id = this.subgoals.size();
+        this.subgoals.add(subgoal);
+        if (id == this.sizes.length) {
+            this.sizes = Arrays.copyOf(this.sizes, 2 * id);
+            this.counts = Arrays.copyOf(this.counts, 2 * id);
+        }
+        this.sizes[id] = subgoal.cardinality();
+        if (this.sizes[id] == 0) {
+            this.empty.add(subgoal);
+        }
+        final BitVector positive = subgoal.getPositive();
+        for (int f = positive.nextSetBit(0); f >= 0; f = positive.nextSetBit(f + 1)) {
+            this.post(2 * f, id);
+        }
+        final BitVector negative = subgoal.getNegative();
+        for (int f = negative.nextSetBit(0); f >= 0; f = negative.nextSetBit(f + 1)) {
+            this.post(2 * f + 1, id);
+        }
+    }
+
+    /**
+     * Returns if an expression is subsumed by a subgoal of the index with a lower or equal cost.
+     *
+     * @param exp  the expression.
+     * @param cost the cost of the expression.
+     * @return <code>true</code> if the expression is subsumed; <code>false</code> otherwise.
+     */
+    boolean isSubsumed(final BitExp exp, final double cost) {
+        for (Subgoal subgoal : this.empty) {
+            if (subgoal.getCost() <= cost) {
+                return true;
+            }
+        }
+        final List<Integer> touched = new ArrayList<>();
+        boolean subsumed = false;
+        final BitVector positive = exp.getPositive();
+        for (int f = positive.nextSetBit(0); f >= 0 && !subsumed; f = positive.nextSetBit(f + 1)) {
+            subsumed = this.count(2 * f, cost, touched);
+        }
+        final BitVector negative = exp.getNegative();
+        for (int f = negative.nextSetBit(0); f >= 0 && !subsumed; f = negative.nextSetBit(f + 1)) {
+            subsumed = this.count(2 * f + 1, cost, touched);
+        }
+        for (int id : touched) {
+            this.counts[id] = 0;
+        }
+        return subsumed;
+    }
+
+    /**
+     * Counts a literal for the subgoals that contain it and returns if one of them has all its literals counted.
+     *
+     * @param literal the literal.
+     * @param cost    the cost of the expression being checked.
+     * @param touched the subgoals whose count is not null.
+     * @return <code>true</code> if a subgoal with a lower or equal cost has all its literals counted;
+     *     <code>false</code> otherwise.
+     */
+    private boolean count(final int literal, final double cost, final List<Integer> touched) {
+        if (literal >= this.lengths.length) {
+            return false;
+        }
+        final int[] posting = this.postings[literal];
+        for (int i = 0; i < this.lengths[literal]; i++) {
+            final int id = posting[i];
+            if (this.counts[id] == 0) {
+                touched.add(id);
+            }
+            this.counts[id]++;
+            if (this.counts[id] == this.sizes[id] && this.subgoals.get(id).getCost() <= cost) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Adds a subgoal to the list of a literal.
+     *
+     * @param literal the literal.
+     * @param id      the index of the subgoal.
+     */
+    private void post(final int literal, final int id) {
+        if (literal >= this.lengths.length) {
+            final int length = Math.max(2 * this.lengths.length, literal + 1);
+            this.postings = Arrays.copyOf(this.postings, length);
+            this.lengths = Arrays.copyOf(this.lengths, length);
+        }
+        if (this.postings[literal] == null) {
+            this.postings[literal] = new int[SubgoalIndex.INITIAL_LENGTH];
+        } else if (this.lengths[literal] == this.postings[literal].length) {
+            this.postings[literal] = Arrays.copyOf(this.postings[literal], 2 * this.lengths[literal]);
+        }
+        this.postings[literal][this.lengths[literal]++] = id;
+    }
+}
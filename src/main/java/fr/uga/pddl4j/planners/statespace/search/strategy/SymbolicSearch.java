@@ -0,0 +1,842 @@
+/*
+ * Copyright (c) 2016 by Damien Pellier <Damien.Pellier@imag.fr>.
+ *
+ * This file is part of PDDL4J library.
+ *
+ * PDDL4J is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * PDDL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with PDDL4J.  If not, see
+ * <http://www.gnu.org/licenses/>
+ */
+
+package fr.uga.pddl4j.planners.statespace.search.strategy;
+
+import fr.uga.pddl4j.encoding.CodedProblem;
+import fr.uga.pddl4j.planners.Planner;
+import fr.uga.pddl4j.util.BDDManager;
+import fr.uga.pddl4j.util.BitExp;
+import fr.uga.pddl4j.util.BitOp;
+import fr.uga.pddl4j.util.BitState;
+import fr.uga.pddl4j.util.BitVector;
+import fr.uga.pddl4j.util.CondBitExp;
+import fr.uga.pddl4j.util.MemoryAgent;
+import fr.uga.pddl4j.util.SolutionEvent;
+import fr.uga.pddl4j.util.StateVariables;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * This class implements a symbolic breadth first search strategy with binary decision diagrams (R. M. Jensen, M. M.
+ * Veloso and R. E. Bryant, "State-set branching: leveraging BDDs for heuristic search", Artificial Intelligence, 2008).
+ * The layers of the search are sets of states represented by diagrams over one variable per fact and the successors of
+ * a whole layer are computed at once by the image of the layer through the transition relation of the problem.
+ * <p>
+ * The variables of the facts of a same mutex group are adjacent in the order of the diagrams and the mutex groups are
+ * ordered greedily so that the groups that appear together in the operators are close. Each fact has a current and a
+ * next variable, interleaved in the order. The transition relation is partitioned disjunctively: the relations of the
+ * operators are merged in their order as long as the diagram of the group does not exceed a maximum number of nodes
+ * and the image of a layer is the union of the images through the groups, each quantifying only the facts modified by
+ * its operators.
+ * </p>
+ * <p>
+ * When the search is bidirectional, the layers of a backward search from the goal are computed by preimage, restricted
+ * to the states that satisfy the mutex groups, and the direction whose last layer has the smallest diagram is
+ * expanded first. The search stops when a new layer intersects
+ * the layers of the other direction. The plan is then rebuilt by preimages of single operators through the forward
+ * layers and by successors through the backward layers. The plan returned is a shortest plan in number of actions,
+ * i.e., an optimal plan if the operators have a unit cost.
+ * </p>
+ *
+ * @author PDDL4J contributors
+ * @version 1.0 - 19.10.2026
+ * @see BDDManager
+ */
+public final class SymbolicSearch extends AbstractStateSpaceStrategy {
+
+    /**
+     * The serial id of the class.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The default maximum number of nodes of the diagram of a group of the transition relation.
+     */
+    public static final int DEFAULT_MAX_RELATION_NODES = 10000;
+
+    /**
+     * The default maximum number of nodes of the diagrams of the search.
+     */
+    public static final int DEFAULT_MAX_NODES = 1 << 24;
+
+    /**
+     * The flag used to indicate if the search is bidirectional.
+     */
+    private boolean bidirectional;
+
+    /**
+     * The maximum number of nodes of the diagram of a group of the transition relation.
+     */
+    private int maxRelationNodes;
+
+    /**
+     * The maximum number of nodes of the diagrams of the search.
+     */
+    private int maxNodes;
+
+    /**
+     * The number of forward layers expanded by the last search.
+     */
+    private int forwardLayers;
+
+    /**
+     * The number of backward layers expanded by the last search.
+     */
+    private int backwardLayers;
+
+    /**
+     * The number of groups of the transition relation of the last search.
+     */
+    private int relations;
+
+    /**
+     * Creates a new forward symbolic search strategy with default parameters.
+     */
+    public SymbolicSearch() {
+        super();
+        this.init(false);
+    }
+
+    /**
+     * Creates a new forward symbolic search strategy.
+     *
+     * @param timeout the time out of the planner.
+     */
+    public SymbolicSearch(final int timeout) {
+        super(timeout);
+        this.init(false);
+    }
+
+    /**
+     * Creates a new symbolic search strategy.
+     *
+     * @param timeout       the time out of the planner.
+     * @param bidirectional the flag used to indicate if the search is bidirectional.
+     */
+    public SymbolicSearch(final int timeout, final boolean bidirectional) {
+        super(timeout);
+        this.init(bidirectional);
+    }
+
+    /**
+     * Initializes the parameters of the strategy with their default value.
+     *
+     * @param bidirectional the flag used to indicate if the search is bidirectional.
+     */
+    private void init(final boolean bidirectional) {
+        this.bidirectional = bidirectional;
+        this.maxRelationNodes = SymbolicSearch.DEFAULT_MAX_RELATION_NODES;
+        this.maxNodes = SymbolicSearch.DEFAULT_MAX_NODES;
+        this.forwardLayers = 0;
+        this.backwardLayers = 0;
+        this.relations = 0;
+    }
+
+    /**
+     * Returns if the search is bidirectional.
+     *
+     * @return <code>true</code> if the search is bidirectional; <code>false</code> if the search is forward only.
+     */
+    public boolean isBidirectional() {
+        return this.bidirectional;
+    }
+
+    /**
+     * Sets if the search is bidirectional.
+     *
+     * @param bidirectional <code>true</code> if the search is bidirectional; <code>false</code> if the search is
+     *                      forward only.
+     */
+    public void setBidirectional(final boolean bidirectional) {
+        this.bidirectional = bidirectional;
+    }
+
+    /**
+     * Returns the maximum number of nodes of the diagram of a group of the transition relation.
+     *
+     * @return the maximum number of nodes of the diagram of a group of the transition relation.
+     */
+    public int getMaxRelationNodes() {
+        return this.maxRelationNodes;
+    }
+
+    /**
+     * Sets the maximum number of nodes of the diagram of a group of the transition relation. A group always contains at
+     * least one operator.
+     *
+     * @param maxRelationNodes the maximum number of nodes. The number must be positive.
+     * @throws IllegalArgumentException if <code>maxRelationNodes &lt; 0</code>.
+     */
+    public void setMaxRelationNodes(final int maxRelationNodes) {
+        if (maxRelationNodes < 0) {
+            throw new IllegalArgumentException("maxRelationNodes < 0");
+        }
+        this.maxRelationNodes = maxRelationNodes;
+    }
+
+    /**
+     * Returns the maximum number of nodes of the diagrams of the search.
+     *
+     * @return the maximum number of nodes of the diagrams of the search.
+     */
+    public int getMaxNodes() {
+        return this.maxNodes;
+    }
+
+    /**
+     * Sets the maximum number of nodes of the diagrams of the search. The search stops without solution when the
+     * diagrams use more nodes after a garbage collection.
+     *
+     * @param maxNodes the maximum number of nodes. The number must be strictly positive.
+     * @throws IllegalArgumentException if <code>maxNodes &lt;= 0</code>.
+     */
+    public void setMaxNodes(final int maxNodes) {
+        if (maxNodes <= 0) {
+            throw new IllegalArgumentException("maxNodes <= 0");
+        }
+        this.maxNodes = maxNodes;
+    }
+
+    /**
+     * Returns the number of forward layers expanded by the last search.
+     *
+     * @return the number of forward layers expanded by the last search.
+     */
+    public int getForwardLayers() {
+        return this.forwardLayers;
+    }
+
+    /**
+     * Returns the number of backward layers expanded by the last search.
+     *
+     * @return the number of backward layers expanded by the last search.
+     */
+    public int getBackwardLayers() {
+        return this.backwardLayers;
+    }
+
+    /**
+     * Returns the number of groups of the transition relation of the last search.
+     *
+     * @return the number of groups of the transition relation of the last search.
+     */
+    public int getRelations() {
+        return this.relations;
+    }
+
+    /**
+     * Solves the planning problem and returns the first solution node found.
+     *
+     * @param codedProblem the problem to be solved. The problem cannot be null.
+     * @return a solution node or null if no solution was found.
+     */
+    @Override
+    public Node search(final CodedProblem codedProblem) {
+        Objects.requireNonNull(codedProblem);
+        final long begin = System.currentTimeMillis();
+        this.resetNodesStatistics();
+        final Encoding encoding = new Encoding(codedProblem);
+        final BDDManager bdd = encoding.bdd;
+        final List<Transition> transitions = encoding.partition(this.maxRelationNodes);
+        this.relations = transitions.size();
+
+        final List<Integer> forward = new ArrayList<>();
+        final List<Integer> backward = new ArrayList<>();
+        forward.add(bdd.ref(encoding.state(new BitState(codedProblem.getInit()))));
+        backward.add(bdd.ref(bdd.and(encoding.exp(codedProblem.getGoal()), encoding.invariant)));
+        int forwardReached = bdd.ref(forward.get(0));
+        int backwardReached = bdd.ref(backward.get(0));
+        int[] meeting = bdd.and(forward.get(0), backward.get(0)) != BDDManager.FALSE ? new int[] {0, 0} : null;
+        boolean exhausted = false;
+        boolean full = false;
+        double explored = 0;
+        double created = 0;
+        final int timeout = this.getTimeout();
+        long searchingTime = 0;
+        while (meeting == null && !exhausted && !full && searchingTime < timeout) {
+            if (!this.bidirectional || bdd.size(forward.get(forward.size() - 1))
+                <= bdd.size(backward.get(backward.size() - 1))) {
+                // Expands the last forward layer
+                final int frontier = forward.get(forward.size() - 1);
+                int layer = BDDManager.FALSE;
+                for (Transition transition : transitions) {
+                    layer = bdd.or(layer, encoding.image(frontier, transition));
+                }
+                layer = bdd.diff(layer, forwardReached);
+                explored += encoding.count(frontier);
+                created += encoding.count(layer);
+                exhausted = layer == BDDManager.FALSE;
+                if (!exhausted) {
+                    forward.add(bdd.ref(layer));
+                    final int reached = forwardReached;
+                    forwardReached = bdd.ref(bdd.or(reached, layer));
+                    bdd.deref(reached);
+                    if (bdd.and(layer, backwardReached) != BDDManager.FALSE) {
+                        meeting = new int[] {forward.size() - 1, SymbolicSearch.first(bdd, backward, layer)};
+                    }
+                }
+            } else {
+                // Expands the last backward layer
+                final int frontier = backward.get(backward.size() - 1);
+                int layer = BDDManager.FALSE;
+                for (Transition transition : transitions) {
+                    layer = bdd.or(layer, encoding.preimage(frontier, transition));
+                }
+                // The predecessors that violate a mutex group are not reachable
+                layer = bdd.diff(bdd.and(layer, encoding.invariant), backwardReached);
+                explored += encoding.count(frontier);
+                created += encoding.count(layer);
+                exhausted = layer == BDDManager.FALSE;
+                if (!exhausted) {
+                    backward.add(bdd.ref(layer));
+                    final int reached = backwardReached;
+                    backwardReached = bdd.ref(bdd.or(reached, layer));
+                    bdd.deref(reached);
+                    if (bdd.and(layer, forwardReached) != BDDManager.FALSE) {
+                        meeting = new int[] {SymbolicSearch.first(bdd, forward, layer), backward.size() - 1};
+                    }
+                }
+            }
+            if (bdd.collect()) {
+                full = bdd.getNodeCount() > this.maxNodes;
+            }
+            searchingTime = System.currentTimeMillis() - begin;
+        }
+        if (full) {
+            Planner.getLogger().trace("* search stopped: maximum of " + this.maxNodes + " BDD nodes reached\n");
+        }
+        this.forwardLayers = forward.size() - 1;
+        this.backwardLayers = backward.size() - 1;
+        final Node solution = meeting != null ? this.extract(encoding, forward, backward, meeting[0], meeting[1])
+            : null;
+        if (solution != null) {
+            fireSolution(new SolutionEvent(this, solution, codedProblem));
+        }
+
+        this.setCreatedNodes((int) Math.min(Integer.MAX_VALUE, created));
+        this.setExploredNodes((int) Math.min(Integer.MAX_VALUE, explored));
+        this.setPendingNodes(0);
+        this.setMemoryUsed(MemoryAgent.getDeepSizeOf(bdd));
+        this.setSearchingTime(System.currentTimeMillis() - begin);
+        return solution;
+    }
+
+    /**
+     * Returns the index of the first layer that intersects a set of states.
+     *
+     * @param bdd    the manager of the diagrams.
+     * @param layers the layers.
+     * @param states the set of states.
+     * @return the index of the first layer that intersects the set of states.
+     */
+    private static int first(final BDDManager bdd, final List<Integer> layers, final int states) {
+        int index = 0;
+        while (bdd.and(layers.get(index), states) == BDDManager.FALSE) {
+            index++;
+        }
+        return index;
+    }
+
+    /**
+     * Extracts the solution node of a state that belongs to a forward layer and to a backward layer.
+     *
+     * @param encoding the encoding of the problem.
+     * @param forward  the forward layers.
+     * @param backward the backward layers.
+     * @param depth    the index of the forward layer of the state.
+     * @param distance the index of the backward layer of the state.
+     * @return the solution node.
+     */
+    private Node extract(final Encoding encoding, final List<Integer> forward, final List<Integer> backward,
+                         final int depth, final int distance) {
+        final BDDManager bdd = encoding.bdd;
+        final List<BitOp> operators = encoding.problem.getOperators();
+        final int[] plan = new int[depth + distance];
+        final BitState meeting = encoding.decode(bdd.satOne(bdd.and(forward.get(depth), backward.get(distance))));
+        // Searches a predecessor of each state in the previous forward layer
+        BitState current = meeting;
+        for (int d = depth; d > 0; d--) {
+            final int state = encoding.state(current);
+            int predecessors = BDDManager.FALSE;
+            int index = 0;
+            while (predecessors == BDDManager.FALSE) {
+                predecessors = bdd.and(forward.get(d - 1), encoding.preimage(state, encoding.transition(index)));
+                index++;
+            }
+            plan[d - 1] = index - 1;
+            current = encoding.decode(bdd.satOne(predecessors));
+        }
+        // Searches a successor of each state in the next backward layer
+        current = meeting;
+        for (int d = distance; d > 0; d--) {
+            int index = 0;
+            BitState successor = null;
+            while (successor == null) {
+                final BitOp op = operators.get(index);
+                if (op.isApplicable(current)) {
+                    successor = SymbolicSearch.apply(op, current);
+                    if (!bdd.evaluate(backward.get(d - 1), encoding.assignment(successor))) {
+                        successor = null;
+                    }
+                }
+                index++;
+            }
+            plan[depth + distance - d] = index - 1;
+            current = successor;
+        }
+        Node node = new Node(new BitState(encoding.problem.getInit()), null, -1, 0.0, 0, 0.0);
+        for (int i = 0; i < plan.length; i++) {
+            final BitOp op = operators.get(plan[i]);
+            node = new Node(SymbolicSearch.apply(op, node), node, plan[i], node.getCost() + op.getCost(), i + 1, 0.0);
+        }
+        return node;
+    }
+
+    /**
+     * Returns the successor of a state by an operator.
+     *
+     * @param op    the operator.
+     * @param state the state.
+     * @return the successor of the state.
+     */
+    private static BitState apply(final BitOp op, final BitState state) {
+        final BitState successor = new BitState(state);
+        op.getCondEffects().stream().filter(ce -> state.satisfy(ce.getCondition()))
+            .forEach(ce -> successor.apply(ce.getEffects()));
+        return successor;
+    }
+
+    /**
+     * Returns the order of the facts in the diagrams. The facts of a mutex group are adjacent and the groups are
+     * ordered greedily by the number of operators that they share with the groups already ordered.
+     *
+     * @param problem   the problem.
+     * @param variables the state variables of the problem.
+     * @return the facts in the order of the diagrams.
+     */
+    private static int[] order(final CodedProblem problem, final StateVariables variables) {
+        final int size = variables.size();
+        final int[][] weights = new int[size][size];
+        for (BitOp op : problem.getOperators()) {
+            final BitVector facts = new BitVector();
+            SymbolicSearch.collect(op.getPreconditions(), facts);
+            for (CondBitExp ce : op.getCondEffects()) {
+                SymbolicSearch.collect(ce.getCondition(), facts);
+                SymbolicSearch.collect(ce.getEffects(), facts);
+            }
+            final int[] related = facts.stream().map(variables::getVariable).distinct().toArray();
+            for (int i = 0; i < related.length; i++) {
+                for (int j = i + 1; j < related.length; j++) {
+                    weights[related[i]][related[j]]++;
+                    weights[related[j]][related[i]]++;
+                }
+            }
+        }
+        final long[] scores = new long[size];
+        for (int v = 0; v < size; v++) {
+            for (int u = 0; u < size; u++) {
+                scores[v] += weights[v][u];
+            }
+        }
+        final boolean[] ordered = new boolean[size];
+        final int[] order = new int[problem.getRelevantFacts().size()];
+        int position = 0;
+        for (int i = 0; i < size; i++) {
+            int best = -1;
+            for (int v = 0; v < size; v++) {
+                if (!ordered[v] && (best == -1 || scores[v] > scores[best])) {
+                    best = v;
+                }
+            }
+            ordered[best] = true;
+            for (int fact : variables.getFacts(best)) {
+                order[position++] = fact;
+            }
+            // The scores of the next groups are their weights with the groups already ordered
+            if (i == 0) {
+                Arrays.fill(scores, 0);
+            }
+            for (int v = 0; v < size; v++) {
+                scores[v] += weights[best][v];
+            }
+        }
+        return order;
+    }
+
+    /**
+     * Adds the facts of an expression to a set of facts.
+     *
+     * @param exp   the expression.
+     * @param facts the set of facts.
+     */
+    private static void collect(final BitExp exp, final BitVector facts) {
+        facts.or(exp.getPositive());
+        facts.or(exp.getNegative());
+    }
+
+    /**
+     * This class implements a group of the transition relation.
+     */
+    private static final class Transition {
+
+        /**
+         * The diagram of the relation.
+         */
+        private int relation;
+
+        /**
+         * The facts modified by the operators of the group.
+         */
+        private BitVector modified;
+
+        /**
+         * The conjunction of the current variables of the facts modified.
+         */
+        private int currentCube;
+
+        /**
+         * The conjunction of the next variables of the facts modified.
+         */
+        private int nextCube;
+
+        /**
+         * The renaming of the current variables of the facts modified into their next variables.
+         */
+        private int[] toNext;
+
+        /**
+         * Creates a new group.
+         *
+         * @param relation the diagram of the relation.
+         * @param modified the facts modified by the operators of the group.
+         */
+        private Transition(final int relation, final BitVector modified) {
+            this.relation = relation;
+            this.modified = modified;
+        }
+    }
+
+    /**
+     * This class implements the encoding of a planning problem with binary decision diagrams.
+     */
+    private static final class Encoding {
+
+        /**
+         * The problem.
+         */
+        private final CodedProblem problem;
+
+        /**
+         * The manager of the diagrams.
+         */
+        private final BDDManager bdd;
+
+        /**
+         * The level of the current variable of each fact.
+         */
+        private final int[] current;
+
+        /**
+         * The level of the next variable of each fact.
+         */
+        private final int[] next;
+
+        /**
+         * The renaming of the next variables into the current variables.
+         */
+        private final int[] toCurrent;
+
+        /**
+         * The transition of each operator, created when needed.
+         */
+        private final Transition[] operators;
+
+        /**
+         * The diagram of the mutex groups of the problem, satisfied by all the reachable states.
+         */
+        private final int invariant;
+
+        /**
+         * Creates the encoding of a planning problem.
+         *
+         * @param problem the problem.
+         */
+        private Encoding(final CodedProblem problem) {
+            this.problem = problem;
+            final StateVariables variables = new StateVariables(problem);
+            final int[] order = SymbolicSearch.order(problem, variables);
+            this.bdd = new BDDManager(2 * order.length);
+            this.current = new int[order.length];
+            this.next = new int[order.length];
+            this.toCurrent = new int[2 * order.length];
+            for (int position = 0; position < order.length; position++) {
+                this.current[order[position]] = 2 * position;
+                this.next[order[position]] = 2 * position + 1;
+                this.toCurrent[2 * position] = 2 * position;
+                this.toCurrent[2 * position + 1] = 2 * position;
+            }
+            this.operators = new Transition[problem.getOperators().size()];
+            int invariant = BDDManager.TRUE;
+            for (int v = 0; v < variables.size(); v++) {
+                // The states where none of the facts of the group holds and where exactly one of them holds
+                int none = BDDManager.TRUE;
+                int one = BDDManager.FALSE;
+                for (int f : variables.getFacts(v)) {
+                    one = this.bdd.or(this.bdd.and(one, this.bdd.nvar(this.current[f])),
+                        this.bdd.and(none, this.bdd.var(this.current[f])));
+                    none = this.bdd.and(none, this.bdd.nvar(this.current[f]));
+                }
+                invariant = this.bdd.and(invariant, variables.isExactlyOne(v) ? one : this.bdd.or(one, none));
+            }
+            this.invariant = this.bdd.ref(invariant);
+        }
+
+        /**
+         * Returns the diagram of an expression over the current variables.
+         *
+         * @param exp the expression.
+         * @return the diagram of the expression.
+         */
+        private int exp(final BitExp exp) {
+            int result = BDDManager.TRUE;
+            final BitVector positive = exp.getPositive();
+            for (int f = positive.nextSetBit(0); f >= 0; f = positive.nextSetBit(f + 1)) {
+                result = this.bdd.and(result, this.bdd.var(this.current[f]));
+            }
+            final BitVector negative = exp.getNegative();
+            for (int f = negative.nextSetBit(0); f >= 0; f = negative.nextSetBit(f + 1)) {
+                result = this.bdd.and(result, this.bdd.nvar(this.current[f]));
+            }
+            return result;
+        }
+
+        /**
+         * Returns the diagram of a state over the current variables.
+         *
+         * @param state the state.
+         * @return the diagram of the state.
+         */
+        private int state(final BitState state) {
+            int result = BDDManager.TRUE;
+            for (int f = 0; f < this.current.length; f++) {
+                result = this.bdd.and(result, state.get(f) ? this.bdd.var(this.current[f])
+                    : this.bdd.nvar(this.current[f]));
+            }
+            return result;
+        }
+
+        /**
+         * Returns the assignment of the current variables of a state.
+         *
+         * @param state the state.
+         * @return the assignment of the variables indexed by level.
+         */
+        private boolean[] assignment(final BitState state) {
+            final boolean[] assignment = new boolean[this.bdd.getVariables()];
+            for (int f = state.nextSetBit(0); f >= 0 && f < this.current.length; f = state.nextSetBit(f + 1)) {
+                assignment[this.current[f]] = true;
+            }
+            return assignment;
+        }
+
+        /**
+         * Returns the state of an assignment of the current variables.
+         *
+         * @param assignment the assignment of the variables indexed by level.
+         * @return the state.
+         */
+        private BitState decode(final boolean[] assignment) {
+            final BitState state = new BitState();
+            for (int f = 0; f < this.current.length; f++) {
+                if (assignment[this.current[f]]) {
+                    state.set(f);
+                }
+            }
+            return state;
+        }
+
+        /**
+         * Returns the number of states of a diagram over the current variables.
+         *
+         * @param states the diagram.
+         * @return the number of states.
+         */
+        private double count(final int states) {
+            return Math.scalb(this.bdd.satCount(states), -this.next.length);
+        }
+
+        /**
+         * Returns the image of a set of states through a group of the transition relation.
+         *
+         * @param states     the set of states.
+         * @param transition the group.
+         * @return the successors of the states.
+         */
+        private int image(final int states, final Transition transition) {
+            return this.bdd.replace(this.bdd.relProd(states, transition.relation, transition.currentCube),
+                this.toCurrent);
+        }
+
+        /**
+         * Returns the preimage of a set of states through a group of the transition relation.
+         *
+         * @param states     the set of states.
+         * @param transition the group.
+         * @return the predecessors of the states.
+         */
+        private int preimage(final int states, final Transition transition) {
+            return this.bdd.relProd(this.bdd.replace(states, transition.toNext), transition.relation,
+                transition.nextCube);
+        }
+
+        /**
+         * Returns the transition of an operator.
+         *
+         * @param index the index of the operator.
+         * @return the transition of the operator.
+         */
+        private Transition transition(final int index) {
+            if (this.operators[index] == null) {
+                final Transition transition = this.create(this.problem.getOperators().get(index));
+                this.bdd.ref(transition.relation);
+                this.complete(transition);
+                this.operators[index] = transition;
+            }
+            return this.operators[index];
+        }
+
+        /**
+         * Partitions the transition relation in groups of operators. The operators are added in their order to the
+         * last group as long as the diagram of the group does not exceed a maximum number of nodes.
+         *
+         * @param limit the maximum number of nodes of the diagram of a group.
+         * @return the groups.
+         */
+        private List<Transition> partition(final int limit) {
+            final List<Transition> transitions = new ArrayList<>();
+            Transition group = null;
+            for (BitOp op : this.problem.getOperators()) {
+                final Transition transition = this.create(op);
+                if (group == null) {
+                    group = transition;
+                } else {
+                    final Transition merged = this.merge(group, transition);
+                    if (this.bdd.size(merged.relation) <= limit) {
+                        this.bdd.deref(group.relation);
+                        group = merged;
+                    } else {
+                        this.complete(group);
+                        transitions.add(group);
+                        group = transition;
+                    }
+                }
+                this.bdd.ref(group.relation);
+                this.bdd.collect();
+            }
+            if (group != null) {
+                this.complete(group);
+                transitions.add(group);
+            }
+            return transitions;
+        }
+
+        /**
+         * Creates the transition of an operator. The relation of the operator is the conjunction of its preconditions
+         * and, for each fact modified, of the equivalence of its next variable with the value of the fact after the
+         * conditional effects of the operator applied in their order.
+         *
+         * @param op the operator.
+         * @return the transition of the operator.
+         */
+        private Transition create(final BitOp op) {
+            final BitVector modified = new BitVector();
+            for (CondBitExp ce : op.getCondEffects()) {
+                SymbolicSearch.collect(ce.getEffects(), modified);
+            }
+            int relation = this.exp(op.getPreconditions());
+            for (int f = modified.nextSetBit(0); f >= 0; f = modified.nextSetBit(f + 1)) {
+                int value = this.bdd.var(this.current[f]);
+                for (CondBitExp ce : op.getCondEffects()) {
+                    if (ce.getEffects().getNegative().get(f)) {
+                        value = this.bdd.diff(value, this.exp(ce.getCondition()));
+                    } else if (ce.getEffects().getPositive().get(f)) {
+                        value = this.bdd.or(value, this.exp(ce.getCondition()));
+                    }
+                }
+                relation = this.bdd.and(relation, this.bdd.biimp(this.bdd.var(this.next[f]), value));
+            }
+            return new Transition(relation, modified);
+        }
+
+        /**
+         * Merges two transitions. The relation of each transition is completed with the frame axioms of the facts
+         * modified only by the other one.
+         *
+         * @param t1 the first transition.
+         * @param t2 the second transition.
+         * @return the transition merged.
+         */
+        private Transition merge(final Transition t1, final Transition t2) {
+            final BitVector modified = new BitVector(t1.modified);
+            modified.or(t2.modified);
+            final BitVector only1 = new BitVector(t1.modified);
+            only1.andNot(t2.modified);
+            final BitVector only2 = new BitVector(t2.modified);
+            only2.andNot(t1.modified);
+            final int relation = this.bdd.or(this.bdd.and(t1.relation, this.frame(only2)),
+                this.bdd.and(t2.relation, this.frame(only1)));
+            return new Transition(relation, modified);
+        }
+
+        /**
+         * Returns the frame axioms of a set of facts, i.e., the conjunction of the equivalences of their current and
+         * next variables.
+         *
+         * @param facts the set of facts.
+         * @return the frame axioms of the facts.
+         */
+        private int frame(final BitVector facts) {
+            int frame = BDDManager.TRUE;
+            for (int f = facts.nextSetBit(0); f >= 0; f = facts.nextSetBit(f + 1)) {
+                frame = this.bdd.and(frame, this.bdd.biimp(this.bdd.var(this.current[f]),
+                    this.bdd.var(this.next[f])));
+            }
+            return frame;
+        }
+
+        /**
+         * Computes the cubes and the renaming of a transition.
+         *
+         * @param transition the transition.
+         */
+        private void complete(final Transition transition) {
+            final int[] currents = transition.modified.stream().map(f -> this.current[f]).toArray();
+            final int[] nexts = transition.modified.stream().map(f -> this.next[f]).toArray();
+            transition.currentCube = this.bdd.ref(this.bdd.cube(currents));
+            transition.nextCube = this.bdd.ref(this.bdd.cube(nexts));
+            transition.toNext = new int[this.bdd.getVariables()];
+            for (int level = 0; level < transition.toNext.length; level++) {
+                transition.toNext[level] = level;
+            }
+            for (int f = transition.modified.nextSetBit(0); f >= 0; f = transition.modified.nextSetBit(f + 1)) {
+                transition.toNext[this.current[f]] = this.next[f];
+            }
+        }
+    }
+}
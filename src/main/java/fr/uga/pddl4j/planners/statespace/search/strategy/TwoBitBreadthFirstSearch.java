@@ -0,0 +1,618 @@
+/*
+ * Copyright (c) 2016 by Damien Pellier <Damien.Pellier@imag.fr>.
+ *
+ * This file is part of PDDL4J library.
+ *
+ * PDDL4J is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * PDDL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with PDDL4J.  If not, see
+ * <http://www.gnu.org/licenses/>
+ */
+
+package fr.uga.pddl4j.planners.statespace.search.strategy;
+
+import fr.uga.pddl4j.encoding.CodedProblem;
+import fr.uga.pddl4j.planners.Planner;
+import fr.uga.pddl4j.util.BitExp;
+import fr.uga.pddl4j.util.BitOp;
+import fr.uga.pddl4j.util.BitState;
+import fr.uga.pddl4j.util.SolutionEvent;
+import fr.uga.pddl4j.util.StateRanking;
+import fr.uga.pddl4j.util.TwoBitArray;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * This class implements a breadth first search strategy with two bits per state (R. E. Korf, "Minimizing disk I/O in
+ * two-bit breadth-first search", AAAI, 2008). The states are ranked by a perfect hash function over the mutex groups
+ * of the problem and the search uses an array of two bits indexed by the ranks instead of nodes. As in Korf's
+ * encoding, an entry is either unseen, in the current layer, in the next layer or old. A layer is expanded by scanning
+ * the array for the entries of the current layer: each entry expanded is labeled old and its unseen successors are
+ * labeled with the next layer. The labels of the current and next layers are swapped after each layer, so that each
+ * state is expanded exactly once and the whole reachable state space can be explored with a quarter of a byte per
+ * possible state. The array is stored in the heap or, if a mapped directory is set, in a file mapped in memory.
+ * <p>
+ * As the array does not store the parents nor the depths of the states, the plan is rebuilt backward from the goal
+ * state by searching in the layer of depth <i>d - 1</i> a predecessor of the state of depth <i>d</i>. The search is
+ * replayed up to the depth <i>d - 1</i> before each step, so that this layer is the current layer of the array. The
+ * plan returned is a shortest plan in number of actions, i.e., an optimal plan if the operators have a unit cost.
+ * </p>
+ * <p>
+ * The strategy also provides an exhaustive analysis of the state space with {@link #analyze(CodedProblem)}: the number
+ * of states of each layer, the number of states at each distance from the goal computed by backward passes over the
+ * array, the optimal plan length from the initial state and the reachable dead ends, which are recorded in the dead
+ * end registry of the strategy if any. The ranking only applies to the problems with a number of possible states
+ * lower than the maximum number of states of the strategy.
+ * </p>
+ *
+ * @author PDDL4J contributors
+ * @version 1.0 - 19.10.2026
+ * @see StateRanking
+ * @see TwoBitArray
+ */
+public final class TwoBitBreadthFirstSearch extends AbstractStateSpaceStrategy {
+
+    /**
+     * The serial id of the class.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The default maximum number of possible states, i.e., 2^32 states or 1 GB.
+     */
+    public static final long DEFAULT_MAX_STATES = 1L << 32;
+
+    /**
+     * The label of the unseen states during the search.
+     */
+    private static final int UNSEEN = 3;
+
+    /**
+     * The label of the states already expanded during the search. The states of the current and the next layers are
+     * labeled alternately with 0 and 1.
+     */
+    private static final int OLD = 2;
+
+    /**
+     * The label of the unreachable states during the analysis.
+     */
+    private static final int UNREACHABLE = 0;
+
+    /**
+     * The label of the reachable states not known to reach the goal during the analysis.
+     */
+    private static final int UNKNOWN = 1;
+
+    /**
+     * The label of the states that reach the goal during the analysis.
+     */
+    private static final int ALIVE = 2;
+
+    /**
+     * The label of the states that reach the goal found during the current backward pass of the analysis.
+     */
+    private static final int FOUND = 3;
+
+    /**
+     * The mask of the ranks at which the time out is checked.
+     */
+    private static final long TIME_CHECK = (1L << 16) - 1;
+
+    /**
+     * The maximum number of possible states of the problems.
+     */
+    private long maxStates;
+
+    /**
+     * The path of the directory of the mapped files or null if the array is stored in the heap.
+     */
+    private String mappedDirectory;
+
+    /**
+     * The number of states of each layer of the last search or analysis.
+     */
+    private ArrayList<Long> layerSizes;
+
+    /**
+     * The number of states at each distance from the goal computed by the last analysis.
+     */
+    private ArrayList<Long> goalDistanceSizes;
+
+    /**
+     * The number of reachable states computed by the last analysis.
+     */
+    private long reachableStates;
+
+    /**
+     * The number of reachable dead ends computed by the last analysis.
+     */
+    private long deadEnds;
+
+    /**
+     * The distance from the initial state to the goal computed by the last analysis.
+     */
+    private int initialGoalDistance;
+
+    /**
+     * The number of states expanded.
+     */
+    private long expanded;
+
+    /**
+     * The number of successors generated.
+     */
+    private long generated;
+
+    /**
+     * The flag used to indicate if the time out was reached.
+     */
+    private boolean timedOut;
+
+    /**
+     * Creates a new two bits breadth first search strategy with default parameters.
+     */
+    public TwoBitBreadthFirstSearch() {
+        super();
+        this.init();
+    }
+
+    /**
+     * Creates a new two bits breadth first search strategy.
+     *
+     * @param timeout the time out of the planner.
+     */
+    public TwoBitBreadthFirstSearch(final int timeout) {
+        super(timeout);
+        this.init();
+    }
+
+    /**
+     * Initializes the parameters of the strategy with their default value.
+     */
+    private void init() {
+        this.maxStates = TwoBitBreadthFirstSearch.DEFAULT_MAX_STATES;
+        this.mappedDirectory = null;
+        this.reset();
+    }
+
+    /**
+     * Returns the maximum number of possible states of the problems.
+     *
+     * @return the maximum number of possible states of the problems.
+     */
+    public long getMaxStates() {
+        return this.maxStates;
+    }
+
+    /**
+     * Sets the maximum number of possible states of the problems, i.e., the maximum number of entries of the array.
+     *
+     * @param maxStates the maximum number of possible states. The number must be strictly positive.
+     * @throws IllegalArgumentException if <code>maxStates &lt;= 0</code>.
+     */
+    public void setMaxStates(final long maxStates) {
+        if (maxStates <= 0) {
+            throw new IllegalArgumentException("maxStates <= 0");
+        }
+        this.maxStates = maxStates;
+    }
+
+    /**
+     * Returns the directory of the mapped files.
+     *
+     * @return the directory of the mapped files or null if the array is stored in the heap.
+     */
+    public Path getMappedDirectory() {
+        return this.mappedDirectory == null ? null : Paths.get(this.mappedDirectory);
+    }
+
+    /**
+     * Sets the directory of the mapped files. The directory must be on a local file system and is created if it does
+     * not exist.
+     *
+     * @param mappedDirectory the directory of the mapped files or null to store the array in the heap.
+     */
+    public void setMappedDirectory(final Path mappedDirectory) {
+        this.mappedDirectory = mappedDirectory == null ? null : mappedDirectory.toString();
+    }
+
+    /**
+     * Returns the number of states of each layer of the last search or analysis. The layers of a search are counted
+     * until the goal is reached.
+     *
+     * @return the number of states of each layer of the last search or analysis.
+     */
+    public List<Long> getLayerSizes() {
+        return Collections.unmodifiableList(this.layerSizes);
+    }
+
+    /**
+     * Returns the number of states at each distance from the goal computed by the last analysis. The states that do
+     * not reach the goal are not counted.
+     *
+     * @return the number of states at each distance from the goal computed by the last analysis.
+     */
+    public List<Long> getGoalDistanceSizes() {
+        return Collections.unmodifiableList(this.goalDistanceSizes);
+    }
+
+    /**
+     * Returns the number of reachable states computed by the last analysis.
+     *
+     * @return the number of reachable states computed by the last analysis.
+     */
+    public long getReachableStates() {
+        return this.reachableStates;
+    }
+
+    /**
+     * Returns the number of reachable dead ends, i.e., the reachable states that do not reach the goal, computed by
+     * the last analysis.
+     *
+     * @return the number of reachable dead ends computed by the last analysis.
+     */
+    public long getDeadEnds() {
+        return this.deadEnds;
+    }
+
+    /**
+     * Returns the distance from the initial state to the goal, i.e., the length of the shortest plans, computed by the
+     * last analysis.
+     *
+     * @return the distance from the initial state to the goal or -1 if the goal is not reachable.
+     */
+    public int getInitialGoalDistance() {
+        return this.initialGoalDistance;
+    }
+
+    /**
+     * Solves the planning problem and returns the first solution node found.
+     *
+     * @param codedProblem the problem to be solved. The problem cannot be null.
+     * @return a solution node or null if no solution was found.
+     * @throws UncheckedIOException if the mapped file cannot be created.
+     */
+    @Override
+    public Node search(final CodedProblem codedProblem) {
+        Objects.requireNonNull(codedProblem);
+        final long begin = System.currentTimeMillis();
+        this.reset();
+        this.resetNodesStatistics();
+        final StateRanking ranking = new StateRanking(codedProblem);
+        if (!this.isRankable(ranking)) {
+            return null;
+        }
+        Node solution = null;
+        try (TwoBitArray labels = this.createArray(ranking.size())) {
+            final long goal = this.explore(codedProblem, ranking, labels, Integer.MAX_VALUE, true, this.layerSizes,
+                begin);
+            if (goal >= 0) {
+                solution = this.extract(codedProblem, ranking, labels, goal, this.layerSizes.size() - 1, begin);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (solution != null) {
+            fireSolution(new SolutionEvent(this, solution, codedProblem));
+        }
+        this.setStatistics(ranking, begin);
+        return solution;
+    }
+
+    /**
+     * Explores exhaustively the state space of a planning problem. The results of the analysis are available from the
+     * getters of the strategy.
+     *
+     * @param problem the problem to analyze. The problem cannot be null.
+     * @return the number of reachable states or -1 if the problem has too many possible states or if the time out was
+     *     reached.
+     * @throws UncheckedIOException if the mapped file cannot be created.
+     */
+    public long analyze(final CodedProblem problem) {
+        Objects.requireNonNull(problem);
+        final long begin = System.currentTimeMillis();
+        this.reset();
+        this.resetNodesStatistics();
+        final StateRanking ranking = new StateRanking(problem);
+        if (!this.isRankable(ranking)) {
+            return -1;
+        }
+        if (this.getDeadEndRegistry() != null) {
+            this.getDeadEndRegistry().bind(problem);
+        }
+        try (TwoBitArray labels = this.createArray(ranking.size())) {
+            this.explore(problem, ranking, labels, Integer.MAX_VALUE, false, this.layerSizes, begin);
+            if (!this.timedOut) {
+                this.reachableStates = this.layerSizes.stream().mapToLong(Long::longValue).sum();
+                this.analyze(problem, ranking, labels, begin);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        this.setStatistics(ranking, begin);
+        return this.timedOut ? -1 : this.reachableStates;
+    }
+
+    /**
+     * Computes the distance to the goal of the reachable states by backward passes over the array labeled by an
+     * exhaustive exploration. A pass labels the states with a successor that reaches the goal, so that the states
+     * found by the pass <i>i</i> are at distance <i>i</i> from the goal. The states never found are the dead ends.
+     *
+     * @param problem the problem to analyze.
+     * @param ranking the ranking of the states.
+     * @param labels  the labels of the states.
+     * @param begin   the time at which the analysis began.
+     */
+    private void analyze(final CodedProblem problem, final StateRanking ranking, final TwoBitArray labels,
+                         final long begin) {
+        final BitExp goal = problem.getGoal();
+        final BitState state = new BitState();
+        long found = 0;
+        for (long rank = 0; rank < labels.size(); rank++) {
+            if (labels.get(rank) == TwoBitBreadthFirstSearch.UNSEEN) {
+                labels.set(rank, TwoBitBreadthFirstSearch.UNREACHABLE);
+            } else {
+                ranking.unrank(rank, state);
+                if (state.satisfy(goal)) {
+                    labels.set(rank, TwoBitBreadthFirstSearch.ALIVE);
+                    found++;
+                } else {
+                    labels.set(rank, TwoBitBreadthFirstSearch.UNKNOWN);
+                }
+            }
+        }
+        final long init = ranking.rank(new BitState(problem.getInit()));
+        int distance = 0;
+        while (found > 0 && !this.timedOut) {
+            this.goalDistanceSizes.add(found);
+            if (this.initialGoalDistance < 0 && labels.get(init) == TwoBitBreadthFirstSearch.ALIVE) {
+                this.initialGoalDistance = distance;
+            }
+            found = 0;
+            distance++;
+            for (long rank = 0; rank < labels.size() && !this.isTimedOut(rank, begin); rank++) {
+                if (labels.get(rank) == TwoBitBreadthFirstSearch.UNKNOWN) {
+                    ranking.unrank(rank, state);
+                    this.expanded++;
+                    for (BitOp op : problem.getOperators()) {
+                        if (op.isApplicable(state)) {
+                            final BitState successor = new BitState(state);
+                            op.getCondEffects().stream().filter(ce -> state.satisfy(ce.getCondition()))
+                                .forEach(ce -> successor.apply(ce.getEffects()));
+                            this.generated++;
+                            if (labels.get(ranking.rank(successor)) == TwoBitBreadthFirstSearch.ALIVE) {
+                                labels.set(rank, TwoBitBreadthFirstSearch.FOUND);
+                                found++;
+                                break;
+                            }
+                        }
+                    }
+                }
+            }
+            for (long rank = 0; rank < labels.size() && found > 0; rank++) {
+                if (labels.get(rank) == TwoBitBreadthFirstSearch.FOUND) {
+                    labels.set(rank, TwoBitBreadthFirstSearch.ALIVE);
+                }
+            }
+        }
+        if (!this.timedOut) {
+            final DeadEndRegistry registry = this.getDeadEndRegistry();
+            for (long rank = 0; rank < labels.size(); rank++) {
+                if (labels.get(rank) == TwoBitBreadthFirstSearch.UNKNOWN) {
+                    this.deadEnds++;
+                    if (registry != null) {
+                        registry.add(ranking.unrank(rank));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Explores the state space of a planning problem in breadth first order. The states of the layer of a depth are
+     * labeled with the depth modulo 2 and labeled old once expanded. When the exploration stops at the depth limit,
+     * the states of the last layer are not expanded and keep their label. The states that were not reached are
+     * labeled as unseen.
+     *
+     * @param problem    the problem to explore.
+     * @param ranking    the ranking of the states.
+     * @param labels     the labels of the states.
+     * @param limit      the depth of the last layer labeled.
+     * @param stopAtGoal the flag used to indicate if the exploration stops as soon as a goal state is labeled.
+     * @param sizes      the list in which the number of states of each layer is stored.
+     * @param begin      the time at which the search began.
+     * @return the rank of the goal state labeled or -1 if no goal state was labeled.
+     */
+    private long explore(final CodedProblem problem, final StateRanking ranking, final TwoBitArray labels,
+                         final int limit, final boolean stopAtGoal, final List<Long> sizes, final long begin) {
+        final BitExp goal = problem.getGoal();
+        final BitState init = new BitState(problem.getInit());
+        final long root = ranking.rank(init);
+        labels.fill(TwoBitBreadthFirstSearch.UNSEEN);
+        labels.set(root, 0);
+        sizes.clear();
+        sizes.add(1L);
+        if (stopAtGoal && init.satisfy(goal)) {
+            return root;
+        }
+        final BitState state = new BitState();
+        for (int depth = 0; depth < limit && sizes.get(depth) > 0 && !this.timedOut; depth++) {
+            final int current = depth % 2;
+            final int next = (depth + 1) % 2;
+            long size = 0;
+            for (long rank = 0; rank < labels.size() && !this.isTimedOut(rank, begin); rank++) {
+                if (labels.get(rank) == current) {
+                    labels.set(rank, TwoBitBreadthFirstSearch.OLD);
+                    ranking.unrank(rank, state);
+                    this.expanded++;
+                    for (BitOp op : problem.getOperators()) {
+                        if (op.isApplicable(state)) {
+                            final BitState successor = new BitState(state);
+                            op.getCondEffects().stream().filter(ce -> state.satisfy(ce.getCondition()))
+                                .forEach(ce -> successor.apply(ce.getEffects()));
+                            this.generated++;
+                            final long index = ranking.rank(successor);
+                            if (labels.get(index) == TwoBitBreadthFirstSearch.UNSEEN) {
+                                labels.set(index, next);
+                                size++;
+                                if (stopAtGoal && successor.satisfy(goal)) {
+                                    sizes.add(size);
+                                    return index;
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+            sizes.add(size);
+        }
+        if (sizes.get(sizes.size() - 1) == 0) {
+            sizes.remove(sizes.size() - 1);
+        }
+        return -1;
+    }
+
+    /**
+     * Extracts the solution node of a goal state labeled by the exploration. The predecessors are searched backward
+     * layer by layer and the exploration is replayed up to the layer of the predecessors before each step.
+     *
+     * @param problem the problem to be solved.
+     * @param ranking the ranking of the states.
+     * @param labels  the labels of the states.
+     * @param goal    the rank of the goal state.
+     * @param depth   the depth of the goal state.
+     * @param begin   the time at which the search began.
+     * @return the solution node or null if the time out was reached.
+     */
+    private Node extract(final CodedProblem problem, final StateRanking ranking, final TwoBitArray labels,
+                         final long goal, final int depth, final long begin) {
+        final long[] ranks = new long[depth + 1];
+        final int[] operators = new int[depth + 1];
+        ranks[depth] = goal;
+        operators[0] = -1;
+        final BitState current = new BitState();
+        final BitState state = new BitState();
+        final List<Long> sizes = new ArrayList<>();
+        for (int d = depth; d > 0 && !this.timedOut; d--) {
+            // The predecessors are the states of the current layer once the exploration is replayed up to d - 1
+            this.explore(problem, ranking, labels, d - 1, false, sizes, begin);
+            ranking.unrank(ranks[d], current);
+            final int label = (d - 1) % 2;
+            boolean found = false;
+            for (long rank = 0; rank < labels.size() && !found && !this.isTimedOut(rank, begin); rank++) {
+                if (labels.get(rank) == label) {
+                    ranking.unrank(rank, state);
+                    int index = 0;
+                    for (BitOp op : problem.getOperators()) {
+                        if (!found && op.isApplicable(state)) {
+                            final BitState successor = new BitState(state);
+                            op.getCondEffects().stream().filter(ce -> state.satisfy(ce.getCondition()))
+                                .forEach(ce -> successor.apply(ce.getEffects()));
+                            if (successor.equals(current)) {
+                                ranks[d - 1] = rank;
+                                operators[d] = index;
+                                found = true;
+                            }
+                        }
+                        index++;
+                    }
+                }
+            }
+        }
+        if (this.timedOut) {
+            return null;
+        }
+        Node node = null;
+        for (int d = 0; d <= depth; d++) {
+            final double cost = node == null ? 0.0
+                : node.getCost() + problem.getOperators().get(operators[d]).getCost();
+            node = new Node(ranking.unrank(ranks[d]), node, operators[d], cost, d, 0.0);
+        }
+        return node;
+    }
+
+    /**
+     * Returns if the states of a ranking can be labeled by the strategy.
+     *
+     * @param ranking the ranking of the states.
+     * @return <code>true</code> if the number of possible states is lower than the maximum number of states of the
+     *     strategy; <code>false</code> otherwise.
+     */
+    private boolean isRankable(final StateRanking ranking) {
+        if (ranking.size() > this.maxStates) {
+            Planner.getLogger().trace("* search stopped: " + (ranking.size() == Long.MAX_VALUE ? "more than "
+                + Long.MAX_VALUE : ranking.size()) + " possible states exceed the maximum of " + this.maxStates
+                + " states\n");
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Creates the array of the labels of the states.
+     *
+     * @param size the number of possible states.
+     * @return the array of the labels of the states.
+     * @throws IOException if the mapped file cannot be created.
+     */
+    private TwoBitArray createArray(final long size) throws IOException {
+        return this.mappedDirectory == null ? new TwoBitArray(size)
+            : new TwoBitArray(size, this.getMappedDirectory());
+    }
+
+    /**
+     * Returns if the time out is reached. The time is only checked at regular intervals of ranks.
+     *
+     * @param rank  the current rank.
+     * @param begin the time at which the search began.
+     * @return <code>true</code> if the time out is reached; <code>false</code> otherwise.
+     */
+    private boolean isTimedOut(final long rank, final long begin) {
+        if ((rank & TwoBitBreadthFirstSearch.TIME_CHECK) == 0 && !this.timedOut) {
+            this.timedOut = System.currentTimeMillis() - begin >= this.getTimeout();
+        }
+        return this.timedOut;
+    }
+
+    /**
+     * Resets the results of the last search or analysis.
+     */
+    private void reset() {
+        this.layerSizes = new ArrayList<>();
+        this.goalDistanceSizes = new ArrayList<>();
+        this.reachableStates = 0;
+        this.deadEnds = 0;
+        this.initialGoalDistance = -1;
+        this.expanded = 0;
+        this.generated = 0;
+        this.timedOut = false;
+    }
+
+    /**
+     * Sets the statistics of the last search or analysis.
+     *
+     * @param ranking the ranking of the states.
+     * @param begin   the time at which the search began.
+     */
+    private void setStatistics(final StateRanking ranking, final long begin) {
+        if (this.timedOut) {
+            Planner.getLogger().trace("* search stopped: time out reached\n");
+        }
+        this.setCreatedNodes((int) Math.min(Integer.MAX_VALUE, this.generated));
+        this.setExploredNodes((int) Math.min(Integer.MAX_VALUE, this.expanded));
+        this.setPendingNodes(0);
+        this.setMemoryUsed(ranking.size() > this.maxStates ? 0 : (ranking.size() + 3) / 4);
+        this.setSearchingTime(System.currentTimeMillis() - begin);
+    }
+}
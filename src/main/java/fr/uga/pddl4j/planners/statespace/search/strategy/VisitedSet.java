@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2016 by Damien Pellier <Damien.Pellier@imag.fr>.
+ *
+ * This file is part of PDDL4J library.
+ *
+ * PDDL4J is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * PDDL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with PDDL4J.  If not, see
+ * <http://www.gnu.org/licenses/>
+ */
+
+package fr.uga.pddl4j.planners.statespace.search.strategy;
+
+import fr.uga.pddl4j.util.BitState;
+
+import java.io.Serializable;
+
+/**
+ * This interface defines the set of the states visited by a search strategy. A set may be probabilistic: a state never
+ * added may be reported as visited and is then omitted by the search. Such a set reports an estimate of the
+ * probability that at least one state was omitted since it was cleared.
+ *
+ * @author PDDL4J contributors
+ * @version 1.0 - 19.10.2026
+ * @see ExactVisitedSet
+ * @see BitStateHashing
+ * @see HashCompaction
+ */
+public interface VisitedSet extends Serializable {
+
+    /**
+     * Adds a state to the set if it is not reported as visited.
+     *
+     * @param state the state.
+     * @return <code>true</code> if the state was added, i.e., it is considered as new; <code>false</code> if it is
+     *     reported as visited.
+     */
+    boolean add(final BitState state);
+
+    /**
+     * Returns if a state is reported as visited.
+     *
+     * @param state the state.
+     * @return <code>true</code> if the state is reported as visited; <code>false</code> otherwise.
+     */
+    boolean contains(final BitState state);
+
+    /**
+     * Returns the number of states added to the set since it was cleared.
+     *
+     * @return the number of states added to the set since it was cleared.
+     */
+    long size();
+
+    /**
+     * Returns an estimate of the probability that at least one state was omitted, i.e., reported as visited whereas
+     * it was never added, since the set was cleared.
+     *
+     * @return an estimate of the probability that at least one state was omitted.
+     */
+    double getOmissionProbability();
+
+    /**
+     * Removes all the states of the set.
+     */
+    void clear();
+
+    /**
+     * Returns a 64 bits hash code of a state. The hash code only depends on the facts of the state.
+     *
+     * @param state the state.
+     * @return the 64 bits hash code of the state.
+     */
+    static long hash(final BitState state) {
+        long hash = 0x9E3779B97F4A7C15L;
+        for (long word : state.toLongArray()) {
+            hash = VisitedSet.mix(hash ^ VisitedSet.mix(word));
+        }
+        return hash;
+    }
+
+    /**
+     * Returns the avalanche mix of a 64 bits word, i.e., the finalizer of MurmurHash3.
+     *
+     * @param word the word.
+     * @return the mixed word.
+     */
+    static long mix(final long word) {
+        long h = word;
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,842 @@
+/*
+ * Copyright (c) 2010 by Damien Pellier <Damien.Pellier@imag.fr>.
+ *
+ * This file is part of PDDL4J library.
+ *
+ * PDDL4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDDL4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDDL4J.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+
+package fr.uga.pddl4j.util;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * This class implements a manager of reduced ordered binary decision diagrams (R. E. Bryant, "Graph-based algorithms
+ * for boolean function manipulation", IEEE Transactions on Computers, 1986). A diagram is identified by the index of
+ * its root node; the indexes <code>FALSE</code> and <code>TRUE</code> are the terminal nodes. The variables are
+ * identified by their level in the order of the diagrams, the level 0 being the top of the diagrams.
+ * <p>
+ * The nodes are stored in arrays of integers and shared through a unique table, so that two equivalent diagrams have
+ * the same index, and the results of the operations are memoized in a computed cache of fixed size. The table grows
+ * when it is full. The garbage is only collected by {@link #collect()} and {@link #gc()}: the diagrams that must
+ * survive a collection must be referenced with {@link #ref(int)} and the other diagrams are invalid after it.
+ * </p>
+ *
+ * @author PDDL4J contributors
+ * @version 1.0 - 19.10.2026
+ */
+public final class BDDManager {
+
+    /**
+     * The index of the terminal node false.
+     */
+    public static final int FALSE = 0;
+
+    /**
+     * The index of the terminal node true.
+     */
+    public static final int TRUE = 1;
+
+    /**
+     * The default initial number of nodes of the table.
+     */
+    public static final int DEFAULT_NODES = 1 << 16;
+
+    /**
+     * The default number of entries of the computed cache.
+     */
+    public static final int DEFAULT_CACHE_SIZE = 1 << 18;
+
+    /**
+     * The code of the conjunction.
+     */
+    private static final int AND = 1;
+
+    /**
+     * The code of the disjunction.
+     */
+    private static final int OR = 2;
+
+    /**
+     * The code of the difference.
+     */
+    private static final int DIFF = 3;
+
+    /**
+     * The code of the equivalence.
+     */
+    private static final int BIIMP = 4;
+
+    /**
+     * The code of the existential quantification.
+     */
+    private static final int EXISTS = 5;
+
+    /**
+     * The code of the relational product.
+     */
+    private static final int RELPROD = 6;
+
+    /**
+     * The number of variables.
+     */
+    private final int variables;
+
+    /**
+     * The level of each node or -1 for the free nodes.
+     */
+    private int[] levels;
+
+    /**
+     * The low child of each node.
+     */
+    private int[] lows;
+
+    /**
+     * The high child of each node.
+     */
+    private int[] highs;
+
+    /**
+     * The next node of the chain of each node in the unique table or in the list of the free nodes.
+     */
+    private int[] nexts;
+
+    /**
+     * The number of external references of each node.
+     */
+    private int[] refs;
+
+    /**
+     * The first node of each chain of the unique table.
+     */
+    private int[] buckets;
+
+    /**
+     * The first free node or -1 if no node is free.
+     */
+    private int free;
+
+    /**
+     * The number of nodes used, terminal nodes included.
+     */
+    private int count;
+
+    /**
+     * The number of nodes alive after the last collection.
+     */
+    private int alive;
+
+    /**
+     * The number of collections.
+     */
+    private int collections;
+
+    /**
+     * The operation code of each entry of the computed cache, 0 for the empty entries.
+     */
+    private final int[] cacheOps;
+
+    /**
+     * The first operand of each entry of the computed cache.
+     */
+    private final int[] cacheFirst;
+
+    /**
+     * The second operand of each entry of the computed cache.
+     */
+    private final int[] cacheSecond;
+
+    /**
+     * The third operand of each entry of the computed cache.
+     */
+    private final int[] cacheThird;
+
+    /**
+     * The result of each entry of the computed cache.
+     */
+    private final int[] cacheResults;
+
+    /**
+     * Creates a new manager with the default number of nodes and the default cache size.
+     *
+     * @param variables the number of variables.
+     * @throws IllegalArgumentException if <code>variables &lt; 0</code>.
+     */
+    public BDDManager(final int variables) {
+        this(variables, BDDManager.DEFAULT_NODES, BDDManager.DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * Creates a new manager.
+     *
+     * @param variables the number of variables.
+     * @param nodes     the initial number of nodes of the table. The number is rounded up to a power of two.
+     * @param cacheSize the number of entries of the computed cache. The number is rounded up to a power of two.
+     * @throws IllegalArgumentException if <code>variables &lt; 0</code>, <code>nodes &lt; 2</code> or
+     *                                  <code>cacheSize &lt;= 0</code>.
+     */
+    public BDDManager(final int variables, final int nodes, final int cacheSize) {
+        if (variables < 0) {
+            throw new IllegalArgumentException("variables < 0");
+        }
+        if (nodes < 2) {
+            throw new IllegalArgumentException("nodes < 2");
+        }
+        if (cacheSize <= 0) {
+            throw new IllegalArgumentException("cacheSize <= 0");
+        }
+        this.variables = variables;
+        final int capacity = Integer.highestOneBit(nodes - 1) << 1;
+        this.levels = new int[capacity];
+        this.lows = new int[capacity];
+        this.highs = new int[capacity];
+        this.nexts = new int[capacity];
+        this.refs = new int[capacity];
+        this.buckets = new int[capacity];
+        Arrays.fill(this.levels, -1);
+        for (int n = BDDManager.FALSE; n <= BDDManager.TRUE; n++) {
+            this.levels[n] = variables;
+            this.lows[n] = n;
+            this.highs[n] = n;
+        }
+        this.rehash();
+        final int entries = cacheSize == 1 ? 1 : Integer.highestOneBit(cacheSize - 1) << 1;
+        this.cacheOps = new int[entries];
+        this.cacheFirst = new int[entries];
+        this.cacheSecond = new int[entries];
+        this.cacheThird = new int[entries];
+        this.cacheResults = new int[entries];
+        this.alive = this.count;
+        this.collections = 0;
+    }
+
+    /**
+     * Returns the number of variables.
+     *
+     * @return the number of variables.
+     */
+    public int getVariables() {
+        return this.variables;
+    }
+
+    /**
+     * Returns the number of nodes used, terminal nodes included.
+     *
+     * @return the number of nodes used.
+     */
+    public int getNodeCount() {
+        return this.count;
+    }
+
+    /**
+     * Returns the number of garbage collections.
+     *
+     * @return the number of garbage collections.
+     */
+    public int getCollections() {
+        return this.collections;
+    }
+
+    /**
+     * Returns the level of the root node of a diagram.
+     *
+     * @param f the diagram.
+     * @return the level of the root node or the number of variables if the diagram is a terminal node.
+     */
+    public int level(final int f) {
+        return this.levels[f];
+    }
+
+    /**
+     * Returns the diagram of a variable.
+     *
+     * @param level the level of the variable.
+     * @return the diagram of the variable.
+     */
+    public int var(final int level) {
+        return this.mk(level, BDDManager.FALSE, BDDManager.TRUE);
+    }
+
+    /**
+     * Returns the diagram of the negation of a variable.
+     *
+     * @param level the level of the variable.
+     * @return the diagram of the negation of the variable.
+     */
+    public int nvar(final int level) {
+        return this.mk(level, BDDManager.TRUE, BDDManager.FALSE);
+    }
+
+    /**
+     * Returns the diagram of the conjunction of variables, used as set of variables by the quantifications.
+     *
+     * @param levels the levels of the variables.
+     * @return the diagram of the conjunction of the variables.
+     */
+    public int cube(final int[] levels) {
+        final int[] sorted = levels.clone();
+        Arrays.sort(sorted);
+        int cube = BDDManager.TRUE;
+        for (int i = sorted.length - 1; i >= 0; i--) {
+            if (i == sorted.length - 1 || sorted[i] != sorted[i + 1]) {
+                cube = this.mk(sorted[i], BDDManager.FALSE, cube);
+            }
+        }
+        return cube;
+    }
+
+    /**
+     * Returns the conjunction of two diagrams.
+     *
+     * @param f the first diagram.
+     * @param g the second diagram.
+     * @return the conjunction of the diagrams.
+     */
+    public int and(final int f, final int g) {
+        return this.apply(BDDManager.AND, f, g);
+    }
+
+    /**
+     * Returns the disjunction of two diagrams.
+     *
+     * @param f the first diagram.
+     * @param g the second diagram.
+     * @return the disjunction of the diagrams.
+     */
+    public int or(final int f, final int g) {
+        return this.apply(BDDManager.OR, f, g);
+    }
+
+    /**
+     * Returns the difference of two diagrams, i.e., the conjunction of the first one and of the negation of the
+     * second one.
+     *
+     * @param f the first diagram.
+     * @param g the second diagram.
+     * @return the difference of the diagrams.
+     */
+    public int diff(final int f, final int g) {
+        return this.apply(BDDManager.DIFF, f, g);
+    }
+
+    /**
+     * Returns the equivalence of two diagrams.
+     *
+     * @param f the first diagram.
+     * @param g the second diagram.
+     * @return the equivalence of the diagrams.
+     */
+    public int biimp(final int f, final int g) {
+        return this.apply(BDDManager.BIIMP, f, g);
+    }
+
+    /**
+     * Returns the negation of a diagram.
+     *
+     * @param f the diagram.
+     * @return the negation of the diagram.
+     */
+    public int not(final int f) {
+        return this.apply(BDDManager.DIFF, BDDManager.TRUE, f);
+    }
+
+    /**
+     * Returns the existential quantification of a diagram over a set of variables.
+     *
+     * @param f    the diagram.
+     * @param cube the conjunction of the variables to quantify.
+     * @return the existential quantification of the diagram.
+     * @see #cube(int[])
+     */
+    public int exists(final int f, final int cube) {
+        return this.quantify(f, cube);
+    }
+
+    /**
+     * Returns the relational product of two diagrams, i.e., the existential quantification of their conjunction over a
+     * set of variables, computed without building the conjunction.
+     *
+     * @param f    the first diagram.
+     * @param g    the second diagram.
+     * @param cube the conjunction of the variables to quantify.
+     * @return the relational product of the diagrams.
+     * @see #cube(int[])
+     */
+    public int relProd(final int f, final int g, final int cube) {
+        return this.product(f, g, cube);
+    }
+
+    /**
+     * Renames the variables of a diagram. The renaming must preserve the order of the variables of the diagram, i.e.,
+     * a variable cannot be moved above or below an other variable of the diagram.
+     *
+     * @param f   the diagram.
+     * @param map the new level of each level.
+     * @return the diagram renamed.
+     */
+    public int replace(final int f, final int[] map) {
+        return this.rename(f, map, new HashMap<>());
+    }
+
+    /**
+     * Returns the number of satisfying assignments of a diagram over all the variables.
+     *
+     * @param f the diagram.
+     * @return the number of satisfying assignments of the diagram.
+     */
+    public double satCount(final int f) {
+        return Math.scalb(this.count(f, new HashMap<>()), this.levels[f]);
+    }
+
+    /**
+     * Returns a satisfying assignment of a diagram. The variables that do not appear on the path are false.
+     *
+     * @param f the diagram.
+     * @return a satisfying assignment of the diagram indexed by level or null if the diagram is false.
+     */
+    public boolean[] satOne(final int f) {
+        if (f == BDDManager.FALSE) {
+            return null;
+        }
+        final boolean[] assignment = new boolean[this.variables];
+        int n = f;
+        while (n > BDDManager.TRUE) {
+            if (this.lows[n] != BDDManager.FALSE) {
+                n = this.lows[n];
+            } else {
+                assignment[this.levels[n]] = true;
+                n = this.highs[n];
+            }
+        }
+        return assignment;
+    }
+
+    /**
+     * Returns the value of a diagram for an assignment of the variables.
+     *
+     * @param f          the diagram.
+     * @param assignment the assignment indexed by level.
+     * @return the value of the diagram.
+     */
+    public boolean evaluate(final int f, final boolean[] assignment) {
+        int n = f;
+        while (n > BDDManager.TRUE) {
+            n = assignment[this.levels[n]] ? this.highs[n] : this.lows[n];
+        }
+        return n == BDDManager.TRUE;
+    }
+
+    /**
+     * Returns the number of nodes of a diagram, terminal nodes excluded.
+     *
+     * @param f the diagram.
+     * @return the number of nodes of the diagram.
+     */
+    public int size(final int f) {
+        final BitVector visited = new BitVector();
+        final int[] stack = new int[this.variables + 2];
+        int size = 0;
+        int top = 0;
+        stack[top++] = f;
+        while (top > 0) {
+            final int n = stack[--top];
+            if (n > BDDManager.TRUE && !visited.get(n)) {
+                visited.set(n);
+                size++;
+                stack[top++] = this.lows[n];
+                stack[top++] = this.highs[n];
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Adds an external reference to a diagram.
+     *
+     * @param f the diagram.
+     * @return the diagram.
+     */
+    public int ref(final int f) {
+        if (f > BDDManager.TRUE) {
+            this.refs[f]++;
+        }
+        return f;
+    }
+
+    /**
+     * Removes an external reference to a diagram.
+     *
+     * @param f the diagram.
+     */
+    public void deref(final int f) {
+        if (f > BDDManager.TRUE && this.refs[f] > 0) {
+            this.refs[f]--;
+        }
+    }
+
+    /**
+     * Collects the garbage if the number of nodes used has more than doubled since the last collection.
+     *
+     * @return <code>true</code> if the garbage was collected; <code>false</code> otherwise.
+     */
+    public boolean collect() {
+        if (this.count > 2 * this.alive && this.count > this.levels.length / 2) {
+            this.gc();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Collects the garbage, i.e., frees the nodes that are not reachable from a referenced diagram, and clears the
+     * computed cache.
+     */
+    public void gc() {
+        final BitVector marked = new BitVector(this.levels.length);
+        final int[] stack = new int[this.variables + 2];
+        for (int root = BDDManager.TRUE + 1; root < this.levels.length; root++) {
+            if (this.levels[root] >= 0 && this.refs[root] > 0 && !marked.get(root)) {
+                int top = 0;
+                stack[top++] = root;
+                while (top > 0) {
+                    final int n = stack[--top];
+                    if (n > BDDManager.TRUE && !marked.get(n)) {
+                        marked.set(n);
+                        stack[top++] = this.lows[n];
+                        stack[top++] = this.highs[n];
+                    }
+                }
+            }
+        }
+        for (int n = BDDManager.TRUE + 1; n < this.levels.length; n++) {
+            if (!marked.get(n)) {
+                this.levels[n] = -1;
+                this.refs[n] = 0;
+            }
+        }
+        this.rehash();
+        Arrays.fill(this.cacheOps, 0);
+        this.alive = this.count;
+        this.collections++;
+    }
+
+    /**
+     * Returns the node of a variable and two children. The node is created if it does not exist.
+     *
+     * @param level the level of the variable.
+     * @param low   the low child.
+     * @param high  the high child.
+     * @return the node.
+     */
+    private int mk(final int level, final int low, final int high) {
+        if (low == high) {
+            return low;
+        }
+        int bucket = BDDManager.hash(level, low, high, 0) & (this.buckets.length - 1);
+        for (int n = this.buckets[bucket]; n >= 0; n = this.nexts[n]) {
+            if (this.levels[n] == level && this.lows[n] == low && this.highs[n] == high) {
+                return n;
+            }
+        }
+        if (this.free < 0) {
+            this.grow();
+            bucket = BDDManager.hash(level, low, high, 0) & (this.buckets.length - 1);
+        }
+        final int n = this.free;
+        this.free = this.nexts[n];
+        this.levels[n] = level;
+        this.lows[n] = low;
+        this.highs[n] = high;
+        this.refs[n] = 0;
+        this.nexts[n] = this.buckets[bucket];
+        this.buckets[bucket] = n;
+        this.count++;
+        return n;
+    }
+
+    /**
+     * Doubles the number of nodes of the table.
+     *
+     * @throws IllegalStateException if the table cannot grow anymore.
+     */
+    private void grow() {
+        final int length = this.levels.length;
+        if (length > Integer.MAX_VALUE / 2) {
+            throw new IllegalStateException("BDD node table full");
+        }
+        this.levels = Arrays.copyOf(this.levels, 2 * length);
+        this.lows = Arrays.copyOf(this.lows, 2 * length);
+        this.highs = Arrays.copyOf(this.highs, 2 * length);
+        this.nexts = Arrays.copyOf(this.nexts, 2 * length);
+        this.refs = Arrays.copyOf(this.refs, 2 * length);
+        this.buckets = new int[2 * length];
+        Arrays.fill(this.levels, length, 2 * length, -1);
+        this.rehash();
+    }
+
+    /**
+     * Rebuilds the unique table and the list of the free nodes from the levels of the nodes.
+     */
+    private void rehash() {
+        Arrays.fill(this.buckets, -1);
+        this.free = -1;
+        this.count = BDDManager.TRUE + 1;
+        final int mask = this.buckets.length - 1;
+        for (int n = this.levels.length - 1; n > BDDManager.TRUE; n--) {
+            if (this.levels[n] >= 0 && this.levels[n] < this.variables) {
+                final int bucket = BDDManager.hash(this.levels[n], this.lows[n], this.highs[n], 0) & mask;
+                this.nexts[n] = this.buckets[bucket];
+                this.buckets[bucket] = n;
+                this.count++;
+            } else {
+                this.levels[n] = -1;
+                this.nexts[n] = this.free;
+                this.free = n;
+            }
+        }
+    }
+
+    /**
+     * Applies a binary operation to two diagrams.
+     *
+     * @param op the code of the operation.
+     * @param f  the first diagram.
+     * @param g  the second diagram.
+     * @return the result of the operation.
+     */
+    private int apply(final int op, final int f, final int g) {
+        switch (op) {
+            case BDDManager.AND:
+                if (f == BDDManager.FALSE || g == BDDManager.FALSE) {
+                    return BDDManager.FALSE;
+                } else if (f == BDDManager.TRUE || f == g) {
+                    return g;
+                } else if (g == BDDManager.TRUE) {
+                    return f;
+                }
+                break;
+            case BDDManager.OR:
+                if (f == BDDManager.TRUE || g == BDDManager.TRUE) {
+                    return BDDManager.TRUE;
+                } else if (f == BDDManager.FALSE || f == g) {
+                    return g;
+                } else if (g == BDDManager.FALSE) {
+                    return f;
+                }
+                break;
+            case BDDManager.DIFF:
+                if (f == BDDManager.FALSE || g == BDDManager.TRUE || f == g) {
+                    return BDDManager.FALSE;
+                } else if (g == BDDManager.FALSE) {
+                    return f;
+                }
+                break;
+            case BDDManager.BIIMP:
+                if (f == g) {
+                    return BDDManager.TRUE;
+                } else if (f <= BDDManager.TRUE && g <= BDDManager.TRUE) {
+                    return BDDManager.FALSE;
+                } else if (f == BDDManager.TRUE) {
+                    return g;
+                } else if (g == BDDManager.TRUE) {
+                    return f;
+                }
+                break;
+            default:
+                throw new IllegalArgumentException("unknown operation " + op);
+        }
+        final boolean commutative = op != BDDManager.DIFF;
+        final int a = commutative ? Math.min(f, g) : f;
+        final int b = commutative ? Math.max(f, g) : g;
+        final int entry = BDDManager.hash(op, a, b, 0) & (this.cacheOps.length - 1);
+        if (this.cacheOps[entry] == op && this.cacheFirst[entry] == a && this.cacheSecond[entry] == b) {
+            return this.cacheResults[entry];
+        }
+        final int la = this.levels[a];
+        final int lb = this.levels[b];
+        final int top = Math.min(la, lb);
+        final int low = this.apply(op, la == top ? this.lows[a] : a, lb == top ? this.lows[b] : b);
+        final int high = this.apply(op, la == top ? this.highs[a] : a, lb == top ? this.highs[b] : b);
+        final int result = this.mk(top, low, high);
+        this.store(entry, op, a, b, 0, result);
+        return result;
+    }
+
+    /**
+     * Computes the existential quantification of a diagram over a set of variables.
+     *
+     * @param f    the diagram.
+     * @param cube the conjunction of the variables to quantify.
+     * @return the existential quantification of the diagram.
+     */
+    private int quantify(final int f, final int cube) {
+        int c = cube;
+        while (c > BDDManager.TRUE && this.levels[c] < this.levels[f]) {
+            c = this.highs[c];
+        }
+        if (f <= BDDManager.TRUE || c <= BDDManager.TRUE) {
+            return f;
+        }
+        final int entry = BDDManager.hash(BDDManager.EXISTS, f, c, 0) & (this.cacheOps.length - 1);
+        if (this.cacheOps[entry] == BDDManager.EXISTS && this.cacheFirst[entry] == f
+            && this.cacheSecond[entry] == c) {
+            return this.cacheResults[entry];
+        }
+        final int result;
+        if (this.levels[c] == this.levels[f]) {
+            final int low = this.quantify(this.lows[f], this.highs[c]);
+            result = low == BDDManager.TRUE ? BDDManager.TRUE
+                : this.apply(BDDManager.OR, low, this.quantify(this.highs[f], this.highs[c]));
+        } else {
+            final int low = this.quantify(this.lows[f], c);
+            result = this.mk(this.levels[f], low, this.quantify(this.highs[f], c));
+        }
+        this.store(entry, BDDManager.EXISTS, f, c, 0, result);
+        return result;
+    }
+
+    /**
+     * Computes the relational product of two diagrams.
+     *
+     * @param f    the first diagram.
+     * @param g    the second diagram.
+     * @param cube the conjunction of the variables to quantify.
+     * @return the relational product of the diagrams.
+     */
+    private int product(final int f, final int g, final int cube) {
+        if (f == BDDManager.FALSE || g == BDDManager.FALSE) {
+            return BDDManager.FALSE;
+        } else if (f == BDDManager.TRUE) {
+            return this.quantify(g, cube);
+        } else if (g == BDDManager.TRUE || f == g) {
+            return this.quantify(f, cube);
+        }
+        final int a = Math.min(f, g);
+        final int b = Math.max(f, g);
+        final int top = Math.min(this.levels[a], this.levels[b]);
+        int c = cube;
+        while (c > BDDManager.TRUE && this.levels[c] < top) {
+            c = this.highs[c];
+        }
+        if (c <= BDDManager.TRUE) {
+            return this.apply(BDDManager.AND, a, b);
+        }
+        final int entry = BDDManager.hash(BDDManager.RELPROD, a, b, c) & (this.cacheOps.length - 1);
+        if (this.cacheOps[entry] == BDDManager.RELPROD && this.cacheFirst[entry] == a
+            && this.cacheSecond[entry] == b && this.cacheThird[entry] == c) {
+            return this.cacheResults[entry];
+        }
+        final int a0 = this.levels[a] == top ? this.lows[a] : a;
+        final int a1 = this.levels[a] == top ? this.highs[a] : a;
+        final int b0 = this.levels[b] == top ? this.lows[b] : b;
+        final int b1 = this.levels[b] == top ? this.highs[b] : b;
+        final int result;
+        if (this.levels[c] == top) {
+            final int low = this.product(a0, b0, this.highs[c]);
+            result = low == BDDManager.TRUE ? BDDManager.TRUE
+                : this.apply(BDDManager.OR, low, this.product(a1, b1, this.highs[c]));
+        } else {
+            final int low = this.product(a0, b0, c);
+            result = this.mk(top, low, this.product(a1, b1, c));
+        }
+        this.store(entry, BDDManager.RELPROD, a, b, c, result);
+        return result;
+    }
+
+    /**
+     * Renames the variables of a diagram.
+     *
+     * @param f    the diagram.
+     * @param map  the new level of each level.
+     * @param memo the diagrams already renamed.
+     * @return the diagram renamed.
+     */
+    private int rename(final int f, final int[] map, final Map<Integer, Integer> memo) {
+        if (f <= BDDManager.TRUE) {
+            return f;
+        }
+        final Integer renamed = memo.get(f);
+        if (renamed != null) {
+            return renamed;
+        }
+        final int low = this.rename(this.lows[f], map, memo);
+        final int result = this.mk(map[this.levels[f]], low, this.rename(this.highs[f], map, memo));
+        memo.put(f, result);
+        return result;
+    }
+
+    /**
+     * Returns the number of satisfying assignments of a diagram over the variables from the level of its root node.
+     *
+     * @param f    the diagram.
+     * @param memo the numbers already computed.
+     * @return the number of satisfying assignments.
+     */
+    private double count(final int f, final Map<Integer, Double> memo) {
+        if (f <= BDDManager.TRUE) {
+            return f;
+        }
+        final Double counted = memo.get(f);
+        if (counted != null) {
+            return counted;
+        }
+        final int level = this.levels[f];
+        final int low = this.lows[f];
+        final int high = this.highs[f];
+        final double result = Math.scalb(this.count(low, memo), this.levels[low] - level - 1)
+            + Math.scalb(this.count(high, memo), this.levels[high] - level - 1);
+        memo.put(f, result);
+        return result;
+    }
+
+    /**
+     * Stores the result of an operation in the computed cache.
+     *
+     * @param entry  the entry of the cache.
+     * @param op     the code of the operation.
+     * @param first  the first operand.
+     * @param second the second operand.
+     * @param third  the third operand.
+     * @param result the result.
+     */
+    private void store(final int entry, final int op, final int first, final int second, final int third,
+                       final int result) {
+        this.cacheOps[entry] = op;
+        this.cacheFirst[entry] = first;
+        this.cacheSecond[entry] = second;
+        this.cacheThird[entry] = third;
+        this.cacheResults[entry] = result;
+    }
+
+    /**
+     * Returns the hash code of four integers.
+     *
+     * @param a the first integer.
+     * @param b the second integer.
+     * @param c the third integer.
+     * @param d the fourth integer.
+     * @return the hash code.
+     */
+    private static int hash(final int a, final int b, final int c, final int d) {
+        long h = a * 0x9E3779B97F4A7C15L + b;
+        h = h * 0xC2B2AE3D27D4EB4FL + c;
+        h = h * 0x165667B19E3779F9L + d;
+        h ^= h >>> 31;
+        return (int) (h ^ (h >>> 29));
+    }
+}
@@ -94,4 +94,32 @@ public class BitState extends BitVector {
 
     }
 
+    /**
+     * Returns the number of facts of a specified expression not satisfied by this state, i.e., the
+     * number of positive facts of the expression false in this state plus the number of negative
+     * facts of the expression true in this state.
+     *
+     * @param exp the expression to be tested.
+     * @return the number of facts of the expression not satisfied by this state.
+     */
+    public final int countUnsatisfied(final BitExp exp) {
+        if (exp == null) {
+            throw new NullPointerException("exp == null");
+        }
+        int count = 0;
+        final BitVector positive = exp.getPositive();
+        for (int p = positive.nextSetBit(0); p >= 0; p = positive.nextSetBit(p + 1)) {
+            if (!this.get(p)) {
+                count++;
+            }
+        }
+        final BitVector negative = exp.getNegative();
+        for (int p = negative.nextSetBit(0); p >= 0; p = negative.nextSetBit(p + 1)) {
+            if (this.get(p)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
 }
@@ -0,0 +1,331 @@
+/*
+ * Copyright (c) 2010 by Damien Pellier <Damien.Pellier@imag.fr>.
+ *
+ * This file is part of PDDL4J library.
+ *
+ * PDDL4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDDL4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDDL4J.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+
+package fr.uga.pddl4j.util;
+
+import fr.uga.pddl4j.encoding.CodedProblem;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.WeakHashMap;
+
+/**
+ * This class implements the causal graph and the domain transition graphs of the state variables of
+ * a planning problem (see {@link StateVariables}). There is an arc from a variable <code>u</code> to
+ * an other variable <code>v</code> in the causal graph if an operator has a precondition or an
+ * effect on <code>u</code> and an effect on <code>v</code>.
+ * <p>
+ * The graphs only depend on the problem. They can be shared by all the heuristics of a problem with
+ * {@link #getInstance(CodedProblem)} which computes them once per problem.
+ * </p>
+ *
+ * @author PDDL4J contributors
+ * @version 1.0 - 19.10.2026
+ * @see DomainTransitionGraph
+ */
+public final class CausalGraph implements Serializable {
+
+    /**
+     * The serial version id of the class.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The causal graphs already computed for each problem.
+     */
+    private static final Map<CodedProblem, CausalGraph> INSTANCES = new WeakHashMap<>();
+
+    /**
+     * The state variables of the problem.
+     */
+    private StateVariables variables;
+
+    /**
+     * The predecessors of each variable.
+     */
+    private int[][] predecessors;
+
+    /**
+     * The successors of each variable.
+     */
+    private int[][] successors;
+
+    /**
+     * The level of each variable.
+     */
+    private int[] levels;
+
+    /**
+     * The domain transition graph of each variable.
+     */
+    private DomainTransitionGraph[] graphs;
+
+    /**
+     * Creates the causal graph of a specified planning problem.
+     *
+     * @param problem the planning problem.
+     * @throws NullPointerException if <code>problem == null</code>.
+     */
+    public CausalGraph(final CodedProblem problem) {
+        this(problem, new StateVariables(problem));
+    }
+
+    /**
+     * Creates the causal graph of a specified planning problem for some state variables of the
+     * problem.
+     *
+     * @param problem   the planning problem.
+     * @param variables the state variables of the problem.
+     * @throws NullPointerException if <code>problem == null || variables == null</code>.
+     */
+    public CausalGraph(final CodedProblem problem, final StateVariables variables) {
+        Objects.requireNonNull(problem);
+        Objects.requireNonNull(variables);
+        this.variables = variables;
+        final int size = variables.size();
+        final BitVector[] pred = new BitVector[size];
+        final List<List<List<DomainTransitionGraph.Transition>>> transitions = new ArrayList<>(size);
+        for (int v = 0; v < size; v++) {
+            pred[v] = new BitVector();
+            final List<List<DomainTransitionGraph.Transition>> values = new ArrayList<>();
+            for (int value = 0; value < variables.getDomainSize(v); value++) {
+                values.add(new ArrayList<>());
+            }
+            transitions.add(values);
+        }
+        final List<BitOp> operators = problem.getOperators();
+        for (int o = 0; o < operators.size(); o++) {
+            final BitOp op = operators.get(o);
+            final BitVector pre = new BitVector();
+            final BitVector eff = new BitVector();
+            op.getPreconditions().getPositive().stream().forEach(p -> pre.set(variables.getVariable(p)));
+            for (CondBitExp ce : op.getCondEffects()) {
+                ce.getCondition().getPositive().stream().forEach(p -> pre.set(variables.getVariable(p)));
+                ce.getEffects().getPositive().stream().forEach(p -> eff.set(variables.getVariable(p)));
+                ce.getEffects().getNegative().stream().forEach(p -> eff.set(variables.getVariable(p)));
+                this.addTransitions(op, o, ce, transitions);
+            }
+            pre.or(eff);
+            for (int v = eff.nextSetBit(0); v >= 0; v = eff.nextSetBit(v + 1)) {
+                pred[v].or(pre);
+                pred[v].clear(v);
+            }
+        }
+        final List<List<Integer>> succ = new ArrayList<>(size);
+        for (int v = 0; v < size; v++) {
+            succ.add(new ArrayList<>());
+        }
+        this.predecessors = new int[size][];
+        this.graphs = new DomainTransitionGraph[size];
+        for (int v = 0; v < size; v++) {
+            this.predecessors[v] = pred[v].stream().toArray();
+            for (int u : this.predecessors[v]) {
+                succ.get(u).add(v);
+            }
+            this.graphs[v] = new DomainTransitionGraph(v, transitions.get(v));
+        }
+        this.successors = new int[size][];
+        for (int v = 0; v < size; v++) {
+            this.successors[v] = succ.get(v).stream().mapToInt(Integer::intValue).toArray();
+        }
+        this.computeLevels();
+    }
+
+    /**
+     * Returns the causal graph of a specified problem. The causal graph is computed at the first
+     * call and shared by the next calls with the same problem.
+     *
+     * @param problem the planning problem.
+     * @return the causal graph of the problem.
+     * @throws NullPointerException if <code>problem == null</code>.
+     */
+    public static CausalGraph getInstance(final CodedProblem problem) {
+        Objects.requireNonNull(problem);
+        synchronized (CausalGraph.INSTANCES) {
+            return CausalGraph.INSTANCES.computeIfAbsent(problem, CausalGraph::new);
+        }
+    }
+
+    /**
+     * Returns the state variables of the causal graph.
+     *
+     * @return the state variables of the causal graph.
+     */
+    public StateVariables getStateVariables() {
+        return this.variables;
+    }
+
+    /**
+     * Returns the number of variables of the causal graph.
+     *
+     * @return the number of variables of the causal graph.
+     */
+    public int size() {
+        return this.predecessors.length;
+    }
+
+    /**
+     * Returns the predecessors of a specified variable. The returned array must not be modified.
+     *
+     * @param variable the variable.
+     * @return the predecessors of the variable ordered by index.
+     */
+    public int[] getPredecessors(final int variable) {
+        return this.predecessors[variable];
+    }
+
+    /**
+     * Returns the successors of a specified variable. The returned array must not be modified.
+     *
+     * @param variable the variable.
+     * @return the successors of the variable ordered by index.
+     */
+    public int[] getSuccessors(final int variable) {
+        return this.successors[variable];
+    }
+
+    /**
+     * Returns the level of a specified variable. The levels are a total order of the variables that
+     * breaks the cycles of the causal graph: a variable is given the lowest free level as soon as
+     * it has the fewest predecessors without level. When the causal graph is acyclic, the
+     * predecessors of a variable have a lower level than the variable.
+     *
+     * @param variable the variable.
+     * @return the level of the variable.
+     */
+    public int getLevel(final int variable) {
+        return this.levels[variable];
+    }
+
+    /**
+     * Returns the domain transition graph of a specified variable.
+     *
+     * @param variable the variable.
+     * @return the domain transition graph of the variable.
+     */
+    public DomainTransitionGraph getDomainTransitionGraph(final int variable) {
+        return this.graphs[variable];
+    }
+
+    /**
+     * Adds the transitions of a conditional effect of an operator to the domain transition graphs.
+     * A deleted fact not replaced by an other fact of its variable changes the variable to its value
+     * meaning that none of its facts holds. The effects whose conditions require two values of the
+     * same variable are ignored.
+     *
+     * @param op          the operator.
+     * @param index       the index of the operator.
+     * @param effect      the conditional effect of the operator.
+     * @param transitions the transitions of each value of each variable.
+     */
+    private void addTransitions(final BitOp op, final int index, final CondBitExp effect,
+                                final List<List<List<DomainTransitionGraph.Transition>>> transitions) {
+        final BitVector condition = new BitVector(op.getPreconditions().getPositive());
+        condition.or(effect.getCondition().getPositive());
+        final Map<Integer, Integer> pre = new TreeMap<>();
+        boolean consistent = true;
+        for (int p = condition.nextSetBit(0); p >= 0; p = condition.nextSetBit(p + 1)) {
+            final Integer old = pre.put(this.variables.getVariable(p), this.variables.getValue(p));
+            consistent &= old == null || old == this.variables.getValue(p);
+        }
+        final Map<Integer, Integer> eff = new TreeMap<>();
+        final Map<Integer, Integer> sources = new TreeMap<>(pre);
+        final BitVector add = effect.getEffects().getPositive();
+        for (int p = add.nextSetBit(0); p >= 0; p = add.nextSetBit(p + 1)) {
+            eff.put(this.variables.getVariable(p), this.variables.getValue(p));
+        }
+        final BitVector del = effect.getEffects().getNegative();
+        for (int p = del.nextSetBit(0); p >= 0; p = del.nextSetBit(p + 1)) {
+            final int v = this.variables.getVariable(p);
+            final Integer source = pre.get(v);
+            if (!eff.containsKey(v) && !this.variables.isExactlyOne(v)
+                && (source == null || source == this.variables.getValue(p))) {
+                eff.put(v, this.variables.getNoneValue(v));
+                sources.put(v, this.variables.getValue(p));
+            }
+        }
+        if (consistent) {
+            for (Map.Entry<Integer, Integer> e : eff.entrySet()) {
+                final int v = e.getKey();
+                final int target = e.getValue();
+                final DomainTransitionGraph.Transition transition = new DomainTransitionGraph.Transition(target,
+                    index, op.getCost(), CausalGraph.toPairs(pre, v), CausalGraph.toPairs(eff, v));
+                final Integer source = sources.get(v);
+                for (int value = 0; value < this.variables.getDomainSize(v); value++) {
+                    if (value != target && (source == null || source == value)) {
+                        transitions.get(v).get(value).add(transition);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Converts a map of variables to values into an array of consecutive pairs of variable and value
+     * ordered by variable.
+     *
+     * @param map      the map.
+     * @param excluded the variable not to include in the array.
+     * @return the array of pairs.
+     */
+    private static int[] toPairs(final Map<Integer, Integer> map, final int excluded) {
+        final int[] pairs = new int[2 * (map.size() - (map.containsKey(excluded) ? 1 : 0))];
+        int i = 0;
+        for (Map.Entry<Integer, Integer> e : map.entrySet()) {
+            if (e.getKey() != excluded) {
+                pairs[i++] = e.getKey();
+                pairs[i++] = e.getValue();
+            }
+        }
+        return pairs;
+    }
+
+    /**
+     * Computes the levels of the variables. The variable with the fewest predecessors without level
+     * is repeatedly given the lowest free level.
+     */
+    private void computeLevels() {
+        final int size = this.size();
+        this.levels = new int[size];
+        final int[] degrees = new int[size];
+        final boolean[] placed = new boolean[size];
+        for (int v = 0; v < size; v++) {
+            degrees[v] = this.predecessors[v].length;
+        }
+        for (int level = 0; level < size; level++) {
+            int best = -1;
+            for (int v = 0; v < size; v++) {
+                if (!placed[v] && (best == -1 || degrees[v] < degrees[best])) {
+                    best = v;
+                }
+            }
+            placed[best] = true;
+            this.levels[best] = level;
+            for (int s : this.successors[best]) {
+                degrees[s]--;
+            }
+        }
+    }
+
+}
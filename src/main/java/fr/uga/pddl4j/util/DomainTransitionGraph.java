@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2010 by Damien Pellier <Damien.Pellier@imag.fr>.
+ *
+ * This file is part of PDDL4J library.
+ *
+ * PDDL4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDDL4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDDL4J.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+
+package fr.uga.pddl4j.util;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * This class implements the domain transition graph of a state variable (see {@link StateVariables}).
+ * The vertices of the graph are the values of the variable and there is a transition from a value
+ * to an other one for each conditional effect of an operator that changes the variable from the
+ * first value to the second one. A conditional effect that does not require a specific value of the
+ * variable produces a transition from every other value of the variable. Each transition is labeled
+ * with the conditions on the other variables, i.e., the preconditions of the operator and the
+ * condition of the effect, and with the side effects of the conditional effect on the other
+ * variables. The negative preconditions are ignored.
+ *
+ * @author PDDL4J contributors
+ * @version 1.0 - 19.10.2026
+ * @see CausalGraph
+ */
+public final class DomainTransitionGraph implements Serializable {
+
+    /**
+     * The serial version id of the class.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The variable of the graph.
+     */
+    private int variable;
+
+    /**
+     * The transitions of the graph ordered by source value.
+     */
+    private Transition[][] transitions;
+
+    /**
+     * Creates a new domain transition graph.
+     *
+     * @param variable    the variable of the graph.
+     * @param transitions the transitions of each value of the variable.
+     */
+    DomainTransitionGraph(final int variable, final List<List<Transition>> transitions) {
+        this.variable = variable;
+        this.transitions = new Transition[transitions.size()][];
+        for (int value = 0; value < this.transitions.length; value++) {
+            this.transitions[value] = transitions.get(value).toArray(new Transition[0]);
+        }
+    }
+
+    /**
+     * Returns the variable of the graph.
+     *
+     * @return the variable of the graph.
+     */
+    public int getVariable() {
+        return this.variable;
+    }
+
+    /**
+     * Returns the number of values of the variable of the graph.
+     *
+     * @return the number of values of the variable of the graph.
+     */
+    public int size() {
+        return this.transitions.length;
+    }
+
+    /**
+     * Returns the transitions from a specified value of the variable. The returned array must not be
+     * modified.
+     *
+     * @param value the source value.
+     * @return the transitions from the value.
+     */
+    public Transition[] getTransitions(final int value) {
+        return this.transitions[value];
+    }
+
+    /**
+     * This class implements a transition of a domain transition graph.
+     */
+    public static final class Transition implements Serializable {
+
+        /**
+         * The serial version id of the class.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * The target value of the transition.
+         */
+        private int target;
+
+        /**
+         * The index of the operator of the transition.
+         */
+        private int operator;
+
+        /**
+         * The cost of the operator of the transition.
+         */
+        private double cost;
+
+        /**
+         * The conditions of the transition as pairs of variable and value.
+         */
+        private int[] conditions;
+
+        /**
+         * The side effects of the transition as pairs of variable and value.
+         */
+        private int[] effects;
+
+        /**
+         * Creates a new transition.
+         *
+         * @param target     the target value of the transition.
+         * @param operator   the index of the operator of the transition.
+         * @param cost       the cost of the operator.
+         * @param conditions the conditions of the transition as pairs of variable and value.
+         * @param effects    the side effects of the transition as pairs of variable and value.
+         */
+        Transition(final int target, final int operator, final double cost, final int[] conditions,
+                   final int[] effects) {
+            this.target = target;
+            this.operator = operator;
+            this.cost = cost;
+            this.conditions = conditions;
+            this.effects = effects;
+        }
+
+        /**
+         * Returns the target value of the transition.
+         *
+         * @return the target value of the transition.
+         */
+        public int getTarget() {
+            return this.target;
+        }
+
+        /**
+         * Returns the index of the operator of the transition in the operators of the problem.
+         *
+         * @return the index of the operator of the transition.
+         */
+        public int getOperator() {
+            return this.operator;
+        }
+
+        /**
+         * Returns the cost of the operator of the transition.
+         *
+         * @return the cost of the operator of the transition.
+         */
+        public double getCost() {
+            return this.cost;
+        }
+
+        /**
+         * Returns the conditions of the transition on the other variables. The conditions are stored
+         * as consecutive pairs of variable and value ordered by variable. The returned array must
+         * not be modified.
+         *
+         * @return the conditions of the transition.
+         */
+        public int[] getConditions() {
+            return this.conditions;
+        }
+
+        /**
+         * Returns the side effects of the transition on the other variables. The side effects are
+         * stored as consecutive pairs of variable and value ordered by variable. The returned array
+         * must not be modified.
+         *
+         * @return the side effects of the transition.
+         */
+        public int[] getEffects() {
+            return this.effects;
+        }
+    }
+
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2010 by Damien Pellier <Damien.Pellier@imag.fr>.
+ *
+ * This file is part of PDDL4J library.
+ *
+ * PDDL4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDDL4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDDL4J.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+
+package fr.uga.pddl4j.util;
+
+import fr.uga.pddl4j.encoding.CodedProblem;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * This class implements a perfect hash function of the states of a planning problem. The states are ranked over the
+ * finite domain variables of the problem, i.e., its mutex groups: the rank of a state is the number written in mixed
+ * radix with the value of each variable as digit and the domain size of each variable as base. Every state that
+ * satisfies the mutex groups has a distinct rank between 0 and the size of the ranking, and a rank is unranked back
+ * into its state. The ranks are dense: the size of the ranking is the product of the domain sizes of the variables,
+ * which is usually several orders of magnitude smaller than 2 to the power of the number of facts.
+ *
+ * @author PDDL4J contributors
+ * @version 1.0 - 19.10.2026
+ * @see StateVariables
+ */
+public final class StateRanking implements Serializable {
+
+    /**
+     * The serial version id of the class.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The variables of the ranking.
+     */
+    private final StateVariables variables;
+
+    /**
+     * The domain size of each variable.
+     */
+    private final int[] domains;
+
+    /**
+     * The number of ranks or <code>Long.MAX_VALUE</code> if the number of ranks exceeds a long.
+     */
+    private final long size;
+
+    /**
+     * Creates the ranking of the states of a specified planning problem.
+     *
+     * @param problem the planning problem.
+     * @throws NullPointerException if <code>problem == null</code>.
+     */
+    public StateRanking(final CodedProblem problem) {
+        this(new StateVariables(problem));
+    }
+
+    /**
+     * Creates the ranking of the states described by specified state variables.
+     *
+     * @param variables the state variables.
+     * @throws NullPointerException if <code>variables == null</code>.
+     */
+    public StateRanking(final StateVariables variables) {
+        Objects.requireNonNull(variables);
+        this.variables = variables;
+        this.domains = new int[variables.size()];
+        long product = 1;
+        for (int v = 0; v < this.domains.length; v++) {
+            this.domains[v] = variables.getDomainSize(v);
+            if (product <= Long.MAX_VALUE / this.domains[v]) {
+                product *= this.domains[v];
+            } else {
+                product = Long.MAX_VALUE;
+            }
+        }
+        this.size = product;
+    }
+
+    /**
+     * Returns the state variables of the ranking.
+     *
+     * @return the state variables of the ranking.
+     */
+    public StateVariables getVariables() {
+        return this.variables;
+    }
+
+    /**
+     * Returns the number of ranks, i.e., the product of the domain sizes of the variables.
+     *
+     * @return the number of ranks or <code>Long.MAX_VALUE</code> if the number of ranks exceeds a long. In this case,
+     *     the ranking cannot be used.
+     */
+    public long size() {
+        return this.size;
+    }
+
+    /**
+     * Returns the rank of a specified state.
+     *
+     * @param state the state.
+     * @return the rank of the state.
+     */
+    public long rank(final BitState state) {
+        long rank = 0;
+        for (int v = this.domains.length - 1; v >= 0; v--) {
+            rank = rank * this.domains[v] + this.variables.getValue(state, v);
+        }
+        return rank;
+    }
+
+    /**
+     * Returns the state of a specified rank.
+     *
+     * @param rank the rank.
+     * @return the state of the rank.
+     */
+    public BitState unrank(final long rank) {
+        final BitState state = new BitState();
+        this.unrank(rank, state);
+        return state;
+    }
+
+    /**
+     * Sets a specified state to the state of a specified rank.
+     *
+     * @param rank  the rank.
+     * @param state the state to set.
+     */
+    public void unrank(final long rank, final BitState state) {
+        state.clear();
+        long r = rank;
+        for (int v = 0; v < this.domains.length; v++) {
+            final int fact = this.variables.getFact(v, (int) (r % this.domains[v]));
+            if (fact >= 0) {
+                state.set(fact);
+            }
+            r /= this.domains[v];
+        }
+    }
+}
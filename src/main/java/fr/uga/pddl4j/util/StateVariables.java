@@ -0,0 +1,400 @@
+/*
+ * Copyright (c) 2010 by Damien Pellier <Damien.Pellier@imag.fr>.
+ *
+ * This file is part of PDDL4J library.
+ *
+ * PDDL4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDDL4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDDL4J.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+
+package fr.uga.pddl4j.util;
+
+import fr.uga.pddl4j.encoding.CodedProblem;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * This class implements a finite domain representation of the states of a planning problem. The
+ * relevant facts of the problem are partitioned into mutex groups, i.e., sets of facts of which at
+ * most one is true in any reachable state. Each mutex group defines a state variable whose values
+ * are the facts of the group plus, when the group is not provably exactly one, an additional value
+ * meaning that none of the facts of the group is true. A fact that belongs to no mutex group
+ * defines a binary variable.
+ * <p>
+ * The mutex groups are computed directly on the instantiated problem. Candidate groups are made of
+ * the facts of a predicate that share all their arguments but one, or of a single fact. A candidate
+ * is extended with the fact added by the operators that consume one of its facts without adding an
+ * other one. A candidate is kept only if at most one of its facts is true in the initial state and
+ * if every operator that adds one of its facts also consumes one of them. The groups kept are
+ * then selected greedily from the largest to the smallest to cover the facts.
+ * </p>
+ *
+ * @author PDDL4J contributors
+ * @version 1.0 - 19.10.2026
+ */
+public final class StateVariables implements Serializable {
+
+    /**
+     * The serial version id of the class.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The facts of each variable. The value <code>i</code> of a variable is its <code>i</code>-th
+     * fact and the value equal to the number of facts of the variable, if any, means that none of
+     * its facts holds.
+     */
+    private int[][] facts;
+
+    /**
+     * The flags used to indicate that exactly one fact of a variable holds in any reachable state.
+     */
+    private boolean[] exactlyOne;
+
+    /**
+     * The variable of each fact.
+     */
+    private int[] variables;
+
+    /**
+     * The value of each fact in its variable.
+     */
+    private int[] values;
+
+    /**
+     * Creates the state variables of a specified planning problem.
+     *
+     * @param problem the planning problem.
+     * @throws NullPointerException if <code>problem == null</code>.
+     */
+    public StateVariables(final CodedProblem problem) {
+        Objects.requireNonNull(problem);
+        final int nbFacts = problem.getRelevantFacts().size();
+        final List<BitOp> operators = problem.getOperators();
+        // The facts added and the facts consumed, i.e., required and deleted, by each operator
+        final BitVector[] adds = new BitVector[operators.size()];
+        final BitVector[] consumes = new BitVector[operators.size()];
+        // The operators that consume and add each fact
+        final List<List<Integer>> consumers = new ArrayList<>(nbFacts);
+        final List<List<Integer>> producers = new ArrayList<>(nbFacts);
+        for (int p = 0; p < nbFacts; p++) {
+            consumers.add(new ArrayList<>());
+            producers.add(new ArrayList<>());
+        }
+        for (int o = 0; o < operators.size(); o++) {
+            final BitOp op = operators.get(o);
+            adds[o] = new BitVector();
+            consumes[o] = new BitVector();
+            for (CondBitExp ce : op.getCondEffects()) {
+                adds[o].or(ce.getEffects().getPositive());
+                if (ce.getCondition().isEmpty()) {
+                    consumes[o].or(ce.getEffects().getNegative());
+                }
+            }
+            consumes[o].and(op.getPreconditions().getPositive());
+            consumes[o].andNot(adds[o]);
+            for (int p = consumes[o].nextSetBit(0); p >= 0; p = consumes[o].nextSetBit(p + 1)) {
+                consumers.get(p).add(o);
+            }
+            for (int p = adds[o].nextSetBit(0); p >= 0; p = adds[o].nextSetBit(p + 1)) {
+                producers.get(p).add(o);
+            }
+        }
+
+        // Compute the candidate groups and keep the mutex groups
+        final BitVector init = problem.getInit().getPositive();
+        final Set<BitVector> groups = new LinkedHashSet<>();
+        for (BitVector candidate : this.candidates(problem)) {
+            final BitVector group = this.extend(candidate, adds, consumers);
+            if (!groups.contains(group) && this.isMutex(group, init, operators, adds, consumes, producers)) {
+                groups.add(group);
+            }
+        }
+
+        // Select the groups greedily to cover the facts
+        final List<BitVector> remaining = new ArrayList<>(groups);
+        final BitVector covered = new BitVector(nbFacts);
+        final List<int[]> selected = new ArrayList<>();
+        final List<Boolean> exactly = new ArrayList<>();
+        while (!remaining.isEmpty()) {
+            BitVector best = null;
+            int bestSize = 1;
+            for (BitVector group : remaining) {
+                group.andNot(covered);
+                final int size = group.cardinality();
+                if (size > bestSize) {
+                    best = group;
+                    bestSize = size;
+                }
+            }
+            if (best == null) {
+                remaining.clear();
+            } else {
+                remaining.remove(best);
+                covered.or(best);
+                selected.add(best.stream().toArray());
+                exactly.add(this.isExactlyOneGroup(best, init, operators, adds));
+            }
+        }
+        for (int p = covered.nextClearBit(0); p < nbFacts; p = covered.nextClearBit(p + 1)) {
+            selected.add(new int[] {p});
+            exactly.add(false);
+        }
+
+        this.facts = selected.toArray(new int[selected.size()][]);
+        this.exactlyOne = new boolean[this.facts.length];
+        this.variables = new int[nbFacts];
+        this.values = new int[nbFacts];
+        for (int v = 0; v < this.facts.length; v++) {
+            this.exactlyOne[v] = exactly.get(v);
+            for (int i = 0; i < this.facts[v].length; i++) {
+                this.variables[this.facts[v][i]] = v;
+                this.values[this.facts[v][i]] = i;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of variables.
+     *
+     * @return the number of variables.
+     */
+    public int size() {
+        return this.facts.length;
+    }
+
+    /**
+     * Returns the number of values of a specified variable.
+     *
+     * @param variable the variable.
+     * @return the number of values of the variable.
+     */
+    public int getDomainSize(final int variable) {
+        return this.exactlyOne[variable] ? this.facts[variable].length : this.facts[variable].length + 1;
+    }
+
+    /**
+     * Returns the facts of a specified variable. The returned array must not be modified.
+     *
+     * @param variable the variable.
+     * @return the facts of the variable.
+     */
+    public int[] getFacts(final int variable) {
+        return this.facts[variable];
+    }
+
+    /**
+     * Returns <code>true</code> if exactly one fact of a specified variable holds in any reachable
+     * state, i.e., if the variable has no value meaning that none of its facts holds.
+     *
+     * @param variable the variable.
+     * @return <code>true</code> if exactly one fact of the variable holds in any reachable state;
+     *     <code>false</code> otherwise.
+     */
+    public boolean isExactlyOne(final int variable) {
+        return this.exactlyOne[variable];
+    }
+
+    /**
+     * Returns the value meaning that none of the facts of a specified variable holds.
+     *
+     * @param variable the variable.
+     * @return the value meaning that none of the facts of the variable holds or -1 if the variable
+     *     has no such value.
+     */
+    public int getNoneValue(final int variable) {
+        return this.exactlyOne[variable] ? -1 : this.facts[variable].length;
+    }
+
+    /**
+     * Returns the variable of a specified fact.
+     *
+     * @param fact the index of the fact in the relevant facts of the problem.
+     * @return the variable of the fact.
+     */
+    public int getVariable(final int fact) {
+        return this.variables[fact];
+    }
+
+    /**
+     * Returns the value of a specified fact in its variable.
+     *
+     * @param fact the index of the fact in the relevant facts of the problem.
+     * @return the value of the fact.
+     */
+    public int getValue(final int fact) {
+        return this.values[fact];
+    }
+
+    /**
+     * Returns the value of a specified variable in a state.
+     *
+     * @param state    the state.
+     * @param variable the variable.
+     * @return the value of the variable in the state.
+     */
+    public int getValue(final BitState state, final int variable) {
+        final int[] f = this.facts[variable];
+        for (int i = 0; i < f.length; i++) {
+            if (state.get(f[i])) {
+                return i;
+            }
+        }
+        return this.exactlyOne[variable] ? 0 : f.length;
+    }
+
+    /**
+     * Returns the fact of a specified value of a variable.
+     *
+     * @param variable the variable.
+     * @param value    the value.
+     * @return the index of the fact in the relevant facts of the problem or -1 if the value means
+     *     that none of the facts of the variable holds.
+     */
+    public int getFact(final int variable, final int value) {
+        return value < this.facts[variable].length ? this.facts[variable][value] : -1;
+    }
+
+    /**
+     * Returns the candidate groups of a problem: the facts of each predicate that share all their
+     * arguments but one, and each fact alone.
+     *
+     * @param problem the planning problem.
+     * @return the candidate groups.
+     */
+    private List<BitVector> candidates(final CodedProblem problem) {
+        final List<IntExp> relevantFacts = problem.getRelevantFacts();
+        final Map<List<Integer>, BitVector> candidates = new HashMap<>();
+        for (int p = 0; p < relevantFacts.size(); p++) {
+            final IntExp fact = relevantFacts.get(p);
+            final int[] args = fact.getArguments();
+            for (int counted = -1; counted < args.length; counted++) {
+                final List<Integer> key = new ArrayList<>(args.length + 2);
+                key.add(fact.getPredicate());
+                key.add(counted);
+                for (int i = 0; i < args.length; i++) {
+                    key.add(i == counted ? -1 : args[i]);
+                }
+                candidates.computeIfAbsent(key, k -> new BitVector()).set(p);
+            }
+        }
+        return new ArrayList<>(candidates.values());
+    }
+
+    /**
+     * Extends a candidate group with the facts added by the operators that consume a fact of the
+     * group without adding an other fact of the group.
+     *
+     * @param candidate the candidate group.
+     * @param adds      the facts added by the operators.
+     * @param consumers the operators that consume each fact.
+     * @return the extended group.
+     */
+    private BitVector extend(final BitVector candidate, final BitVector[] adds, final List<List<Integer>> consumers) {
+        final BitVector group = new BitVector(candidate);
+        final LinkedList<Integer> open = new LinkedList<>();
+        candidate.stream().forEach(open::add);
+        while (!open.isEmpty()) {
+            final int p = open.poll();
+            for (int o : consumers.get(p)) {
+                final BitVector add = adds[o];
+                if (add.cardinality() == 1 && !add.intersects(group)) {
+                    final int q = add.nextSetBit(0);
+                    group.set(q);
+                    open.add(q);
+                }
+            }
+        }
+        return group;
+    }
+
+    /**
+     * Returns <code>true</code> if a group of facts is a mutex group, i.e., if at most one of its
+     * facts holds in the initial state and if each operator that adds a fact of the group adds only
+     * one fact of the group and requires it or consumes an other fact of the group.
+     *
+     * @param group     the group.
+     * @param init      the facts of the initial state.
+     * @param operators the operators of the problem.
+     * @param adds      the facts added by the operators.
+     * @param consumes  the facts consumed by the operators.
+     * @param producers the operators that add each fact.
+     * @return <code>true</code> if the group is a mutex group; <code>false</code> otherwise.
+     */
+    private boolean isMutex(final BitVector group, final BitVector init, final List<BitOp> operators,
+                            final BitVector[] adds, final BitVector[] consumes,
+                            final List<List<Integer>> producers) {
+        if (group.getIntersection(init).cardinality() > 1) {
+            return false;
+        }
+        final Set<Integer> checked = new HashSet<>();
+        for (int p = group.nextSetBit(0); p >= 0; p = group.nextSetBit(p + 1)) {
+            for (int o : producers.get(p)) {
+                if (checked.add(o)) {
+                    final BitVector added = adds[o].getIntersection(group);
+                    if (added.cardinality() > 1) {
+                        return false;
+                    }
+                    final boolean required = operators.get(o).getPreconditions().getPositive().include(added);
+                    if (!required && !consumes[o].intersects(group)) {
+                        return false;
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns <code>true</code> if exactly one fact of a mutex group holds in any reachable state,
+     * i.e., if exactly one of its facts holds in the initial state and if each operator that
+     * deletes a fact of the group also adds an other fact of the group.
+     *
+     * @param group     the mutex group.
+     * @param init      the facts of the initial state.
+     * @param operators the operators of the problem.
+     * @param adds      the facts added by the operators.
+     * @return <code>true</code> if exactly one fact of the group holds in any reachable state;
+     *     <code>false</code> otherwise.
+     */
+    private boolean isExactlyOneGroup(final BitVector group, final BitVector init, final List<BitOp> operators,
+                                      final BitVector[] adds) {
+        if (group.getIntersection(init).cardinality() != 1) {
+            return false;
+        }
+        for (int o = 0; o < operators.size(); o++) {
+            for (CondBitExp ce : operators.get(o).getCondEffects()) {
+                if (ce.getEffects().getNegative().intersects(group)) {
+                    final BitVector added = ce.getEffects().getPositive().getIntersection(group);
+                    added.andNot(ce.getEffects().getNegative());
+                    if (!ce.getCondition().isEmpty() || added.isEmpty()) {
+                        return false;
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+}
@@ -0,0 +1,228 @@
+/*
+ * Copyright (c) 2010 by Damien Pellier <Damien.Pellier@imag.fr>.
+ *
+ * This file is part of PDDL4J library.
+ *
+ * PDDL4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDDL4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDDL4J.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+
+package fr.uga.pddl4j.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * This class implements an array of 2 bits entries indexed by a long, i.e., 32 entries per long word. The words are
+ * stored in chunks of 2^26 words either in the heap or in a temporary file mapped in memory, which lets the operating
+ * system page the entries in and out when the array does not fit in the memory of the Java virtual machine. The
+ * entries of a new array are 0. A mapped array must be closed to delete its file.
+ *
+ * @author PDDL4J contributors
+ * @version 1.0 - 19.10.2026
+ */
+public final class TwoBitArray implements Closeable {
+
+    /**
+     * The logarithm in base 2 of the number of words of a chunk.
+     */
+    private static final int CHUNK_BITS = 26;
+
+    /**
+     * The number of words of a chunk.
+     */
+    private static final int CHUNK_WORDS = 1 << TwoBitArray.CHUNK_BITS;
+
+    /**
+     * The chunks of words.
+     */
+    private final LongBuffer[] chunks;
+
+    /**
+     * The number of entries of the array.
+     */
+    private final long size;
+
+    /**
+     * The channel of the mapped file or null if the array is stored in the heap.
+     */
+    private final FileChannel channel;
+
+    /**
+     * The mapped file or null if the array is stored in the heap.
+     */
+    private final Path file;
+
+    /**
+     * Creates a new array stored in the heap.
+     *
+     * @param size the number of entries of the array.
+     * @throws IllegalArgumentException if <code>size &lt; 0</code>.
+     */
+    public TwoBitArray(final long size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("size < 0");
+        }
+        this.size = size;
+        final long words = TwoBitArray.words(size);
+        this.chunks = new LongBuffer[(int) ((words + TwoBitArray.CHUNK_WORDS - 1) >>> TwoBitArray.CHUNK_BITS)];
+        for (int c = 0; c < this.chunks.length; c++) {
+            final long length = Math.min(TwoBitArray.CHUNK_WORDS, words - ((long) c << TwoBitArray.CHUNK_BITS));
+            this.chunks[c] = LongBuffer.wrap(new long[(int) length]);
+        }
+        this.channel = null;
+        this.file = null;
+    }
+
+    /**
+     * Creates a new array mapped in memory from a temporary file created in a specified directory.
+     *
+     * @param size      the number of entries of the array.
+     * @param directory the directory of the file. The directory must be on a local file system.
+     * @throws IllegalArgumentException if <code>size &lt; 0</code>.
+     * @throws IOException if the file cannot be created or mapped.
+     */
+    public TwoBitArray(final long size, final Path directory) throws IOException {
+        if (size < 0) {
+            throw new IllegalArgumentException("size < 0");
+        }
+        Objects.requireNonNull(directory);
+        this.size = size;
+        final long words = TwoBitArray.words(size);
+        this.chunks = new LongBuffer[(int) ((words + TwoBitArray.CHUNK_WORDS - 1) >>> TwoBitArray.CHUNK_BITS)];
+        this.file = Files.createTempFile(Files.createDirectories(directory), "pddl4j-", ".bits");
+        this.channel = FileChannel.open(this.file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            for (int c = 0; c < this.chunks.length; c++) {
+                final long length = Math.min(TwoBitArray.CHUNK_WORDS, words - ((long) c << TwoBitArray.CHUNK_BITS));
+                this.chunks[c] = this.channel.map(FileChannel.MapMode.READ_WRITE,
+                    ((long) c << TwoBitArray.CHUNK_BITS) * Long.BYTES, length * Long.BYTES).asLongBuffer();
+            }
+        } catch (IOException e) {
+            this.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the number of entries of the array.
+     *
+     * @return the number of entries of the array.
+     */
+    public long size() {
+        return this.size;
+    }
+
+    /**
+     * Returns <code>true</code> if the array is mapped in memory from a file.
+     *
+     * @return <code>true</code> if the array is mapped in memory from a file; <code>false</code> if it is stored in
+     *     the heap.
+     */
+    public boolean isMapped() {
+        return this.file != null;
+    }
+
+    /**
+     * Returns the entry at a specified index.
+     *
+     * @param index the index of the entry.
+     * @return the entry, between 0 and 3.
+     */
+    public int get(final long index) {
+        final long word = index >>> 5;
+        final long bits = this.chunks[(int) (word >>> TwoBitArray.CHUNK_BITS)]
+            .get((int) word & (TwoBitArray.CHUNK_WORDS - 1));
+        return (int) (bits >>> ((index & 31) << 1)) & 3;
+    }
+
+    /**
+     * Sets the entry at a specified index.
+     *
+     * @param index the index of the entry.
+     * @param value the value of the entry, between 0 and 3.
+     */
+    public void set(final long index, final int value) {
+        final long word = index >>> 5;
+        final LongBuffer chunk = this.chunks[(int) (word >>> TwoBitArray.CHUNK_BITS)];
+        final int offset = (int) word & (TwoBitArray.CHUNK_WORDS - 1);
+        final int shift = (int) (index & 31) << 1;
+        chunk.put(offset, chunk.get(offset) & ~(3L << shift) | ((long) value & 3) << shift);
+    }
+
+    /**
+     * Sets all the entries of the array to a specified value.
+     *
+     * @param value the value of the entries, between 0 and 3.
+     */
+    public void fill(final int value) {
+        long word = value & 3;
+        for (int shift = 2; shift < Long.SIZE; shift <<= 1) {
+            word |= word << shift;
+        }
+        for (LongBuffer chunk : this.chunks) {
+            for (int i = 0; i < chunk.capacity(); i++) {
+                chunk.put(i, word);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of entries equal to a specified value.
+     *
+     * @param value the value, between 0 and 3.
+     * @return the number of entries equal to the value.
+     */
+    public long count(final int value) {
+        long count = 0;
+        for (long i = 0; i < this.size; i++) {
+            if (this.get(i) == value) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Closes the array. The file of a mapped array is deleted.
+     *
+     * @throws IOException if the file cannot be closed or deleted.
+     */
+    @Override
+    public void close() throws IOException {
+        if (this.channel != null) {
+            try {
+                this.channel.close();
+            } finally {
+                Files.deleteIfExists(this.file);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of words needed to store a number of entries.
+     *
+     * @param size the number of entries.
+     * @return the number of words needed to store the entries.
+     */
+    private static long words(final long size) {
+        return (size + 31) >>> 5;
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2016 by Damien Pellier <Damien.Pellier@imag.fr>.
+ *
+ * This file is part of PDDL4J library.
+ *
+ * PDDL4J is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * PDDL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with PDDL4J.  If not, see
+ * <http://www.gnu.org/licenses/>
+ */
+
+package fr.uga.pddl4j.test.heuristics;
+
+import fr.uga.pddl4j.encoding.CodedProblem;
+import fr.uga.pddl4j.heuristics.relaxation.BitSlicedReachability;
+import fr.uga.pddl4j.heuristics.relaxation.MaxCost;
+import fr.uga.pddl4j.test.Tools;
+import fr.uga.pddl4j.util.BitOp;
+import fr.uga.pddl4j.util.BitState;
+import fr.uga.pddl4j.util.CondBitExp;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Implements the <tt>BitSlicedReachabilityTest</tt> of the PDD4L library.
+ * Domain and problem used: gripper domain and p01 problem of the strategy tests.
+ *
+ * @author PDDL4J contributors
+ * @version 1.0 - 19.10.2026
+ */
+public class BitSlicedReachabilityTest {
+
+    /**
+     * The number of states evaluated, i.e., more than two batches.
+     */
+    private static final int NB_STATES = 150;
+
+    /**
+     * The domain file.
+     */
+    private String domainFile = "src/test/resources/strategy/domain.pddl";
+
+    /**
+     * The problem file.
+     */
+    private String problemFile = "src/test/resources/strategy/p01.pddl";
+
+    /**
+     * Method that tests that the levels computed by batches are the values of the max heuristic with unit costs and
+     * that the states from which the goal is unreachable are flagged as dead ends.
+     */
+    @Test
+    public void testBatchEstimate() {
+        System.out.println("BitSlicedReachability: Test batch estimate.");
+        final CodedProblem codedProblem = Tools.generateCodedProblem(domainFile, problemFile);
+        final List<BitState> states = new ArrayList<>();
+        states.add(new BitState(codedProblem.getInit()));
+        for (int i = 0; states.size() < NB_STATES; i++) {
+            final BitState state = states.get(i);
+            for (BitOp op : codedProblem.getOperators()) {
+                if (op.isApplicable(state)) {
+                    final BitState successor = new BitState(state);
+                    for (CondBitExp ce : op.getCondEffects()) {
+                        if (state.satisfy(ce.getCondition())) {
+                            successor.apply(ce.getEffects());
+                        }
+                    }
+                    states.add(successor);
+                }
+            }
+        }
+        final BitSlicedReachability heuristic = new BitSlicedReachability(codedProblem);
+        final MaxCost reference = new MaxCost(codedProblem);
+        final int[] levels = heuristic.estimate(states, codedProblem.getGoal());
+        for (int i = 0; i < states.size(); i++) {
+            Assert.assertEquals(reference.estimate(states.get(i), codedProblem.getGoal()), levels[i]);
+            Assert.assertEquals(levels[i], heuristic.estimate(states.get(i), codedProblem.getGoal()));
+        }
+        final List<BitState> batch = new ArrayList<>();
+        batch.add(new BitState());
+        batch.add(states.get(0));
+        final int[] deadEnds = new int[batch.size()];
+        Assert.assertEquals(1L, heuristic.estimate(batch, 0, codedProblem.getGoal(), deadEnds));
+        Assert.assertEquals(Integer.MAX_VALUE, deadEnds[0]);
+        Assert.assertEquals(levels[0], deadEnds[1]);
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2016 by Damien Pellier <Damien.Pellier@imag.fr>.
+ *
+ * This file is part of PDDL4J library.
+ *
+ * PDDL4J is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * PDDL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with PDDL4J.  If not, see
+ * <http://www.gnu.org/licenses/>
+ */
+
+package fr.uga.pddl4j.test.heuristics;
+
+import fr.uga.pddl4j.encoding.CodedProblem;
+import fr.uga.pddl4j.heuristics.abstraction.PatternDatabaseCollection;
+import fr.uga.pddl4j.heuristics.abstraction.PatternDatabaseHeuristic;
+import fr.uga.pddl4j.test.Tools;
+import fr.uga.pddl4j.util.BitState;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+
+/**
+ * Implements the <tt>PatternDatabaseCollectionTest</tt> of the PDD4L library.
+ * Domain and problem used: gripper domain and p01 problem of the strategy tests.
+ *
+ * @author PDDL4J contributors
+ * @version 1.0 - 19.10.2026
+ */
+public class PatternDatabaseCollectionTest {
+
+    /**
+     * The domain file.
+     */
+    private String domainFile = "src/test/resources/strategy/domain.pddl";
+
+    /**
+     * The problem file.
+     */
+    private String problemFile = "src/test/resources/strategy/p01.pddl";
+
+    /**
+     * Method that tests that a collection stored in the cache directory is loaded by the next run.
+     *
+     * @throws Exception if the cache directory cannot be used.
+     */
+    @Test
+    public void testStoreAndLoad() throws Exception {
+        System.out.println("PatternDatabaseCollection: Test store and load.");
+        final CodedProblem codedProblem = Tools.generateCodedProblem(domainFile, problemFile);
+        final File directory = Files.createTempDirectory("pddl4j-test-").toFile();
+        final File file = PatternDatabaseCollectionTest.getFile(codedProblem, directory);
+        try {
+            final PatternDatabaseCollection created = PatternDatabaseCollection.load(codedProblem,
+                PatternDatabaseHeuristic.DEFAULT_MAX_SIZE, directory);
+            Assert.assertTrue(file.isFile());
+            Assert.assertEquals(PatternDatabaseCollection.FORMAT_VERSION,
+                PatternDatabaseCollectionTest.getVersion(file));
+            final PatternDatabaseCollection loaded = PatternDatabaseCollection.load(codedProblem,
+                PatternDatabaseHeuristic.DEFAULT_MAX_SIZE, directory);
+            Assert.assertNotSame(created, loaded);
+            Assert.assertEquals(created.getDatabases().size(), loaded.getDatabases().size());
+            final BitState init = new BitState(codedProblem.getInit());
+            Assert.assertEquals(created.getValue(init), loaded.getValue(init), 0.0);
+            // A collection stored in the cache is loaded instead of being computed again
+            PatternDatabaseCollectionTest.write(file, PatternDatabaseCollection.FORMAT_VERSION);
+            Assert.assertTrue(PatternDatabaseCollection.load(codedProblem, PatternDatabaseHeuristic.DEFAULT_MAX_SIZE,
+                directory).getDatabases().isEmpty());
+        } finally {
+            PatternDatabaseCollectionTest.delete(directory);
+        }
+    }
+
+    /**
+     * Method that tests that a file of an other format version is not loaded and is replaced.
+     *
+     * @throws Exception if the cache directory cannot be used.
+     */
+    @Test
+    public void testFormatVersionMismatch() throws Exception {
+        System.out.println("PatternDatabaseCollection: Test format version mismatch.");
+        final CodedProblem codedProblem = Tools.generateCodedProblem(domainFile, problemFile);
+        final File directory = Files.createTempDirectory("pddl4j-test-").toFile();
+        final File file = PatternDatabaseCollectionTest.getFile(codedProblem, directory);
+        try {
+            PatternDatabaseCollectionTest.write(file, PatternDatabaseCollection.FORMAT_VERSION + 1);
+            final PatternDatabaseCollection collection = PatternDatabaseCollection.load(codedProblem,
+                PatternDatabaseHeuristic.DEFAULT_MAX_SIZE, directory);
+            Assert.assertFalse(collection.getDatabases().isEmpty());
+            Assert.assertEquals(PatternDatabaseCollection.FORMAT_VERSION,
+                PatternDatabaseCollectionTest.getVersion(file));
+        } finally {
+            PatternDatabaseCollectionTest.delete(directory);
+        }
+    }
+
+    /**
+     * Returns the cache file of the collection of a problem.
+     *
+     * @param problem   the problem.
+     * @param directory the cache directory.
+     * @return the cache file of the collection of the problem.
+     */
+    private static File getFile(final CodedProblem problem, final File directory) {
+        return new File(directory, PatternDatabaseCollection.fingerprint(problem,
+            PatternDatabaseHeuristic.DEFAULT_MAX_SIZE) + PatternDatabaseCollection.FILE_EXTENSION);
+    }
+
+    /**
+     * Writes an empty collection of pattern databases in a cache file.
+     *
+     * @param file    the cache file.
+     * @param version the format version written in the file.
+     * @throws IOException if the file cannot be written.
+     */
+    private static void write(final File file, final int version) throws IOException {
+        try (ObjectOutputStream out = new ObjectOutputStream(new FileOutputStream(file))) {
+            out.writeInt(version);
+            out.writeObject(new PatternDatabaseCollection(new ArrayList<>()));
+        }
+    }
+
+    /**
+     * Returns the format version of a cache file.
+     *
+     * @param file the cache file.
+     * @return the format version of the file.
+     * @throws IOException if the file cannot be read.
+     */
+    private static int getVersion(final File file) throws IOException {
+        try (ObjectInputStream in = new ObjectInputStream(new FileInputStream(file))) {
+            return in.readInt();
+        }
+    }
+
+    /**
+     * Deletes a cache directory and its files.
+     *
+     * @param directory the cache directory.
+     * @throws IOException if a file cannot be deleted.
+     */
+    private static void delete(final File directory) throws IOException {
+        final File[] files = directory.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                Files.delete(file.toPath());
+            }
+        }
+        Files.delete(directory.toPath());
+    }
+}
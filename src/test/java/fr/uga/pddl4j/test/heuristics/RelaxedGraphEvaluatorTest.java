@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2016 by Damien Pellier <Damien.Pellier@imag.fr>.
+ *
+ * This file is part of PDDL4J library.
+ *
+ * PDDL4J is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * PDDL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with PDDL4J.  If not, see
+ * <http://www.gnu.org/licenses/>
+ */
+
+package fr.uga.pddl4j.test.heuristics;
+
+import fr.uga.pddl4j.encoding.CodedProblem;
+import fr.uga.pddl4j.heuristics.relaxation.Combo;
+import fr.uga.pddl4j.heuristics.relaxation.FastForward;
+import fr.uga.pddl4j.heuristics.relaxation.Heuristic;
+import fr.uga.pddl4j.heuristics.relaxation.HeuristicToolKit;
+import fr.uga.pddl4j.heuristics.relaxation.Max;
+import fr.uga.pddl4j.heuristics.relaxation.RelaxedGraphEvaluator;
+import fr.uga.pddl4j.heuristics.relaxation.RelaxedGraphValues;
+import fr.uga.pddl4j.heuristics.relaxation.SetLevel;
+import fr.uga.pddl4j.heuristics.relaxation.Sum;
+import fr.uga.pddl4j.heuristics.relaxation.SumCost;
+import fr.uga.pddl4j.heuristics.relaxation.SumMutex;
+import fr.uga.pddl4j.test.Tools;
+import fr.uga.pddl4j.util.BitExp;
+import fr.uga.pddl4j.util.BitOp;
+import fr.uga.pddl4j.util.BitState;
+import fr.uga.pddl4j.util.CondBitExp;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Implements the <tt>RelaxedGraphEvaluatorTest</tt> of the PDD4L library.
+ * Domain and problem used: gripper domain and p01 problem of the strategy tests.
+ *
+ * @author PDDL4J contributors
+ * @version 1.0 - 19.10.2026
+ */
+public class RelaxedGraphEvaluatorTest {
+
+    /**
+     * The number of states evaluated.
+     */
+    private static final int NB_STATES = 40;
+
+    /**
+     * The domain file.
+     */
+    private String domainFile = "src/test/resources/strategy/domain.pddl";
+
+    /**
+     * The problem file.
+     */
+    private String problemFile = "src/test/resources/strategy/p01.pddl";
+
+    /**
+     * Method that tests that the values computed from a single exploration are the values of the sum, max, fast
+     * forward, additive, sum mutex, set-level and combo heuristics computed separately.
+     */
+    @Test
+    public void testEvaluate() {
+        System.out.println("RelaxedGraphEvaluator: Test evaluate.");
+        final CodedProblem codedProblem = Tools.generateCodedProblem(domainFile, problemFile);
+        final BitExp goal = codedProblem.getGoal();
+        final RelaxedGraphEvaluator evaluator = new RelaxedGraphEvaluator(codedProblem, true);
+        final Sum sum = new Sum(codedProblem);
+        final Max max = new Max(codedProblem);
+        final FastForward ff = new FastForward(codedProblem);
+        final SumCost additive = new SumCost(codedProblem);
+        final SumMutex sumMutex = new SumMutex(codedProblem);
+        final SetLevel setLevel = new SetLevel(codedProblem);
+        final Combo combo = new Combo(codedProblem);
+        for (BitState state : this.generateStates(codedProblem)) {
+            final RelaxedGraphValues values = evaluator.evaluate(state, goal);
+            Assert.assertEquals(sum.estimate(state, goal), values.getLevelSumValue());
+            Assert.assertEquals(max.estimate(state, goal), values.getMaxValue());
+            Assert.assertEquals(ff.estimate(state, goal), values.getRelaxedPlanValue());
+            Assert.assertEquals(additive.estimate(state, goal), values.getAdditiveValue());
+            Assert.assertEquals(sumMutex.estimate(state, goal), values.getSumMutexValue());
+            Assert.assertEquals(setLevel.estimate(state, goal), values.getSetLevelValue());
+            Assert.assertEquals(combo.estimate(state, goal),
+                evaluator.getHeuristic(Heuristic.Type.COMBO).estimate(state, goal));
+            Assert.assertEquals(values.getRelaxedPlanValue(), evaluator.estimate(state, goal));
+        }
+        final BitState empty = new BitState();
+        Assert.assertEquals(Integer.MAX_VALUE, evaluator.evaluate(empty, goal).getRelaxedPlanValue());
+        Assert.assertEquals(sumMutex.estimate(empty, goal), evaluator.evaluate(empty, goal).getSumMutexValue());
+    }
+
+    /**
+     * Method that tests that the heuristics created together share a single evaluator and return the values of the
+     * heuristics created separately.
+     */
+    @Test
+    public void testCreateHeuristics() {
+        System.out.println("RelaxedGraphEvaluator: Test create heuristics.");
+        final CodedProblem codedProblem = Tools.generateCodedProblem(domainFile, problemFile);
+        final BitExp goal = codedProblem.getGoal();
+        final List<Heuristic.Type> types = Arrays.asList(Heuristic.Type.FAST_FORWARD, Heuristic.Type.MAX,
+            Heuristic.Type.GOAL_COUNT);
+        final List<Heuristic> heuristics = HeuristicToolKit.createHeuristics(types, codedProblem, null);
+        Assert.assertEquals(types.size(), heuristics.size());
+        Assert.assertTrue(heuristics.get(1).isAdmissible());
+        for (BitState state : this.generateStates(codedProblem)) {
+            for (int i = 0; i < types.size(); i++) {
+                Assert.assertEquals(HeuristicToolKit.createHeuristic(types.get(i), codedProblem).estimate(state, goal),
+                    heuristics.get(i).estimate(state, goal));
+            }
+        }
+    }
+
+    /**
+     * Method that tests that the values of the planning graph with mutexes are not available when the evaluator is
+     * created without mutexes.
+     */
+    @Test(expected = IllegalStateException.class)
+    public void testEvaluateWithoutMutex() {
+        System.out.println("RelaxedGraphEvaluator: Test evaluate without mutex.");
+        final CodedProblem codedProblem = Tools.generateCodedProblem(domainFile, problemFile);
+        final RelaxedGraphEvaluator evaluator = new RelaxedGraphEvaluator(codedProblem);
+        evaluator.evaluate(new BitState(codedProblem.getInit()), codedProblem.getGoal()).getSetLevelValue();
+    }
+
+    /**
+     * Generates states in breadth first order from the initial state of a problem.
+     *
+     * @param codedProblem the problem.
+     * @return the states generated.
+     */
+    private List<BitState> generateStates(final CodedProblem codedProblem) {
+        final List<BitState> states = new ArrayList<>();
+        states.add(new BitState(codedProblem.getInit()));
+        for (int i = 0; states.size() < NB_STATES; i++) {
+            final BitState state = states.get(i);
+            for (BitOp op : codedProblem.getOperators()) {
+                if (op.isApplicable(state)) {
+                    final BitState successor = new BitState(state);
+                    for (CondBitExp ce : op.getCondEffects()) {
+                        if (state.satisfy(ce.getCondition())) {
+                            successor.apply(ce.getEffects());
+                        }
+                    }
+                    states.add(successor);
+                }
+            }
+        }
+        return states;
+    }
+}
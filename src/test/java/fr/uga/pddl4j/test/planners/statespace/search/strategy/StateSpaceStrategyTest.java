@@ -2,21 +2,51 @@ package fr.uga.pddl4j.test.planners.statespace.search.strategy;
 
 import fr.uga.pddl4j.encoding.CodedProblem;
 import fr.uga.pddl4j.heuristics.relaxation.Heuristic;
+import fr.uga.pddl4j.heuristics.relaxation.HeuristicCache;
 import fr.uga.pddl4j.planners.statespace.search.strategy.AStar;
 import fr.uga.pddl4j.planners.statespace.search.strategy.AStarAnytime;
+import fr.uga.pddl4j.planners.statespace.search.strategy.AnytimeRepairingAStar;
+import fr.uga.pddl4j.planners.statespace.search.strategy.BeamSearch;
+import fr.uga.pddl4j.planners.statespace.search.strategy.BeamStackSearch;
+import fr.uga.pddl4j.planners.statespace.search.strategy.BestFirstWidthSearch;
+import fr.uga.pddl4j.planners.statespace.search.strategy.BidirectionalSearch;
+import fr.uga.pddl4j.planners.statespace.search.strategy.BitStateHashing;
 import fr.uga.pddl4j.planners.statespace.search.strategy.BreadthFirstSearch;
+import fr.uga.pddl4j.planners.statespace.search.strategy.DeadEndRegistry;
 import fr.uga.pddl4j.planners.statespace.search.strategy.DepthFirstSearch;
 import fr.uga.pddl4j.planners.statespace.search.strategy.EnforcedHillClimbing;
+import fr.uga.pddl4j.planners.statespace.search.strategy.ExactVisitedSet;
+import fr.uga.pddl4j.planners.statespace.search.strategy.ExternalBreadthFirstSearch;
 import fr.uga.pddl4j.planners.statespace.search.strategy.GreedyBestFirstSearch;
 import fr.uga.pddl4j.planners.statespace.search.strategy.GreedyBestFirstSearchAnytime;
+import fr.uga.pddl4j.planners.statespace.search.strategy.HashCompaction;
 import fr.uga.pddl4j.planners.statespace.search.strategy.HillClimbing;
+import fr.uga.pddl4j.planners.statespace.search.strategy.IteratedWidth;
+import fr.uga.pddl4j.planners.statespace.search.strategy.IterativeDeepeningAStar;
+import fr.uga.pddl4j.planners.statespace.search.strategy.LazyGreedyBestFirstSearch;
+import fr.uga.pddl4j.planners.statespace.search.strategy.MemoryBoundedAStar;
+import fr.uga.pddl4j.planners.statespace.search.strategy.MultiQueueGreedyBestFirstSearch;
 import fr.uga.pddl4j.planners.statespace.search.strategy.Node;
+import fr.uga.pddl4j.planners.statespace.search.strategy.RegressionSearch;
+import fr.uga.pddl4j.planners.statespace.search.strategy.RestartingWeightedAStar;
 import fr.uga.pddl4j.planners.statespace.search.strategy.StateSpaceStrategy;
+import fr.uga.pddl4j.planners.statespace.search.strategy.SymbolicSearch;
+import fr.uga.pddl4j.planners.statespace.search.strategy.TwoBitBreadthFirstSearch;
+import fr.uga.pddl4j.planners.statespace.search.strategy.VisitedSet;
 import fr.uga.pddl4j.test.Tools;
+import fr.uga.pddl4j.util.BitOp;
+import fr.uga.pddl4j.util.BitState;
 import fr.uga.pddl4j.util.Plan;
+import fr.uga.pddl4j.util.StateRanking;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
 /**
  * Implements the <tt>StateSpaceStrategyTest</tt> of the PDD4L library.
  * Domain and problem used: Gripper domain and p01 problem.
@@ -146,6 +176,181 @@ public class StateSpaceStrategyTest {
      */
     private static final int HILL_ANYTIME_SOLUTION_SIZE = 13;
 
+    /**
+     * The cost of Enforced Hill Climbing with helpful actions solution.
+     */
+    private static final double ENFORCED_HELPFUL_SOLUTION_COST = 13.0;
+
+    /**
+     * The size of Enforced Hill Climbing with helpful actions solution.
+     */
+    private static final int ENFORCED_HELPFUL_SOLUTION_SIZE = 13;
+
+    /**
+     * The cost of Greedy Best First Search with helpful actions solution.
+     */
+    private static final double GREEDY_HELPFUL_SOLUTION_COST = 13.0;
+
+    /**
+     * The size of Greedy Best First Search with helpful actions solution.
+     */
+    private static final int GREEDY_HELPFUL_SOLUTION_SIZE = 13;
+
+    /**
+     * The cost of Lazy Greedy Best First Search solution.
+     */
+    private static final double LAZY_GREEDY_SOLUTION_COST = 11.0;
+
+    /**
+     * The size of Lazy Greedy Best First Search solution.
+     */
+    private static final int LAZY_GREEDY_SOLUTION_SIZE = 11;
+
+    /**
+     * The cost of Multi Queue Greedy Best First Search solution.
+     */
+    private static final double MULTI_QUEUE_SOLUTION_COST = 11.0;
+
+    /**
+     * The size of Multi Queue Greedy Best First Search solution.
+     */
+    private static final int MULTI_QUEUE_SOLUTION_SIZE = 11;
+
+    /**
+     * The cost of Multi Queue Greedy Best First Search solution with the landmark count heuristic.
+     */
+    private static final double MULTI_QUEUE_LANDMARK_SOLUTION_COST = 13.0;
+
+    /**
+     * The size of Multi Queue Greedy Best First Search solution with the landmark count heuristic.
+     */
+    private static final int MULTI_QUEUE_LANDMARK_SOLUTION_SIZE = 13;
+
+    /**
+     * The cost of AStar solution with the landmark cut heuristic.
+     */
+    private static final double ASTAR_LANDMARK_CUT_SOLUTION_COST = 11.0;
+
+    /**
+     * The size of AStar solution with the landmark cut heuristic.
+     */
+    private static final int ASTAR_LANDMARK_CUT_SOLUTION_SIZE = 11;
+
+    /**
+     * The cost of AStar solution with the pattern database heuristic.
+     */
+    private static final double ASTAR_PATTERN_DATABASE_SOLUTION_COST = 11.0;
+
+    /**
+     * The size of AStar solution with the pattern database heuristic.
+     */
+    private static final int ASTAR_PATTERN_DATABASE_SOLUTION_SIZE = 11;
+
+    /**
+     * The cost of AStar solution with the merge and shrink heuristic.
+     */
+    private static final double ASTAR_MERGE_AND_SHRINK_SOLUTION_COST = 11.0;
+
+    /**
+     * The size of AStar solution with the merge and shrink heuristic.
+     */
+    private static final int ASTAR_MERGE_AND_SHRINK_SOLUTION_SIZE = 11;
+
+    /**
+     * The cost of AStar solution with the state equation heuristic.
+     */
+    private static final double ASTAR_STATE_EQUATION_SOLUTION_COST = 11.0;
+
+    /**
+     * The size of AStar solution with the state equation heuristic.
+     */
+    private static final int ASTAR_STATE_EQUATION_SOLUTION_SIZE = 11;
+
+    /**
+     * The cost of AStar solution with the operator counting heuristic.
+     */
+    private static final double ASTAR_OPERATOR_COUNTING_SOLUTION_COST = 11.0;
+
+    /**
+     * The size of AStar solution with the operator counting heuristic.
+     */
+    private static final int ASTAR_OPERATOR_COUNTING_SOLUTION_SIZE = 11;
+
+    /**
+     * The cost of AStar solution with the sum cost heuristic.
+     */
+    private static final double ASTAR_SUM_COST_SOLUTION_COST = 13.0;
+
+    /**
+     * The size of AStar solution with the sum cost heuristic.
+     */
+    private static final int ASTAR_SUM_COST_SOLUTION_SIZE = 13;
+
+    /**
+     * The cost of AStar solution with the max cost heuristic.
+     */
+    private static final double ASTAR_MAX_COST_SOLUTION_COST = 11.0;
+
+    /**
+     * The size of AStar solution with the max cost heuristic.
+     */
+    private static final int ASTAR_MAX_COST_SOLUTION_SIZE = 11;
+
+    /**
+     * The cost of AStar solution with the fast forward cost heuristic.
+     */
+    private static final double ASTAR_FAST_FORWARD_COST_SOLUTION_COST = 11.0;
+
+    /**
+     * The size of AStar solution with the fast forward cost heuristic.
+     */
+    private static final int ASTAR_FAST_FORWARD_COST_SOLUTION_SIZE = 11;
+
+    /**
+     * The cost of AStar solution with the context-enhanced additive heuristic.
+     */
+    private static final double ASTAR_CONTEXT_ENHANCED_ADDITIVE_SOLUTION_COST = 13.0;
+
+    /**
+     * The size of AStar solution with the context-enhanced additive heuristic.
+     */
+    private static final int ASTAR_CONTEXT_ENHANCED_ADDITIVE_SOLUTION_SIZE = 13;
+
+    /**
+     * The cost of AStar solution with the causal graph heuristic.
+     */
+    private static final double ASTAR_CAUSAL_GRAPH_SOLUTION_COST = 11.0;
+
+    /**
+     * The size of AStar solution with the causal graph heuristic.
+     */
+    private static final int ASTAR_CAUSAL_GRAPH_SOLUTION_SIZE = 11;
+
+    /**
+     * The cost of Serialized Iterated Width solution.
+     */
+    private static final double SERIALIZED_ITERATED_WIDTH_SOLUTION_COST = 15.0;
+
+    /**
+     * The size of Serialized Iterated Width solution.
+     */
+    private static final int SERIALIZED_ITERATED_WIDTH_SOLUTION_SIZE = 15;
+
+    /**
+     * The cost of Best First Width Search solution.
+     */
+    private static final double BEST_FIRST_WIDTH_SOLUTION_COST = 11.0;
+
+    /**
+     * The size of Best First Width Search solution.
+     */
+    private static final int BEST_FIRST_WIDTH_SOLUTION_SIZE = 11;
+
+    /**
+     * The size of Bidirectional Search solution.
+     */
+    private static final int BIDIRECTIONAL_SOLUTION_SIZE = 11;
+
     /**
      * Method that tests solution node (cost and size) for AStar search strategy.
      */
@@ -388,4 +593,682 @@ public class StateSpaceStrategyTest {
         Assert.assertTrue(plan.cost() == HILL_ANYTIME_SOLUTION_COST);
         Assert.assertTrue(plan.size() == HILL_ANYTIME_SOLUTION_SIZE);
     }
+
+    /**
+     * Method that tests solution plan (cost and size) for Enforced Hill Climbing search strategy with helpful
+     * actions pruning.
+     */
+    @Test
+    public void testEnforcedHelpfulActionsPlan() {
+        System.out.println("StateSpaceStrategy: Test solution plan from Enforced Hill Climbing with helpful actions.");
+        final CodedProblem codedProblem = Tools.generateCodedProblem(domainFile, problemFile);
+        final EnforcedHillClimbing enforcedHillClimbing = new EnforcedHillClimbing(TIMEOUT * 1000, HEURISTIC_TYPE,
+            HEURISTIC_WEIGHT);
+        enforcedHillClimbing.setHelpfulActionsPruning(true);
+        final Plan plan = enforcedHillClimbing.searchPlan(codedProblem);
+        Assert.assertTrue(plan.cost() == ENFORCED_HELPFUL_SOLUTION_COST);
+        Assert.assertTrue(plan.size() == ENFORCED_HELPFUL_SOLUTION_SIZE);
+    }
+
+    /**
+     * Method that tests solution plan (cost and size) for Greedy Best First Search search strategy with helpful
+     * actions pruning.
+     */
+    @Test
+    public void testGreedyHelpfulActionsPlan() {
+        System.out.println("StateSpaceStrategy: Test solution plan from Greedy with helpful actions.");
+        final CodedProblem codedProblem = Tools.generateCodedProblem(domainFile, problemFile);
+        final GreedyBestFirstSearch greedyBestFirstSearch = new GreedyBestFirstSearch(TIMEOUT * 1000, HEURISTIC_TYPE,
+            HEURISTIC_WEIGHT);
+        greedyBestFirstSearch.setHelpfulActionsPruning(true);
+        final Plan plan = greedyBestFirstSearch.searchPlan(codedProblem);
+        Assert.assertTrue(plan.cost() == GREEDY_HELPFUL_SOLUTION_COST);
+        Assert.assertTrue(plan.size() == GREEDY_HELPFUL_SOLUTION_SIZE);
+    }
+
+    /**
+     * Method that tests that the helpful actions pruning is rejected with an other heuristic than the fast forward
+     * heuristic.
+     */
+    @Test(expected = IllegalStateException.class)
+    public void testHelpfulActionsPruningRequiresFastForward() {
+        System.out.println("StateSpaceStrategy: Test helpful actions pruning with an other heuristic.");
+        final CodedProblem codedProblem = Tools.generateCodedProblem(domainFile, problemFile);
+        final GreedyBestFirstSearch greedyBestFirstSearch = new GreedyBestFirstSearch(TIMEOUT * 1000,
+            Heuristic.Type.SUM, HEURISTIC_WEIGHT);
+        greedyBestFirstSearch.setHelpfulActionsPruning(true);
+        greedyBestFirstSearch.searchPlan(codedProblem);
+    }
+
+    /**
+     * Method that tests solution node (cost and size) for Lazy Greedy Best First Search search strategy.
+     */
+    @Test
+    public void testLazyGreedySolutionNode() {
+        System.out.println("StateSpaceStrategy: Test solution node from Lazy Greedy Best First Search.");
+        final CodedProblem codedProblem = Tools.generateCodedProblem(domainFile, problemFile);
+        stateSpaceStrategy = new LazyGreedyBestFirstSearch(TIMEOUT * 1000, HEURISTIC_TYPE, HEURISTIC_WEIGHT);
+        final Node solutionNode = stateSpaceStrategy.searchSolutionNode(codedProblem);
+        Assert.assertTrue(solutionNode.getCost() == LAZY_GREEDY_SOLUTION_COST);
+        Assert.assertTrue(stateSpaceStrategy.extractPlan(solutionNode,
+            codedProblem).size() == LAZY_GREEDY_SOLUTION_SIZE);
+    }
+
+    /**
+     * Method that tests solution plan (cost and size) for Lazy Greedy Best First Search search strategy.
+     */
+    @Test
+    public void testLazyGreedyPlan() {
+        System.out.println("StateSpaceStrategy: Test solution plan from Lazy Greedy Best First Search.");
+        final CodedProblem codedProblem = Tools.generateCodedProblem(domainFile, problemFile);
+        stateSpaceStrategy = new LazyGreedyBestFirstSearch(TIMEOUT * 1000, HEURISTIC_TYPE, HEURISTIC_WEIGHT);
+        final Plan plan = stateSpaceStrategy.searchPlan(codedProblem);
+        Assert.assertTrue(plan.cost() == LAZY_GREEDY_SOLUTION_COST);
+        Assert.assertTrue(plan.size() == LAZY_GREEDY_SOLUTION_SIZE);
+    }
+
+    /**
+     * Method that tests solution node (cost and size) for Multi Queue Greedy Best First Search search strategy.
+     */
+    @Test
+    public void testMultiQueueSolutionNode() {
+        System.out.println("StateSpaceStrategy: Test solution node from Multi Queue Greedy Best First Search.");
+        final CodedProblem codedProblem = Tools.generateCodedProblem(domainFile, problemFile);
+        stateSpaceStrategy = new MultiQueueGreedyBestFirstSearch(TIMEOUT * 1000, HEURISTIC_TYPE, HEURISTIC_WEIGHT);
+        final Node solutionNode = stateSpaceStrategy.searchSolutionNode(codedProblem);
+        Assert.assertTrue(solutionNode.getCost() == MULTI_QUEUE_SOLUTION_COST);
+        Assert.assertTrue(stateSpaceStrategy.extractPlan(solutionNode,
+            codedProblem).size() == MULTI_QUEUE_SOLUTION_SIZE);
+    }
+
+    /**
+     * Method that tests solution plan (cost and size) for Multi Queue Greedy Best First Search search strategy.
+     */
+    @Test
+    public void testMultiQueuePlan() {
+        System.out.println("StateSpaceStrategy: Test solution plan from Multi Queue Greedy Best First Search.");
+        final CodedProblem codedProblem = Tools.generateCodedProblem(domainFile, problemFile);
+        stateSpaceStrategy = new MultiQueueGreedyBestFirstSearch(TIMEOUT * 1000, HEURISTIC_TYPE, HEURISTIC_WEIGHT);
+        final Plan plan = stateSpaceStrategy.searchPlan(codedProblem);
+        Assert.assertTrue(plan.cost() == MULTI_QUEUE_SOLUTION_COST);
+        Assert.assertTrue(plan.size() == MULTI_QUEUE_SOLUTION_SIZE);
+    }
+
+    /**
+     * Method that tests solution plan (cost and size) for Multi Queue Greedy Best First Search search strategy with
+     * the fast forward and the landmark count heuristics.
+     */
+    @Test
+    public void testMultiQueueLandmarkPlan() {
+        System.out.println("StateSpaceStrategy: Test solution plan from Multi Queue Greedy Best First Search "
+            + "with landmarks.");
+        final CodedProblem codedProblem = Tools.generateCodedProblem(domainFile, problemFile);
+        stateSpaceStrategy = new MultiQueueGreedyBestFirstSearch(TIMEOUT * 1000,
+            Arrays.asList(HEURISTIC_TYPE, Heuristic.Type.LANDMARK_COUNT), HEURISTIC_WEIGHT);
+        final Plan plan = stateSpaceStrategy.searchPlan(codedProblem);
+        Assert.assertTrue(plan.cost() == MULTI_QUEUE_LANDMARK_SOLUTION_COST);
+        Assert.assertTrue(plan.size() == MULTI_QUEUE_LANDMARK_SOLUTION_SIZE);
+    }
+
+    /**
+     * Method that tests that a negative boost of the Multi Queue Greedy Best First Search is rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testMultiQueueNegativeBoost() {
+        System.out.println("StateSpaceStrategy: Test negative boost of Multi Queue Greedy Best First Search.");
+        new MultiQueueGreedyBestFirstSearch(TIMEOUT * 1000, HEURISTIC_TYPE, HEURISTIC_WEIGHT).setBoost(-1);
+    }
+
+    /**
+     * Method that tests solution plan (cost and size) for AStar search strategy with the landmark cut heuristic.
+     */
+    @Test
+    public void testAstarLandmarkCutPlan() {
+        System.out.println("StateSpaceStrategy: Test solution plan from AStar with landmark cut.");
+        final CodedProblem codedProblem = Tools.generateCodedProblem(domainFile, problemFile);
+        stateSpaceStrategy = new AStar(TIMEOUT * 1000, Heuristic.Type.LANDMARK_CUT, HEURISTIC_WEIGHT);
+        final Plan plan = stateSpaceStrategy.searchPlan(codedProblem);
+        Assert.assertTrue(plan.cost() == ASTAR_LANDMARK_CUT_SOLUTION_COST);
+        Assert.assertTrue(plan.size() == ASTAR_LANDMARK_CUT_SOLUTION_SIZE);
+    }
+
+    /**
+     * Method that tests solution plan (cost and size) for AStar search strategy with the pattern database heuristic.
+     */
+    @Test
+    public void testAstarPatternDatabasePlan() {
+        System.out.println("StateSpaceStrategy: Test solution plan from AStar with pattern databases.");
+        final CodedProblem codedProblem = Tools.generateCodedProblem(domainFile, problemFile);
+        stateSpaceStrategy = new AStar(TIMEOUT * 1000, Heuristic.Type.PATTERN_DATABASE, HEURISTIC_WEIGHT);
+        final Plan plan = stateSpaceStrategy.searchPlan(codedProblem);
+        Assert.assertTrue(plan.cost() == ASTAR_PATTERN_DATABASE_SOLUTION_COST);
+        Assert.assertTrue(plan.size() == ASTAR_PATTERN_DATABASE_SOLUTION_SIZE);
+    }
+
+    /**
+     * Method that tests solution plan (cost and size) for AStar search strategy with the merge and shrink heuristic.
+     */
+    @Test
+    public void testAstarMergeAndShrinkPlan() {
+        System.out.println("StateSpaceStrategy: Test solution plan from AStar with merge and shrink.");
+        final CodedProblem codedProblem = Tools.generateCodedProblem(domainFile, problemFile);
+        stateSpaceStrategy = new AStar(TIMEOUT * 1000, Heuristic.Type.MERGE_AND_SHRINK, HEURISTIC_WEIGHT);
+        final Plan plan = stateSpaceStrategy.searchPlan(codedProblem);
+        Assert.assertTrue(plan.cost() == ASTAR_MERGE_AND_SHRINK_SOLUTION_COST);
+        Assert.assertTrue(plan.size() == ASTAR_MERGE_AND_SHRINK_SOLUTION_SIZE);
+    }
+
+    /**
+     * Method that tests solution plan (cost and size) for AStar search strategy with the state equation heuristic.
+     */
+    @Test
+    public void testAstarStateEquationPlan() {
+        System.out.println("StateSpaceStrategy: Test solution plan from AStar with state equation.");
+        final CodedProblem codedProblem = Tools.generateCodedProblem(domainFile, problemFile);
+        stateSpaceStrategy = new AStar(TIMEOUT * 1000, Heuristic.Type.STATE_EQUATION, HEURISTIC_WEIGHT);
+        final Plan plan = stateSpaceStrategy.searchPlan(codedProblem);
+        Assert.assertTrue(plan.cost() == ASTAR_STATE_EQUATION_SOLUTION_COST);
+        Assert.assertTrue(plan.size() == ASTAR_STATE_EQUATION_SOLUTION_SIZE);
+    }
+
+    /**
+     * Method that tests solution plan (cost and size) for AStar search strategy with the operator counting heuristic.
+     */
+    @Test
+    public void testAstarOperatorCountingPlan() {
+        System.out.println("StateSpaceStrategy: Test solution plan from AStar with operator counting.");
+        final CodedProblem codedProblem = Tools.generateCodedProblem(domainFile, problemFile);
+        stateSpaceStrategy = new AStar(TIMEOUT * 1000, Heuristic.Type.OPERATOR_COUNTING, HEURISTIC_WEIGHT);
+        final Plan plan = stateSpaceStrategy.searchPlan(codedProblem);
+        Assert.assertTrue(plan.cost() == ASTAR_OPERATOR_COUNTING_SOLUTION_COST);
+        Assert.assertTrue(plan.size() == ASTAR_OPERATOR_COUNTING_SOLUTION_SIZE);
+    }
+
+    /**
+     * Method that tests solution plan (cost and size) for AStar search strategy with the sum cost heuristic.
+     */
+    @Test
+    public void testAstarSumCostPlan() {
+        System.out.println("StateSpaceStrategy: Test solution plan from AStar with sum cost.");
+        final CodedProblem codedProblem = Tools.generateCodedProblem(domainFile, problemFile);
+        stateSpaceStrategy = new AStar(TIMEOUT * 1000, Heuristic.Type.SUM_COST, HEURISTIC_WEIGHT);
+        final Plan plan = stateSpaceStrategy.searchPlan(codedProblem);
+        Assert.assertTrue(plan.cost() == ASTAR_SUM_COST_SOLUTION_COST);
+        Assert.assertTrue(plan.size() == ASTAR_SUM_COST_SOLUTION_SIZE);
+    }
+
+    /**
+     * Method that tests solution plan (cost and size) for AStar search strategy with the max cost heuristic.
+     */
+    @Test
+    public void testAstarMaxCostPlan() {
+        System.out.println("StateSpaceStrategy: Test solution plan from AStar with max cost.");
+        final CodedProblem codedProblem = Tools.generateCodedProblem(domainFile, problemFile);
+        stateSpaceStrategy = new AStar(TIMEOUT * 1000, Heuristic.Type.MAX_COST, HEURISTIC_WEIGHT);
+        final Plan plan = stateSpaceStrategy.searchPlan(codedProblem);
+        Assert.assertTrue(plan.cost() == ASTAR_MAX_COST_SOLUTION_COST);
+        Assert.assertTrue(plan.size() == ASTAR_MAX_COST_SOLUTION_SIZE);
+    }
+
+    /**
+     * Method that tests solution plan (cost and size) for AStar search strategy with the fast forward cost heuristic.
+     */
+    @Test
+    public void testAstarFastForwardCostPlan() {
+        System.out.println("StateSpaceStrategy: Test solution plan from AStar with fast forward cost.");
+        final CodedProblem codedProblem = Tools.generateCodedProblem(domainFile, problemFile);
+        stateSpaceStrategy = new AStar(TIMEOUT * 1000, Heuristic.Type.FAST_FORWARD_COST, HEURISTIC_WEIGHT);
+        final Plan plan = stateSpaceStrategy.searchPlan(codedProblem);
+        Assert.assertTrue(plan.cost() == ASTAR_FAST_FORWARD_COST_SOLUTION_COST);
+        Assert.assertTrue(plan.size() == ASTAR_FAST_FORWARD_COST_SOLUTION_SIZE);
+    }
+
+    /**
+     * Method that tests solution plan (cost and size) for AStar search strategy with the context-enhanced additive
+     * heuristic.
+     */
+    @Test
+    public void testAstarContextEnhancedAdditivePlan() {
+        System.out.println("StateSpaceStrategy: Test solution plan from AStar with context-enhanced additive.");
+        final CodedProblem codedProblem = Tools.generateCodedProblem(domainFile, problemFile);
+        stateSpaceStrategy = new AStar(TIMEOUT * 1000, Heuristic.Type.CONTEXT_ENHANCED_ADDITIVE, HEURISTIC_WEIGHT);
+        final Plan plan = stateSpaceStrategy.searchPlan(codedProblem);
+        Assert.assertTrue(plan.cost() == ASTAR_CONTEXT_ENHANCED_ADDITIVE_SOLUTION_COST);
+        Assert.assertTrue(plan.size() == ASTAR_CONTEXT_ENHANCED_ADDITIVE_SOLUTION_SIZE);
+    }
+
+    /**
+     * Method that tests solution plan (cost and size) for AStar search strategy with the causal graph heuristic.
+     */
+    @Test
+    public void testAstarCausalGraphPlan() {
+        System.out.println("StateSpaceStrategy: Test solution plan from AStar with causal graph.");
+        final CodedProblem codedProblem = Tools.generateCodedProblem(domainFile, problemFile);
+        stateSpaceStrategy = new AStar(TIMEOUT * 1000, Heuristic.Type.CAUSAL_GRAPH, HEURISTIC_WEIGHT);
+        final Plan plan = stateSpaceStrategy.searchPlan(codedProblem);
+        Assert.assertTrue(plan.cost() == ASTAR_CAUSAL_GRAPH_SOLUTION_COST);
+        Assert.assertTrue(plan.size() == ASTAR_CAUSAL_GRAPH_SOLUTION_SIZE);
+    }
+
+    /**
+     * Method that tests that Iterated Width search strategy without serialization fails when the goal has a width
+     * greater than 2.
+     */
+    @Test
+    public void testIteratedWidthNoPlan() {
+        System.out.println("StateSpaceStrategy: Test no solution plan from Iterated Width.");
+        final CodedProblem codedProblem = Tools.generateCodedProblem(domainFile, problemFile);
+        stateSpaceStrategy = new IteratedWidth(TIMEOUT * 1000);
+        Assert.assertNull(stateSpaceStrategy.searchPlan(codedProblem));
+    }
+
+    /**
+     * Method that tests solution plan (cost and size) for Serialized Iterated Width search strategy.
+     */
+    @Test
+    public void testSerializedIteratedWidthPlan() {
+        System.out.println("StateSpaceStrategy: Test solution plan from Serialized Iterated Width.");
+        final CodedProblem codedProblem = Tools.generateCodedProblem(domainFile, problemFile);
+        stateSpaceStrategy = new IteratedWidth(TIMEOUT * 1000, IteratedWidth.DEFAULT_WIDTH, true);
+        final Plan plan = stateSpaceStrategy.searchPlan(codedProblem);
+        Assert.assertTrue(plan.cost() == SERIALIZED_ITERATED_WIDTH_SOLUTION_COST);
+        Assert.assertTrue(plan.size() == SERIALIZED_ITERATED_WIDTH_SOLUTION_SIZE);
+    }
+
+    /**
+     * Method that tests solution plan (cost and size) for Best First Width Search search strategy.
+     */
+    @Test
+    public void testBestFirstWidthSearchPlan() {
+        System.out.println("StateSpaceStrategy: Test solution plan from Best First Width Search.");
+        final CodedProblem codedProblem = Tools.generateCodedProblem(domainFile, problemFile);
+        stateSpaceStrategy = new BestFirstWidthSearch(TIMEOUT * 1000, HEURISTIC_TYPE, HEURISTIC_WEIGHT);
+        final Plan plan = stateSpaceStrategy.searchPlan(codedProblem);
+        Assert.assertTrue(plan.cost() == BEST_FIRST_WIDTH_SOLUTION_COST);
+        Assert.assertTrue(plan.size() == BEST_FIRST_WIDTH_SOLUTION_SIZE);
+    }
+
+    /**
+     * Method that tests that a heuristic cache shared by two searches returns the same solution plan and that the
+     * second search reads all its heuristic values from the cache.
+     */
+    @Test
+    public void testHeuristicCachePlan() {
+        System.out.println("StateSpaceStrategy: Test solution plan from AStar with a shared heuristic cache.");
+        final CodedProblem codedProblem = Tools.generateCodedProblem(domainFile, problemFile);
+        final HeuristicCache cache = new HeuristicCache();
+        stateSpaceStrategy = new AStar(TIMEOUT * 1000, HEURISTIC_TYPE, HEURISTIC_WEIGHT);
+        stateSpaceStrategy.setHeuristicCache(cache);
+        Plan plan = stateSpaceStrategy.searchPlan(codedProblem);
+        Assert.assertTrue(plan.cost() == ASTAR_SOLUTION_COST);
+        final long misses = cache.getMisses();
+        Assert.assertTrue(misses > 0);
+        stateSpaceStrategy = new AStar(TIMEOUT * 1000, HEURISTIC_TYPE, HEURISTIC_WEIGHT);
+        stateSpaceStrategy.setHeuristicCache(cache);
+        plan = stateSpaceStrategy.searchPlan(codedProblem);
+        Assert.assertTrue(plan.cost() == ASTAR_SOLUTION_COST);
+        Assert.assertTrue(plan.size() == ASTAR_SOLUTION_SIZE);
+        Assert.assertTrue(cache.getMisses() == misses);
+        Assert.assertTrue(cache.getHits() >= misses);
+    }
+
+    /**
+     * Method that tests that a heuristic cache smaller than the search space evicts entries without changing the
+     * solution plan.
+     */
+    @Test
+    public void testBoundedHeuristicCachePlan() {
+        System.out.println("StateSpaceStrategy: Test solution plan from AStar with a bounded heuristic cache.");
+        final CodedProblem codedProblem = Tools.generateCodedProblem(domainFile, problemFile);
+        for (HeuristicCache.Policy policy : HeuristicCache.Policy.values()) {
+            final HeuristicCache cache = new HeuristicCache(1024, policy);
+            stateSpaceStrategy = new AStar(TIMEOUT * 1000, HEURISTIC_TYPE, HEURISTIC_WEIGHT);
+            stateSpaceStrategy.setHeuristicCache(cache);
+            final Plan plan = stateSpaceStrategy.searchPlan(codedProblem);
+            Assert.assertTrue(plan.cost() == ASTAR_SOLUTION_COST);
+            Assert.assertTrue(plan.size() == ASTAR_SOLUTION_SIZE);
+            Assert.assertTrue(cache.getEvictions() > 0);
+            Assert.assertTrue(cache.size() == cache.capacity());
+        }
+    }
+
+    /**
+     * Method that tests that a dead end registry records the dead ends, learns patterns from their relaxed exploration
+     * and does not change the solution plan of a search.
+     */
+    @Test
+    public void testDeadEndRegistryPlan() {
+        System.out.println("StateSpaceStrategy: Test solution plan from AStar with a dead end registry.");
+        final CodedProblem codedProblem = Tools.generateCodedProblem(domainFile, problemFile);
+        final BitState init = new BitState(codedProblem.getInit());
+        // No operator is applicable in the empty state and the goal is unreachable
+        final BitState empty = new BitState();
+        for (boolean learning : new boolean[] {false, true}) {
+            final DeadEndRegistry registry = new DeadEndRegistry(learning, DeadEndRegistry.DEFAULT_MAX_PATTERNS);
+            registry.bind(codedProblem);
+            registry.add(empty);
+            Assert.assertTrue(registry.isDeadEnd(empty));
+            Assert.assertFalse(registry.isDeadEnd(init));
+            Assert.assertTrue(registry.size() == (learning ? 0 : 1));
+            Assert.assertTrue(registry.getNumberOfPatterns() == (learning ? 1 : 0));
+            stateSpaceStrategy = new AStar(TIMEOUT * 1000, HEURISTIC_TYPE, HEURISTIC_WEIGHT);
+            stateSpaceStrategy.setDeadEndRegistry(registry);
+            final Plan plan = stateSpaceStrategy.searchPlan(codedProblem);
+            Assert.assertTrue(plan.cost() == ASTAR_SOLUTION_COST);
+            Assert.assertTrue(plan.size() == ASTAR_SOLUTION_SIZE);
+        }
+    }
+
+    /**
+     * Method that tests the solution plan of IDA* with an admissible heuristic and transposition tables of different
+     * sizes.
+     */
+    @Test
+    public void testIterativeDeepeningAStarPlan() {
+        System.out.println("StateSpaceStrategy: Test solution plan from IDA*.");
+        final CodedProblem codedProblem = Tools.generateCodedProblem(domainFile, problemFile);
+        for (int tableSize : new int[] {IterativeDeepeningAStar.DEFAULT_TABLE_SIZE, 1024}) {
+            stateSpaceStrategy = new IterativeDeepeningAStar(TIMEOUT * 1000, Heuristic.Type.MAX_COST,
+                HEURISTIC_WEIGHT, tableSize);
+            final Plan plan = stateSpaceStrategy.searchPlan(codedProblem);
+            Assert.assertTrue(plan.cost() == ASTAR_SOLUTION_COST);
+            Assert.assertTrue(plan.size() == ASTAR_SOLUTION_SIZE);
+        }
+    }
+
+    /**
+     * Method that tests the solution plan of the memory-bounded A* with budgets in number of nodes and in bytes.
+     */
+    @Test
+    public void testMemoryBoundedAStarPlan() {
+        System.out.println("StateSpaceStrategy: Test solution plan from memory-bounded A*.");
+        final CodedProblem codedProblem = Tools.generateCodedProblem(domainFile, problemFile);
+        final MemoryBoundedAStar strategy = new MemoryBoundedAStar(TIMEOUT * 1000, Heuristic.Type.MAX_COST,
+            HEURISTIC_WEIGHT);
+        Plan plan = strategy.searchPlan(codedProblem);
+        Assert.assertTrue(plan.cost() == ASTAR_SOLUTION_COST);
+        Assert.assertTrue(plan.size() == ASTAR_SOLUTION_SIZE);
+        Assert.assertTrue(strategy.getForgottenNodes() == 0);
+
+        strategy.setMaxNodes(100);
+        plan = strategy.searchPlan(codedProblem);
+        Assert.assertTrue(plan.cost() == ASTAR_SOLUTION_COST);
+        Assert.assertTrue(plan.size() == ASTAR_SOLUTION_SIZE);
+        Assert.assertTrue(strategy.getForgottenNodes() > 0);
+        Assert.assertTrue(strategy.getRegeneratedNodes() > 0);
+
+        strategy.setMaxMemory(64 * 1024);
+        plan = strategy.searchPlan(codedProblem);
+        Assert.assertTrue(plan.cost() == ASTAR_SOLUTION_COST);
+        Assert.assertTrue(plan.size() == ASTAR_SOLUTION_SIZE);
+    }
+
+    /**
+     * Method that tests that ARA* publishes solutions of decreasing cost with their sub-optimality bounds and ends
+     * with an optimal solution.
+     */
+    @Test
+    public void testAnytimeRepairingAStarPlan() {
+        System.out.println("StateSpaceStrategy: Test solution plan from ARA*.");
+        final CodedProblem codedProblem = Tools.generateCodedProblem(domainFile, problemFile);
+        final AnytimeRepairingAStar strategy = new AnytimeRepairingAStar(TIMEOUT * 1000, Heuristic.Type.MAX_COST,
+            3.0, 1.0);
+        final Plan plan = strategy.searchPlan(codedProblem);
+        Assert.assertTrue(plan.cost() == ASTAR_SOLUTION_COST);
+        Assert.assertTrue(plan.size() == ASTAR_SOLUTION_SIZE);
+        final List<Node> solutions = strategy.getSolutionNodes();
+        final List<Double> bounds = strategy.getSuboptimalityBounds();
+        Assert.assertFalse(solutions.isEmpty());
+        Assert.assertTrue(solutions.size() == bounds.size());
+        for (int i = 1; i < solutions.size(); i++) {
+            Assert.assertTrue(solutions.get(i).getCost() < solutions.get(i - 1).getCost());
+        }
+        for (int i = 0; i < solutions.size(); i++) {
+            Assert.assertTrue(solutions.get(i).getCost() <= bounds.get(i) * ASTAR_SOLUTION_COST);
+        }
+        Assert.assertTrue(bounds.get(bounds.size() - 1) == 1.0);
+    }
+
+    /**
+     * Method that tests that the restarting weighted A* publishes solutions of decreasing cost and ends with an
+     * optimal solution with an admissible heuristic.
+     */
+    @Test
+    public void testRestartingWeightedAStarPlan() {
+        System.out.println("StateSpaceStrategy: Test solution plan from restarting weighted A*.");
+        final CodedProblem codedProblem = Tools.generateCodedProblem(domainFile, problemFile);
+        final RestartingWeightedAStar strategy = new RestartingWeightedAStar(TIMEOUT * 1000, Heuristic.Type.MAX_COST,
+            HEURISTIC_WEIGHT);
+        Assert.assertTrue(Arrays.equals(strategy.getSchedule(), new double[] {5.0, 3.0, 2.0, 1.5, 1.0}));
+        final Plan plan = strategy.searchPlan(codedProblem);
+        Assert.assertTrue(plan.cost() == ASTAR_SOLUTION_COST);
+        Assert.assertTrue(plan.size() == ASTAR_SOLUTION_SIZE);
+        final List<Node> solutions = strategy.getSolutionNodes();
+        Assert.assertFalse(solutions.isEmpty());
+        for (int i = 1; i < solutions.size(); i++) {
+            Assert.assertTrue(solutions.get(i).getCost() < solutions.get(i - 1).getCost());
+        }
+    }
+
+    /**
+     * Method that tests the solution plan of the beam search with a narrow and the default widths.
+     */
+    @Test
+    public void testBeamSearchPlan() {
+        System.out.println("StateSpaceStrategy: Test solution plan from beam search.");
+        final CodedProblem codedProblem = Tools.generateCodedProblem(domainFile, problemFile);
+        for (int width : new int[] {1, BeamSearch.DEFAULT_WIDTH}) {
+            stateSpaceStrategy = new BeamSearch(TIMEOUT * 1000, HEURISTIC_TYPE, HEURISTIC_WEIGHT, width);
+            final Plan plan = stateSpaceStrategy.searchPlan(codedProblem);
+            Assert.assertTrue(plan != null && plan.size() > 0);
+        }
+    }
+
+    /**
+     * Method that tests that the beam-stack search finds an optimal solution plan with a narrow beam.
+     */
+    @Test
+    public void testBeamStackSearchPlan() {
+        System.out.println("StateSpaceStrategy: Test solution plan from beam-stack search.");
+        final CodedProblem codedProblem = Tools.generateCodedProblem(domainFile, problemFile);
+        for (int width : new int[] {1, 5}) {
+            final BeamStackSearch strategy = new BeamStackSearch(TIMEOUT * 1000, Heuristic.Type.MAX_COST,
+                HEURISTIC_WEIGHT, width);
+            final Plan plan = strategy.searchPlan(codedProblem);
+            Assert.assertTrue(plan.cost() == ASTAR_SOLUTION_COST);
+            Assert.assertTrue(plan.size() == ASTAR_SOLUTION_SIZE);
+            final List<Node> solutions = strategy.getSolutionNodes();
+            for (int i = 1; i < solutions.size(); i++) {
+                Assert.assertTrue(solutions.get(i).getCost() < solutions.get(i - 1).getCost());
+            }
+        }
+    }
+
+    /**
+     * Method that tests the solution plan of the external breadth first search with and without pruning and with a
+     * buffer small enough to write several runs per layer.
+     */
+    @Test
+    public void testExternalBreadthFirstSearchPlan() {
+        System.out.println("StateSpaceStrategy: Test solution plan from external breadth first search.");
+        final CodedProblem codedProblem = Tools.generateCodedProblem(domainFile, problemFile);
+        for (ExternalBreadthFirstSearch strategy : new ExternalBreadthFirstSearch[] {
+            new ExternalBreadthFirstSearch(TIMEOUT * 1000),
+            new ExternalBreadthFirstSearch(TIMEOUT * 1000, Heuristic.Type.MAX_COST, HEURISTIC_WEIGHT)}) {
+            strategy.setBufferSize(16);
+            final Plan plan = strategy.searchPlan(codedProblem);
+            Assert.assertTrue(plan.cost() == ASTAR_SOLUTION_COST);
+            Assert.assertTrue(plan.size() == ASTAR_SOLUTION_SIZE);
+            Assert.assertTrue(strategy.getDiskSpaceUsed() > 0);
+        }
+    }
+
+    /**
+     * Method that tests that the external breadth first search stops when the maximum disk space is reached.
+     */
+    @Test
+    public void testExternalBreadthFirstSearchDiskSpace() {
+        System.out.println("StateSpaceStrategy: Test disk space of external breadth first search.");
+        final CodedProblem codedProblem = Tools.generateCodedProblem(domainFile, problemFile);
+        final ExternalBreadthFirstSearch strategy = new ExternalBreadthFirstSearch(TIMEOUT * 1000);
+        strategy.setMaxDiskSpace(1024);
+        Assert.assertNull(strategy.searchPlan(codedProblem));
+        Assert.assertTrue(strategy.getDiskSpaceUsed() <= 1024);
+    }
+
+    /**
+     * Method that tests the solution plans of the breadth first, depth first and greedy best first searches with the
+     * exact, bitstate hashing and hash compaction sets of visited states.
+     */
+    @Test
+    public void testVisitedSetPlan() {
+        System.out.println("StateSpaceStrategy: Test solution plan with sets of visited states.");
+        final CodedProblem codedProblem = Tools.generateCodedProblem(domainFile, problemFile);
+        final VisitedSet[] sets = {new ExactVisitedSet(), new BitStateHashing(), new HashCompaction()};
+        for (VisitedSet visited : sets) {
+            for (StateSpaceStrategy strategy : new StateSpaceStrategy[] {new BreadthFirstSearch(TIMEOUT * 1000),
+                new DepthFirstSearch(TIMEOUT * 1000),
+                new GreedyBestFirstSearch(TIMEOUT * 1000, HEURISTIC_TYPE, HEURISTIC_WEIGHT)}) {
+                strategy.setVisitedSet(visited);
+                final Plan plan = strategy.searchPlan(codedProblem);
+                Assert.assertTrue(plan != null && plan.size() > 0);
+                Assert.assertTrue(visited.size() > 0);
+                Assert.assertTrue(visited.getOmissionProbability() < 1e-9);
+            }
+            Assert.assertTrue(visited instanceof ExactVisitedSet == (visited.getOmissionProbability() == 0.0));
+        }
+        stateSpaceStrategy = new BreadthFirstSearch(TIMEOUT * 1000);
+        stateSpaceStrategy.setVisitedSet(new ExactVisitedSet());
+        final Plan plan = stateSpaceStrategy.searchPlan(codedProblem);
+        Assert.assertTrue(plan.size() == ASTAR_SOLUTION_SIZE);
+    }
+
+    /**
+     * Method that tests the omission probability of a bitstate hashing set too small for the states of the problem.
+     */
+    @Test
+    public void testBitStateHashingOmission() {
+        System.out.println("StateSpaceStrategy: Test omission probability of bitstate hashing.");
+        final CodedProblem codedProblem = Tools.generateCodedProblem(domainFile, problemFile);
+        final BitStateHashing visited = new BitStateHashing(256, 2);
+        stateSpaceStrategy = new BreadthFirstSearch(TIMEOUT * 1000);
+        stateSpaceStrategy.setVisitedSet(visited);
+        stateSpaceStrategy.searchPlan(codedProblem);
+        Assert.assertTrue(visited.getBits() == 256);
+        Assert.assertTrue(visited.getOmissionProbability() > 0.5);
+        Assert.assertTrue(visited.getOmissionProbability() <= 1.0);
+    }
+
+    /**
+     * Method that tests that the ranking of the states is a bijection on the states of a solution plan.
+     */
+    @Test
+    public void testStateRanking() {
+        System.out.println("StateSpaceStrategy: Test state ranking.");
+        final CodedProblem codedProblem = Tools.generateCodedProblem(domainFile, problemFile);
+        final StateRanking ranking = new StateRanking(codedProblem);
+        stateSpaceStrategy = new BreadthFirstSearch(TIMEOUT * 1000);
+        Node node = stateSpaceStrategy.searchSolutionNode(codedProblem);
+        while (node != null) {
+            final long rank = ranking.rank(node);
+            Assert.assertTrue(rank >= 0 && rank < ranking.size());
+            Assert.assertEquals(new BitState(node), ranking.unrank(rank));
+            node = node.getParent();
+        }
+    }
+
+    /**
+     * Method that tests the solution plan of the two bits breadth first search with the array stored in the heap and
+     * in a mapped file.
+     */
+    @Test
+    public void testTwoBitBreadthFirstSearchPlan() throws IOException {
+        System.out.println("StateSpaceStrategy: Test solution plan of two bits breadth first search.");
+        final CodedProblem codedProblem = Tools.generateCodedProblem(domainFile, problemFile);
+        final TwoBitBreadthFirstSearch strategy = new TwoBitBreadthFirstSearch(TIMEOUT * 1000);
+        Plan plan = strategy.searchPlan(codedProblem);
+        Assert.assertTrue(plan != null && plan.size() == ASTAR_SOLUTION_SIZE);
+        final Path directory = Files.createTempDirectory("pddl4j-test-");
+        try {
+            strategy.setMappedDirectory(directory);
+            plan = strategy.searchPlan(codedProblem);
+            Assert.assertTrue(plan != null && plan.size() == ASTAR_SOLUTION_SIZE);
+            Assert.assertEquals(0, directory.toFile().list().length);
+        } finally {
+            Files.delete(directory);
+        }
+        strategy.setMaxStates(1);
+        Assert.assertNull(strategy.searchPlan(codedProblem));
+    }
+
+    /**
+     * Method that tests the exhaustive analysis of the state space with the two bits breadth first search.
+     */
+    @Test
+    public void testTwoBitBreadthFirstSearchAnalysis() {
+        System.out.println("StateSpaceStrategy: Test state space analysis of two bits breadth first search.");
+        final CodedProblem codedProblem = Tools.generateCodedProblem(domainFile, problemFile);
+        final TwoBitBreadthFirstSearch strategy = new TwoBitBreadthFirstSearch(TIMEOUT * 1000);
+        final long reachable = strategy.analyze(codedProblem);
+        Assert.assertTrue(reachable > 0);
+        Assert.assertEquals(reachable, strategy.getLayerSizes().stream().mapToLong(Long::longValue).sum());
+        Assert.assertEquals(reachable, strategy.getDeadEnds()
+            + strategy.getGoalDistanceSizes().stream().mapToLong(Long::longValue).sum());
+        Assert.assertEquals(ASTAR_SOLUTION_SIZE, strategy.getInitialGoalDistance());
+    }
+
+    /**
+     * Method that tests the solution plans of the forward and bidirectional symbolic searches.
+     */
+    @Test
+    public void testSymbolicSearchPlan() {
+        System.out.println("StateSpaceStrategy: Test solution plan of symbolic search.");
+        final CodedProblem codedProblem = Tools.generateCodedProblem(domainFile, problemFile);
+        for (boolean bidirectional : new boolean[] {false, true}) {
+            final SymbolicSearch strategy = new SymbolicSearch(TIMEOUT * 1000, bidirectional);
+            Plan plan = strategy.searchPlan(codedProblem);
+            Assert.assertTrue(plan != null && plan.size() == ASTAR_SOLUTION_SIZE);
+            Assert.assertEquals(ASTAR_SOLUTION_SIZE, strategy.getForwardLayers() + strategy.getBackwardLayers());
+            Assert.assertTrue(bidirectional == strategy.getBackwardLayers() > 0);
+            strategy.setMaxRelationNodes(0);
+            plan = strategy.searchPlan(codedProblem);
+            Assert.assertTrue(plan != null && plan.size() == ASTAR_SOLUTION_SIZE);
+            Assert.assertEquals(codedProblem.getOperators().size(), strategy.getRelations());
+        }
+    }
+
+    /**
+     * Method that tests the solution plan of the regression search.
+     */
+    @Test
+    public void testRegressionSearchPlan() {
+        System.out.println("StateSpaceStrategy: Test solution plan of regression search.");
+        final CodedProblem codedProblem = Tools.generateCodedProblem(domainFile, problemFile);
+        final RegressionSearch strategy = new RegressionSearch(TIMEOUT * 1000);
+        final Plan plan = strategy.searchPlan(codedProblem);
+        Assert.assertTrue(plan != null && plan.size() == ASTAR_SOLUTION_SIZE);
+    }
+
+    /**
+     * Method that tests the solution plan of the bidirectional search.
+     */
+    @Test
+    public void testBidirectionalSearchPlan() {
+        System.out.println("StateSpaceStrategy: Test solution plan of bidirectional search.");
+        final CodedProblem codedProblem = Tools.generateCodedProblem(domainFile, problemFile);
+        final BidirectionalSearch strategy = new BidirectionalSearch(TIMEOUT * 1000, HEURISTIC_TYPE, HEURISTIC_WEIGHT);
+        final Plan plan = strategy.searchPlan(codedProblem);
+        Assert.assertTrue(plan != null && plan.size() == BIDIRECTIONAL_SOLUTION_SIZE);
+        BitState state = new BitState(codedProblem.getInit());
+        for (BitOp op : plan.actions()) {
+            Assert.assertTrue(op.isApplicable(state));
+            final BitState current = state;
+            final BitState next = new BitState(current);
+            op.getCondEffects().stream().filter(ce -> current.satisfy(ce.getCondition()))
+                .forEach(ce -> next.apply(ce.getEffects()));
+            state = next;
+        }
+        Assert.assertTrue(state.satisfy(codedProblem.getGoal()));
+        Assert.assertTrue(strategy.getForwardExpansions() > 0 && strategy.getBackwardExpansions() > 0);
+    }
 }
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2016 by Damien Pellier <Damien.Pellier@imag.fr>.
+ *
+ * This file is part of PDDL4J library.
+ *
+ * PDDL4J is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * PDDL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with PDDL4J.  If not, see
+ * <http://www.gnu.org/licenses/>
+ */
+
+package fr.uga.pddl4j.test.util;
+
+import fr.uga.pddl4j.util.BDDManager;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Implements the <tt>BDDManagerTest</tt> of the PDD4L library.
+ *
+ * @author PDDL4J contributors
+ * @version 1.0 - 19.10.2026
+ */
+public class BDDManagerTest {
+
+    /**
+     * The number of variables of the tests.
+     */
+    private static final int VARIABLES = 6;
+
+    /**
+     * Method that tests the canonicity of the diagrams built by the boolean operations.
+     */
+    @Test
+    public void testBooleanOperations() {
+        final BDDManager bdd = new BDDManager(VARIABLES, 4, 16);
+        final int x = bdd.var(0);
+        final int y = bdd.var(3);
+        Assert.assertEquals(BDDManager.TRUE, bdd.or(x, bdd.not(x)));
+        Assert.assertEquals(BDDManager.FALSE, bdd.and(x, bdd.nvar(0)));
+        Assert.assertEquals(bdd.not(bdd.and(x, y)), bdd.or(bdd.not(x), bdd.not(y)));
+        Assert.assertEquals(bdd.diff(x, y), bdd.and(x, bdd.not(y)));
+        Assert.assertEquals(bdd.biimp(x, y), bdd.not(bdd.or(bdd.diff(x, y), bdd.diff(y, x))));
+        Assert.assertEquals(2, bdd.size(bdd.and(x, y)));
+        Assert.assertEquals(3.0 * (1 << (VARIABLES - 2)), bdd.satCount(bdd.or(x, y)), 0.0);
+    }
+
+    /**
+     * Method that tests the quantification, the relational product and the renaming of the variables.
+     */
+    @Test
+    public void testQuantification() {
+        final BDDManager bdd = new BDDManager(VARIABLES);
+        final int f = bdd.or(bdd.and(bdd.var(0), bdd.var(2)), bdd.and(bdd.nvar(1), bdd.var(4)));
+        final int g = bdd.biimp(bdd.var(2), bdd.var(5));
+        final int cube = bdd.cube(new int[] {2, 4});
+        Assert.assertEquals(bdd.exists(bdd.and(f, g), cube), bdd.relProd(f, g, cube));
+        Assert.assertEquals(bdd.or(bdd.var(0), bdd.nvar(1)), bdd.exists(f, cube));
+        final int[] map = {0, 1, 3, 3, 4, 5};
+        Assert.assertEquals(bdd.and(bdd.var(0), bdd.var(3)), bdd.replace(bdd.and(bdd.var(0), bdd.var(2)), map));
+        final boolean[] assignment = bdd.satOne(f);
+        Assert.assertTrue(bdd.evaluate(f, assignment));
+        Assert.assertNull(bdd.satOne(BDDManager.FALSE));
+    }
+
+    /**
+     * Method that tests that the garbage collection keeps the referenced diagrams.
+     */
+    @Test
+    public void testGarbageCollection() {
+        final BDDManager bdd = new BDDManager(VARIABLES, 4, 16);
+        final int kept = bdd.ref(bdd.and(bdd.var(1), bdd.or(bdd.var(2), bdd.var(4))));
+        final int size = bdd.size(kept);
+        bdd.and(bdd.var(0), bdd.var(5));
+        bdd.gc();
+        Assert.assertEquals(1, bdd.getCollections());
+        Assert.assertEquals(size + 2, bdd.getNodeCount());
+        Assert.assertEquals(kept, bdd.and(bdd.var(1), bdd.or(bdd.var(2), bdd.var(4))));
+        bdd.deref(kept);
+        bdd.gc();
+        Assert.assertEquals(2, bdd.getNodeCount());
+    }
+}